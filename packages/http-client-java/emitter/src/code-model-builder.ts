@@ -196,6 +196,15 @@ export interface EmitterOptionsDev {
   // configure
   "skip-special-headers"?: string[];
   "enable-subclient"?: boolean;
+  "formatter-workers"?: number;
+  "exact-imports"?: boolean;
+  "formatter-cache-directory"?: string;
+  "template-workers"?: number;
+  "json-field-switch-threshold"?: number;
+  "discriminator-first-deserialization"?: boolean;
+  "stream-style-paging"?: boolean;
+  "direct-model-serialization"?: boolean;
+  "stateless-json-merge-patch"?: boolean;
 
   // not recommended to set
   "required-fields-as-ctor-args"?: boolean;
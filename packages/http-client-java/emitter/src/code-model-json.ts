@@ -0,0 +1,58 @@
+/**
+ * Serializes the code model to JSON, for the Java generator.
+ *
+ * An object or array referenced more than once is written once with an "$id", and referenced as `{"$ref": "<id>"}`
+ * afterwards, the equivalent of a YAML anchor and alias. A shared array is written as
+ * `{"$id": "<id>", "$values": [...]}`. The "$id" is the first property of the object, followed by the "type" of a
+ * schema, so that the Java generator can read the JSON as a stream.
+ *
+ * @param codeModel The code model.
+ * @returns The JSON.
+ */
+export function stringifyCodeModel(codeModel: object): string {
+  // find the objects and arrays referenced more than once
+  const visited = new Set<object>();
+  const shared = new Set<object>();
+  const stack: unknown[] = [codeModel];
+  while (stack.length > 0) {
+    const value = stack.pop();
+    if (value === null || typeof value !== "object") {
+      continue;
+    }
+    if (visited.has(value)) {
+      shared.add(value);
+      continue;
+    }
+    visited.add(value);
+    for (const item of Array.isArray(value) ? value : Object.values(value)) {
+      stack.push(item);
+    }
+  }
+
+  const ids = new Map<object, string>();
+  return JSON.stringify(codeModel, function (this: any, key: string, value: any) {
+    if (value === null || typeof value !== "object") {
+      return value;
+    }
+
+    const id = ids.get(value);
+    if (id !== undefined) {
+      // the "$values" of the shared array itself is written in place
+      return key === "$values" && this.$id === id ? value : { $ref: id };
+    }
+    if (shared.has(value)) {
+      const newId = String(ids.size);
+      ids.set(value, newId);
+      if (Array.isArray(value)) {
+        return { $id: newId, $values: value };
+      }
+      return typeof value.type === "string"
+        ? { $id: newId, type: value.type, ...value }
+        : { $id: newId, ...value };
+    }
+    if (!Array.isArray(value) && typeof value.type === "string" && Object.keys(value)[0] !== "type") {
+      return { type: value.type, ...value };
+    }
+    return value;
+  });
+}
@@ -3,12 +3,14 @@ import { getNormalizedAbsolutePath, NoTarget, resolvePath } from "@typespec/comp
 import { promises } from "fs";
 import { dirname } from "path";
 import { fileURLToPath } from "url";
-import { stringify } from "yaml";
 import type { EmitterOptionsDev } from "./code-model-builder.js";
 import { CodeModelBuilder } from "./code-model-builder.js";
+import { stringifyCodeModel } from "./code-model-json.js";
 import type { CodeModel } from "./common/code-model.js";
+import { runOnGeneratorServer } from "./generator-server.js";
 import { LibName, reportDiagnostic } from "./lib.js";
 import type { EmitterOptions } from "./options.js";
+import type { SpawnReturns } from "./utils.js";
 import { DiagnosticError, spawnAsync, SpawnError, trace } from "./utils.js";
 import { validateDependencies } from "./validate.js";
 
@@ -59,7 +61,7 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         options["license-header"] = codeModel.info.license.extensions.header;
       }
 
-      const codeModelFileName = resolvePath(outputPath, "./code-model.yaml");
+      const codeModelFileName = resolvePath(outputPath, "./code-model.json");
 
       await promises.mkdir(outputPath, { recursive: true }).catch((err) => {
         if (err.code !== "EISDIR" && err.code !== "EEXIST") {
@@ -72,11 +74,9 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         }
       });
 
-      // Serialize as YAML 1.1 to match the Java generator's consumer, SnakeYAML, which is a
-      // YAML 1.1 parser. YAML 1.2 (the `yaml` package default) drops implicit types that 1.1
-      // keeps, so date-like strings (e.g. api-version "2025-01-02"), yes/no, and base-60
-      // numbers would be emitted unquoted and then re-typed on read (e.g. into a Date).
-      await program.host.writeFile(codeModelFileName, stringify(codeModel, { version: "1.1" }));
+      // Serialize as JSON, which the Java generator reads as a stream. Unlike YAML 1.1, JSON has no
+      // implicit types, so date-like strings (e.g. api-version "2025-01-02") stay strings.
+      await program.host.writeFile(codeModelFileName, stringifyCodeModel(codeModel));
 
       trace(program, `Code model file written to ${codeModelFileName}`);
 
@@ -113,6 +113,7 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         javaArgs.push(
           `-XX:StartFlightRecording=settings="${perfProfile}",filename="${options["output-dir"]}/typespecPerf.jfr",maxsize=1gb`,
         );
+        javaArgs.push(`-Dcodegen.java.phase.summary=${getPhaseSummaryFileName(options)}`);
       }
       // These module modifications are needed by google-java-format
       javaArgs.push("--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED");
@@ -124,10 +125,29 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
       javaArgs.push("-jar");
       javaArgs.push(jarFileName);
       javaArgs.push(codeModelFileName);
+      // the generator server runs with its own JVM options, so it is not used with the JVM related dev options
+      const devOptions = options["dev-options"];
+      const generatorServer =
+        devOptions?.debug || devOptions?.loglevel || devOptions?.["java-temp-dir"] || devOptions?.profile
+          ? undefined
+          : devOptions?.["generator-server"];
       try {
-        const result = await spawnAsync("java", javaArgs, { stdio: "pipe" });
+        let result: SpawnReturns | undefined = undefined;
+        if (generatorServer) {
+          trace(program, `Run on generator server ${generatorServer}`);
+          result = await runOnGeneratorServer(generatorServer, codeModelFileName, emitterOptions);
+          if (!result) {
+            trace(program, `Generator server not available, exec JAR`);
+          }
+        }
+        if (!result) {
+          result = await spawnAsync("java", javaArgs, { stdio: "pipe" });
+        }
         reportJarOutput(program, result.stdout);
         // trace(program, `Code generation log: ${result.stdout}`);
+        if (options["dev-options"]?.profile) {
+          await reportPhaseSummary(program, getPhaseSummaryFileName(options));
+        }
       } catch (error: any) {
         if (error && "code" in error && error["code"] === "ENOENT") {
           reportDiagnostic(program, {
@@ -158,6 +178,19 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
   }
 }
 
+function getPhaseSummaryFileName(options: EmitterOptionsDev): string {
+  return `${options["output-dir"]}/typespecPerf.json`;
+}
+
+async function reportPhaseSummary(program: Program, phaseSummaryFileName: string) {
+  try {
+    const phaseSummary = await program.host.readFile(phaseSummaryFileName);
+    trace(program, `Phase summary: ${phaseSummary.text}`);
+  } catch {
+    // the generator did not write the summary, e.g. it failed before the end of the generation
+  }
+}
+
 function reportJarOutput(program: Program, jarOutput: string) {
   const lines = jarOutput.split("\n");
   const logs: Array<string> = [];
@@ -0,0 +1,87 @@
+import { promises } from "fs";
+import { connect } from "net";
+import type { SpawnReturns } from "./utils.js";
+import { SpawnError } from "./utils.js";
+
+interface GeneratorServerInfo {
+  host: string;
+  port: number;
+  token: string;
+}
+
+/**
+ * Runs the Java generator on a generator server, started by
+ * `java -jar emitter.jar --server --port-file <path>`, instead of starting a new JVM.
+ *
+ * The server processes one request at a time, concurrent requests wait for their turn.
+ *
+ * @param portFile The port file written by the generator server.
+ * @param codeModelFileName The path of the code model file.
+ * @param emitterOptions The emitter options, as JSON.
+ * @returns The output of the generator, or `undefined` if the generator server is not available.
+ */
+export async function runOnGeneratorServer(
+  portFile: string,
+  codeModelFileName: string,
+  emitterOptions: string,
+): Promise<SpawnReturns | undefined> {
+  let server: GeneratorServerInfo;
+  try {
+    server = JSON.parse(await promises.readFile(portFile, "utf-8"));
+  } catch {
+    return undefined;
+  }
+
+  return new Promise<SpawnReturns | undefined>((resolve, reject) => {
+    const output: string[] = [];
+    let exitCode: number | undefined = undefined;
+    let buffer = "";
+
+    const socket = connect({ host: server.host, port: server.port });
+    socket.setEncoding("utf-8");
+    socket.on("connect", () => {
+      socket.write(
+        JSON.stringify({ token: server.token, codeModel: codeModelFileName, emitterOptions }) + "\n",
+      );
+    });
+    // one JSON message per line, the log output of the generator, then the exit code
+    socket.on("data", (data: string) => {
+      buffer += data;
+      let index = buffer.indexOf("\n");
+      while (index >= 0) {
+        let message: any;
+        try {
+          message = JSON.parse(buffer.substring(0, index));
+        } catch {
+          // not a generator server, e.g. the port file is stale
+          exitCode = undefined;
+          socket.destroy();
+          return;
+        }
+        buffer = buffer.substring(index + 1);
+        if (message.output !== undefined) {
+          output.push(message.output);
+        }
+        if (message.exitCode !== undefined) {
+          exitCode = message.exitCode;
+        }
+        index = buffer.indexOf("\n");
+      }
+    });
+    socket.on("error", () => {
+      // handled on "close", as the response is incomplete
+    });
+    socket.on("close", () => {
+      if (exitCode === undefined) {
+        // server not available, or the request is rejected
+        resolve(undefined);
+      } else if (exitCode === 0) {
+        resolve({ stdout: output.join(""), stderr: "" });
+      } else {
+        reject(
+          new SpawnError(`Generator server ended with code '${exitCode}'.`, output.join(""), ""),
+        );
+      }
+    });
+  });
+}
@@ -19,6 +19,7 @@ export interface DevOptions {
   loglevel?: "off" | "debug" | "info" | "warn" | "error";
   "java-temp-dir"?: string; // working directory for java codegen, e.g. transformed code-model file
   profile?: boolean; // enable performance profiling
+  "generator-server"?: string; // port file of a running generator server
 }
 
 export interface License {
@@ -44,7 +45,7 @@ export const EmitterOptionsSchema: JSONSchemaType<EmitterOptions> = {
       properties: {
         "generate-code-model": {
           type: "boolean",
-          description: "Generate intermittent 'code-model.yaml' file in output directory.",
+          description: "Generate intermittent 'code-model.json' file in output directory.",
           nullable: true,
         },
         debug: {
@@ -68,6 +69,12 @@ export const EmitterOptionsSchema: JSONSchemaType<EmitterOptions> = {
           description: "Enable performance profiling.",
           nullable: true,
         },
+        "generator-server": {
+          type: "string",
+          description:
+            "Port file of a running generator server, started with 'java -jar emitter.jar --server --port-file <path>'. Falls back to running the generator JAR if the server is not available.",
+          nullable: true,
+        },
       },
       nullable: true,
       additionalProperties: false,
@@ -0,0 +1,209 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.Main;
+import com.microsoft.typespec.http.client.generator.TypeSpecPlugin;
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.CodeModelSummary;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.utils.CoreUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The code models the benchmarks run on.
+ * <p>
+ * The fixture is either "synthetic", for the synthetic model of {@link #SYNTHETIC_RESOURCES} resources,
+ * "synthetic-&lt;resources&gt;" for a synthetic model of another size, "polymorphic" for the synthetic model of a
+ * polymorphic type, or the path of a code-model.yaml or code-model.json file, e.g. one written to tsp-output by the
+ * emitter with the "generate-code-model" dev option.
+ * <p>
+ * The synthetic model is written as YAML. With the ".json" suffix, e.g. "synthetic.json", the same model is converted
+ * to JSON.
+ */
+final class BenchmarkFixtures {
+    static final String SYNTHETIC = "synthetic";
+    static final String SYNTHETIC_JSON = "synthetic.json";
+    static final String POLYMORPHIC = "polymorphic";
+    static final int SYNTHETIC_RESOURCES = 500;
+    static final String AZURE_EMITTER_OPTIONS = "{\"flavor\":\"azure\"}";
+
+    private static final String JSON_SUFFIX = ".json";
+    private static final Map<String, Path> SYNTHETIC_FILES = new ConcurrentHashMap<>();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Gets the code model file of the fixture. The synthetic code model is written once per size.
+     *
+     * @param fixture the fixture
+     * @return the code model file
+     */
+    static Path getCodeModelFile(String fixture) {
+        if (fixture.equals(POLYMORPHIC)) {
+            return SYNTHETIC_FILES.computeIfAbsent(fixture, key -> {
+                try {
+                    Path file = createTempFile(key, ".yaml");
+                    SyntheticCodeModel.writePolymorphic(file);
+                    return file;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        if (!fixture.startsWith(SYNTHETIC)) {
+            Path file = Paths.get(fixture);
+            if (!Files.isRegularFile(file)) {
+                throw new IllegalArgumentException("Code model file " + fixture + " does not exist.");
+            }
+            return file;
+        }
+
+        if (fixture.endsWith(JSON_SUFFIX)) {
+            String yamlFixture = fixture.substring(0, fixture.length() - JSON_SUFFIX.length());
+            Path yamlFile = getCodeModelFile(yamlFixture);
+            return SYNTHETIC_FILES.computeIfAbsent(fixture, key -> {
+                try {
+                    Path file = createTempFile(yamlFixture, JSON_SUFFIX);
+                    CodeModelJsonConverter.convert(yamlFile, file);
+                    return file;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        int resources = fixture.equals(SYNTHETIC)
+            ? SYNTHETIC_RESOURCES
+            : Integer.parseInt(fixture.substring(SYNTHETIC.length() + 1));
+        return SYNTHETIC_FILES.computeIfAbsent(fixture, key -> {
+            try {
+                Path file = createTempFile(key, ".yaml");
+                SyntheticCodeModel.write(file, resources);
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static Path createTempFile(String fixture, String suffix) throws IOException {
+        Path file = Files.createTempFile("code-model-" + fixture, suffix);
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    /**
+     * Loads the code model of the fixture.
+     *
+     * @param fixture the fixture
+     * @return the code model
+     * @throws IOException if the code model cannot be read
+     */
+    static CodeModel loadCodeModel(String fixture) throws IOException {
+        return Main.loadCodeModel(getCodeModelFile(fixture).toString());
+    }
+
+    /**
+     * Creates the plugin, and the settings, of a generation. It must be called in the {@code GenerationContext} of
+     * the generation.
+     *
+     * @param codeModel the code model
+     * @param outputDir the output directory
+     * @return the plugin
+     * @throws IOException if the emitter options cannot be read
+     */
+    static TypeSpecPlugin createPlugin(CodeModel codeModel, Path outputDir) throws IOException {
+        return createPlugin(codeModel, outputDir, AZURE_EMITTER_OPTIONS);
+    }
+
+    /**
+     * Creates the plugin, and the settings, of a generation with the emitter options. It must be called in the
+     * {@code GenerationContext} of the generation.
+     *
+     * @param codeModel the code model
+     * @param outputDir the output directory
+     * @param emitterOptions the emitter options, as JSON
+     * @return the plugin
+     * @throws IOException if the emitter options cannot be read
+     */
+    static TypeSpecPlugin createPlugin(CodeModel codeModel, Path outputDir, String emitterOptions)
+        throws IOException {
+        EmitterOptions options;
+        try (JsonReader jsonReader = JsonReader.fromString(emitterOptions)) {
+            options = EmitterOptions.fromJson(jsonReader);
+        }
+        options.setOutputDir(outputDir.toString() + "/");
+        if (codeModel.getLanguage().getJava() != null
+            && !CoreUtils.isNullOrEmpty(codeModel.getLanguage().getJava().getNamespace())) {
+            options.setNamespace(codeModel.getLanguage().getJava().getNamespace());
+        }
+
+        TypeSpecPlugin plugin = new TypeSpecPlugin(options, false);
+        // read the settings, as the generation does before it maps the code model
+        JavaSettings.getInstance();
+        return plugin;
+    }
+
+    /**
+     * Generates the Java files of the fixture, without formatting them, in a new generation.
+     *
+     * @param fixture the fixture
+     * @return the content of the Java files, by file path
+     * @throws Exception if the code model cannot be read, or the generation fails
+     */
+    static Map<String, String> renderJavaFiles(String fixture) throws Exception {
+        return renderJavaFiles(fixture, AZURE_EMITTER_OPTIONS);
+    }
+
+    /**
+     * Generates the Java files of the fixture with the emitter options, without formatting them, in a new generation.
+     *
+     * @param fixture the fixture
+     * @param emitterOptions the emitter options, as JSON
+     * @return the content of the Java files, by file path
+     * @throws Exception if the code model cannot be read, or the generation fails
+     */
+    static Map<String, String> renderJavaFiles(String fixture, String emitterOptions) throws Exception {
+        CodeModel codeModel = loadCodeModel(fixture);
+        Path outputDir = Files.createTempDirectory("benchmark");
+        return new GenerationContext().call(() -> {
+            TypeSpecPlugin plugin = createPlugin(codeModel, outputDir, emitterOptions);
+            return renderJavaFiles(plugin, codeModel, plugin.processClient(codeModel));
+        });
+    }
+
+    /**
+     * Renders the Java files of the client, without formatting them.
+     *
+     * @param plugin the plugin
+     * @param codeModel the code model
+     * @param client the client
+     * @return the content of the Java files, by file path
+     */
+    static Map<String, String> renderJavaFiles(TypeSpecPlugin plugin, CodeModel codeModel, Client client) {
+        JavaPackage javaPackage
+            = plugin.processTemplates(CodeModelSummary.of(codeModel), client, JavaSettings.getInstance());
+        Map<String, String> javaFiles = new LinkedHashMap<>();
+        for (JavaFile javaFile : javaPackage.getJavaFiles()) {
+            javaFiles.put(javaFile.getFilePath(), javaFile.getContents().toString());
+        }
+        return javaFiles;
+    }
+}
@@ -0,0 +1,171 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/**
+ * Converts a code-model.yaml to the code-model.json of the same code model, so that the loading of the two formats
+ * can be compared on the same fixture.
+ * <p>
+ * A mapping or sequence referenced more than once, by a YAML alias, is written once with an {@code "$id"}, and as
+ * {@code {"$ref":"<id>"}} afterwards. A shared sequence is written as {@code {"$id":"<id>","$values":[...]}}. The
+ * {@code "type"} of a mapping is written first, after the {@code "$id"}, as the JSON code model reader expects for
+ * the schemas.
+ */
+final class CodeModelJsonConverter {
+    private static final Pattern JSON_NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private final JsonWriter jsonWriter;
+    private final Set<Node> sharedNodes;
+    private final Map<Node, String> ids = new IdentityHashMap<>();
+
+    private CodeModelJsonConverter(JsonWriter jsonWriter, Set<Node> sharedNodes) {
+        this.jsonWriter = jsonWriter;
+        this.sharedNodes = sharedNodes;
+    }
+
+    /**
+     * Converts the code model.
+     *
+     * @param yamlFile the code-model.yaml file
+     * @param jsonFile the code-model.json file
+     * @throws IOException if the YAML cannot be read, or the JSON cannot be written
+     */
+    static void convert(Path yamlFile, Path jsonFile) throws IOException {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(50 * 1024 * 1024);
+        loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
+
+        Node root;
+        try (Reader reader = Files.newBufferedReader(yamlFile, StandardCharsets.UTF_8)) {
+            root = new Yaml(loaderOptions).compose(reader);
+        }
+
+        try (OutputStream outputStream = Files.newOutputStream(jsonFile);
+            JsonWriter jsonWriter = JsonWriter.toStream(outputStream)) {
+            new CodeModelJsonConverter(jsonWriter, findSharedNodes(root)).write(root);
+            jsonWriter.flush();
+        }
+    }
+
+    private void write(Node node) throws IOException {
+        String id = ids.get(node);
+        if (id != null) {
+            jsonWriter.writeStartObject().writeStringField("$ref", id).writeEndObject();
+            return;
+        }
+        if (sharedNodes.contains(node)) {
+            id = String.valueOf(ids.size());
+            ids.put(node, id);
+        }
+
+        if (node instanceof MappingNode) {
+            jsonWriter.writeStartObject();
+            if (id != null) {
+                jsonWriter.writeStringField("$id", id);
+            }
+            for (NodeTuple tuple : ((MappingNode) node).getValue()) {
+                if ("type".equals(getKey(tuple))) {
+                    writeField(tuple);
+                }
+            }
+            for (NodeTuple tuple : ((MappingNode) node).getValue()) {
+                if (!"type".equals(getKey(tuple))) {
+                    writeField(tuple);
+                }
+            }
+            jsonWriter.writeEndObject();
+        } else if (node instanceof SequenceNode) {
+            if (id != null) {
+                jsonWriter.writeStartObject().writeStringField("$id", id).writeFieldName("$values");
+            }
+            jsonWriter.writeStartArray();
+            for (Node item : ((SequenceNode) node).getValue()) {
+                write(item);
+            }
+            jsonWriter.writeEndArray();
+            if (id != null) {
+                jsonWriter.writeEndObject();
+            }
+        } else {
+            writeScalar((ScalarNode) node);
+        }
+    }
+
+    private void writeField(NodeTuple tuple) throws IOException {
+        jsonWriter.writeFieldName(getKey(tuple));
+        write(tuple.getValueNode());
+    }
+
+    private void writeScalar(ScalarNode node) throws IOException {
+        String value = node.getValue();
+        if (Tag.NULL.equals(node.getTag())) {
+            jsonWriter.writeNull();
+        } else if (Tag.BOOL.equals(node.getTag())) {
+            // YAML 1.1 booleans, as SnakeYAML reads them
+            String bool = value.toLowerCase(Locale.ROOT);
+            jsonWriter.writeBoolean("true".equals(bool) || "yes".equals(bool) || "on".equals(bool));
+        } else if ((Tag.INT.equals(node.getTag()) || Tag.FLOAT.equals(node.getTag()))
+            && JSON_NUMBER.matcher(value).matches()) {
+            jsonWriter.writeRawValue(value);
+        } else {
+            jsonWriter.writeString(value);
+        }
+    }
+
+    private static String getKey(NodeTuple tuple) {
+        return ((ScalarNode) tuple.getKeyNode()).getValue();
+    }
+
+    /*
+     * Finds the mappings and sequences that are referenced more than once.
+     */
+    private static Set<Node> findSharedNodes(Node root) {
+        Set<Node> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Node> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (!visited.add(node)) {
+                if (!(node instanceof ScalarNode)) {
+                    shared.add(node);
+                }
+            } else if (node instanceof MappingNode) {
+                for (NodeTuple tuple : ((MappingNode) node).getValue()) {
+                    stack.push(tuple.getValueNode());
+                }
+            } else if (node instanceof SequenceNode) {
+                for (Node item : ((SequenceNode) node).getValue()) {
+                    stack.push(item);
+                }
+            }
+        }
+        return shared;
+    }
+}
@@ -0,0 +1,48 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.Main;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the loading of the code model. By default, the synthetic code model is loaded from YAML and from JSON,
+ * to compare the two formats. Pass the code-model.yaml and the code-model.json of the same TypeSpec as fixtures to
+ * compare them on a real code model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodeModelLoadBenchmarks {
+    @Param({ BenchmarkFixtures.SYNTHETIC, BenchmarkFixtures.SYNTHETIC_JSON })
+    public String fixture;
+
+    private String codeModelFile;
+
+    @Setup
+    public void setup() {
+        codeModelFile = BenchmarkFixtures.getCodeModelFile(fixture).toString();
+    }
+
+    @Benchmark
+    public CodeModel loadCodeModel() throws IOException {
+        return Main.loadCodeModel(codeModelFile);
+    }
+}
@@ -0,0 +1,118 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the JSON-RPC {@link Connection} to the emitter.
+ * <p>
+ * The emitter is replaced by a host thread, in the same process, which answers every request with a string result. A
+ * batch of notifications, like the log messages of a generation, is followed by a request, so it's measured until all
+ * the notifications are written.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConnectionBenchmarks {
+    private static final int NOTIFICATIONS = 100;
+    private static final String MESSAGE = "Processing model SyntheticResourceProperties of the synthetic service.";
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\":(\\d+)");
+
+    private Connection connection;
+    private Thread host;
+
+    @Setup
+    public void setup() throws IOException {
+        PipedInputStream connectionInput = new PipedInputStream(1 << 16);
+        PipedInputStream hostInput = new PipedInputStream(1 << 16);
+        OutputStream hostOutput = new PipedOutputStream(connectionInput);
+        connection = new Connection(new PipedOutputStream(hostInput), connectionInput);
+
+        host = new Thread(() -> runHost(hostInput, hostOutput), "benchmark-host");
+        host.setDaemon(true);
+        host.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connection.stop();
+        host.interrupt();
+    }
+
+    @Benchmark
+    public String request() {
+        return connection.request("readFile", "code-model.yaml");
+    }
+
+    @Benchmark
+    public String notifyBatch() {
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            connection.notify("message", "session", "info", MESSAGE);
+        }
+        return connection.request("readFile", "code-model.yaml");
+    }
+
+    /*
+     * Reads the messages of the connection, and answers the requests.
+     */
+    private static void runHost(InputStream input, OutputStream output) {
+        try {
+            String message;
+            while ((message = readMessage(input)) != null) {
+                Matcher matcher = ID_PATTERN.matcher(message);
+                if (matcher.find()) {
+                    byte[] response = ("{\"jsonrpc\":\"2.0\",\"id\":" + matcher.group(1) + ",\"result\":\"content\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                    output.write(("Content-Length: " + response.length + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                    output.write(response);
+                    output.flush();
+                }
+            }
+        } catch (IOException e) {
+            // the connection is stopped
+        }
+    }
+
+    private static String readMessage(InputStream input) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        int terminator = 0;
+        while (terminator < 4) {
+            int b = input.read();
+            if (b < 0) {
+                return null;
+            }
+            header.write(b);
+            terminator = (b == '\r' || b == '\n') ? terminator + 1 : 0;
+        }
+
+        String length = header.toString(StandardCharsets.US_ASCII).trim().substring("Content-Length:".length());
+        byte[] content = input.readNBytes(Integer.parseInt(length.trim()));
+        return new String(content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,166 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.microsoft.typespec.http.client.generator.core.customization.Customization;
+import com.microsoft.typespec.http.client.generator.core.customization.Editor;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.Postprocessor;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.NOPLogger;
+
+/**
+ * Benchmarks the customization of the generated Java files.
+ * <p>
+ * The compilation of the customization class is measured with an empty compiled class cache, and with the class
+ * already in the cache. The cache is in a temporary directory, set by the "codegen.java.temp.directory" system
+ * property.
+ * <p>
+ * The editing is measured by several customizations that each add a field to every class: on the abstract syntax
+ * trees the {@link Editor} shares between customizations, and by parsing and printing the file in each customization.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CustomizationBenchmarks {
+    private static final String TEMP_DIRECTORY_PROPERTY = "codegen.java.temp.directory";
+    private static final String CUSTOMIZATION_CLASS_NAME = "BenchmarkCustomization";
+    private static final String CUSTOMIZATION_CLASS = String.join("\n",
+        "import com.microsoft.typespec.http.client.generator.core.customization.Customization;",
+        "import com.microsoft.typespec.http.client.generator.core.customization.LibraryCustomization;",
+        "import org.slf4j.Logger;",
+        "",
+        "public class BenchmarkCustomization extends Customization {",
+        "    @Override",
+        "    public void customize(LibraryCustomization customization, Logger logger) {",
+        "        customization.getRawEditor().getContents();",
+        "    }",
+        "}");
+    private static final int CUSTOMIZATIONS = 3;
+
+    /**
+     * The compiled class cache of the customization class.
+     */
+    @State(Scope.Thread)
+    public static class CompilerState {
+        private String tempDirectory;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            tempDirectory = System.getProperty(TEMP_DIRECTORY_PROPERTY);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() {
+            if (tempDirectory == null) {
+                System.clearProperty(TEMP_DIRECTORY_PROPERTY);
+            } else {
+                System.setProperty(TEMP_DIRECTORY_PROPERTY, tempDirectory);
+            }
+        }
+
+        void useNewCache() throws Exception {
+            System.setProperty(TEMP_DIRECTORY_PROPERTY, Files.createTempDirectory("benchmark").toString());
+        }
+    }
+
+    /**
+     * The compiled class cache is empty on each invocation.
+     */
+    public static class UncachedCompilerState extends CompilerState {
+        @Setup(Level.Invocation)
+        public void setupInvocation() throws Exception {
+            useNewCache();
+        }
+    }
+
+    /**
+     * The compiled class cache has the customization class.
+     */
+    public static class CachedCompilerState extends CompilerState {
+        @Setup(Level.Trial)
+        public void setupCache() throws Exception {
+            useNewCache();
+            Postprocessor.loadCustomizationClass(CUSTOMIZATION_CLASS_NAME, CUSTOMIZATION_CLASS, NOPLogger.NOP_LOGGER);
+        }
+    }
+
+    /**
+     * The generated Java files.
+     */
+    @State(Scope.Benchmark)
+    public static class EditorState {
+        @Param({ BenchmarkFixtures.SYNTHETIC })
+        public String fixture;
+
+        private Map<String, String> javaFiles;
+        private final List<String> classFiles = new ArrayList<>();
+
+        @Setup
+        public void setup() throws Exception {
+            javaFiles = BenchmarkFixtures.renderJavaFiles(fixture);
+            for (String name : javaFiles.keySet()) {
+                if (!name.endsWith("package-info.java") && !name.endsWith("module-info.java")) {
+                    classFiles.add(name);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Class<? extends Customization> compileUncached(UncachedCompilerState state) {
+        return Postprocessor.loadCustomizationClass(CUSTOMIZATION_CLASS_NAME, CUSTOMIZATION_CLASS,
+            NOPLogger.NOP_LOGGER);
+    }
+
+    @Benchmark
+    public Class<? extends Customization> compileCached(CachedCompilerState state) {
+        return Postprocessor.loadCustomizationClass(CUSTOMIZATION_CLASS_NAME, CUSTOMIZATION_CLASS,
+            NOPLogger.NOP_LOGGER);
+    }
+
+    @Benchmark
+    public Map<String, String> editSharedCompilationUnits(EditorState state) {
+        Editor editor = new Editor(state.javaFiles);
+        for (int i = 0; i < CUSTOMIZATIONS; i++) {
+            for (String name : state.classFiles) {
+                editor.getCompilationUnit(name).getType(0).addField("String", "customField" + i);
+            }
+        }
+        return editor.getContents();
+    }
+
+    @Benchmark
+    public Map<String, String> editReparsedCompilationUnits(EditorState state) {
+        Editor editor = new Editor(state.javaFiles);
+        for (int i = 0; i < CUSTOMIZATIONS; i++) {
+            for (String name : state.classFiles) {
+                CompilationUnit compilationUnit = StaticJavaParser.parse(editor.getFileContent(name));
+                compilationUnit.getType(0).addField("String", "customField" + i);
+                editor.replaceFile(name, compilationUnit.toString());
+            }
+        }
+        return editor.getContents();
+    }
+}
@@ -0,0 +1,97 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two ways the generated stream-style {@code fromJson} method of a polymorphic type finds the subtype:
+ * buffering the object until the discriminator is found, and the subtype continuing to read the object from the
+ * discriminator value, generated with the "discriminator-first-deserialization" option.
+ * <p>
+ * The models of the polymorphic synthetic code model, a super type with four subtypes, are generated without and with
+ * the option, and compiled once per trial. The payload is an array of subtype objects, each with the discriminator as
+ * its first field, read by the generated {@code Bird.fromJson}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscriminatorFirstBenchmarks {
+    private static final String MODEL = "Bird";
+    private static final String DISCRIMINATOR_FIRST_EMITTER_OPTIONS
+        = "{\"flavor\":\"azure\",\"discriminator-first-deserialization\":true}";
+    private static final String[] KINDS = { "seagull", "sparrow", "goose", "eagle" };
+    private static final int BIRDS = 64;
+
+    private byte[] json;
+    private MethodHandle bufferObject;
+    private MethodHandle discriminatorFirst;
+
+    @Setup
+    public void setup() throws Exception {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < BIRDS; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"kind\":\"")
+                .append(KINDS[i % KINDS.length])
+                .append("\",\"wingspan\":")
+                .append(i)
+                .append(",\"name\":\"bird-")
+                .append(i)
+                .append("\",\"habitat\":{\"region\":\"coast\",\"elevation\":")
+                .append(i * 10)
+                .append("}}");
+        }
+        json = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        bufferObject = GeneratedModels.generate(BenchmarkFixtures.POLYMORPHIC, BenchmarkFixtures.AZURE_EMITTER_OPTIONS)
+            .getFromJson(MODEL);
+        discriminatorFirst
+            = GeneratedModels.generate(BenchmarkFixtures.POLYMORPHIC, DISCRIMINATOR_FIRST_EMITTER_OPTIONS)
+                .getFromJson(MODEL);
+    }
+
+    @Benchmark
+    public int bufferObject() throws Throwable {
+        return readBirds(bufferObject);
+    }
+
+    @Benchmark
+    public int discriminatorFirst() throws Throwable {
+        return readBirds(discriminatorFirst);
+    }
+
+    private int readBirds(MethodHandle fromJson) throws Throwable {
+        int birds = 0;
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            jsonReader.nextToken();
+            while (jsonReader.nextToken() != JsonToken.END_ARRAY) {
+                if (fromJson.invokeExact(jsonReader) != null) {
+                    birds++;
+                }
+            }
+        }
+        return birds;
+    }
+}
@@ -0,0 +1,136 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.azure.json.JsonReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * The model classes generated from a fixture with a set of emitter options, compiled in process and loaded in a class
+ * loader of their own, so that the benchmarks can run the code generated with and without an option side by side.
+ * <p>
+ * Only the classes of the "models" package are compiled. They are compiled against the class path of the benchmarks,
+ * which has azure-core and azure-json.
+ */
+final class GeneratedModels {
+    private static final String SOURCE_DIRECTORY = "src/main/java/";
+    private static final String MODELS_PACKAGE = "/models/";
+
+    private final ClassLoader classLoader;
+    private final Map<String, String> classNames;
+
+    private GeneratedModels(ClassLoader classLoader, Map<String, String> classNames) {
+        this.classLoader = classLoader;
+        this.classNames = classNames;
+    }
+
+    /**
+     * Generates the models of the fixture with the emitter options, and compiles them.
+     *
+     * @param fixture the fixture
+     * @param emitterOptions the emitter options, as JSON
+     * @return the compiled models
+     * @throws Exception if the generation fails, or the generated models do not compile
+     */
+    static GeneratedModels generate(String fixture, String emitterOptions) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The system Java compiler is not available.");
+        }
+
+        List<JavaFileObject> sources = new ArrayList<>();
+        Map<String, String> classNames = new HashMap<>();
+        for (Map.Entry<String, String> javaFile : BenchmarkFixtures.renderJavaFiles(fixture, emitterOptions)
+            .entrySet()) {
+            String path = javaFile.getKey();
+            if (!path.startsWith(SOURCE_DIRECTORY) || !path.contains(MODELS_PACKAGE)
+                || path.endsWith("package-info.java")) {
+                continue;
+            }
+
+            String className = path.substring(SOURCE_DIRECTORY.length(), path.length() - ".java".length())
+                .replace('/', '.');
+            classNames.put(className.substring(className.lastIndexOf('.') + 1), className);
+            String code = javaFile.getValue();
+            sources.add(new SimpleJavaFileObject(URI.create("string:///" + path), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return code;
+                }
+            });
+        }
+
+        Path classesDirectory = Files.createTempDirectory("benchmark-classes");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success;
+        try (StandardJavaFileManager fileManager
+            = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(classesDirectory.toFile()));
+            List<String> options
+                = List.of("-classpath", System.getProperty("java.class.path"), "-proc:none", "-encoding", "UTF-8");
+            success = compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+        }
+        if (!success) {
+            StringBuilder message = new StringBuilder("The models generated from ").append(fixture)
+                .append(" with ")
+                .append(emitterOptions)
+                .append(" do not compile:");
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    message.append('\n')
+                        .append(diagnostic.getSource() == null ? "" : diagnostic.getSource().getName())
+                        .append(':')
+                        .append(diagnostic.getLineNumber())
+                        .append(": ")
+                        .append(diagnostic.getMessage(Locale.ROOT));
+                }
+            }
+            throw new IllegalStateException(message.toString());
+        }
+
+        ClassLoader classLoader = URLClassLoader.newInstance(new URL[] { classesDirectory.toUri().toURL() },
+            GeneratedModels.class.getClassLoader());
+        return new GeneratedModels(classLoader, classNames);
+    }
+
+    /**
+     * Gets the generated {@code fromJson(JsonReader)} method of a model.
+     *
+     * @param modelName the simple name of the model class
+     * @return the method, of type {@code (JsonReader)Object}
+     * @throws ReflectiveOperationException if the model, or its {@code fromJson} method, is not found
+     */
+    MethodHandle getFromJson(String modelName) throws ReflectiveOperationException {
+        String className = classNames.get(modelName);
+        if (className == null) {
+            throw new ClassNotFoundException("Model " + modelName + " is not generated.");
+        }
+
+        Class<?> modelClass = Class.forName(className, true, classLoader);
+        return MethodHandles.publicLookup()
+            .findStatic(modelClass, "fromJson", MethodType.methodType(modelClass, JsonReader.class))
+            .asType(MethodType.methodType(Object.class, JsonReader.class));
+    }
+}
@@ -0,0 +1,77 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two forms of the field name dispatch in the generated stream-style {@code fromJson} methods: the
+ * if/else chain of {@code "name".equals(fieldName)} checks, and the switch on the field name generated with the
+ * "json-field-switch-threshold" option.
+ * <p>
+ * The models of the synthetic code model of one resource are generated without the option, and with a threshold of
+ * 2, and compiled once per trial. The payload is a {@code Resource1}, with all the properties of the resource and of
+ * its properties bag, and an unknown property.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonFieldDispatchBenchmarks {
+    private static final String FIXTURE = BenchmarkFixtures.SYNTHETIC + "-1";
+    private static final String MODEL = "Resource1";
+    private static final String SWITCH_EMITTER_OPTIONS
+        = "{\"flavor\":\"azure\",\"json-field-switch-threshold\":2}";
+
+    private static final String JSON = "{\"id\":\"/subscriptions/sub/resourceGroups/rg/providers/Microsoft.Synthetic"
+        + "/resource1s/resource\",\"name\":\"resource\",\"type\":\"Microsoft.Synthetic/resource1s\","
+        + "\"location\":\"westus\",\"tags\":{\"environment\":\"test\",\"owner\":\"benchmark\"},"
+        + "\"properties\":{\"provisioningState\":\"Succeeded\",\"displayName\":\"Resource\","
+        + "\"description\":\"The resource.\",\"capacity\":4,\"enabled\":true,"
+        + "\"createdAt\":\"2024-01-01T00:00:00Z\",\"endpoints\":[\"https://endpoint1\",\"https://endpoint2\"],"
+        + "\"setting1\":\"value1\",\"setting2\":\"value2\",\"setting3\":\"value3\",\"setting4\":\"value4\","
+        + "\"setting5\":\"value5\",\"setting6\":\"value6\",\"setting7\":\"value7\",\"setting8\":\"value8\"},"
+        + "\"unknown\":{\"nested\":true}}";
+
+    private byte[] json;
+    private MethodHandle ifElseChain;
+    private MethodHandle switchOnFieldName;
+
+    @Setup
+    public void setup() throws Exception {
+        json = JSON.getBytes(StandardCharsets.UTF_8);
+        ifElseChain = GeneratedModels.generate(FIXTURE, BenchmarkFixtures.AZURE_EMITTER_OPTIONS).getFromJson(MODEL);
+        switchOnFieldName = GeneratedModels.generate(FIXTURE, SWITCH_EMITTER_OPTIONS).getFromJson(MODEL);
+    }
+
+    @Benchmark
+    public Object ifElseChain() throws Throwable {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return ifElseChain.invokeExact(jsonReader);
+        }
+    }
+
+    @Benchmark
+    public Object switchOnFieldName() throws Throwable {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return switchOnFieldName.invokeExact(jsonReader);
+        }
+    }
+}
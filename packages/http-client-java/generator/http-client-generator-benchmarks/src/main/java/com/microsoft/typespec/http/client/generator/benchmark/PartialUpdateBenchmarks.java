@@ -0,0 +1,87 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link PartialUpdateHandler} on the generated Java files.
+ * <p>
+ * "mergeCustomizedFiles" merges every file with an existing file that has a manually written method.
+ * "mergeGeneratedFiles" merges every file with an identical existing file, and "scanGeneratedFiles" only scans those
+ * files for manually written members, which is how the generation skips the merge of files it fully generated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PartialUpdateBenchmarks {
+    private static final String CUSTOM_METHOD
+        = "\n    public String customMethod() {\n        return \"custom\";\n    }\n";
+
+    @Param({ BenchmarkFixtures.SYNTHETIC })
+    public String fixture;
+
+    private final List<String> generatedFiles = new ArrayList<>();
+    private final List<String> customizedFiles = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Exception {
+        for (Map.Entry<String, String> javaFile : BenchmarkFixtures.renderJavaFiles(fixture).entrySet()) {
+            String content = javaFile.getValue();
+            int classEnd = content.lastIndexOf('}');
+            if (javaFile.getKey().endsWith("package-info.java") || classEnd < 0) {
+                continue;
+            }
+            generatedFiles.add(content);
+            customizedFiles.add(content.substring(0, classEnd) + CUSTOM_METHOD + content.substring(classEnd));
+        }
+    }
+
+    @Benchmark
+    public List<String> mergeCustomizedFiles() {
+        List<String> merged = new ArrayList<>(generatedFiles.size());
+        for (int i = 0; i < generatedFiles.size(); i++) {
+            merged.add(PartialUpdateHandler.handlePartialUpdateForFile(generatedFiles.get(i), customizedFiles.get(i)));
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public List<String> mergeGeneratedFiles() {
+        List<String> merged = new ArrayList<>(generatedFiles.size());
+        for (String generatedFile : generatedFiles) {
+            merged.add(PartialUpdateHandler.handlePartialUpdateForFile(generatedFile, generatedFile));
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public int scanGeneratedFiles() {
+        int fullyGenerated = 0;
+        for (String generatedFile : generatedFiles) {
+            if (PartialUpdateHandler.hasOnlyGeneratedMembers(generatedFile)) {
+                fullyGenerated++;
+            }
+        }
+        return fullyGenerated;
+    }
+}
@@ -0,0 +1,472 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Writes a synthetic code model, of the size of a large ARM service, as YAML in the format of the emitter.
+ * <p>
+ * Each resource has a resource model, a properties model and a provisioning state enum, like the tracked resources of
+ * an ARM service. Each resource also has an operation group, with a "get" operation, a pageable "list" operation and
+ * a long-running "createOrUpdate" operation, so that the client methods of the simple, paging and long-running
+ * operations are mapped and rendered.
+ * <p>
+ * As in the YAML of the emitter, a schema referenced more than once is written at its first reference, and
+ * referenced by an alias afterwards.
+ */
+final class SyntheticCodeModel {
+    private static final String NAMESPACE = "Microsoft.Synthetic";
+    private static final String JAVA_NAMESPACE = "com.azure.resourcemanager.synthetic";
+    private static final String[] PROVISIONING_STATES
+        = { "Succeeded", "Failed", "Canceled", "Provisioning", "Updating", "Deleting", "Accepted" };
+    private static final int SETTINGS_PER_RESOURCE = 8;
+    private static final String[][] BIRDS
+        = { { "SeaGull", "seagull" }, { "Sparrow", "sparrow" }, { "Goose", "goose" }, { "Eagle", "eagle" } };
+    private static final String JSON_MEDIA_TYPE = "application/json";
+
+    private final Writer writer;
+    private final Set<String> arrays = new LinkedHashSet<>();
+
+    private SyntheticCodeModel(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the code model to the file.
+     *
+     * @param file the code-model.yaml file
+     * @param resources the number of resources
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path file, int resources) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new SyntheticCodeModel(writer).writeCodeModel(resources);
+        }
+    }
+
+    /**
+     * Writes the code model of a polymorphic type to the file.
+     * <p>
+     * The code model has a "Bird" super type, with a "kind" discriminator, and four subtypes that each add a name and a
+     * "Habitat" model.
+     *
+     * @param file the code-model.yaml file
+     * @throws IOException if the file cannot be written
+     */
+    static void writePolymorphic(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new SyntheticCodeModel(writer).writePolymorphicCodeModel();
+        }
+    }
+
+    private void writeCodeModel(int resources) throws IOException {
+        line(0, "info:");
+        line(1, "title: Synthetic");
+        line(1, "description: Synthetic service of " + resources + " resources.");
+        language(0, "Synthetic", "Synthetic service of " + resources + " resources.", true);
+
+        line(0, "schemas:");
+        line(1, "strings:");
+        primitive("string", "string", null);
+        line(1, "numbers:");
+        primitive("integer", "integer", "precision: 32");
+        line(1, "booleans:");
+        primitive("boolean", "boolean", null);
+        line(1, "dateTimes:");
+        primitive("dateTime", "date-time", "format: date-time");
+
+        line(1, "constants:");
+        constant("accept", "Accept header");
+        constant("contentType", "Content-Type header");
+
+        line(1, "dictionaries:");
+        item(2, "&stringDictionary");
+        line(3, "type: dictionary");
+        line(3, "elementType: *string");
+        language(3, "RecordString", "Dictionary of string", true);
+
+        line(1, "sealedChoices:");
+        for (int i = 1; i <= resources; i++) {
+            item(2, "&provisioningState" + i);
+            line(3, "type: sealed-choice");
+            line(3, "choiceType: *string");
+            line(3, "choices:");
+            for (String state : PROVISIONING_STATES) {
+                item(4, "value: " + state);
+                language(5, state, "The resource is " + state + ".", false);
+            }
+            language(3, "Resource" + i + "ProvisioningState", "The provisioning state of Resource" + i + ".", true);
+            usage(3, "input", "output", "public");
+        }
+
+        line(1, "objects:");
+        for (int i = 1; i <= resources; i++) {
+            String properties = "Resource" + i + "Properties";
+            item(2, "&resource" + i + "Properties");
+            line(3, "type: object");
+            language(3, properties, "The properties of Resource" + i + ".", true);
+            usage(3, "input", "output", "public");
+            line(3, "properties:");
+            property("provisioningState" + i, "provisioningState", "The provisioning state.", false, true);
+            property("string", "displayName", "The display name.", true, false);
+            property("string", "description", "The description.", false, false);
+            property("integer", "capacity", "The capacity.", false, false);
+            property("boolean", "enabled", "Whether the resource is enabled.", false, false);
+            property("dateTime", "createdAt", "The time the resource was created.", false, true);
+            arrayProperty("string", "endpoints", "The endpoints.", false);
+            for (int setting = 1; setting <= SETTINGS_PER_RESOURCE; setting++) {
+                property("string", "setting" + setting, "The setting " + setting + ".", false, false);
+            }
+
+            item(2, "&resource" + i);
+            line(3, "type: object");
+            language(3, "Resource" + i, "The tracked resource Resource" + i + ".", true);
+            usage(3, "input", "output", "public");
+            line(3, "properties:");
+            property("string", "id", "The fully qualified resource ID.", false, true);
+            property("string", "name", "The name of the resource.", false, true);
+            property("string", "type", "The type of the resource.", false, true);
+            property("string", "location", "The geo-location of the resource.", true, false);
+            property("stringDictionary", "tags", "The resource tags.", false, false);
+            property("resource" + i + "Properties", "properties", "The resource-specific properties.", false, false);
+
+            item(2, "&resource" + i + "ListResult");
+            line(3, "type: object");
+            language(3, "Resource" + i + "ListResult", "The list of Resource" + i + ".", true);
+            usage(3, "output");
+            line(3, "properties:");
+            arrayProperty("resource" + i, "value", "The Resource" + i + " items on this page.", true);
+            property("string", "nextLink", "The link to the next page of items.", false, false);
+        }
+
+        line(1, "arrays:");
+        for (String array : arrays) {
+            item(2, "*" + array);
+        }
+
+        line(0, "globalParameters:");
+        item(1, "&endpoint");
+        line(2, "schema: *string");
+        line(2, "implementation: Client");
+        line(2, "origin: modelerfour:synthesized/host");
+        line(2, "required: true");
+        line(2, "extensions:");
+        line(3, "x-ms-skip-url-encoding: false");
+        parameterLanguage(2, "endpoint", "Service host", "endpoint");
+        parameterProtocol(2, "uri", null);
+
+        line(0, "clients:");
+        item(1, "operationGroups:");
+        for (int i = 1; i <= resources; i++) {
+            String group = "Resource" + i + "Operations";
+            item(3, "$key: " + group);
+            line(4, "operations:");
+            getOperation(group, i);
+            listOperation(group, i);
+            createOrUpdateOperation(group, i);
+            language(4, group, "The operations of Resource" + i + ".", false);
+        }
+        line(2, "globalParameters:");
+        item(3, "*endpoint");
+        language(2, "SyntheticClient", "Synthetic service of " + resources + " resources.", true);
+    }
+
+    /*
+     * As in the YAML of the emitter, the subtypes are written in the children of the super type, and reference the
+     * super type, which is still being written, by an alias.
+     */
+    private void writePolymorphicCodeModel() throws IOException {
+        line(0, "info:");
+        line(1, "title: Polymorphic");
+        line(1, "description: Synthetic service of a polymorphic type.");
+        language(0, "Polymorphic", "Synthetic service of a polymorphic type.", true);
+
+        line(0, "schemas:");
+        line(1, "strings:");
+        primitive("string", "string", null);
+        line(1, "numbers:");
+        primitive("integer", "integer", "precision: 32");
+
+        line(1, "objects:");
+        item(2, "&habitat");
+        line(3, "type: object");
+        language(3, "Habitat", "The habitat of a bird.", true);
+        usage(3, "input", "output", "public");
+        line(3, "properties:");
+        property("string", "region", "The region.", true, false);
+        property("integer", "elevation", "The elevation.", false, false);
+
+        item(2, "&bird");
+        line(3, "type: object");
+        language(3, "Bird", "The super type of the birds.", true);
+        usage(3, "input", "output", "public");
+        line(3, "properties:");
+        item(4, "&birdKind");
+        line(5, "schema: *string");
+        line(5, "isDiscriminator: true");
+        propertyAttributes(5, "kind", "The kind of the bird.", true, false);
+        property("integer", "wingspan", "The wingspan.", true, false);
+        line(3, "children:");
+        line(4, "immediate:");
+        for (String[] bird : BIRDS) {
+            item(5, "&" + bird[1]);
+            line(6, "type: object");
+            line(6, "discriminatorValue: " + bird[1]);
+            language(6, bird[0], "The " + bird[1] + ".", true);
+            usage(6, "input", "output", "public");
+            line(6, "parents:");
+            line(7, "immediate:");
+            item(8, "*bird");
+            line(7, "all:");
+            item(8, "*bird");
+            line(6, "properties:");
+            property(7, "string", "name", "The name of the " + bird[1] + ".", true, false);
+            property(7, "habitat", "habitat", "The habitat of the " + bird[1] + ".", false, false);
+        }
+        line(4, "all:");
+        for (String[] bird : BIRDS) {
+            item(5, "*" + bird[1]);
+        }
+        line(3, "discriminator:");
+        line(4, "property: *birdKind");
+        line(4, "immediate:");
+        for (String[] bird : BIRDS) {
+            line(5, bird[1] + ": *" + bird[1]);
+        }
+        line(4, "all:");
+        for (String[] bird : BIRDS) {
+            line(5, bird[1] + ": *" + bird[1]);
+        }
+        for (String[] bird : BIRDS) {
+            item(2, "*" + bird[1]);
+        }
+
+        line(0, "clients: []");
+    }
+
+    private void getOperation(String group, int resource) throws IOException {
+        String nameParameter = "resource" + resource + "GetName";
+        operationId(group, "get");
+        line(6, "parameters:");
+        item(7, "*endpoint");
+        nameParameter(nameParameter);
+        headerParameter("accept", "Accept", "accept");
+        line(6, "signatureParameters:");
+        item(7, "*" + nameParameter);
+        request("get", "/resource" + resource + "s/{resourceName}", false);
+        line(6, "responses:");
+        response("resource" + resource, "get", "200");
+        operationLanguage("get", "Gets Resource" + resource + ".");
+    }
+
+    private void listOperation(String group, int resource) throws IOException {
+        operationId(group, "list");
+        line(6, "parameters:");
+        item(7, "*endpoint");
+        headerParameter("accept", "Accept", "accept");
+        request("get", "/resource" + resource + "s", false);
+        line(6, "responses:");
+        response("resource" + resource + "ListResult", "list", "200");
+        line(6, "extensions:");
+        line(7, "x-ms-pageable:");
+        line(8, "itemName: value");
+        line(8, "nextLinkName: nextLink");
+        operationLanguage("list", "Lists Resource" + resource + ".");
+    }
+
+    private void createOrUpdateOperation(String group, int resource) throws IOException {
+        String nameParameter = "resource" + resource + "CreateOrUpdateName";
+        String bodyParameter = "resource" + resource + "CreateOrUpdateResource";
+        operationId(group, "createOrUpdate");
+        line(6, "parameters:");
+        item(7, "*endpoint");
+        nameParameter(nameParameter);
+        headerParameter("contentType", "Content-Type", "contentType");
+        headerParameter("accept", "Accept", "accept");
+        item(7, "&" + bodyParameter);
+        line(8, "schema: *resource" + resource);
+        line(8, "implementation: Method");
+        line(8, "required: true");
+        parameterLanguage(8, "resource", "The resource.", "resource");
+        parameterProtocol(8, "body", null);
+        line(6, "signatureParameters:");
+        item(7, "*" + nameParameter);
+        item(7, "*" + bodyParameter);
+        request("put", "/resource" + resource + "s/{resourceName}", true);
+        line(6, "responses:");
+        response("resource" + resource, "createOrUpdate", "200");
+        response("resource" + resource, "createOrUpdate", "201");
+        line(6, "extensions:");
+        line(7, "x-ms-long-running-operation: true");
+        operationLanguage("createOrUpdate", "Creates or updates Resource" + resource + ".");
+    }
+
+    private void operationId(String group, String name) throws IOException {
+        item(5, "operationId: " + group + "_" + name);
+    }
+
+    private void nameParameter(String anchor) throws IOException {
+        item(7, "&" + anchor);
+        line(8, "schema: *string");
+        line(8, "implementation: Method");
+        line(8, "required: true");
+        parameterLanguage(8, "resourceName", "The name of the resource.", "resourceName");
+        parameterProtocol(8, "path", "simple");
+    }
+
+    private void headerParameter(String constantAnchor, String serializedName, String name) throws IOException {
+        item(7, "schema: *" + constantAnchor);
+        line(8, "implementation: Method");
+        line(8, "required: true");
+        parameterLanguage(8, name, "The " + serializedName + " header.", serializedName);
+        parameterProtocol(8, "header", "simple");
+    }
+
+    private void request(String method, String path, boolean jsonBody) throws IOException {
+        line(6, "requests:");
+        item(7, "protocol:");
+        line(9, "http:");
+        line(10, "path: '" + path + "'");
+        line(10, "method: " + method);
+        line(10, "uri: '{endpoint}'");
+        if (jsonBody) {
+            line(10, "mediaTypes:");
+            item(11, JSON_MEDIA_TYPE);
+        }
+    }
+
+    private void response(String schemaAnchor, String operation, String statusCode) throws IOException {
+        item(7, "schema: *" + schemaAnchor);
+        language(8, operation + "Response", "The request has succeeded.", false);
+        line(8, "protocol:");
+        line(9, "http:");
+        line(10, "statusCodes:");
+        item(11, "'" + statusCode + "'");
+        line(10, "mediaTypes:");
+        item(11, JSON_MEDIA_TYPE);
+    }
+
+    private void operationLanguage(String name, String description) throws IOException {
+        language(6, name, description, false);
+        line(6, "convenienceApi:");
+        language(7, name, description, false);
+        line(6, "generateProtocolApi: true");
+    }
+
+    private void parameterLanguage(int indent, String name, String description, String serializedName)
+        throws IOException {
+        line(indent, "language:");
+        line(indent + 1, "default:");
+        line(indent + 2, "name: " + name);
+        line(indent + 2, "description: " + description);
+        line(indent + 2, "serializedName: " + serializedName);
+    }
+
+    private void parameterProtocol(int indent, String location, String style) throws IOException {
+        line(indent, "protocol:");
+        line(indent + 1, "http:");
+        line(indent + 2, "in: " + location);
+        if (style != null) {
+            line(indent + 2, "style: " + style);
+        }
+    }
+
+    private void primitive(String anchor, String type, String attribute) throws IOException {
+        item(2, "&" + anchor);
+        line(3, "type: " + type);
+        if (attribute != null) {
+            line(3, attribute);
+        }
+        language(3, type, "simple " + type, false);
+    }
+
+    private void constant(String anchor, String description) throws IOException {
+        item(2, "&" + anchor);
+        line(3, "type: constant");
+        line(3, "value:");
+        line(4, "value: " + JSON_MEDIA_TYPE);
+        line(3, "valueType: *string");
+        language(3, anchor, description, false);
+    }
+
+    private void property(String schemaAnchor, String name, String description, boolean required, boolean readOnly)
+        throws IOException {
+        property(4, schemaAnchor, name, description, required, readOnly);
+    }
+
+    private void property(int indent, String schemaAnchor, String name, String description, boolean required,
+        boolean readOnly) throws IOException {
+        item(indent, "schema: *" + schemaAnchor);
+        propertyAttributes(indent + 1, name, description, required, readOnly);
+    }
+
+    /*
+     * Writes a property of an array schema, the array schema is written at its first reference.
+     */
+    private void arrayProperty(String elementAnchor, String name, String description, boolean required)
+        throws IOException {
+        String anchor = elementAnchor + "Array";
+        if (arrays.add(anchor)) {
+            item(4, "schema: &" + anchor);
+            line(6, "type: array");
+            line(6, "elementType: *" + elementAnchor);
+            String elementName = Character.toUpperCase(elementAnchor.charAt(0)) + elementAnchor.substring(1);
+            language(6, "Array" + elementName, "Array of " + elementName, false);
+        } else {
+            item(4, "schema: *" + anchor);
+        }
+        propertyAttributes(5, name, description, required, false);
+    }
+
+    private void propertyAttributes(int indent, String name, String description, boolean required,
+        boolean readOnly) throws IOException {
+        line(indent, "serializedName: " + name);
+        line(indent, "required: " + required);
+        line(indent, "readOnly: " + readOnly);
+        language(indent, name, description, false);
+    }
+
+    private void usage(int indent, String... usages) throws IOException {
+        line(indent, "serializationFormats:");
+        line(indent + 1, "- json");
+        line(indent, "usage:");
+        for (String usage : usages) {
+            line(indent + 1, "- " + usage);
+        }
+    }
+
+    private void language(int indent, String name, String description, boolean namespace) throws IOException {
+        line(indent, "language:");
+        line(indent + 1, "default:");
+        line(indent + 2, "name: " + name);
+        line(indent + 2, "description: " + description);
+        if (namespace) {
+            line(indent + 2, "namespace: " + NAMESPACE);
+            line(indent + 1, "java:");
+            line(indent + 2, "namespace: " + JAVA_NAMESPACE);
+        }
+    }
+
+    /*
+     * Writes the first line of an item of a sequence, the other lines of the item are indented by one more level.
+     */
+    private void item(int indent, String text) throws IOException {
+        line(indent - 1, "  - " + text);
+    }
+
+    private void line(int indent, String text) throws IOException {
+        for (int i = 0; i < indent; i++) {
+            writer.write("  ");
+        }
+        writer.write(text);
+        writer.write('\n');
+    }
+}
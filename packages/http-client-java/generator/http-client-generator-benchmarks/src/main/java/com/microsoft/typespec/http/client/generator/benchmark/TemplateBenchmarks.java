@@ -0,0 +1,94 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.TypeSpecPlugin;
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import com.microsoft.typespec.http.client.generator.util.ModelUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the rendering of the Java files of the client, which is the {@code JavaPackage} and its templates.
+ * <p>
+ * The models are rendered by the stream-style model template, the service clients and method groups by the templates
+ * that render their client methods. The code model is loaded and mapped once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateBenchmarks {
+    @Param({ BenchmarkFixtures.SYNTHETIC })
+    public String fixture;
+
+    private GenerationContext context;
+    private TypeSpecPlugin plugin;
+    private CodeModel codeModel;
+    private Client client;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new GenerationContext();
+        codeModel = BenchmarkFixtures.loadCodeModel(fixture);
+        Path outputDir = Files.createTempDirectory("benchmark");
+        plugin = context.call(() -> BenchmarkFixtures.createPlugin(codeModel, outputDir));
+        client = context.call(() -> plugin.processClient(codeModel));
+    }
+
+    @Benchmark
+    public List<JavaFile> renderModels() throws Exception {
+        return context.call(() -> {
+            JavaPackage javaPackage = new JavaPackage(plugin);
+            for (ClientModel model : client.getModels()) {
+                if (ModelUtil.isGeneratingModel(model)) {
+                    javaPackage.addModel(model.getPackage(), model.getName(), model);
+                }
+            }
+            return javaPackage.getJavaFiles();
+        });
+    }
+
+    @Benchmark
+    public List<JavaFile> renderClients() throws Exception {
+        return context.call(() -> {
+            JavaPackage javaPackage = new JavaPackage(plugin);
+            for (ServiceClient serviceClient : client.getServiceClients()) {
+                javaPackage.addServiceClient(serviceClient.getPackage(), serviceClient.getClassName(), serviceClient);
+                for (MethodGroupClient methodGroup : serviceClient.getMethodGroupClients()) {
+                    javaPackage.addMethodGroup(methodGroup.getPackage(), methodGroup.getClassName(), methodGroup);
+                }
+            }
+            return javaPackage.getJavaFiles();
+        });
+    }
+
+    @Benchmark
+    public Map<String, String> renderPackage() throws Exception {
+        return context.call(() -> BenchmarkFixtures.renderJavaFiles(plugin, codeModel, client));
+    }
+}
@@ -0,0 +1,74 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmark;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link Transformer}, and the mapping of the transformed code model by the client mapper.
+ * <p>
+ * Both mutate, or cache, the state of the generation, so each invocation runs in a new generation on a newly loaded
+ * code model. The loading isn't measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransformerBenchmarks {
+    @Param({ BenchmarkFixtures.SYNTHETIC })
+    public String fixture;
+
+    private Path outputDir;
+    private GenerationContext context;
+    private CodeModel codeModel;
+    private CodeModel transformedCodeModel;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws Exception {
+        outputDir = Files.createTempDirectory("benchmark");
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() throws Exception {
+        context = new GenerationContext();
+        codeModel = BenchmarkFixtures.loadCodeModel(fixture);
+        transformedCodeModel = context.call(() -> {
+            BenchmarkFixtures.createPlugin(codeModel, outputDir);
+            return new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(
+                BenchmarkFixtures.loadCodeModel(fixture)));
+        });
+    }
+
+    @Benchmark
+    public CodeModel transform() throws Exception {
+        return context.call(() -> new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel)));
+    }
+
+    @Benchmark
+    public Client mapClient() throws Exception {
+        return context.call(() -> Mappers.getClientMapper().map(transformedCodeModel));
+    }
+}
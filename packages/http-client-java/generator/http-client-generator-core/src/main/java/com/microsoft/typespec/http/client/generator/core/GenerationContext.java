@@ -0,0 +1,311 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The state of a single code generation.
+ * <p>
+ * The settings, the client models, the mapper and template factories, the plugin instances and the mapper caches of a
+ * generation are stored in a context, rather than in static fields. The static accessors, e.g.
+ * {@code JavaSettings.getInstance()} or {@code Mappers.getSchemaMapper()}, resolve the state from the context bound to
+ * the current thread, or from the default context if no context is bound. A process that generates a single code model
+ * doesn't need to bind a context at all.
+ * <p>
+ * To generate multiple code models concurrently in one JVM, run each generation in its own context:
+ *
+ * <pre>{@code
+ * GenerationContext context = new GenerationContext();
+ * context.run(() -> plugin.process());
+ * }</pre>
+ *
+ * Work handed off to other threads must be wrapped by {@link #wrap(Runnable)} or {@link #wrap(Callable)} to run in
+ * the context of the generation.
+ */
+public final class GenerationContext {
+    private static final GenerationContext DEFAULT = new GenerationContext();
+    private static final ThreadLocal<GenerationContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<Object, Object> state = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty generation context.
+     */
+    public GenerationContext() {
+    }
+
+    /**
+     * Gets the context bound to the current thread.
+     *
+     * @return The context bound to the current thread, or the default context if no context is bound.
+     */
+    public static GenerationContext current() {
+        GenerationContext context = CURRENT.get();
+        return context == null ? DEFAULT : context;
+    }
+
+    /**
+     * Runs the action with this context bound to the current thread. The previously bound context is restored
+     * afterwards.
+     *
+     * @param action The action.
+     */
+    public void run(Runnable action) {
+        GenerationContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Calls the action with this context bound to the current thread. The previously bound context is restored
+     * afterwards.
+     *
+     * @param action The action.
+     * @param <T> The type of the result.
+     * @return The result of the action.
+     * @throws Exception If the action throws.
+     */
+    public <T> T call(Callable<T> action) throws Exception {
+        GenerationContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Wraps the task so that it runs in this context, on whichever thread executes it.
+     *
+     * @param task The task.
+     * @return The wrapped task.
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> run(task);
+    }
+
+    /**
+     * Wraps the task so that it runs in this context, on whichever thread executes it.
+     *
+     * @param task The task.
+     * @param <T> The type of the result.
+     * @return The wrapped task.
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> call(task);
+    }
+
+    /**
+     * Gets the value stored under the key.
+     *
+     * @param key The key.
+     * @param <T> The type of the value.
+     * @return The value, or null if no value is stored under the key.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key) {
+        return (T) state.get(key);
+    }
+
+    /**
+     * Gets the value stored under the key, creating and storing it if absent.
+     * <p>
+     * The factory may access other state of the context. If two threads race, the factory may be called more than
+     * once, but all callers get the same value.
+     *
+     * @param key The key.
+     * @param factory The factory of the value.
+     * @param <T> The type of the value.
+     * @return The value.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCreate(Object key, Supplier<? extends T> factory) {
+        Object value = state.get(key);
+        if (value == null) {
+            value = Objects.requireNonNull(factory.get());
+            Object existing = state.putIfAbsent(key, value);
+            if (existing != null) {
+                value = existing;
+            }
+        }
+        return (T) value;
+    }
+
+    /**
+     * Stores the value under the key.
+     *
+     * @param key The key.
+     * @param value The value, or null to remove the value stored under the key.
+     */
+    public void set(Object key, Object value) {
+        if (value == null) {
+            state.remove(key);
+        } else {
+            state.put(key, value);
+        }
+    }
+
+    /**
+     * Creates a map whose content is held by the context bound to the current thread. Mappers, which are shared by
+     * all generations, use it for their caches.
+     *
+     * @param mapFactory The factory of the map holding the content in each context.
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     * @return The map.
+     */
+    public static <K, V> Map<K, V> newScopedMap(Supplier<? extends Map<K, V>> mapFactory) {
+        return new ScopedMap<>(mapFactory);
+    }
+
+    /**
+     * Removes the content of all the maps created by {@link #newScopedMap(Supplier)} from this context. The maps are
+     * empty in this context afterwards.
+     * <p>
+     * The mapper caches are keyed by the code model, so clearing them once the code model is mapped lets the code
+     * model be collected.
+     */
+    public void clearScopedMaps() {
+        state.keySet().removeIf(key -> key instanceof ScopedMapKey);
+    }
+
+    private static void restore(GenerationContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private static final class ScopedMapKey {
+    }
+
+    private static final class ScopedMap<K, V> implements Map<K, V> {
+        // The map itself isn't used as the key, as Map.hashCode depends on the content.
+        private final ScopedMapKey key = new ScopedMapKey();
+        private final Supplier<? extends Map<K, V>> mapFactory;
+
+        private ScopedMap(Supplier<? extends Map<K, V>> mapFactory) {
+            this.mapFactory = mapFactory;
+        }
+
+        private Map<K, V> delegate() {
+            return current().getOrCreate(key, mapFactory);
+        }
+
+        @Override
+        public int size() {
+            return delegate().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate().isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate().containsKey(key);
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            return delegate().containsValue(value);
+        }
+
+        @Override
+        public V get(Object key) {
+            return delegate().get(key);
+        }
+
+        @Override
+        public V put(K key, V value) {
+            return delegate().put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return delegate().remove(key);
+        }
+
+        @Override
+        public void putAll(Map<? extends K, ? extends V> m) {
+            delegate().putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            delegate().clear();
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return delegate().keySet();
+        }
+
+        @Override
+        public Collection<V> values() {
+            return delegate().values();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return delegate().entrySet();
+        }
+
+        @Override
+        public V putIfAbsent(K key, V value) {
+            return delegate().putIfAbsent(key, value);
+        }
+
+        @Override
+        public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+            return delegate().computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            return delegate().computeIfPresent(key, remappingFunction);
+        }
+
+        @Override
+        public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            return delegate().compute(key, remappingFunction);
+        }
+
+        @Override
+        public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            return delegate().merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || delegate().equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return delegate().toString();
+        }
+    }
+}
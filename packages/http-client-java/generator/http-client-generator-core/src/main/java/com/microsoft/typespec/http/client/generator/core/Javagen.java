@@ -4,7 +4,6 @@
 package com.microsoft.typespec.http.client.generator.core;
 
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
-import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ApiVersion;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
@@ -18,6 +17,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientResponse;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.CodeModelSummary;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PackageInfo;
@@ -36,7 +36,7 @@ import com.microsoft.typespec.http.client.generator.core.model.xmlmodel.XmlFile;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.Postprocessor;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
-import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import io.clientcore.core.utils.CoreUtils;
 import java.util.List;
 import java.util.Set;
@@ -45,15 +45,14 @@ import org.slf4j.Logger;
 
 public class Javagen extends NewPlugin {
     private final Logger logger = new PluginLogger(this, Javagen.class);
-    protected static Javagen instance;
 
     public Javagen(Connection connection, String plugin, String sessionId) {
         super(connection, plugin, sessionId);
-        instance = this;
+        GenerationContext.current().set(Javagen.class, this);
     }
 
     public static Javagen getPluginInstance() {
-        return instance;
+        return GenerationContext.current().get(Javagen.class);
     }
 
     @Override
@@ -70,9 +69,13 @@ public class Javagen extends NewPlugin {
 
             // Step 2: Map
             Client client = Mappers.getClientMapper().map(codeModel);
+            CodeModelSummary codeModelSummary = CodeModelSummary.of(codeModel);
+            // the code model isn't used after it is mapped
+            codeModel = null;
+            Mappers.clearCaches();
 
             // Step 3: Write to templates
-            JavaPackage javaPackage = writeToTemplates(codeModel, client, settings);
+            JavaPackage javaPackage = writeToTemplates(codeModelSummary, client, settings);
 
             // Step 4: Print to files
             // Then for each formatted file write the file. This is done synchronously as there is potential race
@@ -93,6 +96,10 @@ public class Javagen extends NewPlugin {
                 writeFile("src/main/resources/" + artifactId + ".properties",
                     "name=${project.artifactId}\nversion=${project.version}\n", null);
             }
+
+            // the files are written asynchronously, wait for them so that their writes are reported
+            connection.flush();
+            GenerationMetrics.current().report(logger);
         } catch (Exception ex) {
             logger.error("Failed to generate code.", ex);
             return false;
@@ -100,7 +107,7 @@ public class Javagen extends NewPlugin {
         return true;
     }
 
-    protected JavaPackage writeToTemplates(CodeModel codeModel, Client client, JavaSettings settings) {
+    protected JavaPackage writeToTemplates(CodeModelSummary codeModelSummary, Client client, JavaSettings settings) {
         JavaPackage javaPackage = new JavaPackage(this);
         if (client.getServiceClient() != null || !CoreUtils.isNullOrEmpty(client.getServiceClients())) {
             // Service client
@@ -191,7 +198,7 @@ public class Javagen extends NewPlugin {
                 if (CoreUtils.isNullOrEmpty(client.getServiceClients())) {
                     List<String> serviceVersions = settings.getServiceVersions();
                     if (CoreUtils.isNullOrEmpty(serviceVersions)) {
-                        List<String> apiVersions = ClientModelUtil.getApiVersions(codeModel);
+                        List<String> apiVersions = codeModelSummary.getApiVersions();
                         if (!CoreUtils.isNullOrEmpty(apiVersions)) {
                             serviceVersions = apiVersions;
                         } else {
@@ -207,22 +214,13 @@ public class Javagen extends NewPlugin {
                         serviceName = settings.getServiceName();
                     }
                     String className
-                        = ClientModelUtil.getServiceVersionClassName(ClientModelUtil.getClientInterfaceName(codeModel));
+                        = ClientModelUtil.getServiceVersionClassName(codeModelSummary.getClientInterfaceName());
                     javaPackage.addServiceVersion(packageName,
                         new ServiceVersion(className, serviceName, serviceVersions));
                 } else {
                     // multi-client from TypeSpec
-                    for (com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client client1 : codeModel
-                        .getClients()) {
-                        if (client1.getServiceVersion() != null) {
-                            javaPackage.addServiceVersion(packageName,
-                                new ServiceVersion(SchemaUtil.getJavaName(client1.getServiceVersion()),
-                                    client1.getServiceVersion().getLanguage().getDefault().getDescription(),
-                                    client1.getApiVersions()
-                                        .stream()
-                                        .map(ApiVersion::getVersion)
-                                        .collect(Collectors.toList())));
-                        }
+                    for (ServiceVersion serviceVersion : codeModelSummary.getServiceVersions()) {
+                        javaPackage.addServiceVersion(packageName, serviceVersion);
                     }
                 }
             }
@@ -236,7 +234,7 @@ public class Javagen extends NewPlugin {
 
         writeClientModels(client, javaPackage, settings);
 
-        writeHelperClasses(client, codeModel, javaPackage, settings);
+        writeHelperClasses(client, codeModelSummary, javaPackage, settings);
 
         // Unit tests on client model
         if (settings.isGenerateTests() && !settings.isDataPlaneClient()) {
@@ -253,18 +251,17 @@ public class Javagen extends NewPlugin {
         }
 
         if (settings.isDataPlaneClient() || settings.isUnbranded() || settings.isAzureV2()) {
-            Project project = new Project(client, ClientModelUtil.getApiVersions(codeModel));
+            Project project = new Project(client, codeModelSummary.getApiVersions());
             if (settings.isSdkIntegration()) {
                 project.integrateWithSdk();
             }
 
             Set<String> externalPackageNames
-                = ClientModelUtil.getExternalPackageNamesUsedInClient(client.getModels(), codeModel);
+                = ClientModelUtil.getExternalPackageNamesUsedInClient(client.getModels(), codeModelSummary);
             client.getModuleInfo().checkForAdditionalDependencies(externalPackageNames);
             project.checkForAdditionalDependencies(externalPackageNames);
-            if (codeModel.getInfo() != null && codeModel.getInfo().getLicense() != null) {
-                project.setLicenseInfo(codeModel.getInfo().getLicense().getName(),
-                    codeModel.getInfo().getLicense().getUrl());
+            if (codeModelSummary.getLicenseName() != null || codeModelSummary.getLicenseUrl() != null) {
+                project.setLicenseInfo(codeModelSummary.getLicenseName(), codeModelSummary.getLicenseUrl());
             }
 
             // Module-info
@@ -324,7 +321,7 @@ public class Javagen extends NewPlugin {
         }
     }
 
-    protected void writeHelperClasses(Client client, CodeModel codeModel, JavaPackage javaPackage,
+    protected void writeHelperClasses(Client client, CodeModelSummary codeModelSummary, JavaPackage javaPackage,
         JavaSettings settings) {
     }
 
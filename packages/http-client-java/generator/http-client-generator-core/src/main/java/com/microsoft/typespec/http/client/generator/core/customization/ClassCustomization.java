@@ -3,7 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.core.customization;
 
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import java.util.function.Consumer;
 
@@ -29,14 +28,15 @@ public final class ClassCustomization extends CodeCustomization {
 
     /**
      * Allows for a fully controlled modification of the abstract syntax tree that represents this class.
+     * <p>
+     * The abstract syntax tree is shared with the other customizations of the file, and printed once when the
+     * customization completes.
      *
      * @param astCustomization The abstract syntax tree customization callback.
      * @return This ClassCustomization with the abstract syntax tree changes applied.
      */
     public ClassCustomization customizeAst(Consumer<CompilationUnit> astCustomization) {
-        CompilationUnit astToEdit = StaticJavaParser.parse(editor.getFileContent(fileName));
-        astCustomization.accept(astToEdit);
-        editor.replaceFile(fileName, astToEdit.toString());
+        astCustomization.accept(editor.getCompilationUnit(fileName));
 
         return this;
     }
@@ -3,19 +3,31 @@
 
 package com.microsoft.typespec.http.client.generator.core.customization;
 
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * The raw editor containing the current files being customized.
+ * <p>
+ * The abstract syntax tree of a file is parsed on first use, and shared by all the customizations. It is printed back
+ * to the file content only when the content is requested.
  */
 public final class Editor {
     private final Map<String, String> contents;
-    private final Map<String, List<String>> lines;
+    private final Map<String, List<String>> lines = new HashMap<>();
+    private final Map<String, CompilationUnit> compilationUnits = new HashMap<>();
+
+    // directory, with trailing '/', to the number of files in the directory and its subdirectories
+    private final Map<String, Integer> fileCounts = new HashMap<>();
+    // directory, with trailing '/', to the names of the files directly in the directory
+    private final Map<String, Set<String>> directoryFiles = new HashMap<>();
 
     /**
      * Creates an editor instance with the file contents and the root directory path.
@@ -24,9 +36,8 @@ public final class Editor {
      */
     public Editor(Map<String, String> contents) {
         this.contents = new HashMap<>(contents);
-        this.lines = new HashMap<>();
-        for (Map.Entry<String, String> entry : contents.entrySet()) {
-            lines.put(entry.getKey(), splitContentIntoLines(entry.getValue()));
+        for (String name : contents.keySet()) {
+            indexFile(name);
         }
     }
 
@@ -37,8 +48,7 @@ public final class Editor {
      * @return Whether the package exists
      */
     public boolean packageExists(String packageName) {
-        String toFind = "src/main/java/" + packageName.replace('.', '/') + "/";
-        return contents.keySet().stream().anyMatch(fileName -> fileName.startsWith(toFind));
+        return fileCounts.containsKey("src/main/java/" + packageName.replace('.', '/') + "/");
     }
 
     /**
@@ -60,24 +70,48 @@ public final class Editor {
      * @return the list of classes in the package
      */
     public List<String> classesInPackage(String packageName) {
-        String packagePath = "src/main/java/" + packageName.replace(".", "/") + "/";
-        return contents.keySet()
-            .stream()
-            .filter(fileName -> fileName.startsWith(packagePath))
-            .map(fileName -> fileName.substring(packagePath.length(), fileName.length() - 5))
-            .filter(className -> !className.contains("/"))
-            .collect(Collectors.toList());
+        Set<String> files = directoryFiles.get("src/main/java/" + packageName.replace(".", "/") + "/");
+        List<String> classes = new ArrayList<>();
+        if (files != null) {
+            for (String file : files) {
+                classes.add(file.substring(0, file.length() - 5));
+            }
+        }
+        return classes;
     }
 
     /**
      * Gets the mapping from file relative paths (starting with "src/main/java") to file contents.
+     * <p>
+     * The abstract syntax trees parsed by {@link #getCompilationUnit(String)} are printed to the file contents.
      *
      * @return the mapping
      */
     public Map<String, String> getContents() {
+        for (String name : new ArrayList<>(compilationUnits.keySet())) {
+            printCompilationUnit(name);
+        }
         return contents;
     }
 
+    /**
+     * Gets the abstract syntax tree of a Java file.
+     * <p>
+     * The file is parsed on first use, and the same abstract syntax tree is returned until the file is replaced or its
+     * content is requested. Changes to the abstract syntax tree are applied to the file content.
+     *
+     * @param name the relative path of a Java file, starting with "src/main/java"
+     * @return the abstract syntax tree of the file
+     */
+    public CompilationUnit getCompilationUnit(String name) {
+        CompilationUnit compilationUnit = compilationUnits.get(name);
+        if (compilationUnit == null) {
+            compilationUnit = StaticJavaParser.parse(contents.get(name));
+            compilationUnits.put(name, compilationUnit);
+        }
+        return compilationUnit;
+    }
+
     /**
      * Adds a new file.
      *
@@ -100,8 +134,11 @@ public final class Editor {
 
     private void addOrReplaceFile(String name, String content, boolean isReplace) {
         if (isReplace || !contents.containsKey(name)) {
-            contents.put(name, content);
-            lines.put(name, splitContentIntoLines(content));
+            if (contents.put(name, content) == null) {
+                indexFile(name);
+            }
+            lines.remove(name);
+            compilationUnits.remove(name);
         }
     }
 
@@ -111,8 +148,12 @@ public final class Editor {
      * @param name the relative file path, starting with "src/main/java"
      */
     public void removeFile(String name) {
-        contents.remove(name);
+        if (contents.containsKey(name)) {
+            contents.remove(name);
+            unindexFile(name);
+        }
         lines.remove(name);
+        compilationUnits.remove(name);
     }
 
     /**
@@ -122,6 +163,7 @@ public final class Editor {
      * @return the file content
      */
     public String getFileContent(String name) {
+        printCompilationUnit(name);
         return contents.get(name);
     }
 
@@ -132,7 +174,17 @@ public final class Editor {
      * @return the file content split into lines
      */
     public List<String> getFileLines(String name) {
-        return lines.get(name);
+        printCompilationUnit(name);
+        List<String> fileLines = lines.get(name);
+        if (fileLines == null) {
+            String content = contents.get(name);
+            if (content == null) {
+                return null;
+            }
+            fileLines = splitContentIntoLines(content);
+            lines.put(name, fileLines);
+        }
+        return fileLines;
     }
 
     /**
@@ -143,7 +195,41 @@ public final class Editor {
      * @return the file content in this line
      */
     public String getFileLine(String name, int line) {
-        return lines.get(name).get(line);
+        return getFileLines(name).get(line);
+    }
+
+    /*
+     * Prints the abstract syntax tree of the file, if it was parsed, to the file content. The abstract syntax tree may
+     * have been changed, and is parsed again on the next use.
+     */
+    private void printCompilationUnit(String name) {
+        CompilationUnit compilationUnit = compilationUnits.remove(name);
+        if (compilationUnit != null) {
+            contents.put(name, compilationUnit.toString());
+            lines.remove(name);
+        }
+    }
+
+    private void indexFile(String name) {
+        int slash = name.lastIndexOf('/');
+        directoryFiles.computeIfAbsent(name.substring(0, slash + 1), ignored -> new TreeSet<>())
+            .add(name.substring(slash + 1));
+        for (int i = name.indexOf('/'); i >= 0; i = name.indexOf('/', i + 1)) {
+            fileCounts.merge(name.substring(0, i + 1), 1, Integer::sum);
+        }
+    }
+
+    private void unindexFile(String name) {
+        int slash = name.lastIndexOf('/');
+        String directory = name.substring(0, slash + 1);
+        Set<String> files = directoryFiles.get(directory);
+        files.remove(name.substring(slash + 1));
+        if (files.isEmpty()) {
+            directoryFiles.remove(directory);
+        }
+        for (int i = name.indexOf('/'); i >= 0; i = name.indexOf('/', i + 1)) {
+            fileCounts.computeIfPresent(name.substring(0, i + 1), (ignored, count) -> count == 1 ? null : count - 1);
+        }
     }
 
     private static List<String> splitContentIntoLines(String content) {
@@ -17,19 +17,27 @@ public final class FileUtils {
     /**
      * Creates a temporary directory.
      * <p>
-     * If the environment setting {@code codegen.java.temp.directory} is set, the directory will be created under the
-     * specified path. Otherwise, the directory will be created under the system default temporary directory.
-     * <p>
-     * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
-     * <p>
-     * If {@code codegen.java.temp.directory} is set to a non-existent path, the directory will be created under the
-     * system default temporary directory.
+     * The directory is created under {@link #getTempDirectory()}.
      *
      * @param prefix The prefix string to be used in generating the directory's name; may be {@code null}.
      * @return The path to the newly created directory.
      * @throws IOException If an I/O error occurs.
      */
     public static Path createTempDirectory(String prefix) throws IOException {
+        return Files.createTempDirectory(getTempDirectory(), prefix);
+    }
+
+    /**
+     * Gets the directory for temporary files.
+     * <p>
+     * If the environment setting {@code codegen.java.temp.directory} is set to an existing path, it is the directory.
+     * Otherwise, it is the system default temporary directory.
+     * <p>
+     * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+     *
+     * @return The directory for temporary files.
+     */
+    public static Path getTempDirectory() {
         String tempDirectory = System.getProperty("codegen.java.temp.directory");
         if (tempDirectory == null) {
             tempDirectory = System.getenv("codegen.java.temp.directory");
@@ -38,10 +46,10 @@ public final class FileUtils {
         if (tempDirectory != null) {
             Path tempDirectoryPath = Paths.get(tempDirectory);
             if (Files.exists(tempDirectoryPath)) {
-                return Files.createTempDirectory(tempDirectoryPath, prefix);
+                return tempDirectoryPath;
             }
         }
 
-        return Files.createTempDirectory(prefix);
+        return Paths.get(System.getProperty("java.io.tmpdir"));
     }
 }
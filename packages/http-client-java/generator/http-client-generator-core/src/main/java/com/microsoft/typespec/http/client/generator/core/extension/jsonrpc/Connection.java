@@ -3,17 +3,22 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
 
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import io.clientcore.core.serialization.json.JsonReader;
 import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -26,10 +31,22 @@ import java.util.function.Supplier;
 
 /**
  * Represents a connection.
+ * <p>
+ * Inbound messages are framed by a Content-Length header, or are bare JSON objects delimited by their braces. Outbound
+ * messages are queued and written with a Content-Length header, in order, by a single writer thread.
  */
 public class Connection {
+    // the outbound messages are written by a single writer thread, callers block when the queue is full
+    private static final int OUTBOUND_QUEUE_CAPACITY = 256;
+    private static final OutboundMessage END_OF_OUTBOUND = jsonWriter -> {
+    };
+
     private OutputStream writer;
     private PeekingBinaryReader reader;
+    private final BlockingQueue<OutboundMessage> outbound = new ArrayBlockingQueue<>(OUTBOUND_QUEUE_CAPACITY);
+    private Thread writerThread;
+    private volatile Throwable writeFailure;
+    private volatile boolean outboundClosed;
     private boolean isDisposed = false;
     private final AtomicInteger requestId;
     private final Map<Integer, CompletableFuture<String>> tasks = new ConcurrentHashMap<>();
@@ -60,32 +77,11 @@ public class Connection {
         loop.cancel(true);
     }
 
-    private String readJson() {
-        String jsonText = "";
-        while (true) {
-            try {
-                jsonText += reader.readAsciiLine(); // + "\n";
-            } catch (IOException e) {
-                throw new RuntimeException("Cannot read JSON input");
-            }
-            try {
-                validateJsonText(jsonText);
-                return jsonText;
-            } catch (IOException e) {
-                // not enough text?
-            }
-        }
-    }
-
-    /**
-     * Tests that the passed {@code jsonText} is valid JSON.
-     *
-     * @param jsonText The JSON text to validate.
-     * @throws IOException If the JSON text is invalid.
-     */
-    private static void validateJsonText(String jsonText) throws IOException {
-        try (JsonReader jsonReader = JsonReader.fromString(jsonText)) {
-            jsonReader.readUntyped();
+    private byte[] readJson() {
+        try {
+            return reader.readJsonBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read JSON input", e);
         }
     }
 
@@ -143,9 +139,9 @@ public class Connection {
         });
     }
 
-    private String readJson(int contentLength) {
+    private byte[] readJson(int contentLength) {
         try {
-            return new String(reader.readBytes(contentLength), StandardCharsets.UTF_8);
+            return reader.readBytes(contentLength);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -172,6 +168,10 @@ public class Connection {
                 // We're looking at headers
                 Map<String, String> headers = new HashMap<>();
                 String line = reader.readAsciiLine();
+                if (line != null && line.isEmpty()) {
+                    // the line break after a bare JSON message, which is read up to its closing brace
+                    continue;
+                }
                 while (line != null && !line.isEmpty()) {
                     String[] bits = line.split(":", 2);
                     headers.put(bits[0].trim(), bits[1].trim());
@@ -213,6 +213,10 @@ public class Connection {
      * @param isObject Whether the JSON {@code content} is a JSON object.
      */
     public void process(String content, boolean isObject) {
+        process(content.getBytes(StandardCharsets.UTF_8), isObject);
+    }
+
+    private void process(byte[] content, boolean isObject) {
         // The only times this method is called is when the beginning portion of the JSON text is '{' or '['.
         // So, instead of the previous design when using Jackson where a fully processed JsonNode was passed, use a
         // simpler parameter 'isObject' to check if we are in a valid processing state.
@@ -222,7 +226,7 @@ public class Connection {
         }
 
         executorService.submit(() -> {
-            try (JsonReader jsonReader = JsonReader.fromString(content)) {
+            try (JsonReader jsonReader = JsonReader.fromBytes(content)) {
                 Map<String, String> jobject = jsonReader.readMap(reader -> {
                     if (reader.isStartArrayOrObject()) {
                         return reader.readChildren();
@@ -307,6 +311,7 @@ public class Connection {
             isDisposed = true;
             tasks.forEach((ignored, future) -> future.cancel(true));
 
+            stopWriterThread();
             writer.close();
             writer = null;
             reader.close();
@@ -314,20 +319,152 @@ public class Connection {
         }
     }
 
-    private void send(String text) {
-        byte[] data = text.getBytes(StandardCharsets.UTF_8);
-        byte[] header = ("Content-Length: " + data.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
-        byte[] buffer = new byte[header.length + data.length];
-        System.arraycopy(header, 0, buffer, 0, header.length);
-        System.arraycopy(data, 0, buffer, header.length, data.length);
+    /*
+     * Queues the message for the writer thread, which serializes and writes it. The messages are written in the order
+     * they are queued.
+     */
+    private void send(OutboundMessage message) {
+        startWriterThread();
         try {
-            writer.write(buffer);
-            writer.flush();
-        } catch (IOException e) {
+            enqueue(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         }
     }
 
+    /*
+     * Queues the message, and waits while the queue is full. The state is checked and the message is queued under the
+     * lock that closes the outbound messages, so that no message is queued after the end of the outbound messages,
+     * where the writer thread would never write it.
+     */
+    private synchronized void enqueue(OutboundMessage message) throws InterruptedException {
+        while (true) {
+            Throwable failure = writeFailure;
+            if (failure != null) {
+                throw new RuntimeException("Failed to write to the connection.", failure);
+            }
+            if (outboundClosed) {
+                throw new IllegalStateException("The connection is closed.");
+            }
+            if (outbound.offer(message)) {
+                return;
+            }
+            // the writer thread notifies when it takes the messages from the queue, or when it fails
+            wait();
+        }
+    }
+
+    private synchronized void startWriterThread() {
+        if (writerThread == null && !outboundClosed) {
+            writerThread = new Thread(this::writeOutbound, "jsonrpc-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+    }
+
+    /**
+     * Waits until the messages queued so far are written.
+     */
+    public void flush() {
+        Thread thread;
+        synchronized (this) {
+            thread = writerThread;
+        }
+        if (thread != null && !outboundClosed && writeFailure == null) {
+            FlushMarker marker = new FlushMarker();
+            try {
+                enqueue(marker);
+                marker.flushed.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | RuntimeException e) {
+                // the connection is closed after writing the queued messages, or the write failure is reported by the
+                // next send
+            }
+        }
+    }
+
+    private void stopWriterThread() {
+        Thread thread;
+        synchronized (this) {
+            if (outboundClosed) {
+                return;
+            }
+            outboundClosed = true;
+            thread = writerThread;
+            // the senders waiting for room in the queue fail
+            notifyAll();
+        }
+        if (thread != null && writeFailure == null) {
+            try {
+                // the writer thread writes the queued messages before it stops
+                outbound.put(END_OF_OUTBOUND);
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /*
+     * The loop of the writer thread. It takes all messages that are queued, writes them with their Content-Length
+     * header, and flushes once per batch.
+     */
+    private void writeOutbound() {
+        OutputStream output = new BufferedOutputStream(writer, 64 * 1024);
+        AccessibleByteArrayOutputStream body = new AccessibleByteArrayOutputStream();
+        List<OutboundMessage> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(outbound.take());
+                outbound.drainTo(batch);
+                synchronized (this) {
+                    // the senders waiting for room in the queue
+                    notifyAll();
+                }
+                for (OutboundMessage message : batch) {
+                    if (message == END_OF_OUTBOUND) {
+                        output.flush();
+                        return;
+                    } else if (message instanceof FlushMarker) {
+                        output.flush();
+                        ((FlushMarker) message).flushed.complete(null);
+                        continue;
+                    }
+
+                    try (GenerationMetrics.Timer ignored = message.startTimer()) {
+                        body.reset();
+                        try (JsonWriter jsonWriter = JsonWriter.toStream(body)) {
+                            message.write(jsonWriter);
+                            jsonWriter.flush();
+                        }
+                        output.write(
+                            ("Content-Length: " + body.size() + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                        output.write(body.getBuffer(), 0, body.size());
+                    }
+                }
+                output.flush();
+                batch.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                writeFailure = e;
+                notifyAll();
+            }
+            // the responses of the pending requests would never arrive
+            tasks.forEach((ignored, future) -> future.completeExceptionally(e));
+            outbound.drainTo(batch);
+            batch.forEach(message -> {
+                if (message instanceof FlushMarker) {
+                    ((FlushMarker) message).flushed.completeExceptionally(e);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Sends an error.
      *
@@ -336,22 +473,14 @@ public class Connection {
      * @param message The message.
      */
     public void sendError(int id, int code, String message) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JsonWriter jsonWriter = JsonWriter.toStream(outputStream)) {
-            jsonWriter.writeStartObject()
-                .writeStringField("jsonrpc", "2.0")
-                .writeIntField("id", id)
-                .writeStringField("message", message)
-                .writeStartObject("error")
-                .writeIntField("code", code)
-                .writeEndObject()
-                .writeEndObject()
-                .flush();
-
-            send(outputStream.toString(StandardCharsets.UTF_8));
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
-        }
+        send(jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeIntField("id", id)
+            .writeStringField("message", message)
+            .writeStartObject("error")
+            .writeIntField("code", code)
+            .writeEndObject()
+            .writeEndObject());
     }
 
     /**
@@ -361,35 +490,58 @@ public class Connection {
      * @param value The value.
      */
     public void respond(int id, String value) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JsonWriter jsonWriter = JsonWriter.toStream(outputStream)) {
-            jsonWriter.writeStartObject()
-                .writeStringField("jsonrpc", "2.0")
-                .writeIntField("id", id)
-                .writeRawField("result", value)
-                .writeEndObject()
-                .flush();
-
-            send(outputStream.toString(StandardCharsets.UTF_8));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        send(jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeIntField("id", id)
+            .writeRawField("result", value)
+            .writeEndObject());
     }
 
     /**
      * Sends a notification.
+     * <p>
+     * The notification is queued, and the values are serialized on the writer thread. The values must not be modified
+     * after the call.
      *
      * @param methodName The method name.
      * @param values The values.
      */
     public void notify(String methodName, Object... values) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JsonWriter jsonWriter = JsonWriter.toStream(outputStream)) {
-            jsonWriter.writeArray(values, JsonWriter::writeUntyped).flush();
-            notifyWithSerializedObject(methodName, outputStream.toString(StandardCharsets.UTF_8));
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
-        }
+        send(notification(methodName, values));
+    }
+
+    /**
+     * Sends a notification, and times its serialization and write.
+     * <p>
+     * The notification is queued, and the timer is started on the writer thread when the notification is written.
+     * The timer should be started by {@link GenerationMetrics#timer(String, String)}, as the writer thread is not in
+     * the {@link com.microsoft.typespec.http.client.generator.core.GenerationContext} of the caller.
+     *
+     * @param timer Starts the timer.
+     * @param methodName The method name.
+     * @param values The values.
+     */
+    public void notify(Supplier<GenerationMetrics.Timer> timer, String methodName, Object... values) {
+        OutboundMessage notification = notification(methodName, values);
+        send(new OutboundMessage() {
+            @Override
+            public void write(JsonWriter jsonWriter) throws IOException {
+                notification.write(jsonWriter);
+            }
+
+            @Override
+            public GenerationMetrics.Timer startTimer() {
+                return timer.get();
+            }
+        });
+    }
+
+    private static OutboundMessage notification(String methodName, Object[] values) {
+        return jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeStringField("method", methodName)
+            .writeArrayField("params", values, JsonWriter::writeUntyped)
+            .writeEndObject();
     }
 
     /**
@@ -399,11 +551,13 @@ public class Connection {
      * @param serializedObject The serialized object.
      */
     public void notifyWithSerializedObject(String methodName, String serializedObject) {
-        String json = (serializedObject == null)
-            ? "{\"jsonrpc\":\"2.0\",\"method\":\"" + methodName + "\"}"
-            : "{\"jsonrpc\":\"2.0\",\"method\":\"" + methodName + "\",\"params\":" + serializedObject + "}";
-
-        send(json);
+        send(jsonWriter -> {
+            jsonWriter.writeStartObject().writeStringField("jsonrpc", "2.0").writeStringField("method", methodName);
+            if (serializedObject != null) {
+                jsonWriter.writeRawField("params", serializedObject);
+            }
+            jsonWriter.writeEndObject();
+        });
     }
 
     /**
@@ -418,21 +572,14 @@ public class Connection {
         CompletableFuture<String> response = new CompletableFuture<>();
         tasks.put(id, response);
 
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JsonWriter jsonWriter = JsonWriter.toStream(outputStream)) {
-            jsonWriter.writeStartObject()
-                .writeStringField("jsonrpc", "2.0")
-                .writeStringField("method", methodName)
-                .writeIntField("id", id)
-                .writeArrayField("params", values, JsonWriter::writeUntyped)
-                .writeEndObject()
-                .flush();
-
-            send(outputStream.toString(StandardCharsets.UTF_8));
-
+        send(jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeStringField("method", methodName)
+            .writeIntField("id", id)
+            .writeArrayField("params", values, JsonWriter::writeUntyped)
+            .writeEndObject());
+        try {
             return response.get();
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException(e);
         }
@@ -450,12 +597,16 @@ public class Connection {
         CompletableFuture<String> response = new CompletableFuture<>();
         tasks.put(id, response);
 
-        String json = (serializedObject == null)
-            ? "{\"jsonrpc\":\"2.0\",\"method\":\"" + method + "\",\"id\":" + id + "}"
-            : "{\"jsonrpc\":\"2.0\",\"method\":\"" + method + "\",\"id\":" + id + ",\"params\":" + serializedObject
-                + "}";
-
-        send(json);
+        send(jsonWriter -> {
+            jsonWriter.writeStartObject()
+                .writeStringField("jsonrpc", "2.0")
+                .writeStringField("method", method)
+                .writeIntField("id", id);
+            if (serializedObject != null) {
+                jsonWriter.writeRawField("params", serializedObject);
+            }
+            jsonWriter.writeEndObject();
+        });
         try {
             return response.get();
         } catch (InterruptedException | ExecutionException e) {
@@ -471,6 +622,46 @@ public class Connection {
             loop.get();
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException(e);
+        } finally {
+            // write the queued messages
+            flush();
+        }
+    }
+
+    /*
+     * A message to send, written as a JSON value.
+     */
+    @FunctionalInterface
+    private interface OutboundMessage {
+        void write(JsonWriter jsonWriter) throws IOException;
+
+        // the timer of the serialization and write of the message, or null if it is not timed
+        default GenerationMetrics.Timer startTimer() {
+            return null;
+        }
+    }
+
+    /*
+     * Marks the point in the queue, the future completes when the messages queued before it are written.
+     */
+    private static final class FlushMarker implements OutboundMessage {
+        private final CompletableFuture<Void> flushed = new CompletableFuture<>();
+
+        @Override
+        public void write(JsonWriter jsonWriter) {
+        }
+    }
+
+    /*
+     * Exposes the buffer, so that the message body is written to the output without a copy.
+     */
+    private static final class AccessibleByteArrayOutputStream extends ByteArrayOutputStream {
+        private AccessibleByteArrayOutputStream() {
+            super(64 * 1024);
+        }
+
+        private byte[] getBuffer() {
+            return buf;
         }
     }
 }
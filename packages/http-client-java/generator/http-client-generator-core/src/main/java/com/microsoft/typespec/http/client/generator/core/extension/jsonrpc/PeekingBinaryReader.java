@@ -4,49 +4,118 @@
 package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 class PeekingBinaryReader implements Closeable {
-    Integer lastByte;
-    InputStream input;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
 
     PeekingBinaryReader(InputStream input) {
-        this.lastByte = null;
         this.input = input;
     }
 
-    int readByte() throws IOException {
-        if (lastByte != null) {
-            int result = lastByte;
-            lastByte = null;
-            return result;
+    /*
+     * Fills the buffer if it is empty. Returns false at the end of the input.
+     */
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
         }
-        return input.read();
+        int read = input.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    int readByte() throws IOException {
+        return fill() ? buffer[position++] & 0xFF : -1;
     }
 
     int peekByte() throws IOException {
-        if (lastByte != null) {
-            return lastByte;
-        }
-        int result = readByte();
-        if (result != -1) {
-            lastByte = result;
-        }
-        return result;
+        return fill() ? buffer[position] & 0xFF : -1;
     }
 
     byte[] readBytes(int count) throws IOException {
-        byte[] buffer = new byte[count];
-        int read = 0;
-        if (count > 0 && lastByte != null) {
-            buffer[read++] = (byte) (int) lastByte;
-            lastByte = null;
-        }
+        byte[] result = new byte[count];
+        int read = Math.min(count, limit - position);
+        System.arraycopy(buffer, position, result, 0, read);
+        position += read;
+        // read the rest directly into the result, rather than through the buffer
         while (read < count) {
-            read += input.read(buffer, read, count - read);
+            int n = input.read(result, read, count - read);
+            if (n < 0) {
+                throw new EOFException("Expected " + count + " bytes, got " + read + " bytes.");
+            }
+            read += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a JSON object or array, starting at the current byte, which is '{' or '['.
+     * <p>
+     * The bytes are scanned once, tracking the nesting depth outside of JSON strings, so the time is linear in the size
+     * of the JSON.
+     *
+     * @return the UTF-8 bytes of the JSON.
+     * @throws IOException if the input ends before the end of the JSON.
+     */
+    byte[] readJsonBytes() throws IOException {
+        byte[] result = new byte[256];
+        int length = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        while (fill()) {
+            int start = position;
+            int end = -1;
+            for (int i = position; i < limit; i++) {
+                byte b = buffer[i];
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        end = i + 1;
+                        break;
+                    }
+                }
+            }
+
+            int chunkEnd = end == -1 ? limit : end;
+            int chunkLength = chunkEnd - start;
+            if (length + chunkLength > result.length) {
+                result = Arrays.copyOf(result, Math.max(result.length * 2, length + chunkLength));
+            }
+            System.arraycopy(buffer, start, result, length, chunkLength);
+            length += chunkLength;
+            position = chunkEnd;
+
+            if (end != -1) {
+                return length == result.length ? result : Arrays.copyOf(result, length);
+            }
         }
-        return buffer;
+        throw new EOFException("Unexpected end of input in JSON.");
     }
 
     String readAsciiLine() throws IOException {
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import io.clientcore.core.serialization.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,6 +29,18 @@ public class CodeModel extends Client {
         super();
     }
 
+    /**
+     * Reads a code model from JSON.
+     *
+     * @param jsonReader The JSON reader.
+     * @return The code model, or null if the JSON is null.
+     * @throws IOException If the code model cannot be read.
+     * @see CodeModelJsonReader
+     */
+    public static CodeModel fromJson(JsonReader jsonReader) throws IOException {
+        return CodeModelJsonReader.read(jsonReader);
+    }
+
     /**
      * Gets the code model information. (Required)
      *
@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.extension.model.codemo
 
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExamples;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,11 +17,16 @@ import org.yaml.snakeyaml.nodes.NodeId;
 import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.nodes.ScalarNode;
 import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
 
 /**
  * Custom constructor for a CodeModel.
  */
 public class CodeModelCustomConstructor extends Constructor {
+    // the names, descriptions and serialized names repeat throughout the code model, a single instance of each is kept
+    // while a document is constructed
+    private final Map<String, String> strings = new HashMap<>();
+
     /**
      * Creates a new instance of the CodeModelCustomConstructor class.
      *
@@ -30,6 +36,25 @@ public class CodeModelCustomConstructor extends Constructor {
         super(loaderOptions);
         yamlClassConstructors.put(NodeId.scalar, new TypeEnumConstruct());
         yamlClassConstructors.put(NodeId.mapping, new TypeMapConstruct());
+        yamlConstructors.put(Tag.STR, new DeduplicatedStrConstruct());
+    }
+
+    @Override
+    public Object getSingleData(Class<?> type) {
+        try {
+            return super.getSingleData(type);
+        } finally {
+            strings.clear();
+        }
+    }
+
+    class DeduplicatedStrConstruct extends ConstructYamlStr {
+        @Override
+        public Object construct(Node node) {
+            String value = (String) super.construct(node);
+            String existing = strings.putIfAbsent(value, value);
+            return existing == null ? value : existing;
+        }
     }
 
     class TypeEnumConstruct extends Constructor.ConstructScalar {
@@ -397,106 +422,116 @@ public class CodeModelCustomConstructor extends Constructor {
     private static Class<?> getSchemaTypeFromMappingNode(MappingNode value) {
         for (NodeTuple schemaProps : value.getValue()) {
             if (((ScalarNode) schemaProps.getKeyNode()).getValue().equals("type")) {
-                switch (((ScalarNode) schemaProps.getValueNode()).getValue()) {
-                    case "any-object":
-                    case "any":
-                        return AnySchema.class;
+                return getSchemaType(((ScalarNode) schemaProps.getValueNode()).getValue());
+            }
+        }
+        return Schema.class;
+    }
+
+    /**
+     * Gets the schema class for the value of the "type" property of a schema.
+     *
+     * @param type The value of the "type" property.
+     * @return The schema class, or {@link Schema} if the type is unknown.
+     */
+    static Class<? extends Schema> getSchemaType(String type) {
+        switch (type) {
+            case "any-object":
+            case "any":
+                return AnySchema.class;
 
-                    case "and":
-                        return AndSchema.class;
+            case "and":
+                return AndSchema.class;
 
-                    case "array":
-                        return ArraySchema.class;
+            case "array":
+                return ArraySchema.class;
 
-                    case "boolean":
-                        return BooleanSchema.class;
+            case "boolean":
+                return BooleanSchema.class;
 
-                    case "binary":
-                        return BinarySchema.class;
+            case "binary":
+                return BinarySchema.class;
 
-                    case "byte-array":
-                        return ByteArraySchema.class;
+            case "byte-array":
+                return ByteArraySchema.class;
 
-                    case "char":
-                        return CharSchema.class;
+            case "char":
+                return CharSchema.class;
 
-                    case "choice":
-                        return ChoiceSchema.class;
+            case "choice":
+                return ChoiceSchema.class;
 
-                    case "constant":
-                        return ConstantSchema.class;
+            case "constant":
+                return ConstantSchema.class;
 
-                    case "credential":
-                        return CredentialSchema.class;
+            case "credential":
+                return CredentialSchema.class;
 
-                    case "date":
-                        return DateSchema.class;
+            case "date":
+                return DateSchema.class;
 
-                    case "date-time":
-                        return DateTimeSchema.class;
+            case "date-time":
+                return DateTimeSchema.class;
 
-                    case "dictionary":
-                        return DictionarySchema.class;
+            case "dictionary":
+                return DictionarySchema.class;
 
-                    case "duration":
-                        return DurationSchema.class;
+            case "duration":
+                return DurationSchema.class;
 
-                    case "flag":
-                        return FlagSchema.class;
+            case "flag":
+                return FlagSchema.class;
 
-                    case "group":
-                        return ObjectSchema.class;
+            case "group":
+                return ObjectSchema.class;
 
-                    case "integer":
-                        return NumberSchema.class;
+            case "integer":
+                return NumberSchema.class;
 
-                    case "not":
-                        return NotSchema.class;
+            case "not":
+                return NotSchema.class;
 
-                    case "number":
-                        return NumberSchema.class;
+            case "number":
+                return NumberSchema.class;
 
-                    case "object":
-                        return ObjectSchema.class;
+            case "object":
+                return ObjectSchema.class;
 
-                    case "odata-query":
-                        return ODataQuerySchema.class;
+            case "odata-query":
+                return ODataQuerySchema.class;
 
-                    case "or":
-                        return OrSchema.class;
+            case "or":
+                return OrSchema.class;
 
-                    case "parameter-group":
-                        return ParameterGroupSchema.class;
+            case "parameter-group":
+                return ParameterGroupSchema.class;
 
-                    case "sealed-choice":
-                        return SealedChoiceSchema.class;
+            case "sealed-choice":
+                return SealedChoiceSchema.class;
 
-                    case "string":
-                        return StringSchema.class;
+            case "string":
+                return StringSchema.class;
 
-                    case "time":
-                        return TimeSchema.class;
+            case "time":
+                return TimeSchema.class;
 
-                    case "unixtime":
-                        return UnixTimeSchema.class;
+            case "unixtime":
+                return UnixTimeSchema.class;
 
-                    case "uri":
-                        return UriSchema.class;
+            case "uri":
+                return UriSchema.class;
 
-                    case "uuid":
-                        return UuidSchema.class;
+            case "uuid":
+                return UuidSchema.class;
 
-                    case "xor":
-                        return XorSchema.class;
+            case "xor":
+                return XorSchema.class;
 
-                    case "arm-id":
-                        return ArmIdSchema.class;
+            case "arm-id":
+                return ArmIdSchema.class;
 
-                    default:
-                        return Schema.class;
-                }
-            }
+            default:
+                return Schema.class;
         }
-        return Schema.class;
     }
 }
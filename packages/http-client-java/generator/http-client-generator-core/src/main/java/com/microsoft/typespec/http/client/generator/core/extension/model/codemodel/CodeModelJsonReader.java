@@ -0,0 +1,635 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExamples;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonToken;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads a code model from JSON, as an alternative to the YAML code model read by SnakeYAML and
+ * {@link CodeModelCustomConstructor}.
+ * <p>
+ * The JSON is read as a stream. The code model classes are populated via their setters, with the same property names,
+ * {@link YamlProperty} aliases, extension names and schema types as the YAML code model.
+ * <p>
+ * An object or array referenced more than once in the code model is written once, with an {@code "$id"}, and
+ * referenced as {@code {"$ref":"<id>"}} afterwards, the equivalent of a YAML anchor and alias. A shared array is
+ * written as {@code {"$id":"<id>","$values":[...]}}. The {@code "$id"} is the first property of the object, and the
+ * {@code "type"} of a schema follows it, so that the schema class is known when the object is created.
+ */
+final class CodeModelJsonReader {
+    private static final String ID = "$id";
+    private static final String REF = "$ref";
+    private static final String VALUES = "$values";
+
+    // the property names in the code model that differ from the Java property names, see CodeModelCustomConstructor
+    private static final Map<String, String> PROPERTY_ALIASES = Map.ofEntries(
+        Map.entry("x-ms-pageable", "xmsPageable"), Map.entry("x-ms-skip-url-encoding", "xmsSkipUrlEncoding"),
+        Map.entry("x-ms-client-flatten", "xmsClientFlatten"),
+        Map.entry("x-ms-long-running-operation", "xmsLongRunningOperation"),
+        Map.entry("x-ms-flattened", "xmsFlattened"), Map.entry("x-ms-azure-resource", "xmsAzureResource"),
+        Map.entry("x-ms-mutability", "xmsMutability"),
+        Map.entry("x-ms-header-collection-prefix", "xmsHeaderCollectionPrefix"),
+        Map.entry("x-internal-autorest-anonymous-schema", "xmsInternalAutorestAnonymousSchema"),
+        Map.entry("x-ms-long-running-operation-options", "xmsLongRunningOperationOptions"),
+        Map.entry("x-ms-examples", "xmsExamples"), Map.entry("x-ms-arm-id-details", "xmsArmIdDetails"),
+        Map.entry("x-ms-secret", "xmsSecret"), Map.entry("x-ms-versioning-added", "xmsVersioningAdded"),
+        Map.entry("final-state-via", "finalStateVia"));
+
+    private static final ClassValue<Map<String, BeanProperty>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected Map<String, BeanProperty> computeValue(Class<?> type) {
+            return findProperties(type);
+        }
+    };
+
+    /*
+     * The readers of the fields of the classes that make up most of the code model, e.g. the languages and protocols
+     * of each schema, property, parameter and operation. They set the fields without reflection. A field they don't
+     * read, and a class without a reader, is read via the setters found by reflection.
+     */
+    private static final Map<Class<?>, FieldReader<?>> FIELD_READERS = Map.ofEntries(
+        Map.entry(Languages.class, (FieldReader<Languages>) CodeModelJsonReader::readLanguagesField),
+        Map.entry(Language.class, (FieldReader<Language>) CodeModelJsonReader::readLanguageField),
+        Map.entry(Protocols.class, (FieldReader<Protocols>) CodeModelJsonReader::readProtocolsField),
+        Map.entry(Protocol.class, (FieldReader<Protocol>) CodeModelJsonReader::readProtocolField),
+        Map.entry(Property.class, (FieldReader<Property>) CodeModelJsonReader::readPropertyField),
+        Map.entry(Parameter.class, (FieldReader<Parameter>) CodeModelJsonReader::readParameterField));
+
+    private final JsonReader jsonReader;
+    private final Map<String, Object> references = new HashMap<>();
+    // the names, descriptions and serialized names repeat throughout the code model, a single instance of each is kept
+    private final Map<String, String> strings = new HashMap<>();
+
+    private CodeModelJsonReader(JsonReader jsonReader) {
+        this.jsonReader = jsonReader;
+    }
+
+    /**
+     * Reads a code model from the JSON reader.
+     *
+     * @param jsonReader The JSON reader.
+     * @return The code model, or null if the JSON is null.
+     * @throws IOException If the code model cannot be read.
+     */
+    static CodeModel read(JsonReader jsonReader) throws IOException {
+        if (jsonReader.currentToken() == null) {
+            jsonReader.nextToken();
+        }
+        return (CodeModel) new CodeModelJsonReader(jsonReader).readValue(CodeModel.class);
+    }
+
+    private Object readValue(Type type) throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        if (token == JsonToken.NULL) {
+            return null;
+        }
+
+        Class<?> rawType = getRawType(type);
+        if (rawType == String.class) {
+            return deduplicate(token == JsonToken.STRING ? jsonReader.getString() : jsonReader.getText());
+        } else if (rawType == boolean.class || rawType == Boolean.class) {
+            return token == JsonToken.STRING ? Boolean.parseBoolean(jsonReader.getString()) : jsonReader.getBoolean();
+        } else if (rawType == int.class || rawType == Integer.class) {
+            return Integer.parseInt(jsonReader.getText());
+        } else if (rawType == long.class || rawType == Long.class) {
+            return Long.parseLong(jsonReader.getText());
+        } else if (rawType == double.class || rawType == Double.class) {
+            return Double.parseDouble(jsonReader.getText());
+        } else if (rawType == float.class || rawType == Float.class) {
+            return Float.parseFloat(jsonReader.getText());
+        } else if (rawType.isEnum()) {
+            return readEnum(rawType, jsonReader.getText());
+        } else if (rawType == Object.class) {
+            return readUntyped();
+        } else if (Collection.class.isAssignableFrom(rawType)) {
+            return readCollection(rawType, getTypeArgument(type, 0));
+        } else if (Map.class.isAssignableFrom(rawType)) {
+            return readMap(getTypeArgument(type, 1));
+        } else if (rawType == XmsExamples.class) {
+            // the examples are the content of the object, see CodeModelCustomConstructor
+            @SuppressWarnings("unchecked")
+            Map<String, Object> examples = (Map<String, Object>) readMap(Object.class);
+            XmsExamples xmsExamples = new XmsExamples();
+            xmsExamples.setExamples(examples);
+            return xmsExamples;
+        } else {
+            return readBean(rawType);
+        }
+    }
+
+    private Object readBean(Class<?> type) throws IOException {
+        JsonToken token = jsonReader.nextToken();
+        String fieldName = token == JsonToken.FIELD_NAME ? jsonReader.getFieldName() : null;
+        if (REF.equals(fieldName)) {
+            return readReference();
+        }
+
+        String id = null;
+        if (ID.equals(fieldName)) {
+            jsonReader.nextToken();
+            id = jsonReader.getString();
+            token = jsonReader.nextToken();
+            fieldName = token == JsonToken.FIELD_NAME ? jsonReader.getFieldName() : null;
+        }
+
+        Object bean;
+        Map<String, BeanProperty> properties;
+        if ((type == Schema.class || type == ComplexSchema.class) && "type".equals(fieldName)) {
+            // the schema class depends on the "type", see CodeModelCustomConstructor
+            jsonReader.nextToken();
+            Class<?> schemaType = CodeModelCustomConstructor.getSchemaType(jsonReader.getString());
+            bean = newInstance(type.isAssignableFrom(schemaType) ? schemaType : type);
+            addReference(id, bean);
+            properties = PROPERTIES.get(bean.getClass());
+            readProperty(bean, properties, fieldName);
+            token = jsonReader.nextToken();
+        } else {
+            bean = newInstance(type);
+            addReference(id, bean);
+            properties = PROPERTIES.get(type);
+        }
+
+        @SuppressWarnings("unchecked")
+        FieldReader<Object> fieldReader = (FieldReader<Object>) FIELD_READERS.get(bean.getClass());
+        while (token != JsonToken.END_OBJECT) {
+            fieldName = jsonReader.getFieldName();
+            jsonReader.nextToken();
+            if (fieldReader == null || !fieldReader.read(this, bean, fieldName)) {
+                readProperty(bean, properties, fieldName);
+            }
+            token = jsonReader.nextToken();
+        }
+        return bean;
+    }
+
+    private boolean readLanguagesField(Languages languages, String fieldName) throws IOException {
+        if ("default".equals(fieldName)) {
+            languages.setDefault((Language) readValue(Language.class));
+        } else if ("java".equals(fieldName)) {
+            languages.setJava((Language) readValue(Language.class));
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean readLanguageField(Language language, String fieldName) throws IOException {
+        if ("name".equals(fieldName)) {
+            language.setName(readString());
+        } else if ("serializedName".equals(fieldName)) {
+            language.setSerializedName(readString());
+        } else if ("description".equals(fieldName)) {
+            language.setDescription(readString());
+        } else if ("summary".equals(fieldName)) {
+            language.setSummary(readString());
+        } else if ("namespace".equals(fieldName)) {
+            language.setNamespace(readString());
+        } else if ("crossLanguageDefinitionId".equals(fieldName)) {
+            language.setCrossLanguageDefinitionId(readString());
+        } else if ("comment".equals(fieldName)) {
+            language.setComment(readString());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean readProtocolsField(Protocols protocols, String fieldName) throws IOException {
+        if ("http".equals(fieldName)) {
+            protocols.setHttp((Protocol) readValue(Protocol.class));
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean readProtocolField(Protocol protocol, String fieldName) throws IOException {
+        if ("in".equals(fieldName)) {
+            String in = readString();
+            protocol.setIn(in == null ? null : RequestParameterLocation.fromValue(in));
+        } else if ("path".equals(fieldName)) {
+            protocol.setPath(readString());
+        } else if ("uri".equals(fieldName)) {
+            protocol.setUri(readString());
+        } else if ("method".equals(fieldName)) {
+            protocol.setMethod(readString());
+        } else if ("knownMediaType".equals(fieldName)) {
+            String knownMediaType = readString();
+            protocol.setKnownMediaType(knownMediaType == null ? null : KnownMediaType.fromValue(knownMediaType));
+        } else if ("style".equals(fieldName)) {
+            String style = readString();
+            protocol.setStyle(style == null ? null : SerializationStyle.fromValue(style));
+        } else if ("explode".equals(fieldName)) {
+            Boolean explode = readBoolean();
+            if (explode != null) {
+                protocol.setExplode(explode);
+            }
+        } else if ("mediaTypes".equals(fieldName)) {
+            protocol.setMediaTypes(readList(String.class));
+        } else if ("statusCodes".equals(fieldName)) {
+            protocol.setStatusCodes(readList(String.class));
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean readPropertyField(Property property, String fieldName) throws IOException {
+        if ("serializedName".equals(fieldName)) {
+            property.setSerializedName(readString());
+        } else if ("readOnly".equals(fieldName)) {
+            Boolean readOnly = readBoolean();
+            if (readOnly != null) {
+                property.setReadOnly(readOnly);
+            }
+        } else if ("isDiscriminator".equals(fieldName)) {
+            Boolean isDiscriminator = readBoolean();
+            if (isDiscriminator != null) {
+                property.setIsDiscriminator(isDiscriminator);
+            }
+        } else if ("flattenedNames".equals(fieldName)) {
+            property.setFlattenedNames(readList(String.class));
+        } else if ("originalParameter".equals(fieldName)) {
+            property.setOriginalParameter(readList(Parameter.class));
+        } else if ("clientDefaultValue".equals(fieldName)) {
+            property.setClientDefaultValue(readString());
+        } else if ("summary".equals(fieldName)) {
+            property.setSummary(readString());
+        } else if ("arrayEncoding".equals(fieldName)) {
+            property.setArrayEncoding(readString());
+        } else {
+            return readValueField(property, fieldName);
+        }
+        return true;
+    }
+
+    private boolean readParameterField(Parameter parameter, String fieldName) throws IOException {
+        if ("implementation".equals(fieldName)) {
+            String implementation = readString();
+            parameter.setImplementation(
+                implementation == null ? null : Parameter.ImplementationLocation.fromValue(implementation));
+        } else if ("clientDefaultValue".equals(fieldName)) {
+            parameter.setClientDefaultValue(readString());
+        } else if ("flattened".equals(fieldName)) {
+            Boolean flattened = readBoolean();
+            if (flattened != null) {
+                parameter.setFlattened(flattened);
+            }
+        } else if ("originalParameter".equals(fieldName)) {
+            parameter.setOriginalParameter((Parameter) readValue(Parameter.class));
+        } else if ("groupedBy".equals(fieldName)) {
+            parameter.setGroupedBy((Parameter) readValue(Parameter.class));
+        } else if ("targetProperty".equals(fieldName)) {
+            parameter.setTargetProperty((Property) readValue(Property.class));
+        } else if ("origin".equals(fieldName)) {
+            parameter.setOrigin(readString());
+        } else if ("summary".equals(fieldName)) {
+            parameter.setSummary(readString());
+        } else {
+            return readValueField(parameter, fieldName);
+        }
+        return true;
+    }
+
+    /*
+     * Reads the fields of Value and Metadata, the super classes of Property and Parameter.
+     */
+    private boolean readValueField(Value value, String fieldName) throws IOException {
+        if ("schema".equals(fieldName)) {
+            value.setSchema((Schema) readValue(Schema.class));
+        } else if ("required".equals(fieldName)) {
+            Boolean required = readBoolean();
+            if (required != null) {
+                value.setRequired(required);
+            }
+        } else if ("nullable".equals(fieldName)) {
+            Boolean nullable = readBoolean();
+            if (nullable != null) {
+                value.setNullable(nullable);
+            }
+        } else if ("description".equals(fieldName)) {
+            value.setDescription(readString());
+        } else if ("language".equals(fieldName)) {
+            value.setLanguage((Languages) readValue(Languages.class));
+        } else if ("protocol".equals(fieldName)) {
+            value.setProtocol((Protocols) readValue(Protocols.class));
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private String readString() throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        if (token == JsonToken.NULL) {
+            return null;
+        }
+        return deduplicate(token == JsonToken.STRING ? jsonReader.getString() : jsonReader.getText());
+    }
+
+    private Boolean readBoolean() throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        if (token == JsonToken.NULL) {
+            return null;
+        }
+        return token == JsonToken.STRING ? Boolean.parseBoolean(jsonReader.getString()) : jsonReader.getBoolean();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> readList(Class<T> elementType) throws IOException {
+        if (jsonReader.currentToken() == JsonToken.NULL) {
+            return null;
+        }
+        return (List<T>) readCollection(List.class, elementType);
+    }
+
+    private void readProperty(Object bean, Map<String, BeanProperty> properties, String fieldName)
+        throws IOException {
+        BeanProperty property = properties.get(fieldName);
+        if (property == null) {
+            String alias = PROPERTY_ALIASES.get(fieldName);
+            property = alias == null ? null : properties.get(alias);
+        }
+        if (property == null) {
+            // skip missing properties, as the YAML code model does
+            jsonReader.skipChildren();
+            return;
+        }
+
+        Object value = readValue(property.type);
+        if (value == null && property.setter.getParameterTypes()[0].isPrimitive()) {
+            return;
+        }
+        try {
+            property.setter.invoke(bean, value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(
+                "Failed to set property '" + fieldName + "' of " + bean.getClass().getSimpleName(), e);
+        }
+    }
+
+    private Object readCollection(Class<?> type, Type elementType) throws IOException {
+        String id = null;
+        if (jsonReader.currentToken() == JsonToken.START_OBJECT) {
+            // a shared array, or a reference to it
+            jsonReader.nextToken();
+            if (REF.equals(jsonReader.getFieldName())) {
+                return readReference();
+            }
+            jsonReader.nextToken();
+            id = jsonReader.getString();
+            jsonReader.nextToken();
+            jsonReader.nextToken();
+        }
+
+        Collection<Object> collection = Set.class.isAssignableFrom(type) ? new LinkedHashSet<>() : new ArrayList<>();
+        addReference(id, collection);
+        while (jsonReader.nextToken() != JsonToken.END_ARRAY) {
+            collection.add(readValue(elementType));
+        }
+
+        if (id != null) {
+            // end of the shared array
+            jsonReader.nextToken();
+        }
+        return collection;
+    }
+
+    private Object readMap(Type valueType) throws IOException {
+        JsonToken token = jsonReader.nextToken();
+        String fieldName = token == JsonToken.FIELD_NAME ? jsonReader.getFieldName() : null;
+        if (REF.equals(fieldName)) {
+            return readReference();
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        if (ID.equals(fieldName)) {
+            jsonReader.nextToken();
+            String id = jsonReader.getString();
+            token = jsonReader.nextToken();
+            if (token == JsonToken.FIELD_NAME && VALUES.equals(jsonReader.getFieldName())) {
+                // a shared array, in an untyped value
+                jsonReader.nextToken();
+                List<Object> list = new ArrayList<>();
+                addReference(id, list);
+                while (jsonReader.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(valueType));
+                }
+                jsonReader.nextToken();
+                return list;
+            }
+            addReference(id, map);
+        }
+
+        while (token != JsonToken.END_OBJECT) {
+            fieldName = jsonReader.getFieldName();
+            jsonReader.nextToken();
+            map.put(deduplicate(fieldName), readValue(valueType));
+            token = jsonReader.nextToken();
+        }
+        return map;
+    }
+
+    private Object readUntyped() throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return readMap(Object.class);
+        } else if (token == JsonToken.START_ARRAY) {
+            return readCollection(List.class, Object.class);
+        } else if (token == JsonToken.STRING) {
+            return deduplicate(jsonReader.getString());
+        } else if (token == JsonToken.BOOLEAN) {
+            return jsonReader.getBoolean();
+        } else if (token == JsonToken.NUMBER) {
+            // same number types as SnakeYAML
+            String text = jsonReader.getText();
+            if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+                return Double.parseDouble(text);
+            }
+            BigInteger number = new BigInteger(text);
+            if (number.bitLength() < Integer.SIZE) {
+                return number.intValue();
+            } else if (number.bitLength() < Long.SIZE) {
+                return number.longValue();
+            } else {
+                return number;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    /*
+     * Reads the value of the "$ref" property, and the end of the object.
+     */
+    private Object readReference() throws IOException {
+        jsonReader.nextToken();
+        String id = jsonReader.getString();
+        jsonReader.nextToken();
+
+        Object value = references.get(id);
+        if (value == null) {
+            throw new IllegalStateException("Unresolved reference '" + id + "' in code model.");
+        }
+        return value;
+    }
+
+    private String deduplicate(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    private void addReference(String id, Object value) {
+        if (id != null) {
+            references.put(id, value);
+        }
+    }
+
+    private static Object readEnum(Class<?> type, String value) {
+        try {
+            Method fromValue = type.getMethod("fromValue", String.class);
+            if (Modifier.isStatic(fromValue.getModifiers())) {
+                return fromValue.invoke(null, value);
+            }
+        } catch (NoSuchMethodException e) {
+            // fall back to the name of the constant
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to read " + type.getSimpleName() + " from '" + value + "'", e);
+        }
+
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(value)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create " + type.getSimpleName(), e);
+        }
+    }
+
+    private static Class<?> getRawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else {
+            return Object.class;
+        }
+    }
+
+    private static Type getTypeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+        }
+        return Object.class;
+    }
+
+    /*
+     * Finds the properties of the class, by the public setters, with the JavaBeans naming convention SnakeYAML uses.
+     */
+    private static Map<String, BeanProperty> findProperties(Class<?> type) {
+        Map<String, BeanProperty> properties = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            String name = method.getName();
+            if (name.length() > 3 && name.startsWith("set") && method.getParameterCount() == 1
+                && !Modifier.isStatic(method.getModifiers())) {
+                String propertyName = decapitalize(name.substring(3));
+                BeanProperty existing = properties.get(propertyName);
+                // with overloaded setters, prefer the one that matches the getter
+                if (existing == null || existing.setter.getParameterTypes()[0] != getterType(type, propertyName)) {
+                    properties.put(propertyName, new BeanProperty(method));
+                }
+            }
+        }
+
+        for (Method method : type.getMethods()) {
+            YamlProperty yamlProperty = method.getAnnotation(YamlProperty.class);
+            if (yamlProperty != null) {
+                String name = method.getName();
+                String propertyName = decapitalize(name.substring(name.startsWith("is") ? 2 : 3));
+                BeanProperty property = properties.get(propertyName);
+                if (property != null) {
+                    properties.put(yamlProperty.value(), property);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static Class<?> getterType(Class<?> type, String propertyName) {
+        String suffix = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        for (String prefix : new String[] { "get", "is" }) {
+            try {
+                return type.getMethod(prefix + suffix).getReturnType();
+            } catch (NoSuchMethodException e) {
+                // try the next prefix
+            }
+        }
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        // same as java.beans.Introspector.decapitalize, e.g. "URL" stays "URL"
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return name.substring(0, 1).toLowerCase(Locale.ROOT) + name.substring(1);
+    }
+
+    @FunctionalInterface
+    private interface FieldReader<T> {
+        /**
+         * Reads the value of the field into the bean.
+         *
+         * @param reader The code model reader, positioned at the value of the field.
+         * @param bean The bean.
+         * @param fieldName The name of the field.
+         * @return Whether the field is read, false if the reader does not know the field and the value is not read.
+         * @throws IOException If the value cannot be read.
+         */
+        boolean read(CodeModelJsonReader reader, T bean, String fieldName) throws IOException;
+    }
+
+    private static final class BeanProperty {
+        private final Method setter;
+        private final Type type;
+
+        private BeanProperty(Method setter) {
+            this.setter = setter;
+            this.type = setter.getGenericParameterTypes()[0];
+        }
+    }
+}
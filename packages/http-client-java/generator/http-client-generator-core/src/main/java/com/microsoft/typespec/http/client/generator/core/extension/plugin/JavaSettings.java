@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.plugin;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.mapper.azurevnext.AzureVNextMapperFactory;
 import com.microsoft.typespec.http.client.generator.core.mapper.clientcore.ClientCoreMapperFactory;
@@ -31,11 +32,6 @@ import org.slf4j.Logger;
  */
 public class JavaSettings {
     private static final String VERSION = "4.0.0";
-    private static JavaSettings instance;
-    private static NewPlugin host;
-    private static String header;
-    private static final Map<String, Object> SIMPLE_JAVA_SETTINGS = new LinkedHashMap<>();
-    private static Logger logger;
     private final boolean useKeyCredential;
     private final String flavor;
     private final boolean noCustomHeaders;
@@ -43,6 +39,7 @@ public class JavaSettings {
     private final boolean useRestProxy;
 
     static void setHeader(String value) {
+        String header;
         if ("MICROSOFT_MIT".equals(value)) {
             header = MICROSOFT_MIT_LICENSE_HEADER + "\n" + String.format(DEFAULT_CODE_GENERATION_HEADER, VERSION);
         } else if ("MICROSOFT_APACHE".equals(value)) {
@@ -68,18 +65,20 @@ public class JavaSettings {
         } else {
             header = value;
         }
+        hostState().header = header;
     }
 
     public static void setHost(NewPlugin host) {
-        JavaSettings.host = host;
-        logger = new PluginLogger(host, JavaSettings.class);
+        HostState hostState = hostState();
+        hostState.host = host;
+        hostState.logger = new PluginLogger(host, JavaSettings.class);
     }
 
     /**
      * Clear the JavaSettings instance.
      */
     public static void clear() {
-        instance = null;
+        GenerationContext.current().set(JavaSettings.class, null);
     }
 
     /**
@@ -88,16 +87,23 @@ public class JavaSettings {
      * @return The JavaSettings instance.
      */
     public static JavaSettings getInstance() {
+        GenerationContext context = GenerationContext.current();
+        JavaSettings instance = context.get(JavaSettings.class);
         if (instance == null) {
             ProjectSettings projectSettings = new ProjectSettings();
             loadStringSetting("output-folder", projectSettings::setOutputFolder);
 
-            setHeader(getStringValue(host, "license-header"));
+            setHeader(getStringValue(hostState().host, "license-header"));
             instance = new JavaSettings(projectSettings);
+            context.set(JavaSettings.class, instance);
         }
         return instance;
     }
 
+    private static HostState hostState() {
+        return GenerationContext.current().getOrCreate(HostState.class, HostState::new);
+    }
+
     private static Map<Integer, String> parseStatusCodeMapping(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
             Map<Integer, String> mapping = new LinkedHashMap<>();
@@ -117,6 +123,7 @@ public class JavaSettings {
      * @param projectSettings The project settings.
      */
     private JavaSettings(ProjectSettings projectSettings) {
+        NewPlugin host = hostState().host;
         this.projectSettings = projectSettings;
 
         // The modeler settings.
@@ -138,7 +145,7 @@ public class JavaSettings {
         this.regeneratePom = getBooleanValue(host, "regenerate-pom", false);
 
         // The file header text.
-        this.fileHeaderText = header;
+        this.fileHeaderText = hostState().header;
 
         // The service name.
         this.serviceName = getStringValue(host, "service-name");
@@ -366,6 +373,41 @@ public class JavaSettings {
         // Whether to use object for unknown.
         this.useObjectForUnknown = getBooleanValue(host, "use-object-for-unknown", false);
 
+        // The number of worker threads used to format generated code. Defaults to the number of available processors.
+        this.formatterWorkers
+            = Math.max(1, getIntegerValue(host, "formatter-workers", Runtime.getRuntime().availableProcessors()));
+
+        // Whether generated Java files are written with an exact, sorted import block, so post-processing can skip
+        // unused import removal and import ordering.
+        this.exactImports = getBooleanValue(host, "exact-imports", false);
+
+        // The directory of the formatted code cache. Files whose unformatted content is found in the cache aren't
+        // formatted again.
+        this.formatterCacheDirectory = getStringValue(host, "formatter-cache-directory");
+
+        // The number of worker threads used to render templates. Templates are rendered sequentially by default.
+        this.templateWorkers = Math.max(1, getIntegerValue(host, "template-workers", 1));
+
+        // The minimum number of JSON properties for which fromJson switches on the field name, instead of comparing
+        // the field name to each property name. Disabled by default.
+        this.jsonFieldSwitchThreshold = Math.max(0, getIntegerValue(host, "json-field-switch-threshold", 0));
+
+        // Whether fromJson of a polymorphic type reads the object without buffering it when the discriminator is the
+        // first field of the object. Disabled by default.
+        this.discriminatorFirstDeserialization = getBooleanValue(host, "discriminator-first-deserialization", false);
+
+        // Whether the paging methods of protocol methods read the items and the next link from the page body in a
+        // single pass with a JsonReader. Disabled by default.
+        this.streamStylePaging = getBooleanValue(host, "stream-style-paging", false);
+
+        // Whether the convenience methods serialize and deserialize the JSON models with the toJson and fromJson of the
+        // models, instead of BinaryData.fromObject and BinaryData.toObject. Disabled by default.
+        this.directModelSerialization = getBooleanValue(host, "direct-model-serialization", false);
+
+        // Whether the JSON merge patch of a model is serialized through a writer path that does not change the state
+        // of the model, instead of toggling the JSON merge patch flag of the model. Disabled by default.
+        this.statelessJsonMergePatch = getBooleanValue(host, "stateless-json-merge-patch", false);
+
         // Option to rename models (ObjectSchema, ChoiceSchema, SealedChoiceSchema).
         loadStringSetting("rename-model", s -> {
             if (!CoreUtils.isNullOrEmpty(s)) {
@@ -684,7 +726,7 @@ public class JavaSettings {
      * @return The settings that are used by the AutoRest generator.
      */
     public Map<String, Object> getSimpleJavaSettings() {
-        return SIMPLE_JAVA_SETTINGS;
+        return hostState().simpleJavaSettings;
     }
 
     private final boolean sdkIntegration;
@@ -1501,6 +1543,128 @@ public class JavaSettings {
         return useObjectForUnknown;
     }
 
+    private final int formatterWorkers;
+
+    /**
+     * The number of worker threads used to remove unused imports, reorder imports, and format generated code.
+     *
+     * @return The number of worker threads used to format generated code.
+     */
+    public int getFormatterWorkers() {
+        return formatterWorkers;
+    }
+
+    private final boolean exactImports;
+
+    /**
+     * Whether generated Java files only import the types referenced in the file, in sorted order.
+     * <p>
+     * When enabled, post-processing doesn't remove unused imports or reorder imports, unless a customization or a
+     * partial update has modified the files.
+     *
+     * @return Whether generated Java files are written with an exact, sorted import block.
+     */
+    public boolean isExactImports() {
+        return exactImports;
+    }
+
+    private final String formatterCacheDirectory;
+
+    /**
+     * The directory of the on-disk cache that maps unformatted generated code to the formatted code.
+     *
+     * @return The directory of the formatted code cache, or null if the cache is disabled.
+     */
+    public String getFormatterCacheDirectory() {
+        return formatterCacheDirectory;
+    }
+
+    private final int templateWorkers;
+
+    /**
+     * The number of worker threads used to render templates into Java files.
+     * <p>
+     * The order of the generated files and the duplicate file detection don't depend on the number of workers.
+     *
+     * @return The number of worker threads used to render templates.
+     */
+    public int getTemplateWorkers() {
+        return templateWorkers;
+    }
+
+    private final int jsonFieldSwitchThreshold;
+
+    /**
+     * The minimum number of JSON properties read by a loop of a stream-style {@code fromJson} method for the loop to
+     * switch on the field name, instead of comparing the field name to each property name in an if/else chain.
+     * <p>
+     * Both forms handle unknown fields, additional properties and flattened properties the same way.
+     *
+     * @return The minimum number of JSON properties for a switch on the field name, or 0 if the switch is disabled.
+     */
+    public int getJsonFieldSwitchThreshold() {
+        return jsonFieldSwitchThreshold;
+    }
+
+    private final boolean discriminatorFirstDeserialization;
+
+    /**
+     * Whether the stream-style {@code fromJson} method of a polymorphic type checks whether the first field of the JSON
+     * object is the discriminator. If it is, the subtype continues reading the object from the discriminator value,
+     * and the object is only buffered when the discriminator comes later in the object.
+     * <p>
+     * The subtype for the discriminator value is found with a switch, instead of an if/else chain.
+     *
+     * @return Whether polymorphic types are read without buffering when the discriminator is the first field.
+     */
+    public boolean isDiscriminatorFirstDeserialization() {
+        return discriminatorFirstDeserialization;
+    }
+
+    private final boolean streamStylePaging;
+
+    /**
+     * Whether the paging methods of protocol methods read the page items and the next link from the page body in a
+     * single pass with a {@code JsonReader}, instead of converting the page body to a {@code Map} once for the items
+     * and once for the next link.
+     *
+     * @return Whether the page body is read in a single pass with a {@code JsonReader}.
+     */
+    public boolean isStreamStylePaging() {
+        return streamStylePaging;
+    }
+
+    private final boolean directModelSerialization;
+
+    /**
+     * Whether the convenience methods write the request body with the {@code toJson} of the JSON model, and read the
+     * response body with the {@code fromJson} of the JSON model, instead of going through the {@code ObjectSerializer}
+     * of {@code BinaryData.fromObject} and {@code BinaryData.toObject}.
+     * <p>
+     * The protocol methods are not affected.
+     *
+     * @return Whether the convenience methods call {@code toJson} and {@code fromJson} of the JSON models directly.
+     */
+    public boolean isDirectModelSerialization() {
+        return directModelSerialization;
+    }
+
+    private final boolean statelessJsonMergePatch;
+
+    /**
+     * Whether the JSON merge patch of a model is serialized with a package-private {@code toJsonMergePatch} of the
+     * model, called through the JSON merge patch helper, instead of setting the JSON merge patch flag of the model
+     * before serialization and resetting it after.
+     * <p>
+     * The convenience methods wrap the model in a {@code JsonSerializable} that writes its JSON merge patch, so the
+     * request body is serialized when it is sent, and concurrent requests can share the model.
+     *
+     * @return Whether the JSON merge patch serialization does not change the state of the model.
+     */
+    public boolean isStatelessJsonMergePatch() {
+        return statelessJsonMergePatch;
+    }
+
     private final Map<String, String> renameModel = new LinkedHashMap<>();
 
     public Map<String, String> getJavaNamesForRenameModel() {
@@ -1533,9 +1697,10 @@ public class JavaSettings {
         "Copyright (c) Microsoft Corporation. All rights reserved.", "Licensed under the MIT License.", "");
 
     private static void loadStringSetting(String settingName, Consumer<String> action) {
-        String settingValue = host.getStringValue(settingName);
+        HostState hostState = hostState();
+        String settingValue = hostState.host.getStringValue(settingName);
         if (settingValue != null) {
-            logger.debug("Option, string, {} : {}", settingName, settingValue);
+            hostState.logger.debug("Option, string, {} : {}", settingName, settingValue);
             action.accept(settingValue);
         }
     }
@@ -1549,8 +1714,8 @@ public class JavaSettings {
         if (ret == null) {
             return defaultValue;
         } else {
-            logger.debug("Option, string, {} : {}", settingName, ret);
-            SIMPLE_JAVA_SETTINGS.put(settingName, ret);
+            hostState().logger.debug("Option, string, {} : {}", settingName, ret);
+            hostState().simpleJavaSettings.put(settingName, ret);
             return ret;
         }
     }
@@ -1560,9 +1725,30 @@ public class JavaSettings {
         if (ret == null) {
             return defaultValue;
         } else {
-            logger.debug("Option, boolean, {} : {}", settingName, ret);
-            SIMPLE_JAVA_SETTINGS.put(settingName, ret);
+            hostState().logger.debug("Option, boolean, {} : {}", settingName, ret);
+            hostState().simpleJavaSettings.put(settingName, ret);
             return ret;
         }
     }
+
+    private static int getIntegerValue(NewPlugin host, String settingName, int defaultValue) {
+        Integer ret = host.getIntegerValue(settingName);
+        if (ret == null) {
+            return defaultValue;
+        } else {
+            hostState().logger.debug("Option, integer, {} : {}", settingName, ret);
+            hostState().simpleJavaSettings.put(settingName, ret);
+            return ret;
+        }
+    }
+
+    /*
+     * The host of the generation, and the state derived from it before the JavaSettings instance is created.
+     */
+    private static final class HostState {
+        private final Map<String, Object> simpleJavaSettings = new LinkedHashMap<>();
+        private NewPlugin host;
+        private Logger logger;
+        private String header;
+    }
 }
@@ -8,6 +8,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.Message
 import com.microsoft.typespec.http.client.generator.core.extension.model.MessageChannel;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.AnnotatedPropertyUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelCustomConstructor;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import io.clientcore.core.serialization.json.JsonReader;
 import io.clientcore.core.utils.IOExceptionCheckedFunction;
 import java.io.IOException;
@@ -146,6 +147,16 @@ public abstract class NewPlugin {
         return (ret == null) ? defaultValue : ret;
     }
 
+    /**
+     * Gets the value of a key.
+     *
+     * @param key The key.
+     * @return The value of the key.
+     */
+    public Integer getIntegerValue(String key) {
+        return getValue(key, json -> json == null || json.isEmpty() ? null : Integer.parseInt(json));
+    }
+
     /**
      * Gets the input files.
      *
@@ -207,7 +218,10 @@ public abstract class NewPlugin {
      * @param sourceMap The source map of the file.
      */
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        connection.notify("WriteFile", sessionId, fileName, content, sourceMap);
+        // the file is written on the writer thread of the connection, which times the write
+        GenerationMetrics metrics = GenerationMetrics.current();
+        connection.notify(() -> metrics.timer("writeFile", fileName).bytes(content.length()), "WriteFile", sessionId,
+            fileName, content, sourceMap);
     }
 
     /**
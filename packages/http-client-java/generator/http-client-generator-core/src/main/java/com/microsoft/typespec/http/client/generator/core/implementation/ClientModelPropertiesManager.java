@@ -3,8 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.core.implementation;
 
-import static com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil.getClientModel;
-
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
@@ -110,12 +108,7 @@ public final class ClientModelPropertiesManager {
         boolean allFlattenedPropertiesFromParent = true;
 
         if (model.isPolymorphic()) {
-            ClientModel superTypeModel = model;
-            ClientModel parentModel = getClientModel(model.getParentModelName());
-            while (parentModel != null) {
-                superTypeModel = parentModel;
-                parentModel = getClientModel(superTypeModel.getParentModelName());
-            }
+            ClientModel superTypeModel = ClientModelUtil.getRootParent(model);
 
             xmlRootElementName = superTypeModel.getXmlName();
             xmlRootElementNamespace = superTypeModel.getXmlNamespace();
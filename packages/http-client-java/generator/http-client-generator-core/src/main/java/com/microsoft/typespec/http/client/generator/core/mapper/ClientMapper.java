@@ -50,6 +50,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVis
 import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
 import io.clientcore.core.utils.CoreUtils;
 import java.util.ArrayList;
@@ -84,50 +85,68 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
 
     @Override
     public Client map(CodeModel codeModel) {
+        try (GenerationMetrics.Timer ignored = GenerationMetrics.start("map", getClass().getSimpleName())) {
+            Client client = mapClient(codeModel);
+            // build the hierarchy again, if a client model is added after the models are mapped
+            if (ClientModels.getInstance().getHierarchy() == null) {
+                ClientModels.getInstance().buildHierarchy();
+            }
+            return client;
+        }
+    }
+
+    private Client mapClient(CodeModel codeModel) {
         JavaSettings settings = JavaSettings.getInstance();
         Client.Builder builder = new Client.Builder();
 
         // enum model
         final List<EnumType> enumTypes = new ArrayList<>();
         Set<String> enumNames = new LinkedHashSet<>();
-        for (ChoiceSchema choiceSchema : codeModel.getSchemas().getChoices()) {
-            IType iType = Mappers.getChoiceMapper().map(choiceSchema);
-            if (iType != ClassType.STRING) {
-                EnumType enumType = (EnumType) iType;
-                if (!enumNames.contains(enumType.getName())) {
-                    enumTypes.add(enumType);
-                    enumNames.add(enumType.getName());
+        try (GenerationMetrics.Timer ignored = startMapper(Mappers.getChoiceMapper())) {
+            for (ChoiceSchema choiceSchema : codeModel.getSchemas().getChoices()) {
+                IType iType = Mappers.getChoiceMapper().map(choiceSchema);
+                if (iType != ClassType.STRING) {
+                    EnumType enumType = (EnumType) iType;
+                    if (!enumNames.contains(enumType.getName())) {
+                        enumTypes.add(enumType);
+                        enumNames.add(enumType.getName());
+                    }
                 }
             }
         }
-        for (SealedChoiceSchema choiceSchema : codeModel.getSchemas().getSealedChoices()) {
-            IType iType = Mappers.getSealedChoiceMapper().map(choiceSchema);
-            if (iType != ClassType.STRING) {
-                EnumType enumType = (EnumType) iType;
-                if (!enumNames.contains(enumType.getName())) {
-                    enumTypes.add(enumType);
-                    enumNames.add(enumType.getName());
+        try (GenerationMetrics.Timer ignored = startMapper(Mappers.getSealedChoiceMapper())) {
+            for (SealedChoiceSchema choiceSchema : codeModel.getSchemas().getSealedChoices()) {
+                IType iType = Mappers.getSealedChoiceMapper().map(choiceSchema);
+                if (iType != ClassType.STRING) {
+                    EnumType enumType = (EnumType) iType;
+                    if (!enumNames.contains(enumType.getName())) {
+                        enumTypes.add(enumType);
+                        enumNames.add(enumType.getName());
+                    }
                 }
             }
         }
         builder.enums(enumTypes);
 
         // exception
-        List<ClientException> exceptions = Stream
-            .concat(
-                codeModel.getClients() == null
-                    ? Stream.empty()
-                    : codeModel.getClients().stream().flatMap(c -> c.getOperationGroups().stream()),
-                codeModel.getOperationGroups().stream())
-            .flatMap(og -> og.getOperations().stream())
-            .flatMap(o -> o.getExceptions().stream())
-            .map(Response::getSchema)
-            .distinct()
-            .filter(s -> s instanceof ObjectSchema)
-            .map(s -> Mappers.getExceptionMapper().map((ObjectSchema) s))
-            .filter(Objects::nonNull)
-            .distinct()
-            .collect(Collectors.toList());
+        List<ClientException> exceptions;
+        try (GenerationMetrics.Timer ignored = startMapper(Mappers.getExceptionMapper())) {
+            exceptions = Stream
+                .concat(
+                    codeModel.getClients() == null
+                        ? Stream.empty()
+                        : codeModel.getClients().stream().flatMap(c -> c.getOperationGroups().stream()),
+                    codeModel.getOperationGroups().stream())
+                .flatMap(og -> og.getOperations().stream())
+                .flatMap(o -> o.getExceptions().stream())
+                .map(Response::getSchema)
+                .distinct()
+                .filter(s -> s instanceof ObjectSchema)
+                .map(s -> Mappers.getExceptionMapper().map((ObjectSchema) s))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        }
         builder.exceptions(exceptions);
 
         builder.xmlSequenceWrappers(parseXmlSequenceWrappers(codeModel, settings));
@@ -153,11 +172,15 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
 
         autoRestModelTypes = Stream.concat(autoRestModelTypes, responseHeaderModelTypes);
 
-        List<ClientModel> clientModelsFromCodeModel = autoRestModelTypes.distinct()
-            .map(autoRestCompositeType -> Mappers.getModelMapper().map(autoRestCompositeType))
-            .filter(Objects::nonNull)
-            .distinct()
-            .collect(Collectors.toList());
+        Stream<ObjectSchema> modelTypes = autoRestModelTypes;
+        List<ClientModel> clientModelsFromCodeModel;
+        try (GenerationMetrics.Timer ignored = startMapper(Mappers.getModelMapper())) {
+            clientModelsFromCodeModel = modelTypes.distinct()
+                .map(autoRestCompositeType -> Mappers.getModelMapper().map(autoRestCompositeType))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        }
         // append some models not from CodeModel (currently, only for ##FileDetails models for multipart/form-data
         // request)
         // TODO (weidxu): we can remove this code block, if ##FileDetails moves to azure-core
@@ -166,26 +189,33 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
                 .distinct()
                 .collect(Collectors.toList());
         builder.models(clientModels);
+        // the hierarchy of the models is used by the mapping of the clients and the examples
+        ClientModels.getInstance().buildHierarchy();
 
         // union model (class)
-        builder.unionModels(codeModel.getSchemas()
-            .getOrs()
-            .stream()
-            .distinct()
-            .flatMap(schema -> Mappers.getUnionModelMapper().map(schema).stream())
-            .filter(Objects::nonNull)
-            .distinct()
-            .collect(Collectors.toList()));
+        try (GenerationMetrics.Timer ignored = startMapper(Mappers.getUnionModelMapper())) {
+            builder.unionModels(codeModel.getSchemas()
+                .getOrs()
+                .stream()
+                .distinct()
+                .flatMap(schema -> Mappers.getUnionModelMapper().map(schema).stream())
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
+        }
 
         // response model (subclass of Response with headers)
-        final List<ClientResponse> responseModels = codeModel.getOperationGroups()
-            .stream()
-            .flatMap(og -> og.getOperations().stream())
-            .distinct()
-            .map(m -> parseResponse(m, clientModels, settings))
-            .filter(Objects::nonNull)
-            .distinct()
-            .collect(Collectors.toList());
+        final List<ClientResponse> responseModels;
+        try (GenerationMetrics.Timer ignored = GenerationMetrics.start("map.ClientResponse")) {
+            responseModels = codeModel.getOperationGroups()
+                .stream()
+                .flatMap(og -> og.getOperations().stream())
+                .distinct()
+                .map(m -> parseResponse(m, clientModels, settings))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        }
         builder.responseModels(responseModels);
 
         String serviceClientName = codeModel.getLanguage().getJava().getName();
@@ -208,16 +238,18 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
 
         if (multipleClientsWithOperationsPresent || singleClientOperationsPresent) {
             // set the service clients only if there are client operations present
-            if (!CoreUtils.isNullOrEmpty(codeModel.getClients())) {
-                serviceClientsMap = processClients(codeModel.getClients(), codeModel);
-                builder.serviceClients(new ArrayList(serviceClientsMap.keySet()));
-            } else {
-                // service client
-                ServiceClient serviceClient = Mappers.getServiceClientMapper().map(codeModel);
-                if (serviceClient != null) {
-                    builder.serviceClient(serviceClient);
+            try (GenerationMetrics.Timer ignored = startMapper(Mappers.getServiceClientMapper())) {
+                if (!CoreUtils.isNullOrEmpty(codeModel.getClients())) {
+                    serviceClientsMap = processClients(codeModel.getClients(), codeModel);
+                    builder.serviceClients(new ArrayList(serviceClientsMap.keySet()));
+                } else {
+                    // service client
+                    ServiceClient serviceClient = Mappers.getServiceClientMapper().map(codeModel);
+                    if (serviceClient != null) {
+                        builder.serviceClient(serviceClient);
 
-                    serviceClientsMap.put(serviceClient, codeModel);
+                        serviceClientsMap.put(serviceClient, codeModel);
+                    }
                 }
             }
         }
@@ -381,16 +413,29 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
         }
 
         if (settings.isGenerateTests() && codeModel.getTestModel() != null) {
-            builder.liveTests(LiveTestsMapper.getInstance().map(codeModel.getTestModel()));
+            try (GenerationMetrics.Timer ignored = startMapper(LiveTestsMapper.getInstance())) {
+                builder.liveTests(LiveTestsMapper.getInstance().map(codeModel.getTestModel()));
+            }
         }
 
-        builder.graalVmConfig(Mappers.getGraalVmConfigMapper()
-            .map(new GraalVmConfigMapper.ServiceAndModel(serviceClientsMap.keySet(), exceptions, clientModels,
-                enumTypes)));
+        try (GenerationMetrics.Timer ignored = startMapper(Mappers.getGraalVmConfigMapper())) {
+            builder.graalVmConfig(Mappers.getGraalVmConfigMapper()
+                .map(new GraalVmConfigMapper.ServiceAndModel(serviceClientsMap.keySet(), exceptions, clientModels,
+                    enumTypes)));
+        }
 
         return builder.build();
     }
 
+    /*
+     * Times the mapping by the mapper, in the phase named after the type of the mapper, e.g. "map.ModelMapper" or
+     * "map.FluentModelMapper". The mappings by a mapper that run inside the mapping by another mapper, e.g. the
+     * properties of a model, are timed in the phase of the outer mapper.
+     */
+    private static GenerationMetrics.Timer startMapper(Object mapper) {
+        return GenerationMetrics.start("map." + mapper.getClass().getSimpleName());
+    }
+
     private void addConvenienceExamples(Client.Builder builder, List<AsyncSyncClient> syncClients) {
         // convenience examples
         List<ClientMethodExample> convenienceExamples = new ArrayList<>();
@@ -501,20 +546,20 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
     }
 
     private void addBuilderTraits(ClientBuilder clientBuilder, ServiceClient serviceClient) {
-        clientBuilder.addBuilderTrait(ClientBuilderTrait.HTTP_TRAIT);
+        clientBuilder.addBuilderTrait(ClientBuilderTrait.getHttpTrait());
         if (!JavaSettings.getInstance().isAzureV1()) {
-            clientBuilder.addBuilderTrait(ClientBuilderTrait.PROXY_TRAIT);
+            clientBuilder.addBuilderTrait(ClientBuilderTrait.getProxyTrait());
         }
 
-        clientBuilder.addBuilderTrait(ClientBuilderTrait.CONFIGURATION_TRAIT);
+        clientBuilder.addBuilderTrait(ClientBuilderTrait.getConfigurationTrait());
         if (serviceClient.getSecurityInfo().getSecurityTypes().contains(Scheme.SecuritySchemeType.OAUTH2)) {
-            clientBuilder.addBuilderTrait(ClientBuilderTrait.TOKEN_CREDENTIAL_TRAIT);
+            clientBuilder.addBuilderTrait(ClientBuilderTrait.getTokenCredentialTrait());
         }
         if (serviceClient.getSecurityInfo().getSecurityTypes().contains(Scheme.SecuritySchemeType.KEY)) {
             if (!JavaSettings.getInstance().isAzureV1() || JavaSettings.getInstance().isUseKeyCredential()) {
-                clientBuilder.addBuilderTrait(ClientBuilderTrait.KEY_CREDENTIAL_TRAIT);
+                clientBuilder.addBuilderTrait(ClientBuilderTrait.getKeyCredentialTrait());
             } else {
-                clientBuilder.addBuilderTrait(ClientBuilderTrait.AZURE_KEY_CREDENTIAL_TRAIT);
+                clientBuilder.addBuilderTrait(ClientBuilderTrait.getAzureKeyCredentialTrait());
             }
         }
         serviceClient.getProperties().stream().map(property -> {
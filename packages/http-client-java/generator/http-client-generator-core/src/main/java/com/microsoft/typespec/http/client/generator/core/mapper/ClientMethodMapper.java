@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConvenienceApi;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Request;
@@ -40,7 +41,7 @@ import java.util.stream.Stream;
  */
 public class ClientMethodMapper implements IMapper<Operation, List<ClientMethod>> {
     private static final ClientMethodMapper INSTANCE = new ClientMethodMapper();
-    private final Map<CacheKey, List<ClientMethod>> parsed = new ConcurrentHashMap<>();
+    private final Map<CacheKey, List<ClientMethod>> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     private static class CacheKey {
         private final Operation operation;
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantSchema;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import java.util.Map;
@@ -13,7 +14,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class ConstantMapper implements IMapper<ConstantSchema, IType> {
     private static final ConstantMapper INSTANCE = new ConstantMapper();
-    Map<ConstantSchema, IType> parsed = new ConcurrentHashMap<>();
+    Map<ConstantSchema, IType> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     private ConstantMapper() {
     }
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.DictionarySchema;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
@@ -11,7 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class DictionaryMapper implements IMapper<DictionarySchema, IType> {
     private static final DictionaryMapper INSTANCE = new DictionaryMapper();
-    Map<DictionarySchema, IType> parsed = new ConcurrentHashMap<>();
+    Map<DictionarySchema, IType> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     private DictionaryMapper() {
     }
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientException;
@@ -11,7 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class ExceptionMapper implements IMapper<ObjectSchema, ClientException> {
     private static final ExceptionMapper INSTANCE = new ExceptionMapper();
-    Map<ObjectSchema, ClientException> parsed = new ConcurrentHashMap<>();
+    Map<ObjectSchema, ClientException> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     protected ExceptionMapper() {
     }
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
@@ -30,7 +31,8 @@ import java.util.stream.Collectors;
 
 public class MethodGroupMapper implements IMapper<OperationGroup, MethodGroupClient> {
     private static final MethodGroupMapper INSTANCE = new MethodGroupMapper();
-    private final Map<OperationGroup, MethodGroupClient> parsed = new ConcurrentHashMap<>();
+    private final Map<OperationGroup, MethodGroupClient> parsed
+        = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     protected MethodGroupMapper() {
     }
@@ -36,7 +36,6 @@ import java.util.stream.Stream;
 
 public class ModelMapper implements IMapper<ObjectSchema, ClientModel>, NeedsPlainObjectCheck {
     private static final ModelMapper INSTANCE = new ModelMapper();
-    private final ClientModels serviceModels = ClientModels.getInstance();
 
     private final static String PROPERTY_NAME_ADDITIONAL_PROPERTIES = "additionalProperties";
 
@@ -54,7 +53,7 @@ public class ModelMapper implements IMapper<ObjectSchema, ClientModel>, NeedsPla
 
         ClassType modelType = objectMapper.map(compositeType);
         String modelName = modelType.getName();
-        ClientModel result = serviceModels.getModel(modelType.getName());
+        ClientModel result = ClientModels.getInstance().getModel(modelType.getName());
         if (result == null && !isPlainObject(compositeType)) {
             Set<ImplementationDetails.Usage> usages = SchemaUtil.mapSchemaContext(compositeType.getUsage());
             if (isPredefinedModel(modelType)) {
@@ -375,7 +374,7 @@ public class ModelMapper implements IMapper<ObjectSchema, ClientModel>, NeedsPla
                 }
             }
 
-            serviceModels.addModel(result);
+            ClientModels.getInstance().addModel(result);
         }
 
         return result;
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
@@ -15,7 +16,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class ObjectMapper implements IMapper<ObjectSchema, IType>, NeedsPlainObjectCheck {
     private static final ObjectMapper INSTANCE = new ObjectMapper();
-    Map<ObjectSchema, ClassType> parsed = new ConcurrentHashMap<>();
+    Map<ObjectSchema, ClassType> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     protected ObjectMapper() {
     }
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ByteArraySchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.DateTimeSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.DurationSchema;
@@ -18,7 +19,7 @@ import java.util.Map;
 
 public class PrimitiveMapper implements IMapper<PrimitiveSchema, IType> {
     private static final PrimitiveMapper INSTANCE = new PrimitiveMapper();
-    protected Map<PrimitiveSchema, IType> parsed = new HashMap<>();
+    protected Map<PrimitiveSchema, IType> parsed = GenerationContext.newScopedMap(HashMap::new);
 
     protected PrimitiveMapper() {
     }
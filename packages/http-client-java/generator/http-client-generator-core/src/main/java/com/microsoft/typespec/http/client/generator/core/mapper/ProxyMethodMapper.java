@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Header;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
@@ -51,7 +52,7 @@ public class ProxyMethodMapper implements IMapper<Operation, Map<Request, List<P
     private static final ProxyMethodMapper INSTANCE = new ProxyMethodMapper();
 
     private final Logger logger = new PluginLogger(Javagen.getPluginInstance(), ProxyMethodMapper.class);
-    private final Map<Request, List<ProxyMethod>> parsed = new ConcurrentHashMap<>();
+    private final Map<Request, List<ProxyMethod>> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     protected ProxyMethodMapper() {
     }
@@ -195,7 +195,7 @@ final class ProxyMethodParameterProcessor {
             return List.of();
         }
         final List<ProxyMethodParameter> parameters = new ArrayList<>();
-        parameters.add(ProxyMethodParameter.REPEATABILITY_REQUEST_ID_PARAMETER);
+        parameters.add(ProxyMethodParameter.createRepeatabilityRequestIdParameter());
         parameters.add(ProxyMethodParameter.REPEATABILITY_FIRST_SENT_PARAMETER);
         return parameters;
     }
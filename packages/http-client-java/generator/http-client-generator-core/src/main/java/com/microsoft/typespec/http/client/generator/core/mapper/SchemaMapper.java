@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.AnySchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ArraySchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.BinarySchema;
@@ -20,7 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class SchemaMapper implements IMapper<Schema, IType> {
     private static final SchemaMapper INSTANCE = new SchemaMapper();
-    Map<Schema, IType> parsed = new ConcurrentHashMap<>();
+    Map<Schema, IType> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     private SchemaMapper() {
     }
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SealedChoiceSchema;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
@@ -11,7 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class SealedChoiceMapper implements IMapper<SealedChoiceSchema, IType> {
     private static final SealedChoiceMapper INSTANCE = new SealedChoiceMapper();
-    Map<SealedChoiceSchema, IType> parsed = new ConcurrentHashMap<>();
+    Map<SealedChoiceSchema, IType> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     protected SealedChoiceMapper() {
     }
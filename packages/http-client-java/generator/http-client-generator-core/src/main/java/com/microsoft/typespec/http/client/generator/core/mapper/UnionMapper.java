@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OrSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
@@ -14,7 +15,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class UnionMapper implements IMapper<OrSchema, IType> {
     private static final UnionMapper INSTANCE = new UnionMapper();
-    Map<OrSchema, ClassType> parsed = new ConcurrentHashMap<>();
+    Map<OrSchema, ClassType> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     protected UnionMapper() {
     }
@@ -22,7 +22,6 @@ import java.util.Set;
 public class UnionModelMapper implements IMapper<OrSchema, List<UnionModel>> {
 
     private static final UnionModelMapper INSTANCE = new UnionModelMapper();
-    private final UnionModels serviceModels = UnionModels.getInstance();
 
     protected UnionModelMapper() {
     }
@@ -39,7 +38,7 @@ public class UnionModelMapper implements IMapper<OrSchema, List<UnionModel>> {
     private List<UnionModel> createSubClasses(OrSchema type) {
         ClassType baseModelType = Mappers.getUnionMapper().map(type);
         String baseModelName = baseModelType.getName();
-        List<UnionModel> models = serviceModels.getModel(baseModelType.getName());
+        List<UnionModel> models = UnionModels.getInstance().getModel(baseModelType.getName());
         if (models == null) {
             models = new ArrayList<>();
 
@@ -74,7 +73,7 @@ public class UnionModelMapper implements IMapper<OrSchema, List<UnionModel>> {
                 models.add(builder.build());
             }
 
-            serviceModels.addModel(models);
+            UnionModels.getInstance().addModel(models);
         }
         return models;
     }
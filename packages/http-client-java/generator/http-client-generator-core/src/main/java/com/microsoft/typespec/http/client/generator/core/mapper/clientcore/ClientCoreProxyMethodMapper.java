@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper.clientcore;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
@@ -64,7 +65,7 @@ public class ClientCoreProxyMethodMapper extends ProxyMethodMapper {
             ClassType.DURATION_MILLISECONDS_LONG, ClassType.DURATION_MILLISECONDS_DOUBLE, PrimitiveType.UNIX_TIME_LONG,
             ClassType.UNIX_TIME_LONG, ClassType.UNIX_TIME_DATE_TIME);
 
-    private final Map<Request, List<ProxyMethod>> parsed = new ConcurrentHashMap<>();
+    private final Map<Request, List<ProxyMethod>> parsed = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     @Override
     public Map<Request, List<ProxyMethod>> map(Operation operation) {
@@ -701,7 +702,7 @@ public class ClientCoreProxyMethodMapper extends ProxyMethodMapper {
 
                     specialParameters.add(commonBuilderSetting.apply(
                         new ProxyMethodParameter.Builder().name(MethodUtil.REPEATABILITY_REQUEST_ID_VARIABLE_NAME)
-                            .parameterReference(MethodUtil.REPEATABILITY_REQUEST_ID_EXPRESSION)
+                            .parameterReference(MethodUtil.getRepeatabilityRequestIdExpression())
                             .requestParameterName(MethodUtil.REPEATABILITY_REQUEST_ID_HEADER)
                             .description("Repeatability request ID header"))
                         .build());
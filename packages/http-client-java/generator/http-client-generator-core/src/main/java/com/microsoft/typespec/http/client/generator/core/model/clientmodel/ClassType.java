@@ -18,10 +18,14 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * The details of a class type that is used by a client.
@@ -37,13 +41,15 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
 
     private static ClassType withClientCoreAndVNextReplacement(String azureClass, String clientCoreClass,
         String azureVNextClass) {
-        if (JavaSettings.getInstance().isAzureV2()) {
-            return new ClassType.Builder(false).knownClass(azureVNextClass).build();
-        } else if (!JavaSettings.getInstance().isAzureV1()) {
-            return new ClassType.Builder(false).knownClass(clientCoreClass).build();
-        } else {
-            return new ClassType.Builder(false).knownClass(azureClass).build();
-        }
+        return flavored(() -> {
+            if (JavaSettings.getInstance().isAzureV2()) {
+                return new ClassType.Builder(false).knownClass(azureVNextClass).build();
+            } else if (!JavaSettings.getInstance().isAzureV1()) {
+                return new ClassType.Builder(false).knownClass(clientCoreClass).build();
+            } else {
+                return new ClassType.Builder(false).knownClass(azureClass).build();
+            }
+        });
     }
 
     private static Builder withClientCoreReplacementBuilder(String azureClass, String clientCoreClass,
@@ -68,6 +74,15 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         }
     }
 
+    /*
+     * The type differs by the flavor (azure, azure-v2 or unbranded) of the generation. It is built on first use by each
+     * flavor, and resolved by the flavor of the JavaSettings of the current generation on each access. Several
+     * generations of different flavors can run in one JVM.
+     */
+    private static ClassType flavored(Supplier<ClassType> factory) {
+        return new ClassType(factory);
+    }
+
     // Client builder traits.
     public static final ClassType AZURE_KEY_CREDENTIAL_TRAIT
         = new ClassType("com.azure.core.client.traits", "AzureKeyCredentialTrait");
@@ -111,11 +126,14 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         = new Builder(false).packageName("com.azure.core.exception").name("ResourceNotFoundException").build();
     public static final ClassType TOO_MANY_REDIRECTS_EXCEPTION
         = new Builder(false).packageName("com.azure.core.exception").name("TooManyRedirectsException").build();
-    public static final ClassType RESPONSE_ERROR = withVNextReplacementBuilder("com.azure.core.models.ResponseError",
-        "com.azure.v2.core.models.AzureResponseError", true).jsonToken("JsonToken.START_OBJECT").build();
-    public static final ClassType RESPONSE_INNER_ERROR
-        = withVNextReplacementBuilder("com.azure.core.models.ResponseErrorInner",
-            "com.azure.v2.core.models.AzureResponseErrorInner", true).jsonToken("JsonToken.START_OBJECT").build();
+    public static final ClassType RESPONSE_ERROR = flavored(() -> withVNextReplacementBuilder(
+        "com.azure.core.models.ResponseError", "com.azure.v2.core.models.AzureResponseError", true)
+            .jsonToken("JsonToken.START_OBJECT")
+            .build());
+    public static final ClassType RESPONSE_INNER_ERROR = flavored(() -> withVNextReplacementBuilder(
+        "com.azure.core.models.ResponseErrorInner", "com.azure.v2.core.models.AzureResponseErrorInner", true)
+            .jsonToken("JsonToken.START_OBJECT")
+            .build());
 
     // HTTP
     public static final ClassType HTTP_PIPELINE = withClientCoreReplacement("com.azure.core.http.HttpPipeline",
@@ -202,9 +220,9 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     public static final ClassType AZURE_CLOUD
         = withVNextReplacement("com.azure.core.models.AzureCloud", "com.azure.v2.core.models.AzureCloud");
     public static final ClassType JSON_PATCH_DOCUMENT
-        = withClientCoreReplacementBuilder("com.azure.core.models.JsonPatchDocument",
+        = flavored(() -> withClientCoreReplacementBuilder("com.azure.core.models.JsonPatchDocument",
             "io.clientcore.core.serialization.json.models.JsonPatchDocument", true).jsonToken("JsonToken.START_OBJECT")
-                .build();
+                .build());
 
     // Serialization
     public static final ClassType JSON_SERIALIZABLE = withClientCoreReplacement("com.azure.json.JsonSerializable",
@@ -248,12 +266,12 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     public static final ClassType URL_BUILDER
         = withClientCoreReplacement("com.azure.core.util.UrlBuilder", "io.clientcore.core.utils.UriBuilder");
     public static final ClassType FLUX_UTIL = new ClassType("com.azure.core.util", "FluxUtil");
-    public static final ClassType CONTEXT
-        = withClientCoreReplacementBuilder("com.azure.core.util.Context", "io.clientcore.core.utils.Context", false)
+    public static final ClassType CONTEXT = flavored(
+        () -> withClientCoreReplacementBuilder("com.azure.core.util.Context", "io.clientcore.core.utils.Context", false)
             .defaultValueExpressionConverter(
                 epr -> (JavaSettings.getInstance().isAzureV1() ? "com.azure.core.util." : "io.clientcore.core.utils.")
                     + TemplateUtil.getContextNone())
-            .build();
+            .build());
     public static final ClassType CLIENT_OPTIONS = new ClassType("com.azure.core.util", "ClientOptions");
     public static final ClassType BASE_64_UTIL = new ClassType("com.azure.core.util", "Base64Util");
     public static final ClassType CONFIGURATION = withClientCoreReplacement("com.azure.core.util.Configuration",
@@ -283,8 +301,8 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
 
     // Complex mapped types
     // JSON type is STRING, wire type is Base64Url/Base64Uri, client type is byte[]
-    public static final ClassType BASE_64_URL
-        = withClientCoreReplacementBuilder("com.azure.core.util.Base64Url", "io.clientcore.core.utils.Base64Uri", false)
+    public static final ClassType BASE_64_URL = flavored(() -> withClientCoreReplacementBuilder(
+        "com.azure.core.util.Base64Url", "io.clientcore.core.utils.Base64Uri", false)
             .serializationValueGetterModifier(valueGetter -> "Objects.toString(" + valueGetter + ", null)")
             .jsonToken("JsonToken.STRING")
             .jsonDeserializationMethod("getNullable(nonNullReader -> new "
@@ -294,10 +312,10 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
                 "getNullableElement(" + (JavaSettings.getInstance().isAzureV1() ? "Base64Url" : "Base64Uri") + "::new)")
             .xmlAttributeDeserializationTemplate("%s.getNullableAttribute(%s, %s, "
                 + (JavaSettings.getInstance().isAzureV1() ? "Base64Url" : "Base64Uri") + "::new)")
-            .build();
+            .build());
 
-    public static final ClassType BINARY_DATA = withClientCoreReplacementBuilder("com.azure.core.util.BinaryData",
-        "io.clientcore.core.models.binarydata.BinaryData", false)
+    public static final ClassType BINARY_DATA = flavored(() -> withClientCoreReplacementBuilder(
+        "com.azure.core.util.BinaryData", "io.clientcore.core.models.binarydata.BinaryData", false)
             .defaultValueExpressionConverter(
                 defaultValueExpression -> "BinaryData.fromObject(\"" + defaultValueExpression + "\")")
             // When used as model property, serialization code will not use the "writeUntyped(nullableVar)",
@@ -309,11 +327,11 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
                 "getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()))")
             .xmlElementDeserializationMethod("getNullableElement(BinaryData::fromObject)")
             .xmlAttributeDeserializationTemplate("%s.getNullableAttribute(%s, %s, BinaryData::fromObject)")
-            .build();
+            .build());
 
     // JSON type is STRING, wire type is DateTimeRfc1123, client type is OffsetDateTime
     public static final ClassType DATE_TIME_RFC_1123
-        = withClientCoreReplacementBuilder("com.azure.core.util.DateTimeRfc1123",
+        = flavored(() -> withClientCoreReplacementBuilder("com.azure.core.util.DateTimeRfc1123",
             "io.clientcore.core.utils.DateTimeRfc1123", false)
                 .defaultValueExpressionConverter(
                     defaultValueExpression -> "new DateTimeRfc1123(\"" + defaultValueExpression + "\")")
@@ -324,7 +342,7 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
                 .serializationMethodBase("writeString")
                 .xmlElementDeserializationMethod("getNullableElement(DateTimeRfc1123::new)")
                 .xmlAttributeDeserializationTemplate("%s.getNullableAttribute(%s, %s, DateTimeRfc1123::new)")
-                .build();
+                .build());
 
     // Management
     public static final ClassType SYNC_POLLER_FACTORY
@@ -435,7 +453,7 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         .xmlAttributeDeserializationTemplate("%s.getNullableAttribute(%s, %s, LocalDate::parse)")
         .build();
 
-    public static final ClassType DATE_TIME = new Builder(false).knownClass(OffsetDateTime.class)
+    public static final ClassType DATE_TIME = flavored(() -> new Builder(false).knownClass(OffsetDateTime.class)
         .defaultValueExpressionConverter(
             defaultValueExpression -> "OffsetDateTime.parse(\"" + defaultValueExpression + "\")")
         .jsonToken("JsonToken.STRING")
@@ -453,7 +471,7 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
             ? ("%s.getNullableAttribute(%s, %s, dateString -> " + CORE_UTILS.getName()
                 + ".parseBestOffsetDateTime(dateString))")
             : ("%s.getNullableAttribute(%s, %s, dateString -> OffsetDateTime.parse(dateString))"))
-        .build();
+        .build());
 
     public static final ClassType DURATION = new Builder(false).knownClass(Duration.class)
         .defaultValueExpressionConverter(defaultValueExpression -> "Duration.parse(\"" + defaultValueExpression + "\")")
@@ -547,6 +565,14 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     private final String xmlElementDeserializationMethod;
     private final boolean usedInXml;
 
+    // the types of a flavored type, built on first use by each flavor, indexed by the ordinal of the flavor
+    private final Supplier<ClassType> flavorFactory;
+    private final AtomicReferenceArray<ClassType> flavorTypes;
+
+    // the imports are computed on first use, the type is immutable
+    private volatile Set<String> imports;
+    private volatile Set<String> importsWithImplementation;
+
     private ClassType(Class<?> knownClass) {
         this(knownClass.getPackage().getName(), knownClass.getSimpleName());
     }
@@ -574,26 +600,68 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         this.xmlAttributeDeserializationTemplate = xmlAttributeDeserializationTemplate;
         this.xmlElementDeserializationMethod = xmlElementDeserializationMethod;
         this.usedInXml = usedInXml;
+        this.flavorFactory = null;
+        this.flavorTypes = null;
+    }
+
+    private ClassType(Supplier<ClassType> flavorFactory) {
+        this.fullName = null;
+        this.packageName = null;
+        this.name = null;
+        this.implementationImports = null;
+        this.extensions = null;
+        this.defaultValueExpressionConverter = null;
+        this.isSwaggerType = false;
+        this.jsonToken = null;
+        this.serializationMethodBase = null;
+        this.serializationValueGetterModifier = null;
+        this.jsonDeserializationMethod = null;
+        this.xmlAttributeDeserializationTemplate = null;
+        this.xmlElementDeserializationMethod = null;
+        this.usedInXml = false;
+        this.flavorFactory = flavorFactory;
+        this.flavorTypes = new AtomicReferenceArray<>(Flavor.values().length);
+    }
+
+    /*
+     * Resolves the type by the flavor of the current generation. A type that doesn't differ by the flavor resolves to
+     * itself.
+     */
+    private ClassType resolve() {
+        if (flavorFactory == null) {
+            return this;
+        }
+
+        int flavor = Flavor.of(JavaSettings.getInstance()).ordinal();
+        ClassType type = flavorTypes.get(flavor);
+        if (type == null) {
+            // the factory reads the flavor from the JavaSettings of the current generation, which is the same flavor
+            type = flavorFactory.get();
+            if (!flavorTypes.compareAndSet(flavor, null, type)) {
+                type = flavorTypes.get(flavor);
+            }
+        }
+        return type;
     }
 
     public final String getPackage() {
-        return packageName;
+        return resolve().packageName;
     }
 
     public final String getName() {
-        return name;
+        return resolve().name;
     }
 
     private List<String> getImplementationImports() {
-        return implementationImports;
+        return resolve().implementationImports;
     }
 
     public XmsExtensions getExtensions() {
-        return extensions;
+        return resolve().extensions;
     }
 
     private Function<String, String> getDefaultValueExpressionConverter() {
-        return defaultValueExpressionConverter;
+        return resolve().defaultValueExpressionConverter;
     }
 
     public final boolean isBoxedType() {
@@ -609,7 +677,7 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
 
     @Override
     public String toString() {
-        return name;
+        return getName();
     }
 
     @Override
@@ -621,12 +689,12 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
             return false;
         }
         ClassType that = (ClassType) other;
-        return Objects.equals(this.name, that.name) && Objects.equals(this.packageName, that.packageName);
+        return Objects.equals(this.getName(), that.getName()) && Objects.equals(this.getPackage(), that.getPackage());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(packageName, name);
+        return Objects.hash(getPackage(), getName());
     }
 
     public final IType asNullable() {
@@ -638,12 +706,33 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     }
 
     public final String getFullName() {
-        return fullName;
+        return resolve().fullName;
     }
 
     public final void addImportsTo(Set<String> imports, boolean includeImplementationImports) {
+        imports.addAll(getImports(includeImplementationImports));
+    }
+
+    private Set<String> getImports(boolean includeImplementationImports) {
+        // the imports of a flavored type are cached on the type of the flavor
+        ClassType type = resolve();
+        Set<String> typeImports = includeImplementationImports ? type.importsWithImplementation : type.imports;
+        if (typeImports == null) {
+            Set<String> computedImports = new LinkedHashSet<>();
+            computeImports(computedImports, includeImplementationImports);
+            typeImports = Collections.unmodifiableSet(computedImports);
+            if (includeImplementationImports) {
+                type.importsWithImplementation = typeImports;
+            } else {
+                type.imports = typeImports;
+            }
+        }
+        return typeImports;
+    }
+
+    private void computeImports(Set<String> imports, boolean includeImplementationImports) {
         if (!getPackage().equals("java.lang")) {
-            imports.add(fullName);
+            imports.add(getFullName());
         }
 
         if (this == ClassType.UNIX_TIME_LONG) {
@@ -676,7 +765,7 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         String result = sourceExpression;
         if (result != null) {
             if (getDefaultValueExpressionConverter() != null) {
-                result = defaultValueExpressionConverter.apply(sourceExpression);
+                result = getDefaultValueExpressionConverter().apply(sourceExpression);
             } else {
                 result = "new " + this + "()";
             }
@@ -718,7 +807,7 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     }
 
     public String validate(String expression) {
-        if (packageName.startsWith(JavaSettings.getInstance().getPackage())) {
+        if (getPackage().startsWith(JavaSettings.getInstance().getPackage())) {
             return expression + ".validate()";
         } else {
             return null;
@@ -726,16 +815,17 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     }
 
     public boolean isSwaggerType() {
-        return isSwaggerType;
+        return resolve().isSwaggerType;
     }
 
     @Override
     public String jsonToken() {
-        return jsonToken;
+        return resolve().jsonToken;
     }
 
     @Override
     public String jsonDeserializationMethod(String jsonReaderName) {
+        String jsonDeserializationMethod = resolve().jsonDeserializationMethod;
         if (jsonDeserializationMethod == null) {
             return null;
         }
@@ -746,13 +836,14 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     @Override
     public String jsonSerializationMethodCall(String jsonWriterName, String fieldName, String valueGetter,
         boolean jsonMergePatch) {
-        if (!isSwaggerType && CoreUtils.isNullOrEmpty(serializationMethodBase)) {
+        ClassType type = resolve();
+        if (!type.isSwaggerType && CoreUtils.isNullOrEmpty(type.serializationMethodBase)) {
             return null;
         }
 
-        String methodBase = isSwaggerType ? "writeJson" : serializationMethodBase;
-        String value = serializationValueGetterModifier != null
-            ? serializationValueGetterModifier.apply(valueGetter)
+        String methodBase = type.isSwaggerType ? "writeJson" : type.serializationMethodBase;
+        String value = type.serializationValueGetterModifier != null
+            ? type.serializationValueGetterModifier.apply(valueGetter)
             : valueGetter;
 
         return fieldName == null
@@ -763,14 +854,15 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     @Override
     public String xmlDeserializationMethod(String xmlReaderName, String attributeName, String attributeNamespace,
         boolean namespaceIsConstant) {
+        ClassType type = resolve();
         if (attributeName == null) {
-            return xmlReaderName + "." + xmlElementDeserializationMethod;
+            return xmlReaderName + "." + type.xmlElementDeserializationMethod;
         } else if (attributeNamespace == null) {
-            return String.format(xmlAttributeDeserializationTemplate, xmlReaderName, "null",
+            return String.format(type.xmlAttributeDeserializationTemplate, xmlReaderName, "null",
                 "\"" + attributeName + "\"");
         } else {
             String namespace = namespaceIsConstant ? attributeNamespace : "\"" + attributeNamespace + "\"";
-            return String.format(xmlAttributeDeserializationTemplate, xmlReaderName, namespace,
+            return String.format(type.xmlAttributeDeserializationTemplate, xmlReaderName, namespace,
                 "\"" + attributeName + "\"");
         }
     }
@@ -778,7 +870,8 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     @Override
     public String xmlSerializationMethodCall(String xmlWriterName, String attributeOrElementName, String namespaceUri,
         String valueGetter, boolean isAttribute, boolean nameIsVariable, boolean namespaceIsConstant) {
-        if (isSwaggerType) {
+        ClassType type = resolve();
+        if (type.isSwaggerType) {
             if (isAttribute) {
                 throw new RuntimeException("Swagger types cannot be written as attributes.");
             }
@@ -786,21 +879,22 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
             return xmlWriterName + ".writeXml(" + valueGetter + ", \"" + attributeOrElementName + "\")";
         }
 
-        String value = serializationValueGetterModifier != null
-            ? serializationValueGetterModifier.apply(valueGetter)
+        String value = type.serializationValueGetterModifier != null
+            ? type.serializationValueGetterModifier.apply(valueGetter)
             : valueGetter;
-        return xmlSerializationCallHelper(xmlWriterName, serializationMethodBase, attributeOrElementName, namespaceUri,
-            value, isAttribute, nameIsVariable, namespaceIsConstant);
+        return xmlSerializationCallHelper(xmlWriterName, type.serializationMethodBase, attributeOrElementName,
+            namespaceUri, value, isAttribute, nameIsVariable, namespaceIsConstant);
     }
 
     @Override
     public boolean isUsedInXml() {
-        return usedInXml;
+        return resolve().usedInXml;
     }
 
     @Override
     public String convertToJsonType(String variableName) {
         String expression = convertFromClientType(variableName);
+        Function<String, String> serializationValueGetterModifier = resolve().serializationValueGetterModifier;
         return serializationValueGetterModifier != null
             ? serializationValueGetterModifier.apply(expression)
             : expression;
@@ -827,6 +921,20 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         }
     }
 
+    private enum Flavor {
+        AZURE_V1, AZURE_V2, CLIENT_CORE;
+
+        private static Flavor of(JavaSettings settings) {
+            if (settings.isAzureV2()) {
+                return AZURE_V2;
+            } else if (!settings.isAzureV1()) {
+                return CLIENT_CORE;
+            } else {
+                return AZURE_V1;
+            }
+        }
+    }
+
     public static class Builder {
         /*
          * Used to indicate if the class type is generated based on a Swagger definition and isn't a pre-defined,
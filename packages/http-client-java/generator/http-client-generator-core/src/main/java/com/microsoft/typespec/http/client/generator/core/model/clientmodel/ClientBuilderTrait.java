@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import java.util.ArrayList;
@@ -16,19 +17,16 @@ import java.util.function.Consumer;
  */
 public class ClientBuilderTrait {
 
-    public static final ClientBuilderTrait HTTP_TRAIT = createHttpTrait();
-
-    public static final ClientBuilderTrait CONFIGURATION_TRAIT = createConfigurationTrait();
-
-    public static final ClientBuilderTrait AZURE_KEY_CREDENTIAL_TRAIT = createAzureKeyCredentialTrait();
-
-    public static final ClientBuilderTrait KEY_CREDENTIAL_TRAIT = createKeyCredentialTrait();
-
-    public static final ClientBuilderTrait TOKEN_CREDENTIAL_TRAIT = createTokenCredentialTrait();
-
-    public static final ClientBuilderTrait PROXY_TRAIT = createProxyTrait();
-
-    private static ClientBuilderTrait endpointTrait;
+    // The traits depend on the flavor of the generation, they are created once per generation.
+    private static final String HTTP_TRAIT_KEY = ClientBuilderTrait.class.getName() + ".httpTrait";
+    private static final String CONFIGURATION_TRAIT_KEY = ClientBuilderTrait.class.getName() + ".configurationTrait";
+    private static final String AZURE_KEY_CREDENTIAL_TRAIT_KEY
+        = ClientBuilderTrait.class.getName() + ".azureKeyCredentialTrait";
+    private static final String KEY_CREDENTIAL_TRAIT_KEY = ClientBuilderTrait.class.getName() + ".keyCredentialTrait";
+    private static final String TOKEN_CREDENTIAL_TRAIT_KEY
+        = ClientBuilderTrait.class.getName() + ".tokenCredentialTrait";
+    private static final String PROXY_TRAIT_KEY = ClientBuilderTrait.class.getName() + ".proxyTrait";
+    private static final String ENDPOINT_TRAIT_KEY = ClientBuilderTrait.class.getName() + ".endpointTrait";
 
     private String traitInterfaceName;
     private List<String> importPackages;
@@ -92,6 +90,64 @@ public class ClientBuilderTrait {
         this.clientBuilderTraitMethods = clientBuilderTraitMethods;
     }
 
+    /**
+     * Gets the HttpTrait of the current generation.
+     *
+     * @return the HttpTrait.
+     */
+    public static ClientBuilderTrait getHttpTrait() {
+        return GenerationContext.current().getOrCreate(HTTP_TRAIT_KEY, ClientBuilderTrait::createHttpTrait);
+    }
+
+    /**
+     * Gets the ConfigurationTrait of the current generation.
+     *
+     * @return the ConfigurationTrait.
+     */
+    public static ClientBuilderTrait getConfigurationTrait() {
+        return GenerationContext.current()
+            .getOrCreate(CONFIGURATION_TRAIT_KEY, ClientBuilderTrait::createConfigurationTrait);
+    }
+
+    /**
+     * Gets the AzureKeyCredentialTrait of the current generation.
+     *
+     * @return the AzureKeyCredentialTrait.
+     */
+    public static ClientBuilderTrait getAzureKeyCredentialTrait() {
+        return GenerationContext.current()
+            .getOrCreate(AZURE_KEY_CREDENTIAL_TRAIT_KEY, ClientBuilderTrait::createAzureKeyCredentialTrait);
+    }
+
+    /**
+     * Gets the KeyCredentialTrait of the current generation.
+     *
+     * @return the KeyCredentialTrait.
+     */
+    public static ClientBuilderTrait getKeyCredentialTrait() {
+        return GenerationContext.current()
+            .getOrCreate(KEY_CREDENTIAL_TRAIT_KEY, ClientBuilderTrait::createKeyCredentialTrait);
+    }
+
+    /**
+     * Gets the TokenCredentialTrait of the current generation.
+     *
+     * @return the TokenCredentialTrait.
+     */
+    public static ClientBuilderTrait getTokenCredentialTrait() {
+        return GenerationContext.current()
+            .getOrCreate(TOKEN_CREDENTIAL_TRAIT_KEY, ClientBuilderTrait::createTokenCredentialTrait);
+    }
+
+    /**
+     * Gets the ProxyTrait of the current generation.
+     *
+     * @return the ProxyTrait.
+     */
+    public static ClientBuilderTrait getProxyTrait() {
+        return GenerationContext.current().getOrCreate(PROXY_TRAIT_KEY, ClientBuilderTrait::createProxyTrait);
+    }
+
     private static ClientBuilderTrait createHttpTrait() {
         boolean isAzureV1 = JavaSettings.getInstance().isAzureV1();
 
@@ -286,7 +342,7 @@ public class ClientBuilderTrait {
     }
 
     public static ClientBuilderTrait getEndpointTrait(ServiceClientProperty property) {
-        ClientBuilderTrait endpointTrait = ClientBuilderTrait.endpointTrait;
+        ClientBuilderTrait endpointTrait = GenerationContext.current().get(ENDPOINT_TRAIT_KEY);
         if (endpointTrait == null) {
             endpointTrait = new ClientBuilderTrait();
             endpointTrait.setTraitInterfaceName(ClassType.ENDPOINT_TRAIT.getName());
@@ -316,7 +372,7 @@ public class ClientBuilderTrait {
                 = createTraitMethod(propertyName, propertyName, ClassType.STRING, endpointProperty, endpointMethodImpl);
 
             endpointClientBuilderTraitMethods.add(endpointMethod);
-            ClientBuilderTrait.endpointTrait = endpointTrait;
+            GenerationContext.current().set(ENDPOINT_TRAIT_KEY, endpointTrait);
         }
         return endpointTrait;
     }
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -13,19 +14,19 @@ import java.util.Map;
  * The collection of all client models stored for inheritance lookup.
  */
 public class ClientModels {
-    private static final ClientModels INSTANCE = new ClientModels();
     private final Map<String, ClientModel> nameMap = new LinkedHashMap<>();
+    private volatile ModelHierarchy hierarchy;
 
-//    private final Map<String, ArrayList<ClientModel>> derivedTypesMap = new HashMap<String, ArrayList<ClientModel>>();
     private ClientModels() {
     }
 
     public final void clear() {
         nameMap.clear();
+        hierarchy = null;
     }
 
     public static ClientModels getInstance() {
-        return INSTANCE;
+        return GenerationContext.current().getOrCreate(ClientModels.class, ClientModels::new);
     }
 
     /**
@@ -42,26 +43,33 @@ public class ClientModels {
 
     public final void addModel(ClientModel model) {
         nameMap.put(model.getName(), model);
-
-//        String parentModel = model.getParentModelName();
-//        if (parentModel != null) {
-//            ArrayList<ClientModel> derivedTypesList = getDerivedTypeList(parentModel);
-//            derivedTypesList.add(model);
-//        }
+        // the hierarchy is built again, after the model is mapped
+        hierarchy = null;
     }
 
-//    public final List<ClientModel> getDerivedTypes(String parentModelName) {
-//        return getDerivedTypeList(parentModelName);
-//    }
-
     public final List<ClientModel> getModels() {
         return new ArrayList<>(nameMap.values());
     }
 
-//    private ArrayList<ClientModel> getDerivedTypeList(String parentModelName) {
-//        if (!derivedTypesMap.containsKey(parentModelName)) {
-//            derivedTypesMap.put(parentModelName, new ArrayList<ClientModel>());
-//        }
-//        return derivedTypesMap.get(parentModelName);
-//    }
+    /**
+     * Builds the inheritance hierarchy of the client models. It is called after the code model is mapped.
+     * <p>
+     * The hierarchy is discarded when a client model is added.
+     *
+     * @return the hierarchy of the client models.
+     */
+    public final ModelHierarchy buildHierarchy() {
+        ModelHierarchy hierarchy = ModelHierarchy.build(nameMap.values(), ClientModelUtil::getClientModel);
+        this.hierarchy = hierarchy;
+        return hierarchy;
+    }
+
+    /**
+     * Gets the inheritance hierarchy of the client models.
+     *
+     * @return the hierarchy of the client models, or null if it is not built since the last client model is added.
+     */
+    public final ModelHierarchy getHierarchy() {
+        return hierarchy;
+    }
 }
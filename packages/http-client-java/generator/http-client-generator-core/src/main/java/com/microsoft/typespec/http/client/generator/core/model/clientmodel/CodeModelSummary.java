@@ -0,0 +1,169 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ApiVersion;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The data of the code model that is used after the code model is mapped to the client model.
+ * <p>
+ * It is captured once the code model is mapped, so that the code model can be released before the templates and the
+ * post-processing run.
+ */
+public final class CodeModelSummary {
+    private final List<String> apiVersions;
+    private final String clientInterfaceName;
+    private final List<ServiceVersion> serviceVersions;
+    private final boolean requireOperationLocationPollingStrategy;
+    private final Set<String> pollingStrategyPackageNames;
+    private final String licenseName;
+    private final String licenseUrl;
+    private final Map<String, String> apiVersionMap;
+    private final String crossLanguagePackageId;
+    private final String crossLanguageVersion;
+
+    private CodeModelSummary(CodeModel codeModel) {
+        this.apiVersions = ClientModelUtil.getApiVersions(codeModel);
+        this.clientInterfaceName = codeModel.getLanguage().getJava() == null
+            ? null
+            : ClientModelUtil.getClientInterfaceName(codeModel);
+
+        List<ServiceVersion> serviceVersions = new ArrayList<>();
+        if (codeModel.getClients() != null) {
+            for (com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client client : codeModel
+                .getClients()) {
+                if (client.getServiceVersion() != null) {
+                    serviceVersions.add(new ServiceVersion(SchemaUtil.getJavaName(client.getServiceVersion()),
+                        client.getServiceVersion().getLanguage().getDefault().getDescription(),
+                        client.getApiVersions().stream().map(ApiVersion::getVersion).collect(Collectors.toList())));
+                }
+            }
+        }
+        this.serviceVersions = Collections.unmodifiableList(serviceVersions);
+
+        this.requireOperationLocationPollingStrategy
+            = ClientModelUtil.requireOperationLocationPollingStrategy(codeModel);
+        this.pollingStrategyPackageNames = ClientModelUtil.getPollingStrategyPackageNames(codeModel);
+        if (codeModel.getInfo() != null && codeModel.getInfo().getLicense() != null) {
+            this.licenseName = codeModel.getInfo().getLicense().getName();
+            this.licenseUrl = codeModel.getInfo().getLicense().getUrl();
+        } else {
+            this.licenseName = null;
+            this.licenseUrl = null;
+        }
+        this.apiVersionMap = codeModel.getApiVersionMap();
+        this.crossLanguagePackageId = codeModel.getCrossLanguagePackageId();
+        this.crossLanguageVersion = codeModel.getCrossLanguageVersion();
+    }
+
+    /**
+     * Captures the summary of the code model. It must be called after the code model is transformed, in the
+     * generation of the code model.
+     *
+     * @param codeModel the code model.
+     * @return the summary of the code model.
+     */
+    public static CodeModelSummary of(CodeModel codeModel) {
+        return new CodeModelSummary(codeModel);
+    }
+
+    /**
+     * Gets the API versions of the service, from the clients or the operations.
+     *
+     * @return the API versions.
+     */
+    public List<String> getApiVersions() {
+        return apiVersions;
+    }
+
+    /**
+     * Gets the name of the client interface, of the code model that has a single client.
+     *
+     * @return the name of the client interface.
+     */
+    public String getClientInterfaceName() {
+        return clientInterfaceName;
+    }
+
+    /**
+     * Gets the service versions of the clients that have one, of the code model that has multiple clients.
+     *
+     * @return the service versions.
+     */
+    public List<ServiceVersion> getServiceVersions() {
+        return serviceVersions;
+    }
+
+    /**
+     * Gets whether an operation uses the OperationLocationPollingStrategy.
+     *
+     * @return whether an operation uses the OperationLocationPollingStrategy.
+     */
+    public boolean isRequireOperationLocationPollingStrategy() {
+        return requireOperationLocationPollingStrategy;
+    }
+
+    /**
+     * Gets the packages of the custom polling strategies of the long-running operations.
+     *
+     * @return the packages of the custom polling strategies.
+     */
+    public Set<String> getPollingStrategyPackageNames() {
+        return pollingStrategyPackageNames;
+    }
+
+    /**
+     * Gets the name of the license.
+     *
+     * @return the name of the license, or null if the code model has no license.
+     */
+    public String getLicenseName() {
+        return licenseName;
+    }
+
+    /**
+     * Gets the URL of the license.
+     *
+     * @return the URL of the license, or null if the code model has no license.
+     */
+    public String getLicenseUrl() {
+        return licenseUrl;
+    }
+
+    /**
+     * Gets the API versions, by namespace.
+     *
+     * @return the API versions, by namespace.
+     */
+    public Map<String, String> getApiVersionMap() {
+        return apiVersionMap;
+    }
+
+    /**
+     * Gets the cross-language package ID.
+     *
+     * @return the cross-language package ID.
+     */
+    public String getCrossLanguagePackageId() {
+        return crossLanguagePackageId;
+    }
+
+    /**
+     * Gets the cross-language version.
+     *
+     * @return the cross-language version.
+     */
+    public String getCrossLanguageVersion() {
+        return crossLanguageVersion;
+    }
+}
@@ -37,6 +37,7 @@ public class EnumType implements IType, ConvertToJsonTypeTrait, ConvertFromJsonT
     private final ApiMetadata apiMetadata;
     private final String fromMethodName;
     private final String toMethodName;
+    private final String fullName;
 
     /**
      * Create a new Enum with the provided properties.
@@ -61,6 +62,7 @@ public class EnumType implements IType, ConvertToJsonTypeTrait, ConvertFromJsonT
         this.apiMetadata = apiMetadata;
         this.fromMethodName = fromMethodName;
         this.toMethodName = toMethodName;
+        this.fullName = packageKeyword + "." + name;
     }
 
     public ApiMetadata getApiMetadata() {
@@ -92,7 +94,7 @@ public class EnumType implements IType, ConvertToJsonTypeTrait, ConvertFromJsonT
     }
 
     public final void addImportsTo(Set<String> imports, boolean includeImplementationImports) {
-        imports.add(getPackage() + "." + getName());
+        imports.add(fullName);
 
         // EnumTypes may result in Collectors being used, if Collectors isn't used the unused import will be removed.
         imports.add("java.util.stream.Collectors");
@@ -3,15 +3,25 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * A generic type that is used by the client.
  */
 public class GenericType implements IType {
-    public static final GenericType FLUX_BYTE_BUFFER = flux(ClassType.BYTE_BUFFER);
+    // not interned, as the constant is compared by reference
+    public static final GenericType FLUX_BYTE_BUFFER
+        = new GenericType(ClassType.FLUX.getPackage(), ClassType.FLUX.getName(), ClassType.BYTE_BUFFER);
+
+    private static final Object INTERNED_TYPES_KEY = GenericType.class.getName() + ".internedTypes";
+
     /**
      * The main non-generic type of this generic type.
      */
@@ -27,6 +37,11 @@ public class GenericType implements IType {
 
     private final String jsonToken;
 
+    // the string and the imports are computed on first use, the type is immutable
+    private volatile String string;
+    private volatile Set<String> imports;
+    private volatile Set<String> importsWithImplementation;
+
     /**
      * Create a new GenericType from the provided properties.
      * 
@@ -88,8 +103,15 @@ public class GenericType implements IType {
         return genericType(ClassType.POLL_RESULT, pollResultType);
     }
 
+    /*
+     * The generic types of the factory methods are interned in the generation, so that the same type of the same type
+     * arguments, e.g. Mono<Response<Void>> of many methods, is created and its imports are computed only once.
+     */
     private static GenericType genericType(ClassType wrapper, IType... types) {
-        return new GenericType(wrapper.getPackage(), wrapper.getName(), types);
+        Map<InternKey, GenericType> internedTypes
+            = GenerationContext.current().getOrCreate(INTERNED_TYPES_KEY, ConcurrentHashMap::new);
+        return internedTypes.computeIfAbsent(new InternKey(wrapper, types),
+            key -> new GenericType(wrapper.getPackage(), wrapper.getName(), types));
     }
 
     public final String getName() {
@@ -106,10 +128,14 @@ public class GenericType implements IType {
 
     @Override
     public String toString() {
-        return String.format("%1$s<%2$s>", getName(),
-            Arrays.stream(getTypeArguments())
+        String str = string;
+        if (str == null) {
+            str = getName() + "<" + Arrays.stream(getTypeArguments())
                 .map(typeArgument -> typeArgument.asNullable().toString())
-                .collect(Collectors.joining(", ")));
+                .collect(Collectors.joining(", ")) + ">";
+            string = str;
+        }
+        return str;
     }
 
     /**
@@ -159,10 +185,26 @@ public class GenericType implements IType {
     }
 
     public void addImportsTo(Set<String> imports, boolean includeImplementationImports) {
-        imports.add(String.format("%1$s.%2$s", getPackage(), getName()));
-        for (IType typeArgument : getTypeArguments()) {
-            typeArgument.addImportsTo(imports, includeImplementationImports);
+        imports.addAll(getImports(includeImplementationImports));
+    }
+
+    private Set<String> getImports(boolean includeImplementationImports) {
+        Set<String> typeImports = includeImplementationImports ? importsWithImplementation : imports;
+        if (typeImports == null) {
+            // the type arguments add their own cached imports
+            Set<String> computedImports = new LinkedHashSet<>();
+            computedImports.add(getPackage() + "." + getName());
+            for (IType typeArgument : getTypeArguments()) {
+                typeArgument.addImportsTo(computedImports, includeImplementationImports);
+            }
+            typeImports = Collections.unmodifiableSet(computedImports);
+            if (includeImplementationImports) {
+                importsWithImplementation = typeImports;
+            } else {
+                imports = typeImports;
+            }
         }
+        return typeImports;
     }
 
     public final String defaultValueExpression(String sourceExpression) {
@@ -291,4 +333,47 @@ public class GenericType implements IType {
     public String validate(String expression, int depth) {
         return validate(expression);
     }
+
+    /*
+     * The key of an interned generic type. The type arguments are compared by reference, as types of the same name may
+     * differ in other details, e.g. the JSON serialization of a ClassType.
+     */
+    private static final class InternKey {
+        private final ClassType wrapper;
+        private final IType[] typeArguments;
+        private final int hashCode;
+
+        private InternKey(ClassType wrapper, IType[] typeArguments) {
+            this.wrapper = wrapper;
+            this.typeArguments = typeArguments;
+
+            int hash = System.identityHashCode(wrapper);
+            for (IType typeArgument : typeArguments) {
+                hash = 31 * hash + System.identityHashCode(typeArgument);
+            }
+            this.hashCode = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof InternKey)) {
+                return false;
+            }
+            InternKey other = (InternKey) obj;
+            if (wrapper != other.wrapper || typeArguments.length != other.typeArguments.length) {
+                return false;
+            }
+            for (int i = 0; i < typeArguments.length; i++) {
+                if (typeArguments[i] != other.typeArguments[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -0,0 +1,207 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import io.clientcore.core.utils.CoreUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The inheritance hierarchy of the client models.
+ * <p>
+ * The parent chain, the derived models and the properties of the parent models are computed once per model, when the
+ * hierarchy is built after the code model is mapped. A model is in the hierarchy if it is in {@link ClientModels}, or
+ * is a parent of such a model.
+ */
+public final class ModelHierarchy {
+    private final Map<String, Node> nodes;
+
+    private ModelHierarchy(Map<String, Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Builds the hierarchy of the client models.
+     *
+     * @param models the client models.
+     * @param getClientModel the function of getting ClientModel by name, for the parent models.
+     * @return the hierarchy of the client models.
+     */
+    public static ModelHierarchy build(Collection<ClientModel> models, Function<String, ClientModel> getClientModel) {
+        // parent models are added before their derived models
+        Map<String, Node> nodes = new LinkedHashMap<>();
+        for (ClientModel model : models) {
+            addNode(model, getClientModel, nodes, new HashSet<>());
+        }
+
+        // derived models, in the order of the models
+        Map<String, List<ClientModel>> derivedModels = new HashMap<>();
+        for (Node node : nodes.values()) {
+            for (ClientModel parentModel : node.parentModels) {
+                derivedModels.computeIfAbsent(parentModel.getName(), k -> new ArrayList<>()).add(node.model);
+            }
+        }
+        for (Node node : nodes.values()) {
+            List<ClientModel> derived = derivedModels.get(node.model.getName());
+            node.derivedModels = derived == null ? Collections.emptyList() : Collections.unmodifiableList(derived);
+        }
+
+        return new ModelHierarchy(nodes);
+    }
+
+    private static Node addNode(ClientModel model, Function<String, ClientModel> getClientModel,
+        Map<String, Node> nodes, Set<String> visiting) {
+        Node node = nodes.get(model.getName());
+        if (node != null) {
+            return node;
+        }
+
+        Node parentNode = null;
+        String parentModelName = model.getParentModelName();
+        // a model that is its own parent, or a cycle of parents, ends the parent chain
+        if (!CoreUtils.isNullOrEmpty(parentModelName) && visiting.add(model.getName())) {
+            ClientModel parentModel = getClientModel.apply(parentModelName);
+            if (parentModel != null && !visiting.contains(parentModel.getName())) {
+                parentNode = addNode(parentModel, getClientModel, nodes, visiting);
+            }
+        }
+
+        node = new Node(model, parentNode);
+        nodes.put(model.getName(), node);
+        return node;
+    }
+
+    /**
+     * Checks whether the client model is in the hierarchy.
+     *
+     * @param model the client model.
+     * @return whether the client model is in the hierarchy.
+     */
+    public boolean contains(ClientModel model) {
+        Node node = nodes.get(model.getName());
+        return node != null && node.model == model;
+    }
+
+    /**
+     * Gets the parent models of the client model.
+     *
+     * @param model the client model in the hierarchy.
+     * @return the parent models, from the parent of the model to the root parent.
+     */
+    public List<ClientModel> getParentModels(ClientModel model) {
+        return getNode(model).parentModels;
+    }
+
+    /**
+     * Gets the root parent of the client model.
+     *
+     * @param model the client model in the hierarchy.
+     * @return the root parent of the client model, or the model itself if it doesn't have a parent model.
+     */
+    public ClientModel getRootParent(ClientModel model) {
+        List<ClientModel> parentModels = getNode(model).parentModels;
+        return parentModels.isEmpty() ? model : parentModels.get(parentModels.size() - 1);
+    }
+
+    /**
+     * Gets the models that derive from the client model, directly or through other derived models.
+     *
+     * @param model the client model in the hierarchy.
+     * @return the derived models.
+     */
+    public List<ClientModel> getAllDerivedModels(ClientModel model) {
+        return getNode(model).derivedModels;
+    }
+
+    /**
+     * Gets the properties defined by the parent models of the client model.
+     *
+     * @param model the client model in the hierarchy.
+     * @return the properties of the parent models, properties of the root parent first.
+     */
+    public List<ClientModelProperty> getParentProperties(ClientModel model) {
+        return getNode(model).parentProperties;
+    }
+
+    /**
+     * Gets the required properties, which are neither constant nor read-only, of the parent models of the client
+     * model.
+     *
+     * @param model the client model in the hierarchy.
+     * @return the required writable properties of the parent models, properties of the root parent first.
+     */
+    public List<ClientModelProperty> getRequiredWritableParentProperties(ClientModel model) {
+        return getNode(model).requiredWritableParentProperties;
+    }
+
+    /**
+     * Checks whether a parent model of the client model defines a property of the serialized name.
+     *
+     * @param model the client model in the hierarchy.
+     * @param serializedName the serialized name of the property.
+     * @return whether a parent model defines a property of the serialized name.
+     */
+    public boolean isDefinedByParentModels(ClientModel model, String serializedName) {
+        return getNode(model).parentPropertySerializedNames.contains(serializedName);
+    }
+
+    private Node getNode(ClientModel model) {
+        Node node = nodes.get(model.getName());
+        if (node == null || node.model != model) {
+            throw new IllegalArgumentException("Model " + model.getName() + " is not in the hierarchy.");
+        }
+        return node;
+    }
+
+    private static final class Node {
+        private final ClientModel model;
+        private final List<ClientModel> parentModels;
+        private final List<ClientModelProperty> parentProperties;
+        private final List<ClientModelProperty> requiredWritableParentProperties;
+        private final Set<String> parentPropertySerializedNames;
+        private List<ClientModel> derivedModels;
+
+        private Node(ClientModel model, Node parentNode) {
+            this.model = model;
+            if (parentNode == null) {
+                this.parentModels = Collections.emptyList();
+                this.parentProperties = Collections.emptyList();
+                this.requiredWritableParentProperties = Collections.emptyList();
+                this.parentPropertySerializedNames = Collections.emptySet();
+                return;
+            }
+
+            // the lists of the parent model are extended with the properties of the parent model
+            List<ClientModel> parentModels = new ArrayList<>(parentNode.parentModels.size() + 1);
+            parentModels.add(parentNode.model);
+            parentModels.addAll(parentNode.parentModels);
+            this.parentModels = Collections.unmodifiableList(parentModels);
+
+            List<ClientModelProperty> parentProperties = new ArrayList<>(parentNode.parentProperties);
+            List<ClientModelProperty> requiredWritableParentProperties
+                = new ArrayList<>(parentNode.requiredWritableParentProperties);
+            Set<String> parentPropertySerializedNames = new HashSet<>(parentNode.parentPropertySerializedNames);
+            if (parentNode.model.getProperties() != null) {
+                for (ClientModelProperty property : parentNode.model.getProperties()) {
+                    parentProperties.add(property);
+                    if (property.isRequired() && !property.isConstant() && !property.isReadOnly()) {
+                        requiredWritableParentProperties.add(property);
+                    }
+                    parentPropertySerializedNames.add(property.getSerializedName());
+                }
+            }
+            this.parentProperties = Collections.unmodifiableList(parentProperties);
+            this.requiredWritableParentProperties = Collections.unmodifiableList(requiredWritableParentProperties);
+            this.parentPropertySerializedNames = Collections.unmodifiableSet(parentPropertySerializedNames);
+        }
+    }
+}
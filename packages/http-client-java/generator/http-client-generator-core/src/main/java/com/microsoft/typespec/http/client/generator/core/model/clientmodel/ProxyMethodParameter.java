@@ -65,11 +65,11 @@ public class ProxyMethodParameter extends MethodParameter {
             .origin(ParameterSynthesizedOrigin.CONTEXT)
             .build();
 
-    public static final ProxyMethodParameter REPEATABILITY_REQUEST_ID_PARAMETER
-        = new ProxyMethodParameter.Builder().name(MethodUtil.REPEATABILITY_REQUEST_ID_VARIABLE_NAME)
-            .parameterReference(MethodUtil.REPEATABILITY_REQUEST_ID_EXPRESSION)
-            .requestParameterName(MethodUtil.REPEATABILITY_REQUEST_ID_HEADER)
-            .description("Repeatability request ID header")
+    public static final ProxyMethodParameter REPEATABILITY_FIRST_SENT_PARAMETER
+        = new ProxyMethodParameter.Builder().name(MethodUtil.REPEATABILITY_FIRST_SENT_VARIABLE_NAME)
+            .parameterReference(MethodUtil.REPEATABILITY_FIRST_SENT_EXPRESSION)
+            .requestParameterName(MethodUtil.REPEATABILITY_FIRST_SENT_HEADER)
+            .description("Repeatability first sent header as HTTP-date")
             .rawType(ClassType.STRING)
             .wireType(ClassType.STRING)
             .clientType(ClassType.STRING)
@@ -79,11 +79,17 @@ public class ProxyMethodParameter extends MethodParameter {
             .fromClient(false)
             .build();
 
-    public static final ProxyMethodParameter REPEATABILITY_FIRST_SENT_PARAMETER
-        = new ProxyMethodParameter.Builder().name(MethodUtil.REPEATABILITY_FIRST_SENT_VARIABLE_NAME)
-            .parameterReference(MethodUtil.REPEATABILITY_FIRST_SENT_EXPRESSION)
-            .requestParameterName(MethodUtil.REPEATABILITY_FIRST_SENT_HEADER)
-            .description("Repeatability first sent header as HTTP-date")
+    /**
+     * Creates the parameter of the repeatability request ID header. The value of the header depends on the flavor of
+     * the generation.
+     *
+     * @return the parameter of the repeatability request ID header.
+     */
+    public static ProxyMethodParameter createRepeatabilityRequestIdParameter() {
+        return new ProxyMethodParameter.Builder().name(MethodUtil.REPEATABILITY_REQUEST_ID_VARIABLE_NAME)
+            .parameterReference(MethodUtil.getRepeatabilityRequestIdExpression())
+            .requestParameterName(MethodUtil.REPEATABILITY_REQUEST_ID_HEADER)
+            .description("Repeatability request ID header")
             .rawType(ClassType.STRING)
             .wireType(ClassType.STRING)
             .clientType(ClassType.STRING)
@@ -92,6 +98,7 @@ public class ProxyMethodParameter extends MethodParameter {
             .nullable(true)
             .fromClient(false)
             .build();
+    }
 
     /**
      * Get the name of this parameter when it is serialized.
@@ -3,13 +3,13 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class UnionModels {
 
-    private static final UnionModels INSTANCE = new UnionModels();
     private final Map<String, List<UnionModel>> nameMap = new LinkedHashMap<>();
 
     private UnionModels() {
@@ -20,7 +20,7 @@ public class UnionModels {
     }
 
     public static UnionModels getInstance() {
-        return INSTANCE;
+        return GenerationContext.current().getOrCreate(UnionModels.class, UnionModels::new);
     }
 
     /**
@@ -16,8 +16,19 @@ public class JavaFile implements JavaContext {
     private final JavaFileContents contents;
 
     public JavaFile(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a Java file.
+     *
+     * @param filePath The path of the file.
+     * @param exactImports Whether the import block only contains the declared imports referenced in the file, in
+     * sorted order.
+     */
+    public JavaFile(String filePath, boolean exactImports) {
         this.filePath = filePath;
-        this.contents = new JavaFileContents();
+        this.contents = new JavaFileContents(exactImports);
     }
 
     public final String getFilePath() {
@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.model.javamodel;
 
 import io.clientcore.core.utils.CoreUtils;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -21,10 +22,29 @@ public class JavaFileContents {
 
     private CurrentLineType currentLineType = CurrentLineType.Empty;
 
+    /*
+     * In exact import mode the declared imports are collected instead of emitted, and the import block is resolved
+     * against the rest of the file when the contents are converted to a string.
+     */
+    private final Set<String> exactImports;
+    private int importBlockIndex = -1;
+    private String packageName;
+
     public JavaFileContents() {
+        this(false);
+    }
+
+    /**
+     * Creates the contents of a Java file.
+     *
+     * @param exactImports Whether the import block only contains the declared imports referenced in the file, in
+     * sorted order.
+     */
+    public JavaFileContents(boolean exactImports) {
         this.currentLine = "";
         this.linePrefix = "";
         this.contents = new ArrayList<>();
+        this.exactImports = exactImports ? new HashSet<>() : null;
     }
 
     private static String toString(List<JavaModifier> modifiers) {
@@ -33,7 +53,18 @@ public class JavaFileContents {
 
     @Override
     public String toString() {
-        return String.join("\n", contents) + currentLine;
+        if (importBlockIndex < 0) {
+            return String.join("\n", contents) + currentLine;
+        }
+
+        String body = String.join("\n", contents.subList(importBlockIndex, contents.size())) + currentLine;
+        List<String> importStatements = JavaImportResolver.resolve(exactImports, packageName, body);
+
+        List<String> lines = new ArrayList<>(importBlockIndex + importStatements.size() + 1);
+        lines.addAll(contents.subList(0, importBlockIndex));
+        lines.addAll(importStatements);
+        lines.add(body);
+        return String.join("\n", lines);
     }
 
     public boolean contains(String str) {
@@ -143,6 +174,7 @@ public class JavaFileContents {
     }
 
     public void declarePackage(String pkg) {
+        this.packageName = pkg;
         line("package " + pkg + ";");
     }
 
@@ -157,7 +189,18 @@ public class JavaFileContents {
     }
 
     public void declareImport(List<String> imports) {
-        if (imports != null && !imports.isEmpty()) {
+        if (imports != null && !imports.isEmpty() && exactImports != null) {
+            for (String toImport : imports) {
+                if (toImport != null && !toImport.isEmpty()) {
+                    exactImports.add(toImport);
+                }
+            }
+            if (importBlockIndex < 0) {
+                // Imports are inserted here when the contents are converted to a string.
+                importBlockIndex = contents.size();
+                line();
+            }
+        } else if (imports != null && !imports.isEmpty()) {
             Set<String> importSet = new TreeSet<>(new JavaImportComparer());
             importSet.addAll(imports);
             for (String toImport : importSet) {
@@ -0,0 +1,141 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import com.microsoft.typespec.http.client.generator.core.util.JavadocUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Resolves the exact import block of a Java file from the imports declared by a template and the emitted body of the
+ * file.
+ * <p>
+ * An import is kept if its simple name is referenced in the body, either as an identifier that isn't qualified by a
+ * preceding {@code .}, or as a reference in a Javadoc tag. Imports from {@code java.lang} and the file's own package
+ * are dropped, wildcard imports are always kept. The kept imports are sorted static imports first, then by name, the
+ * same ordering the post-processor applies.
+ */
+final class JavaImportResolver {
+    private static final Comparator<String> IMPORT_ORDER
+        = Comparator.comparingInt((String importKeyword) -> isStatic(importKeyword) ? 0 : 1)
+            .thenComparing(JavaImportResolver::importName);
+
+    private JavaImportResolver() {
+    }
+
+    /**
+     * Resolves the import statements for the file.
+     *
+     * @param imports The imports declared by the template, without the {@code import} keyword.
+     * @param packageName The package of the file, or null if the file has no package.
+     * @param body The emitted body of the file, following the import block.
+     * @return The sorted import statements referenced by the body.
+     */
+    static List<String> resolve(Collection<String> imports, String packageName, String body) {
+        Set<String> referencedNames = collectReferencedNames(body);
+
+        Set<String> keptImports = new TreeSet<>(IMPORT_ORDER);
+        for (String importKeyword : imports) {
+            String name = importName(importKeyword);
+            int lastPeriod = name.lastIndexOf('.');
+            String qualifier = lastPeriod == -1 ? "" : name.substring(0, lastPeriod);
+            boolean wildcard = importKeyword.endsWith(".*");
+            if (wildcard) {
+                qualifier = name;
+            }
+
+            if ("java.lang".equals(qualifier) || qualifier.equals(packageName)) {
+                continue;
+            }
+
+            if (wildcard || referencedNames.contains(name.substring(lastPeriod + 1))) {
+                keptImports.add(importKeyword);
+            }
+        }
+
+        List<String> importStatements = new ArrayList<>(keptImports.size());
+        for (String importKeyword : keptImports) {
+            importStatements.add("import " + importKeyword + ";");
+        }
+        return importStatements;
+    }
+
+    private static boolean isStatic(String importKeyword) {
+        return importKeyword.startsWith("static ");
+    }
+
+    private static String importName(String importKeyword) {
+        String name = isStatic(importKeyword) ? importKeyword.substring("static ".length()).trim() : importKeyword;
+        return name.endsWith(".*") ? name.substring(0, name.length() - 2) : name;
+    }
+
+    /*
+     * Collects the simple names referenced in the body. String and character literals and non-Javadoc comments are
+     * skipped, Javadoc comments only contribute the references in their tags.
+     */
+    private static Set<String> collectReferencedNames(String body) {
+        Set<String> names = new HashSet<>();
+        int length = body.length();
+        int i = 0;
+        char previousSignificant = 0;
+        while (i < length) {
+            char c = body.charAt(i);
+            if (c == '/' && i + 1 < length && body.charAt(i + 1) == '/') {
+                i = indexOf(body, "\n", i + 2);
+            } else if (c == '/' && i + 1 < length && body.charAt(i + 1) == '*') {
+                int end = indexOf(body, "*/", i + 2);
+                if (i + 2 < length && body.charAt(i + 2) == '*') {
+                    JavadocUtil.addReferencedNames(names, body.substring(i + 3, Math.max(i + 3, end)));
+                }
+                i = Math.min(length, end + 2);
+            } else if (c == '"' && i + 2 < length && body.charAt(i + 1) == '"' && body.charAt(i + 2) == '"') {
+                i = Math.min(length, indexOf(body, "\"\"\"", i + 3) + 3);
+                previousSignificant = '"';
+            } else if (c == '"' || c == '\'') {
+                i = skipLiteral(body, i, c);
+                previousSignificant = c;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < length && Character.isJavaIdentifierPart(body.charAt(i))) {
+                    i++;
+                }
+                if (previousSignificant != '.') {
+                    names.add(body.substring(start, i));
+                }
+                previousSignificant = 'a';
+            } else {
+                if (!Character.isWhitespace(c)) {
+                    previousSignificant = c;
+                }
+                i++;
+            }
+        }
+        return names;
+    }
+
+    private static int indexOf(String body, String str, int fromIndex) {
+        int index = body.indexOf(str, fromIndex);
+        return index == -1 ? body.length() : index;
+    }
+
+    private static int skipLiteral(String body, int start, char quote) {
+        int i = start + 1;
+        while (i < body.length()) {
+            char c = body.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote || c == '\n') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return body.length();
+    }
+}
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.javamodel;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
@@ -41,6 +42,8 @@ import com.microsoft.typespec.http.client.generator.core.template.TestProxyAsset
 import com.microsoft.typespec.http.client.generator.core.util.ClassNameUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ConstantStringTooLongException;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
+import com.microsoft.typespec.http.client.generator.core.util.ParallelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.PossibleCredentialException;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -52,6 +55,8 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.slf4j.Logger;
 
 public class JavaPackage {
@@ -66,12 +71,22 @@ public class JavaPackage {
 
     private final Set<String> filePaths = new LinkedHashSet<>();
 
+    /*
+     * When templates are rendered in parallel, the file is added to javaFiles and checked for duplicates at the time
+     * of the add call, so the order and the duplicate detection are the same as rendering sequentially. Only the
+     * template rendering runs on the executor, and it completes before the files are returned.
+     */
+    private final int templateWorkers;
+    private ExecutorService renderExecutor;
+    private final List<Future<?>> pendingRenders = new ArrayList<>();
+
     public JavaPackage(NewPlugin host) {
         this.settings = JavaSettings.getInstance();
         this.javaFiles = new ArrayList<>();
         this.xmlFiles = new ArrayList<>();
         this.javaFileFactory = new JavaFileFactory(settings);
         this.logger = new PluginLogger(host, JavaPackage.class);
+        this.templateWorkers = settings.getTemplateWorkers();
     }
 
     protected JavaFileFactory getJavaFileFactory() {
@@ -79,6 +94,7 @@ public class JavaPackage {
     }
 
     public List<JavaFile> getJavaFiles() {
+        awaitPendingRenders();
         return javaFiles;
     }
 
@@ -92,14 +108,12 @@ public class JavaPackage {
 
     public final void addServiceClient(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceClientTemplate().write(model, javaFile));
     }
 
     public final void addAsyncServiceClient(String packageKeyWord, AsyncSyncClient asyncClient) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyWord, asyncClient.getClassName());
-        Templates.getServiceAsyncClientTemplate().write(asyncClient, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceAsyncClientTemplate().write(asyncClient, javaFile));
     }
 
     public final void addSyncServiceClient(String packageKeyWord, AsyncSyncClient syncClient) {
@@ -112,104 +126,89 @@ public class JavaPackage {
         ServiceSyncClientTemplate template = syncClientWrapAsync
             ? Templates.getServiceSyncClientWrapAsyncClientTemplate()
             : Templates.getServiceSyncClientTemplate();
-        template.write(syncClient, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> template.write(syncClient, javaFile));
     }
 
     public final void addServiceClientInterface(String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceClientInterfaceTemplate().write(model, javaFile));
     }
 
     public final void addServiceClientInterface(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceClientInterfaceTemplate().write(model, javaFile));
     }
 
     public final void addServiceClientBuilder(ClientBuilder model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackageName(), model.getClassName());
-        Templates.getServiceClientBuilderTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceClientBuilderTemplate().write(model, javaFile));
     }
 
     public final void addServiceVersion(String packageKeyword, ServiceVersion serviceVersion) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, serviceVersion.getClassName());
-        Templates.getServiceVersionTemplate().write(serviceVersion, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceVersionTemplate().write(serviceVersion, javaFile));
     }
 
     public final void addMethodGroup(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getMethodGroupTemplate().write(model, javaFile));
     }
 
     public final void addMethodGroupInterface(String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getMethodGroupInterfaceTemplate().write(model, javaFile));
     }
 
     public final void addMethodGroupInterface(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getMethodGroupInterfaceTemplate().write(model, javaFile));
     }
 
     public final void addModel(String packageKeyword, String name, ClientModel model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
 
-        if (settings.isStreamStyleSerialization()) {
-            Templates.getStreamStyleModelTemplate().write(model, javaFile);
-        } else {
-            Templates.getModelTemplate().write(model, javaFile);
-        }
-
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> {
+            if (settings.isStreamStyleSerialization()) {
+                Templates.getStreamStyleModelTemplate().write(model, javaFile);
+            } else {
+                Templates.getModelTemplate().write(model, javaFile);
+            }
+        });
     }
 
     public final void addException(String packageKeyword, String name, ClientException model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getExceptionTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getExceptionTemplate().write(model, javaFile));
     }
 
     public final void addEnum(String packageKeyword, String name, EnumType model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getEnumTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getEnumTemplate().write(model, javaFile));
     }
 
     public final void addClientResponse(String packageKeyword, String name, ClientResponse model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getResponseTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getResponseTemplate().write(model, javaFile));
     }
 
     public final void addXmlSequenceWrapper(String packageKeyword, String name, XmlSequenceWrapper model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getXmlSequenceWrapperTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getXmlSequenceWrapperTemplate().write(model, javaFile));
     }
 
     public final void addUnionModel(UnionModel model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackage(), model.getName());
-        Templates.getUnionModelTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getUnionModelTemplate().write(model, javaFile));
     }
 
     public final void addPackageInfo(String packageKeyword, String name, PackageInfo model) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile(packageKeyword, name);
-        Templates.getPackageInfoTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getPackageInfoTemplate().write(model, javaFile));
     }
 
     public final void addModuleInfo(ModuleInfo moduleInfo) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile("", "module-info");
-        Templates.getModuleInfoTemplate().write(moduleInfo, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getModuleInfoTemplate().write(moduleInfo, javaFile));
     }
 
     public final void addPom(String name, Pom pom) {
@@ -243,51 +242,94 @@ public class JavaPackage {
         javaFiles.add(javaFile);
     }
 
+    /**
+     * Renders the template into the Java file, and adds the file.
+     * <p>
+     * If template rendering is parallel, the file is added immediately and the template is rendered on a worker
+     * thread, in the {@link GenerationContext} of the caller. The rendering completes before {@link #getJavaFiles()}
+     * returns.
+     *
+     * @param javaFile the Java file.
+     * @param template the action that renders the template into the Java file.
+     */
+    protected void addJavaFile(JavaFile javaFile, Runnable template) {
+        Runnable render = () -> {
+            try (GenerationMetrics.Timer ignored = GenerationMetrics.start("render", javaFile.getFilePath())) {
+                template.run();
+            }
+        };
+        if (templateWorkers <= 1) {
+            render.run();
+            addJavaFile(javaFile);
+            return;
+        }
+
+        addJavaFile(javaFile);
+        if (renderExecutor == null) {
+            renderExecutor = ParallelUtil.newFixedThreadPool(templateWorkers, "template-renderer");
+        }
+        pendingRenders.add(renderExecutor.submit(GenerationContext.current().wrap(render)));
+    }
+
+    private void awaitPendingRenders() {
+        if (renderExecutor == null) {
+            return;
+        }
+
+        try {
+            // Failures are reported in the order the files were added, the same as rendering sequentially.
+            for (Future<?> pendingRender : pendingRenders) {
+                ParallelUtil.await(pendingRender, "rendering templates");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rendering templates.", e);
+        } finally {
+            pendingRenders.clear();
+            renderExecutor.shutdownNow();
+            renderExecutor = null;
+        }
+    }
+
     public void addProtocolExamples(ProtocolExample protocolExample) {
         JavaFile javaFile
             = javaFileFactory.createSampleFile(settings.getPackage("generated"), protocolExample.getFilename());
-        Templates.getProtocolSampleTemplate().write(protocolExample, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getProtocolSampleTemplate().write(protocolExample, javaFile));
     }
 
     public void addClientMethodExamples(ClientMethodExample clientMethodExample) {
         JavaFile javaFile
             = javaFileFactory.createSampleFile(settings.getPackage("generated"), clientMethodExample.getFilename());
-        Templates.getClientMethodSampleTemplate().write(clientMethodExample, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getClientMethodSampleTemplate().write(clientMethodExample, javaFile));
     }
 
     public void addProtocolExamplesBlank() {
         JavaFile javaFile = javaFileFactory.createSampleFile(settings.getPackage(), "ReadmeSamples");
-        new ProtocolSampleBlankTemplate().write(null, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> new ProtocolSampleBlankTemplate().write(null, javaFile));
     }
 
     public void addProtocolTestBase(TestContext testContext) {
         JavaFile javaFile
             = javaFileFactory.createTestFile(testContext.getPackageName(), testContext.getTestBaseClassName());
-        ProtocolTestBaseTemplate.getInstance().write(testContext, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> ProtocolTestBaseTemplate.getInstance().write(testContext, javaFile));
     }
 
     public void addProtocolTest(TestContext<ProtocolExample> testContext) {
         String className = testContext.getTestCase().getFilename() + "Tests";
         JavaFile javaFile = javaFileFactory.createTestFile(testContext.getPackageName(), className);
-        ProtocolTestTemplate.getInstance().write(testContext, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> ProtocolTestTemplate.getInstance().write(testContext, javaFile));
     }
 
     public void addClientMethodTest(TestContext<ClientMethodExample> testContext) {
         String className = testContext.getTestCase().getFilename() + "Tests";
         JavaFile javaFile = javaFileFactory.createTestFile(testContext.getPackageName(), className);
-        ClientMethodTestTemplate.getInstance().write(testContext, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> ClientMethodTestTemplate.getInstance().write(testContext, javaFile));
     }
 
     public void addModelUnitTest(ClientModel model) {
@@ -356,9 +398,8 @@ public class JavaPackage {
         JavaFile javaFile
             = javaFileFactory.createSourceFile(settings.getPackage(settings.getImplementationSubpackage()),
                 ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
-        Templates.getJsonMergePatchHelperTemplate().write(models, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getJsonMergePatchHelperTemplate().write(models, javaFile));
     }
 
     public void addTypeSpecMetadata(TypeSpecMetadata typeSpecMetadata, String suffix) {
@@ -128,6 +128,22 @@ public class PartialUpdateHandler {
         return generatedFileContent;
     }
 
+    /**
+     * Checks, without parsing the file, whether the existing file is a single class in which every member is
+     * annotated with {@code @Generated} or is a static initializer.
+     * <p>
+     * Partial update of such a file keeps no manually written member, so the newly generated file content can be used
+     * directly. The scan is conservative: if it returns false, the file has to go through
+     * {@link #handlePartialUpdateForFile(String, String)}.
+     *
+     * @param existingFileContent the existing file content
+     * @return whether every member of the class in the existing file is generated
+     */
+    public static boolean hasOnlyGeneratedMembers(String existingFileContent) {
+        MemberScanner scanner = new MemberScanner(existingFileContent);
+        return scanner.scan();
+    }
+
     /**
      * <p>Handle partial update for class or interface file steps:
      * <ul>
@@ -733,6 +749,219 @@ public class PartialUpdateHandler {
         return null;
     }
 
+    /*
+     * Scans the tokens of a Java file, skipping comments and literals, and splits the body of the top-level class into
+     * members at ';' or at the '}' closing the member's body.
+     */
+    private static final class MemberScanner {
+        private final String content;
+        private int position;
+
+        private int braceDepth;
+        private int parenthesisDepth;
+
+        // the state of the top-level type
+        private boolean classFound;
+        private boolean typeClosed;
+
+        // the state of the current member in the class body
+        private boolean memberStarted;
+        private boolean memberGenerated;
+        private boolean memberStatic;
+        private boolean memberHasOtherTokens;
+
+        private MemberScanner(String content) {
+            this.content = content;
+        }
+
+        private boolean scan() {
+            int length = content.length();
+            while (position < length) {
+                char c = content.charAt(position);
+                if (Character.isWhitespace(c)) {
+                    position++;
+                } else if (content.startsWith("//", position)) {
+                    int end = content.indexOf('\n', position);
+                    position = end < 0 ? length : end + 1;
+                } else if (content.startsWith("/*", position)) {
+                    int end = content.indexOf("*/", position + 2);
+                    if (end < 0) {
+                        return false;
+                    }
+                    position = end + 2;
+                } else if (c == '"' || c == '\'') {
+                    if (!skipLiteral(c)) {
+                        return false;
+                    }
+                    onToken(null);
+                } else if (Character.isJavaIdentifierStart(c)) {
+                    int start = position;
+                    while (position < length && Character.isJavaIdentifierPart(content.charAt(position))) {
+                        position++;
+                    }
+                    if (!onToken(content.substring(start, position))) {
+                        return false;
+                    }
+                } else if (c == '@' && braceDepth == 1 && parenthesisDepth == 0) {
+                    position++;
+                    onAnnotation(readQualifiedName());
+                } else {
+                    position++;
+                    if (!onSymbol(c)) {
+                        return false;
+                    }
+                }
+            }
+            return classFound && typeClosed && braceDepth == 0;
+        }
+
+        private boolean onToken(String identifier) {
+            if (braceDepth == 0) {
+                if (typeClosed) {
+                    // more than one top-level type
+                    return false;
+                }
+                if ("class".equals(identifier)) {
+                    classFound = true;
+                } else if ("interface".equals(identifier) || "enum".equals(identifier)
+                    || "record".equals(identifier) || "module".equals(identifier)) {
+                    return false;
+                }
+            } else if (braceDepth == 1) {
+                memberStarted = true;
+                if ("static".equals(identifier) && !memberHasOtherTokens) {
+                    memberStatic = true;
+                } else {
+                    memberHasOtherTokens = true;
+                }
+            }
+            return true;
+        }
+
+        private void onAnnotation(String name) {
+            memberStarted = true;
+            if ("Generated".equals(name)) {
+                memberGenerated = true;
+            } else if ("interface".equals(name)) {
+                memberHasOtherTokens = true;
+            }
+        }
+
+        private boolean onSymbol(char c) {
+            switch (c) {
+                case '(':
+                    parenthesisDepth++;
+                    break;
+
+                case ')':
+                    parenthesisDepth--;
+                    break;
+
+                case '{':
+                    if (braceDepth == 0) {
+                        if (!classFound || typeClosed) {
+                            return false;
+                        }
+                    } else if (braceDepth == 1 && parenthesisDepth == 0) {
+                        if (!memberStarted) {
+                            // instance initializer
+                            return false;
+                        }
+                        if (memberStatic && !memberHasOtherTokens) {
+                            // static initializer, which is treated as generated
+                            memberGenerated = true;
+                        }
+                    }
+                    braceDepth++;
+                    break;
+
+                case '}':
+                    braceDepth--;
+                    if (braceDepth == 0) {
+                        typeClosed = true;
+                    } else if (braceDepth == 1 && parenthesisDepth == 0) {
+                        return endMember();
+                    } else if (braceDepth < 0) {
+                        return false;
+                    }
+                    break;
+
+                case ';':
+                    if (braceDepth == 1 && parenthesisDepth == 0) {
+                        return endMember();
+                    }
+                    break;
+
+                default:
+                    if (braceDepth == 1) {
+                        memberStarted = true;
+                        memberHasOtherTokens = true;
+                    }
+                    break;
+            }
+            return true;
+        }
+
+        private boolean endMember() {
+            boolean generated = !memberStarted || memberGenerated;
+            memberStarted = false;
+            memberGenerated = false;
+            memberStatic = false;
+            memberHasOtherTokens = false;
+            return generated;
+        }
+
+        private String readQualifiedName() {
+            int start = position;
+            while (position < content.length()
+                && (Character.isJavaIdentifierPart(content.charAt(position)) || content.charAt(position) == '.')) {
+                position++;
+            }
+            return content.substring(start, position);
+        }
+
+        /*
+         * Skips a string, text block or character literal. Returns false if the literal isn't closed.
+         */
+        private boolean skipLiteral(char quote) {
+            if (quote == '"' && content.startsWith("\"\"\"", position)) {
+                int end = position + 3;
+                while (true) {
+                    end = content.indexOf("\"\"\"", end);
+                    if (end < 0) {
+                        return false;
+                    }
+                    if (!isEscaped(end)) {
+                        position = end + 3;
+                        return true;
+                    }
+                    end++;
+                }
+            }
+
+            for (int i = position + 1; i < content.length(); i++) {
+                char c = content.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    position = i + 1;
+                    return true;
+                } else if (c == '\n') {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private boolean isEscaped(int index) {
+            int backslashes = 0;
+            for (int i = index - 1; i >= 0 && content.charAt(i) == '\\'; i--) {
+                backslashes++;
+            }
+            return backslashes % 2 == 1;
+        }
+    }
+
     // A package-info.java file has no types and should only be comprised of comments, imports, and a package
     // declaration.
     private static boolean isPackageInfoFile(CompilationUnit cu) {
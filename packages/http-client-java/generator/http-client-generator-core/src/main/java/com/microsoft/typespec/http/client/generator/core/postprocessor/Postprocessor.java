@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.postprocessor;
 
+import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.customization.Customization;
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
@@ -11,6 +12,9 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlu
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateHandler;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CustomizationCompiler;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
+import com.microsoft.typespec.http.client.generator.core.util.ParallelUtil;
 import io.clientcore.core.serialization.json.JsonReader;
 import java.io.File;
 import java.io.IOException;
@@ -25,7 +29,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
+import org.slf4j.helpers.NOPLogger;
 
 public class Postprocessor {
     protected final NewPlugin plugin;
@@ -96,7 +102,7 @@ public class Postprocessor {
                 throw new RuntimeException("Invalid customization class " + className);
             }
 
-            try {
+            try (GenerationMetrics.Timer ignored = GenerationMetrics.start("postprocess.customization", className)) {
                 Customization customization = customizationClass.getConstructor().newInstance();
                 logger.info("Running customization, this may take a while...");
                 fileContents = customization.run(fileContents, logger);
@@ -106,7 +112,8 @@ public class Postprocessor {
             }
 
             // Step 2: Print to files
-            writeToFiles(fileContents, plugin, logger);
+            // Customization may have modified the imports, they need to be cleaned up and sorted again.
+            writeToFiles(fileContents, plugin, logger, false);
         } catch (Exception e) {
             logger.error("Failed to complete postprocessing.", e);
             throw new RuntimeException("Failed to complete postprocessing.", e);
@@ -114,12 +121,23 @@ public class Postprocessor {
     }
 
     public static void writeToFiles(Map<String, String> javaFiles, NewPlugin plugin, Logger logger) {
+        writeToFiles(javaFiles, plugin, logger, JavaSettings.getInstance().isExactImports());
+    }
+
+    private static void writeToFiles(Map<String, String> javaFiles, NewPlugin plugin, Logger logger,
+        boolean importsExact) {
         JavaSettings settings = JavaSettings.getInstance();
+        Path formatterCacheDirectory = settings.getFormatterCacheDirectory() == null
+            ? null
+            : Paths.get(settings.getFormatterCacheDirectory());
         if (settings.isHandlePartialUpdate()) {
             handlePartialUpdate(javaFiles, plugin, logger);
+            // Partial update merges in imports from the existing files.
+            importsExact = false;
         }
 
-        CodeFormatterUtil.formatCode(javaFiles, plugin, logger);
+        CodeFormatterUtil.formatCode(javaFiles, plugin, logger, settings.getFormatterWorkers(), importsExact,
+            formatterCacheDirectory);
     }
 
     private static String getReadme(NewPlugin plugin) {
@@ -153,7 +171,8 @@ public class Postprocessor {
 
         try {
             String code = Files.readString(customizationFile);
-            return loadCustomizationClass(customizationFile.getFileName().toString().replace(".java", ""), code);
+            return loadCustomizationClass(customizationFile.getFileName().toString().replace(".java", ""), code,
+                logger);
         } catch (IOException e) {
             logger.error("Cannot read customization from base directory {} and file {}", baseDirectory,
                 originCustomizationFile);
@@ -161,8 +180,42 @@ public class Postprocessor {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public static Class<? extends Customization> loadCustomizationClass(String className, String code) {
+        Javagen plugin = Javagen.getPluginInstance();
+        Logger logger = plugin == null
+            ? NOPLogger.NOP_LOGGER
+            : new PluginLogger(plugin, Postprocessor.class, "LoadCustomizationClass");
+        return loadCustomizationClass(className, code, logger);
+    }
+
+    /**
+     * Compiles and loads the customization class.
+     * <p>
+     * The class is compiled in process, and the compiled classes are cached. If the system Java compiler is not
+     * available, the class is compiled with Maven.
+     *
+     * @param className The name of the customization class.
+     * @param code The source code of the customization class.
+     * @param logger The logger, which reports the compiler diagnostics.
+     * @return The customization class.
+     */
+    @SuppressWarnings("unchecked")
+    public static Class<? extends Customization> loadCustomizationClass(String className, String code,
+        Logger logger) {
+        try (GenerationMetrics.Timer ignored
+            = GenerationMetrics.start("postprocess.compileCustomization", className).bytes(code.length())) {
+            Class<?> customizationClass = CustomizationCompiler.compileAndLoad(className, code, logger);
+            if (customizationClass != null) {
+                return (Class<? extends Customization>) customizationClass;
+            }
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new RuntimeException(ex);
+        }
+        return loadCustomizationClassWithMaven(className, code);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Customization> loadCustomizationClassWithMaven(String className, String code) {
         Path customizationCompile = null;
         try {
             customizationCompile = FileUtils.createTempDirectory("customizationCompile" + UUID.randomUUID());
@@ -194,37 +247,62 @@ public class Postprocessor {
         logger.info("Begin handle partial update...");
         // handle partial update
         // currently only support add additional interface or overload a generated method in sync and async client
-        fileContents.replaceAll((path, generatedFileContent) -> {
-            if (path.endsWith(".java")) { // only handle for .java file
-                // get existing file path
-                // use output-folder from autorest, if exists and is absolute path
-                String projectBaseDirectoryPath = null;
-                String outputFolderPath = JavaSettings.getInstance().getProjectSettings().getOutputFolder();
-                if (Paths.get(outputFolderPath).isAbsolute()) {
-                    projectBaseDirectoryPath = outputFolderPath;
-                }
-                if (projectBaseDirectoryPath == null || !(new File(projectBaseDirectoryPath).isDirectory())) {
-                    // use parent directory of swagger/readme.md
-                    projectBaseDirectoryPath = new File(getBaseDirectory(plugin)).getParent();
-                }
-                Path existingFilePath = Paths.get(projectBaseDirectoryPath, path);
-                // check if existingFile exists, if not, no need to handle partial update
-                if (Files.exists(existingFilePath)) {
-                    try {
-                        String existingFileContent = Files.readString(existingFilePath);
-                        return PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent,
-                            existingFileContent);
-                    } catch (IOException e) {
-                        logger.error("Unable to get content from file path", e);
-                        throw new UncheckedIOException(e);
-                    }
-                }
-            }
-            return generatedFileContent;
-        });
+        // get existing file path
+        // use output-folder from autorest, if exists and is absolute path
+        String projectBaseDirectoryPath = null;
+        String outputFolderPath = JavaSettings.getInstance().getProjectSettings().getOutputFolder();
+        if (Paths.get(outputFolderPath).isAbsolute()) {
+            projectBaseDirectoryPath = outputFolderPath;
+        }
+        if (projectBaseDirectoryPath == null || !(new File(projectBaseDirectoryPath).isDirectory())) {
+            // use parent directory of swagger/readme.md
+            projectBaseDirectoryPath = new File(getBaseDirectory(plugin)).getParent();
+        }
+        final String projectBaseDirectory = projectBaseDirectoryPath;
+
+        // only handle for .java file
+        List<String> javaFiles = fileContents.keySet()
+            .stream()
+            .filter(path -> path.endsWith(".java"))
+            .collect(Collectors.toList());
+        List<String> updatedContents = ParallelUtil.map(javaFiles, JavaSettings.getInstance().getFormatterWorkers(),
+            "partial-update", "handling partial update",
+            path -> handlePartialUpdateForFile(path, fileContents.get(path), projectBaseDirectory, logger));
+        for (int i = 0; i < javaFiles.size(); i++) {
+            fileContents.put(javaFiles.get(i), updatedContents.get(i));
+        }
         logger.info("Finish handle partial update.");
     }
 
+    private static String handlePartialUpdateForFile(String path, String generatedFileContent,
+        String projectBaseDirectory, Logger logger) {
+        try (GenerationMetrics.Timer ignored = GenerationMetrics.start("postprocess.partialUpdate", path)) {
+            return handlePartialUpdateForFile(Paths.get(projectBaseDirectory, path), generatedFileContent, logger);
+        }
+    }
+
+    private static String handlePartialUpdateForFile(Path existingFilePath, String generatedFileContent,
+        Logger logger) {
+        // check if existingFile exists, if not, no need to handle partial update
+        if (!Files.exists(existingFilePath)) {
+            return generatedFileContent;
+        }
+
+        String existingFileContent;
+        try {
+            existingFileContent = Files.readString(existingFilePath);
+        } catch (IOException e) {
+            logger.error("Unable to get content from file path", e);
+            throw new UncheckedIOException(e);
+        }
+
+        // the existing file has no manually written member, the generated file is used without parsing both files
+        if (PartialUpdateHandler.hasOnlyGeneratedMembers(existingFileContent)) {
+            return generatedFileContent;
+        }
+        return PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, existingFileContent);
+    }
+
     private static void attemptMavenInstall(Path pomPath) {
         String[] command = Utils.isWindows()
             ? new String[] { "cmd", "/c", "mvn", "compiler:compile", "-f", pomPath.toString() }
@@ -3,24 +3,17 @@
 
 package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
 
-import com.github.javaparser.StaticJavaParser;
-import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.ImportDeclaration;
-import com.github.javaparser.printer.configuration.ImportOrderingStrategy;
-import com.github.javaparser.printer.configuration.imports.DefaultImportOrderingStrategy;
 import com.google.googlejavaformat.FormatterDiagnostic;
-import com.google.googlejavaformat.java.FormatterException;
-import com.google.googlejavaformat.java.RemoveUnusedImports;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.util.Constants;
-import java.util.AbstractMap;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
+import com.microsoft.typespec.http.client.generator.core.util.ParallelUtil;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.eclipse.jdt.core.ToolFactory;
@@ -36,6 +29,16 @@ import org.w3c.dom.NodeList;
  * Utility class that handles code formatting.
  */
 public final class CodeFormatterUtil {
+    /*
+     * Eclipse formatter settings are loaded once, and each worker thread keeps its own CodeFormatter as the Eclipse
+     * formatter isn't thread-safe.
+     */
+    private static final class EclipseSettingsHolder {
+        private static final Map<String, String> SETTINGS = loadEclipseSettings();
+    }
+
+    private static final ThreadLocal<CodeFormatter> CODE_FORMATTER
+        = ThreadLocal.withInitial(() -> ToolFactory.createCodeFormatter(EclipseSettingsHolder.SETTINGS));
 
     /**
      * Formats the given files by removing unused imports and applying Eclipse code formatting.
@@ -44,7 +47,55 @@ public final class CodeFormatterUtil {
      * @param plugin The plugin to use to write the formatted files.
      */
     public static void formatCode(Map<String, String> files, NewPlugin plugin, Logger logger) {
-        formatCodeInternal(files, logger).forEach(entry -> plugin.writeFile(entry.getKey(), entry.getValue(), null));
+        formatCode(files, plugin, logger, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Formats the given files by removing unused imports and applying Eclipse code formatting.
+     *
+     * @param files The files to format.
+     * @param plugin The plugin to use to write the formatted files.
+     * @param workers The number of worker threads used to format the files.
+     */
+    public static void formatCode(Map<String, String> files, NewPlugin plugin, Logger logger, int workers) {
+        formatCode(files, plugin, logger, workers, false);
+    }
+
+    /**
+     * Formats the given files by removing unused imports and applying Eclipse code formatting.
+     *
+     * @param files The files to format.
+     * @param plugin The plugin to use to write the formatted files.
+     * @param workers The number of worker threads used to format the files.
+     * @param importsExact Whether the files already have an exact, sorted import block. If true, unused import removal
+     * and import ordering are skipped.
+     */
+    public static void formatCode(Map<String, String> files, NewPlugin plugin, Logger logger, int workers,
+        boolean importsExact) {
+        formatCode(files, plugin, logger, workers, importsExact, null);
+    }
+
+    /**
+     * Formats the given files by removing unused imports and applying Eclipse code formatting.
+     *
+     * @param files The files to format.
+     * @param plugin The plugin to use to write the formatted files.
+     * @param workers The number of worker threads used to format the files.
+     * @param importsExact Whether the files already have an exact, sorted import block. If true, unused import removal
+     * and import ordering are skipped.
+     * @param cacheDirectory The directory of the formatted code cache. Files found in the cache aren't formatted again.
+     * If null, the cache isn't used.
+     */
+    public static void formatCode(Map<String, String> files, NewPlugin plugin, Logger logger, int workers,
+        boolean importsExact, Path cacheDirectory) {
+        FormattedCodeCache cache = cacheDirectory == null
+            ? null
+            : FormattedCodeCache.create(cacheDirectory, EclipseSettingsHolder.SETTINGS, importsExact, logger);
+        formatCodeInternal(files, logger, workers, importsExact, cache)
+            .forEach(entry -> plugin.writeFile(entry.getKey(), entry.getValue(), null));
+        if (cache != null) {
+            cache.prune();
+        }
     }
 
     /**
@@ -55,30 +106,130 @@ public final class CodeFormatterUtil {
      * @throws RuntimeException If code formatting fails.
      */
     public static List<String> formatCode(Map<String, String> files) {
-        return formatCodeInternal(files, null).map(Map.Entry::getValue).collect(Collectors.toList());
+        return formatCodeInternal(files, null, Runtime.getRuntime().availableProcessors(), false, null).stream()
+            .map(Map.Entry::getValue)
+            .collect(Collectors.toList());
     }
 
-    private static Stream<Map.Entry<String, String>> formatCodeInternal(Map<String, String> files, Logger logger) {
-        Map<String, String> eclipseSettings = loadEclipseSettings();
-        DefaultImportOrderingStrategy orderingStrategy = new DefaultImportOrderingStrategy();
-        orderingStrategy.setSortImportsAlphabetically(true);
+    private static List<Map.Entry<String, String>> formatCodeInternal(Map<String, String> files, Logger logger,
+        int workers, boolean importsExact, FormattedCodeCache cache) {
+        List<Map.Entry<String, String>> inputs = new ArrayList<>(files.entrySet());
+        List<FormatResult> results = ParallelUtil.map(inputs, workers, "code-formatter", "formatting code",
+            file -> formatFile(file.getKey(), file.getValue(), importsExact, cache));
 
-        return removeUnusedImports(files.entrySet(), logger).stream().map(entry -> {
-            try {
-                String file = reorderImports(entry.getValue(), orderingStrategy);
-                file = formatCode(file, entry.getKey(), ToolFactory.createCodeFormatter(eclipseSettings));
-                return Map.entry(entry.getKey(), file);
-            } catch (Exception e) {
+        // Errors are reported in the order of the input files, regardless of which worker processed them.
+        StringBuilder errorCapture = new StringBuilder();
+        for (FormatResult result : results) {
+            if (result.diagnostics != null) {
+                String[] fileLines = result.content.split("\n");
+                for (FormatterDiagnostic diagnostic : result.diagnostics) {
+                    appendDiagnosticError(errorCapture, diagnostic, result.fileName, fileLines, logger);
+                }
+            }
+        }
+
+        if (errorCapture.length() > 0) {
+            throw new IllegalStateException("Google Java Formatter encountered errors:\n" + errorCapture);
+        }
+
+        List<Map.Entry<String, String>> formattedFiles = new ArrayList<>(results.size());
+        for (FormatResult result : results) {
+            if (result.failure != null) {
                 // print file content
                 String errorMessage
-                    = "Failed to format file: " + entry.getKey() + ". File content: \n" + entry.getValue();
+                    = "Failed to format file: " + result.fileName + ". File content: \n" + result.content;
                 if (logger != null) {
                     logger.error(errorMessage);
                 }
 
-                throw new RuntimeException(errorMessage, e);
+                throw new RuntimeException(errorMessage, result.failure);
             }
-        });
+            formattedFiles.add(Map.entry(result.fileName, result.content));
+        }
+        return formattedFiles;
+    }
+
+    private static FormatResult formatFile(String fileName, String content, boolean importsExact,
+        FormattedCodeCache cache) {
+        try (GenerationMetrics.Timer ignored
+            = GenerationMetrics.start("postprocess.format", fileName).bytes(content.length())) {
+            if (cache == null) {
+                return formatFile(fileName, content, importsExact);
+            }
+
+            String cached = cache.get(fileName, content);
+            if (cached != null) {
+                return new FormatResult(fileName, cached, null, null);
+            }
+
+            FormatResult result = formatFile(fileName, content, importsExact);
+            if (result.diagnostics == null && result.failure == null) {
+                cache.put(fileName, content, result.content);
+            }
+            return result;
+        }
+    }
+
+    /*
+     * In previous iterations of code formatting, we let Spotless use Google Java Formatter to remove unused imports.
+     * This worked well when code was valid, but when there were errors Spotless would halt processing on the first
+     * issue found. This meant that resolving issues were difficult, as it could take many iterations to resolve the
+     * regressions introduced.
+     *
+     * Later, google-java-format was used in-process to remove unused imports, followed by JavaParser to reorder the
+     * imports and to detect module-info files. That parsed each file up to three times before Eclipse formatting.
+     *
+     * This implementation parses each file once with JavaParser. Unused imports are found and the remaining imports are
+     * sorted from that single tree, using the same rules as google-java-format. Parse errors are captured for all files
+     * before any file is formatted.
+     *
+     * When the files are generated with exact imports, the import block is already minimal and sorted, so the parse is
+     * skipped and the file goes straight to Eclipse formatting. If Eclipse can't format the file, it falls back to the
+     * parse so the syntax errors are reported.
+     */
+    private static FormatResult formatFile(String fileName, String content, boolean importsExact) {
+        if (importsExact) {
+            try {
+                String file = formatCode(content, fileName.endsWith(IModule.MODULE_INFO_JAVA), CODE_FORMATTER.get());
+                if (file != null) {
+                    return new FormatResult(fileName, file, null, null);
+                }
+            } catch (Exception e) {
+                // Fall through to the parse, which reports the syntax errors of the file.
+            }
+        }
+
+        JavaFileImportsProcessor javaFile = JavaFileImportsProcessor.parse(fileName, content);
+        if (javaFile.getDiagnostics() != null) {
+            // Capture the error, it is reported after all files are processed.
+            return new FormatResult(fileName, content, javaFile.getDiagnostics(), null);
+        }
+
+        try {
+            content = javaFile.removeUnusedAndReorderImports();
+            String file = formatCode(content, javaFile.isModuleInfo(), CODE_FORMATTER.get());
+            if (file == null) {
+                throw new IllegalStateException("Eclipse formatter was unable to format the file.");
+            }
+            return new FormatResult(fileName, file, null, null);
+        } catch (Exception e) {
+            return new FormatResult(fileName, content, null, e);
+        }
+    }
+
+    private static final class FormatResult {
+        private final String fileName;
+        private final String content;
+        private final List<FormatterDiagnostic> diagnostics;
+        private final Exception failure;
+
+        private FormatResult(String fileName, String content, List<FormatterDiagnostic> diagnostics,
+            Exception failure) {
+            this.fileName = fileName;
+            this.content = content;
+            this.diagnostics = diagnostics;
+            this.failure = failure;
+        }
     }
 
     /**
@@ -107,151 +258,21 @@ public final class CodeFormatterUtil {
         }
     }
 
-    /**
-     * Reorders the imports in alphabetical ordering.
-     * <p>
-     * This helper method performs many tasks manually to maintain the original formatting of the file as much as
-     * possible. Using {@link CompilationUnit} to manipulate the imports and then printing the entire file back
-     * results in newline removal and trailing space removal which is just noise for us.
-     *
-     * @param file The Java file to reorder imports for.
-     * @param orderingStrategy The import ordering strategy to use.
-     * @return The Java file with reordered imports, or if the file has no imports the file as-is.
-     */
-    @SuppressWarnings("OptionalGetWithoutIsPresent")
-    private static String reorderImports(String file, ImportOrderingStrategy orderingStrategy) {
-        CompilationUnit compilationUnit = StaticJavaParser.parse(file);
-        com.github.javaparser.ast.NodeList<ImportDeclaration> imports = compilationUnit.getImports();
-        if (imports.isEmpty()) {
-            // File has no imports, nothing to reorder.
-            return file;
-        }
-
-        // Positions of the existing imports in the file.
-        // Position uses 1-based indexing, so when we replace imports later we need to adjust this to 0-based indexing
-        // for Java's List.
-        int importStartLine = imports.stream().mapToInt(i -> i.getBegin().get().line).min().getAsInt();
-        int importEndLine = imports.stream().mapToInt(i -> i.getEnd().get().line).max().getAsInt();
-
-        // Using DefaultImportOrderingStrategy which returns a single NodeList after sorting.
-        // If this strategy is changed, inspect the orderer used for how many NodeLists are returned.
-        // For example, a made up SplitInstanceAndStaticImportOrderingStrategy could return two NodeLists,
-        // one for sorted instance imports and one for sorted static imports.
-        imports = orderingStrategy.sortImports(imports).get(0);
-
-        List<String> lines = file.lines().collect(Collectors.toList());
-
-        int lastLineReplaced = importStartLine - 1;
-        for (ImportDeclaration importDeclaration : distinctImports(imports)) {
-            lines.set(lastLineReplaced, importToString(importDeclaration));
-            lastLineReplaced++;
-        }
-
-        // Remove any remaining old import lines if the new import list is shorter.
-        if (importEndLine >= lastLineReplaced) {
-            // Use importLineEnd as-is since Position is 1-based and subList's end index is exclusive.
-            lines.subList(lastLineReplaced, importEndLine).clear();
-        }
-
-        return String.join("\n", lines);
-    }
-
-    private static List<ImportDeclaration> distinctImports(List<ImportDeclaration> imports) {
-        Map<String, ImportDeclaration> importMap = new LinkedHashMap<>();
-        for (ImportDeclaration importDecl : imports) {
-            importMap.putIfAbsent(importDecl.toString(), importDecl);
-        }
-        return new ArrayList<>(importMap.values());
-    }
-
-    /**
-     * Converts an {@link ImportDeclaration} to its string representation.
-     * <p>
-     * This is done as {@link ImportDeclaration#toString()} uses an internal printer which adds newline characters we
-     * don't want. And instead of configuring our own printer just for this, we manually build the string.
-     *
-     * @param importDeclaration The import declaration.
-     * @return The import statement representation of the import declaration.
-     */
-    private static String importToString(ImportDeclaration importDeclaration) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("import ");
-        if (importDeclaration.isStatic()) {
-            sb.append("static ");
-        }
-        sb.append(importDeclaration.getNameAsString());
-        if (importDeclaration.isAsterisk()) {
-            sb.append(".*");
-        }
-        sb.append(";");
-        return sb.toString();
-    }
-
-    private static String formatCode(String file, String fileName, CodeFormatter codeFormatter) throws Exception {
+    private static String formatCode(String file, boolean isModuleInfo, CodeFormatter codeFormatter) throws Exception {
         IDocument doc = new Document(file);
 
-        boolean isModuleInfo = fileName.endsWith(IModule.MODULE_INFO_JAVA);
-        if (isModuleInfo) {
-            // candidate module-info.java, confirm by check file content about module declaration
-            CompilationUnit compilationUnit = StaticJavaParser.parse(file);
-            if (compilationUnit.getModule().isEmpty()) {
-                // not module-info.java
-                isModuleInfo = false;
-            }
-        }
         int kind = isModuleInfo ? CodeFormatter.K_MODULE_INFO : CodeFormatter.K_COMPILATION_UNIT;
         kind |= CodeFormatter.F_INCLUDE_COMMENTS;
         TextEdit edit = codeFormatter.format(kind, file, 0, file.length(), 0, Constants.NEW_LINE);
+        if (edit == null) {
+            // Eclipse formatter returns null if the file can't be formatted, such as when it has syntax errors.
+            return null;
+        }
         edit.apply(doc);
 
         return doc.get();
     }
 
-    /*
-     * In previous iterations of code formatting, we let Spotless use Google Java Formatter to remove unused imports.
-     * This worked well when code was valid, but when there were errors Spotless would halt processing on the first
-     * issue found. This meant that resolving issues were difficult, as it could take many iterations to resolve the
-     * regressions introduced.
-     *
-     * This then resulted in a new design where when Spotless failed on the entire fileset we would run Spotless
-     * individually on each file, and log the error message with the file content. This worked, but was tremendously
-     * slow as it required running many Maven processes, one for each file.
-     *
-     * This new implementation takes a dependency on google-java-format to run Google Java Formatter ourselves. This
-     * allows us to control error handling by processing all files, in-memory (much faster than letting Spotless run
-     * Google Java Formatter), and capturing all issues before attempting Spotless formatting (which now excludes
-     * unused import removal).
-     */
-    private static List<Map.Entry<String, String>> removeUnusedImports(Collection<Map.Entry<String, String>> files,
-        Logger logger) {
-        List<Map.Entry<String, String>> updatedFiles = new ArrayList<>(files.size());
-
-        // Tracker for errors encountered while running Google Java Formatter.
-        StringBuilder errorCapture = new StringBuilder();
-
-        for (Map.Entry<String, String> file : files) {
-            String content = file.getValue();
-            try {
-                // Use Google Java Formatter to remove unused imports.
-                updatedFiles.add(
-                    new AbstractMap.SimpleEntry<>(file.getKey(), RemoveUnusedImports.removeUnusedImports(content)));
-            } catch (FormatterException ex) {
-                String[] fileLines = content.split("\n");
-                // Capture the error message and continue processing other files.
-                for (FormatterDiagnostic diagnostic : ex.diagnostics()) {
-                    appendDiagnosticError(errorCapture, diagnostic, file.getKey(), fileLines, logger);
-                }
-            }
-            file.setValue(content);
-        }
-
-        if (errorCapture.length() > 0) {
-            throw new IllegalStateException("Google Java Formatter encountered errors:\n" + errorCapture);
-        }
-
-        return updatedFiles;
-    }
-
     private static void appendDiagnosticError(StringBuilder errorCapture, FormatterDiagnostic diagnostic,
         String fileName, String[] fileLines, Logger logger) {
         int lineNumber = diagnostic.line();
@@ -0,0 +1,305 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.microsoft.typespec.http.client.generator.core.customization.Customization;
+import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.slf4j.Logger;
+
+/**
+ * Compiles a customization class in process, with the system Java compiler and the class path of the generator.
+ * <p>
+ * The compiled classes are cached on disk, keyed by the hash of the source and the generator version, so that an
+ * unchanged customization is loaded without compiling it again. The cache is in the home directory of the user, and is
+ * created accessible by the owner only. Classes are loaded from the cache only if the cache directory and the entry
+ * are owned by the current user and, on a POSIX file system, not accessible by group or others. Otherwise, the
+ * customization is compiled to a new temporary directory. Entries that haven't been used for {@link #MAX_UNUSED_AGE}
+ * are deleted.
+ */
+public final class CustomizationCompiler {
+    private static final Duration MAX_UNUSED_AGE = Duration.ofDays(7);
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private CustomizationCompiler() {
+    }
+
+    /**
+     * Compiles the customization class, or gets the compiled classes from the cache, and loads the class.
+     *
+     * @param className The name of the customization class.
+     * @param code The source code of the customization class.
+     * @param logger The logger, which reports the compiler diagnostics.
+     * @return The customization class, or null if the class isn't cached and the system Java compiler isn't available.
+     * @throws IOException If the classes can't be written.
+     * @throws ClassNotFoundException If the compiled classes don't contain the customization class.
+     */
+    public static Class<?> compileAndLoad(String className, String code, Logger logger)
+        throws IOException, ClassNotFoundException {
+        return compileAndLoad(className, code, getDefaultCacheDirectory(), logger);
+    }
+
+    static Class<?> compileAndLoad(String className, String code, Path cacheDirectory, Logger logger)
+        throws IOException, ClassNotFoundException {
+        String generatorVersion = FormattedCodeCache.getGeneratorVersion();
+        Path cacheEntry = null;
+        if (generatorVersion != null) {
+            createPrivateDirectory(cacheDirectory);
+            if (isPrivateDirectory(cacheDirectory)) {
+                cacheEntry = cacheDirectory.resolve(getCacheKey(generatorVersion, className, code));
+                prune(cacheDirectory, logger);
+            } else {
+                logger.warn("Customization cache {} is accessible by other users, it is not used", cacheDirectory);
+            }
+        }
+
+        if (cacheEntry != null && Files.exists(cacheEntry, LinkOption.NOFOLLOW_LINKS)
+            && !isPrivateDirectory(cacheEntry)) {
+            logger.warn("Customization cache entry {} is accessible by other users, it is not used", cacheEntry);
+            cacheEntry = null;
+        }
+
+        Path classesDirectory;
+        Path compileDirectory = null;
+        if (cacheEntry != null && Files.isDirectory(cacheEntry, LinkOption.NOFOLLOW_LINKS)) {
+            logger.info("Loading customization class {} from cache {}", className, cacheEntry);
+            classesDirectory = cacheEntry;
+            // Used entries are kept alive by prune().
+            Files.setLastModifiedTime(cacheEntry, FileTime.from(Instant.now()));
+        } else {
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            if (compiler == null) {
+                logger.warn("System Java compiler is not available to compile customization class {}", className);
+                return null;
+            }
+
+            // A temporary directory is created accessible by the owner only on a POSIX file system.
+            compileDirectory = Files.createTempDirectory(
+                cacheEntry != null ? cacheDirectory : FileUtils.getTempDirectory(), className + ".tmp");
+            compile(compiler, className, code, compileDirectory, logger);
+            classesDirectory = (cacheEntry != null) ? moveToCache(compileDirectory, cacheEntry) : compileDirectory;
+        }
+
+        try {
+            URLClassLoader classLoader = URLClassLoader.newInstance(new URL[] { classesDirectory.toUri().toURL() },
+                Customization.class.getClassLoader());
+            return Class.forName(className, true, classLoader);
+        } finally {
+            // Classes that aren't cached are deleted once the customization class is loaded.
+            if (classesDirectory.equals(compileDirectory)) {
+                Utils.deleteDirectory(compileDirectory.toFile());
+            }
+        }
+    }
+
+    private static void compile(JavaCompiler compiler, String className, String code, Path outputDirectory,
+        Logger logger) throws IOException {
+        logger.info("Compiling customization class {}", className);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success;
+        try (StandardJavaFileManager fileManager
+            = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDirectory.toFile()));
+            JavaFileObject source = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return code;
+                }
+            };
+            List<String> options = List.of("-classpath", getClassPath(), "-proc:none", "-encoding", "UTF-8");
+            success = compiler.getTask(null, fileManager, diagnostics, options, null, List.of(source)).call();
+        }
+
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            String message = diagnostic.getMessage(Locale.ROOT);
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                logger.error("{}.java:{}: {}", className, diagnostic.getLineNumber(), message);
+            } else if (diagnostic.getKind() == Diagnostic.Kind.WARNING
+                || diagnostic.getKind() == Diagnostic.Kind.MANDATORY_WARNING) {
+                logger.warn("{}.java:{}: {}", className, diagnostic.getLineNumber(), message);
+            } else {
+                logger.debug("{}.java:{}: {}", className, diagnostic.getLineNumber(), message);
+            }
+        }
+
+        if (!success) {
+            Utils.deleteDirectory(outputDirectory.toFile());
+            throw new IllegalStateException("Failed to compile customization class " + className);
+        }
+    }
+
+    /*
+     * Moves the compiled classes into the cache. If another process cached the same classes concurrently, its entry is
+     * used.
+     */
+    private static Path moveToCache(Path classesDirectory, Path cacheEntry) throws IOException {
+        try {
+            Files.move(classesDirectory, cacheEntry, StandardCopyOption.ATOMIC_MOVE);
+            return cacheEntry;
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            if (!isPrivateDirectory(cacheEntry)) {
+                return classesDirectory;
+            }
+            Utils.deleteDirectory(classesDirectory.toFile());
+            return cacheEntry;
+        } catch (AtomicMoveNotSupportedException e) {
+            // not cached, load the classes from where they are compiled
+            return classesDirectory;
+        }
+    }
+
+    /*
+     * The cache is in the home directory of the user, rather than in the temporary directory, which is shared by all
+     * users.
+     */
+    private static Path getDefaultCacheDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".cache", "typespec-java", "customization");
+    }
+
+    /*
+     * Creates the directory accessible by the owner only, if it doesn't exist. An existing directory is left as is, it
+     * is checked by isPrivateDirectory.
+     */
+    private static void createPrivateDirectory(Path directory) throws IOException {
+        if (Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+
+        Files.createDirectories(directory.toAbsolutePath().getParent());
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+            } else {
+                Files.createDirectory(directory);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // created concurrently
+        }
+    }
+
+    /*
+     * Whether the classes in the directory can be trusted: the directory isn't a link, it is owned by the current user
+     * and, on a POSIX file system, it is accessible by the owner only.
+     */
+    private static boolean isPrivateDirectory(Path directory) {
+        try {
+            if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+                return false;
+            }
+
+            if (!Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS).equals(getCurrentUser())) {
+                return false;
+            }
+
+            PosixFileAttributeView posixView
+                = Files.getFileAttributeView(directory, PosixFileAttributeView.class, LinkOption.NOFOLLOW_LINKS);
+            return posixView == null || posixView.readAttributes().permissions().equals(OWNER_ONLY);
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /*
+     * The owner of a file created by this process, which doesn't depend on the "user.name" system property.
+     */
+    private static UserPrincipal getCurrentUser() throws IOException {
+        Path file = Files.createTempFile("typespec-java-owner", ".tmp");
+        try {
+            return Files.getOwner(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /*
+     * Deletes the entries, and the leftover temporary directories, that haven't been used recently.
+     */
+    private static void prune(Path cacheDirectory, Logger logger) {
+        FileTime threshold = FileTime.from(Instant.now().minus(MAX_UNUSED_AGE));
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            entries.filter(entry -> Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)).forEach(entry -> {
+                try {
+                    if (Files.getLastModifiedTime(entry, LinkOption.NOFOLLOW_LINKS).compareTo(threshold) < 0) {
+                        Utils.deleteDirectory(entry.toFile());
+                    }
+                } catch (IOException e) {
+                    logger.debug("Unable to prune customization cache entry: {}", entry, e);
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Unable to prune customization cache: {}", cacheDirectory, e);
+        }
+    }
+
+    /*
+     * The class path of the generator. The customization is compiled against the same classes it is run with.
+     */
+    private static String getClassPath() {
+        Set<String> entries = new LinkedHashSet<>();
+        String classPath = System.getProperty("java.class.path");
+        if (classPath != null && !classPath.isEmpty()) {
+            entries.addAll(Arrays.asList(classPath.split(File.pathSeparator)));
+        }
+        try {
+            CodeSource codeSource = Customization.class.getProtectionDomain().getCodeSource();
+            if (codeSource != null && codeSource.getLocation() != null) {
+                entries.add(Paths.get(codeSource.getLocation().toURI()).toString());
+            }
+        } catch (URISyntaxException | RuntimeException e) {
+            // the class path alone is used
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static String getCacheKey(String generatorVersion, String className, String code) {
+        MessageDigest digest = FormattedCodeCache.sha256();
+        digest.update(generatorVersion.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(className.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(code.getBytes(StandardCharsets.UTF_8));
+        return FormattedCodeCache.toHex(digest.digest());
+    }
+}
@@ -0,0 +1,195 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+
+/**
+ * On-disk cache of formatted Java files.
+ * <p>
+ * An entry maps the hash of the file name and the unformatted content, together with the generator version and the
+ * formatter settings, to the formatted content. A change to the generator or to the formatter settings results in
+ * different keys, so stale entries are never returned. Entries that haven't been used for {@link #MAX_UNUSED_AGE} are
+ * deleted by {@link #prune()}.
+ * <p>
+ * The cache is safe to use from multiple threads and processes, entries are written to a temporary file and then moved
+ * into place.
+ */
+final class FormattedCodeCache {
+    private static final Duration MAX_UNUSED_AGE = Duration.ofDays(7);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final byte[] keyPrefix;
+    private final Logger logger;
+
+    private FormattedCodeCache(Path directory, byte[] keyPrefix, Logger logger) {
+        this.directory = directory;
+        this.keyPrefix = keyPrefix;
+        this.logger = logger;
+    }
+
+    /**
+     * Creates the cache.
+     *
+     * @param directory The directory of the cache.
+     * @param formatterSettings The Eclipse formatter settings.
+     * @param importsExact Whether the files have an exact, sorted import block.
+     * @param logger The logger of the generation.
+     * @return The cache, or null if the generator version can't be determined or the directory can't be created.
+     */
+    static FormattedCodeCache create(Path directory, Map<String, String> formatterSettings, boolean importsExact,
+        Logger logger) {
+        String generatorVersion = getGeneratorVersion();
+        if (generatorVersion == null) {
+            logger.warn("Unable to determine the generator version. Formatted code cache is disabled.");
+            return null;
+        }
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            logger.warn("Unable to create formatted code cache directory: {}", directory, e);
+            return null;
+        }
+
+        StringBuilder keyPrefix = new StringBuilder(generatorVersion).append('\n').append(importsExact).append('\n');
+        new TreeMap<>(formatterSettings)
+            .forEach((key, value) -> keyPrefix.append(key).append('=').append(value).append('\n'));
+        return new FormattedCodeCache(directory, keyPrefix.toString().getBytes(StandardCharsets.UTF_8), logger);
+    }
+
+    /**
+     * Gets the formatted content of the file.
+     *
+     * @param fileName The name of the file.
+     * @param content The unformatted content of the file.
+     * @return The formatted content, or null if the cache doesn't have an entry for the file.
+     */
+    String get(String fileName, String content) {
+        Path entry = entryPath(fileName, content);
+        try {
+            if (!Files.isRegularFile(entry)) {
+                return null;
+            }
+
+            String formatted = Files.readString(entry, StandardCharsets.UTF_8);
+            // Used entries are kept alive by prune().
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+            return formatted;
+        } catch (IOException e) {
+            logger.debug("Unable to read formatted code cache entry: {}", entry, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the formatted content of the file.
+     *
+     * @param fileName The name of the file.
+     * @param content The unformatted content of the file.
+     * @param formatted The formatted content of the file.
+     */
+    void put(String fileName, String content, String formatted) {
+        Path entry = entryPath(fileName, content);
+        try {
+            Files.createDirectories(entry.getParent());
+            Path tempFile = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            Files.writeString(tempFile, formatted, StandardCharsets.UTF_8);
+            try {
+                Files.move(tempFile, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to write formatted code cache entry: {}", entry, e);
+        }
+    }
+
+    /**
+     * Deletes the entries that haven't been used recently.
+     */
+    void prune() {
+        FileTime threshold = FileTime.from(Instant.now().minus(MAX_UNUSED_AGE));
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                try {
+                    if (Files.getLastModifiedTime(file).compareTo(threshold) < 0) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (IOException e) {
+                    logger.debug("Unable to prune formatted code cache entry: {}", file, e);
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Unable to prune formatted code cache: {}", directory, e);
+        }
+    }
+
+    private Path entryPath(String fileName, String content) {
+        MessageDigest digest = sha256();
+        digest.update(keyPrefix);
+        digest.update(fileName.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+        String hash = toHex(digest.digest());
+        return directory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    /*
+     * The version comes from the JAR manifest when available. The last modified time of the JAR, or of the class file
+     * when running from a class directory, distinguishes development builds sharing the same version.
+     */
+    static String getGeneratorVersion() {
+        try {
+            CodeSource codeSource = FormattedCodeCache.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return null;
+            }
+
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            if (Files.isDirectory(location)) {
+                location = location.resolve(FormattedCodeCache.class.getName().replace('.', '/') + ".class");
+            }
+            return FormattedCodeCache.class.getPackage().getImplementationVersion() + "/"
+                + Files.getLastModifiedTime(location).toMillis();
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
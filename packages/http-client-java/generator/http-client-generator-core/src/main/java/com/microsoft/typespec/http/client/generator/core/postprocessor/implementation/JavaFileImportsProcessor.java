@@ -0,0 +1,306 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.Position;
+import com.github.javaparser.Problem;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.TokenRange;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.PackageDeclaration;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.comments.JavadocComment;
+import com.github.javaparser.ast.expr.MemberValuePair;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.Name;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.github.javaparser.printer.configuration.ImportOrderingStrategy;
+import com.github.javaparser.printer.configuration.imports.DefaultImportOrderingStrategy;
+import com.google.googlejavaformat.FormatterDiagnostic;
+import com.microsoft.typespec.http.client.generator.core.util.JavadocUtil;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.eclipse.jdt.internal.compiler.env.IModule;
+
+/**
+ * Removes unused imports and sorts the remaining imports of a Java file using a single parse of the file.
+ * <p>
+ * Unused import detection follows the rules of google-java-format's {@code RemoveUnusedImports}: an import is used if
+ * its simple name appears as an identifier in the code or as a reference in a Javadoc tag. Imports from
+ * {@code java.lang} and the file's own package are always removed, wildcard imports are always kept.
+ */
+final class JavaFileImportsProcessor {
+    private final String fileName;
+    private final String content;
+    private final CompilationUnit compilationUnit;
+    private final List<FormatterDiagnostic> diagnostics;
+
+    private JavaFileImportsProcessor(String fileName, String content, CompilationUnit compilationUnit,
+        List<FormatterDiagnostic> diagnostics) {
+        this.fileName = fileName;
+        this.content = content;
+        this.compilationUnit = compilationUnit;
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Parses the Java file.
+     *
+     * @param fileName The name of the file.
+     * @param content The content of the file.
+     * @return The parsed file. If the file fails to parse, {@link #getDiagnostics()} contains the parse errors.
+     */
+    static JavaFileImportsProcessor parse(String fileName, String content) {
+        try {
+            return new JavaFileImportsProcessor(fileName, content, StaticJavaParser.parse(content), null);
+        } catch (ParseProblemException e) {
+            List<FormatterDiagnostic> diagnostics = new ArrayList<>(e.getProblems().size());
+            for (Problem problem : e.getProblems()) {
+                Position begin = problem.getLocation()
+                    .flatMap(TokenRange::toRange)
+                    .map(range -> range.begin)
+                    .orElse(Position.HOME);
+                diagnostics.add(FormatterDiagnostic.create(begin.line, begin.column, problem.getMessage()));
+            }
+            return new JavaFileImportsProcessor(fileName, content, null, diagnostics);
+        }
+    }
+
+    /**
+     * Gets the parse errors of the file.
+     *
+     * @return The parse errors of the file, or null if the file was parsed successfully.
+     */
+    List<FormatterDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * Whether the file is a {@code module-info.java} containing a module declaration.
+     *
+     * @return Whether the file is a {@code module-info.java} containing a module declaration.
+     */
+    boolean isModuleInfo() {
+        return fileName.endsWith(IModule.MODULE_INFO_JAVA) && compilationUnit.getModule().isPresent();
+    }
+
+    /**
+     * Removes the unused imports and sorts the remaining imports in alphabetical ordering.
+     * <p>
+     * Unused imports are removed along with the line terminator following them. The remaining imports are then
+     * rewritten in place, so that the formatting of the rest of the file is maintained.
+     *
+     * @return The Java file with unused imports removed and the remaining imports sorted.
+     */
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    String removeUnusedAndReorderImports() {
+        com.github.javaparser.ast.NodeList<ImportDeclaration> imports = compilationUnit.getImports();
+        if (imports.isEmpty()) {
+            return content;
+        }
+
+        Set<String> usedNames = new HashSet<>();
+        new UsedNamesCollector().visit(compilationUnit, usedNames);
+        Set<String> usedInJavadoc = collectJavadocReferences(compilationUnit);
+        String packageName = compilationUnit.getPackageDeclaration().map(p -> p.getNameAsString()).orElse(null);
+
+        int[] lineOffsets = lineOffsets(content);
+        StringBuilder file = new StringBuilder(content.length());
+        // Number of lines removed before each import, used to translate import positions to the updated file.
+        int removedLines = 0;
+        int copiedUntil = 0;
+        com.github.javaparser.ast.NodeList<ImportDeclaration> keptImports = new com.github.javaparser.ast.NodeList<>();
+        int importStartLine = Integer.MAX_VALUE;
+        int importEndLine = Integer.MIN_VALUE;
+        for (ImportDeclaration importDeclaration : new ArrayList<>(imports)) {
+            Position begin = importDeclaration.getBegin().get();
+            Position end = importDeclaration.getEnd().get();
+            if (!isUnused(importDeclaration, packageName, usedNames, usedInJavadoc)) {
+                keptImports.add(importDeclaration);
+                importStartLine = Math.min(importStartLine, begin.line - removedLines);
+                importEndLine = Math.max(importEndLine, end.line - removedLines);
+                continue;
+            }
+
+            int startOffset = offset(lineOffsets, begin);
+            int endOffset = offset(lineOffsets, end) + 1;
+            while (endOffset < content.length() && content.charAt(endOffset) == ' ') {
+                endOffset++;
+            }
+            if (endOffset < content.length() - 1 && content.charAt(endOffset) == '\n') {
+                endOffset++;
+            }
+
+            file.append(content, copiedUntil, startOffset);
+            copiedUntil = endOffset;
+            for (int i = startOffset; i < endOffset; i++) {
+                if (content.charAt(i) == '\n') {
+                    removedLines++;
+                }
+            }
+        }
+        file.append(content, copiedUntil, content.length());
+
+        if (keptImports.isEmpty()) {
+            // File has no used imports, nothing to reorder.
+            return file.toString();
+        }
+
+        // Using DefaultImportOrderingStrategy which returns a single NodeList after sorting.
+        ImportOrderingStrategy orderingStrategy = new DefaultImportOrderingStrategy();
+        orderingStrategy.setSortImportsAlphabetically(true);
+        List<ImportDeclaration> sortedImports = distinctImports(orderingStrategy.sortImports(keptImports).get(0));
+
+        // Positions use 1-based indexing, adjust to 0-based indexing for Java's List.
+        List<String> lines = file.toString().lines().collect(Collectors.toList());
+        int lastLineReplaced = importStartLine - 1;
+        for (ImportDeclaration importDeclaration : sortedImports) {
+            lines.set(lastLineReplaced, importToString(importDeclaration));
+            lastLineReplaced++;
+        }
+
+        // Remove any remaining old import lines if the new import list is shorter.
+        if (importEndLine >= lastLineReplaced) {
+            lines.subList(lastLineReplaced, importEndLine).clear();
+        }
+
+        return String.join("\n", lines);
+    }
+
+    private static boolean isUnused(ImportDeclaration importDeclaration, String packageName, Set<String> usedNames,
+        Set<String> usedInJavadoc) {
+        Name name = importDeclaration.getName();
+        String qualifier = importDeclaration.isAsterisk()
+            ? name.asString()
+            : name.getQualifier().map(Name::asString).orElse("");
+        if ("java.lang".equals(qualifier) || qualifier.equals(packageName)) {
+            return true;
+        }
+        if (importDeclaration.isAsterisk()) {
+            return false;
+        }
+
+        String simpleName = name.getIdentifier();
+        return !usedNames.contains(simpleName) && !usedInJavadoc.contains(simpleName);
+    }
+
+    private static Set<String> collectJavadocReferences(CompilationUnit compilationUnit) {
+        Set<String> references = new HashSet<>();
+        for (Comment comment : compilationUnit.getAllComments()) {
+            if (!(comment instanceof JavadocComment)) {
+                continue;
+            }
+
+            JavadocUtil.addReferencedNames(references, comment.getContent());
+        }
+        return references;
+    }
+
+    private static List<ImportDeclaration> distinctImports(List<ImportDeclaration> imports) {
+        Map<String, ImportDeclaration> importMap = new LinkedHashMap<>();
+        for (ImportDeclaration importDecl : imports) {
+            importMap.putIfAbsent(importDecl.toString(), importDecl);
+        }
+        return new ArrayList<>(importMap.values());
+    }
+
+    /**
+     * Converts an {@link ImportDeclaration} to its string representation.
+     * <p>
+     * This is done as {@link ImportDeclaration#toString()} uses an internal printer which adds newline characters we
+     * don't want. And instead of configuring our own printer just for this, we manually build the string.
+     *
+     * @param importDeclaration The import declaration.
+     * @return The import statement representation of the import declaration.
+     */
+    private static String importToString(ImportDeclaration importDeclaration) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("import ");
+        if (importDeclaration.isStatic()) {
+            sb.append("static ");
+        }
+        sb.append(importDeclaration.getNameAsString());
+        if (importDeclaration.isAsterisk()) {
+            sb.append(".*");
+        }
+        sb.append(";");
+        return sb.toString();
+    }
+
+    private static int[] lineOffsets(String content) {
+        List<Integer> offsets = new ArrayList<>();
+        offsets.add(0);
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n') {
+                offsets.add(i + 1);
+            }
+        }
+        return offsets.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int offset(int[] lineOffsets, Position position) {
+        return lineOffsets[position.line - 1] + position.column - 1;
+    }
+
+    /*
+     * Collects the simple names used as identifiers in the code, the same set of names javac reports as identifiers.
+     * Import declarations are not visited.
+     */
+    private static final class UsedNamesCollector extends VoidVisitorAdapter<Set<String>> {
+        @Override
+        public void visit(ImportDeclaration n, Set<String> usedNames) {
+            // imports don't count as usage
+        }
+
+        @Override
+        public void visit(PackageDeclaration n, Set<String> usedNames) {
+            n.getAnnotations().forEach(annotation -> annotation.accept(this, usedNames));
+        }
+
+        @Override
+        public void visit(NameExpr n, Set<String> usedNames) {
+            usedNames.add(n.getNameAsString());
+            super.visit(n, usedNames);
+        }
+
+        @Override
+        public void visit(Name n, Set<String> usedNames) {
+            if (n.getQualifier().isEmpty()) {
+                usedNames.add(n.getIdentifier());
+            }
+            super.visit(n, usedNames);
+        }
+
+        @Override
+        public void visit(ClassOrInterfaceType n, Set<String> usedNames) {
+            if (n.getScope().isEmpty()) {
+                usedNames.add(n.getNameAsString());
+            }
+            super.visit(n, usedNames);
+        }
+
+        @Override
+        public void visit(MethodCallExpr n, Set<String> usedNames) {
+            if (n.getScope().isEmpty()) {
+                usedNames.add(n.getNameAsString());
+            }
+            super.visit(n, usedNames);
+        }
+
+        @Override
+        public void visit(MemberValuePair n, Set<String> usedNames) {
+            usedNames.add(n.getNameAsString());
+            super.visit(n, usedNames);
+        }
+    }
+}
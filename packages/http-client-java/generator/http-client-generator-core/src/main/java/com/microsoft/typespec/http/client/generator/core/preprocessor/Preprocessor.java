@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.preprocessor;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import com.microsoft.typespec.http.client.generator.core.extension.model.Message;
@@ -19,8 +20,11 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlu
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import io.clientcore.core.utils.IOExceptionCheckedFunction;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
@@ -45,17 +49,16 @@ import org.yaml.snakeyaml.representer.Representer;
 public class Preprocessor extends NewPlugin {
     private final NewPlugin wrappedPlugin;
     private final Logger logger;
-    protected static Preprocessor instance;
 
     public Preprocessor(NewPlugin wrappedPlugin, Connection connection, String plugin, String sessionId) {
         super(connection, plugin, sessionId);
         this.wrappedPlugin = wrappedPlugin;
         this.logger = new PluginLogger(this, Preprocessor.class);
-        instance = this;
+        GenerationContext.current().set(Preprocessor.class, this);
     }
 
     public static Preprocessor getPluginInstance() {
-        return instance;
+        return GenerationContext.current().get(Preprocessor.class);
     }
 
     public CodeModel processCodeModel() {
@@ -65,37 +68,77 @@ public class Preprocessor extends NewPlugin {
             throw new RuntimeException(String.format("Generator received incorrect number of inputs: %s : %s}",
                 files.size(), String.join(", ", files)));
         }
-        String file = readFile(files.get(0));
+        // The code model files are for debugging only. The dump of the processed code model would hold yet another
+        // copy of the code model in memory, so they are not written by default.
+        Path codeModelFolder = logger.isDebugEnabled() ? createCodeModelFolder(logger) : null;
+        CodeModel codeModel = loadCodeModel(files.get(0), codeModelFolder);
 
-        Path codeModelFolder;
-        try {
-            codeModelFolder = FileUtils.createTempDirectory("code-model" + UUID.randomUUID());
-            logger.info("Created temp directory for code model: {}", codeModelFolder);
-        } catch (IOException ex) {
-            logger.error("Failed to create temp directory for code model.", ex);
-            throw new RuntimeException("Failed to create temp directory for code model.", ex);
+        performPretransformUpdates(codeModel);
+        codeModel = new Transformer().transform(codeModel);
+        performPosttransformUpdates(codeModel);
+
+        if (codeModelFolder != null) {
+            try {
+                dumpCodeModel(codeModel, codeModelFolder.resolve("code-model-processed-no-tags.yaml"));
+            } catch (Exception e) {
+                logger.error("Failed to pre-process the code model.", e);
+                throw new RuntimeException("Failed to pre-process the code model.", e);
+            }
         }
 
-        try {
-            Files.writeString(codeModelFolder.resolve("code-model.yaml"), file);
-        } catch (Exception e) {
-            //
+        return codeModel;
+    }
+
+    /*
+     * The host sends the content of the file in the response to ReadFile, so it's a String before it's parsed, rather
+     * than a stream. It's only referenced here, so it can be collected once the code model is constructed.
+     */
+    private CodeModel loadCodeModel(String fileName, Path codeModelFolder) {
+        String file = readFile(fileName);
+        if (codeModelFolder != null) {
+            try {
+                Files.writeString(codeModelFolder.resolve("code-model.yaml"), file);
+            } catch (Exception e) {
+                //
+            }
         }
 
-        CodeModel codeModel;
-        try {
+        try (GenerationMetrics.Timer timer = GenerationMetrics.start("loadCodeModel", fileName)) {
+            timer.bytes(file.length());
             // YAML
-            codeModel = yamlMapper.loadAs(file, CodeModel.class);
+            return yamlMapper.loadAs(file, CodeModel.class);
         } catch (Exception e) {
             System.err.println("Got an error " + e.getMessage());
             connection.sendError(1, 500, "Cannot parse input into code model: " + e.getMessage());
             throw new RuntimeException("Cannot parse input into code model.", e);
         }
+    }
 
-        performPretransformUpdates(codeModel);
-        codeModel = new Transformer().transform(codeModel);
-        performPosttransformUpdates(codeModel);
+    /**
+     * Creates a temp directory for the code model files written for debugging.
+     *
+     * @param logger the logger
+     * @return the temp directory
+     */
+    protected static Path createCodeModelFolder(Logger logger) {
+        try {
+            Path codeModelFolder = FileUtils.createTempDirectory("code-model" + UUID.randomUUID());
+            logger.info("Created temp directory for code model: {}", codeModelFolder);
+            return codeModelFolder;
+        } catch (IOException ex) {
+            logger.error("Failed to create temp directory for code model.", ex);
+            throw new RuntimeException("Failed to create temp directory for code model.", ex);
+        }
+    }
 
+    /**
+     * Writes the code model as YAML to the file, streaming the output rather than building it in memory.
+     *
+     * @param codeModel the code model
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    protected static void dumpCodeModel(CodeModel codeModel, Path file) throws IOException {
         Representer representer = new Representer(new DumperOptions()) {
             @Override
             protected NodeTuple representJavaBeanProperty(Object javaBean, Property property, Object propertyValue,
@@ -111,18 +154,12 @@ public class Preprocessor extends NewPlugin {
         LoaderOptions loaderOptions = new LoaderOptions();
         loaderOptions.setCodePointLimit(50 * 1024 * 1024);
         loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
         loaderOptions.setTagInspector(new TrustedTagInspector());
         Yaml newYaml = new Yaml(new Constructor(loaderOptions), representer, new DumperOptions(), loaderOptions);
-        String output = newYaml.dump(codeModel);
-
-        try {
-            Files.writeString(codeModelFolder.resolve("code-model-processed-no-tags.yaml"), output);
-        } catch (Exception e) {
-            logger.error("Failed to pre-process the code model.", e);
-            throw new RuntimeException("Failed to pre-process the code model.", e);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            newYaml.dump(codeModel, writer);
         }
-
-        return codeModel;
     }
 
     private CodeModel performPosttransformUpdates(CodeModel codeModel) {
@@ -8,8 +8,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import org.atteo.evo.inflector.English;
 
 public class CodeNamer {
@@ -18,8 +16,6 @@ public class CodeNamer {
     private static final Set<String> RESERVED_WORDS;
     private static final Set<String> RESERVED_WORDS_CLASSES;
 
-    private static final Pattern CASE_SPLIT = Pattern.compile("[_\\- ]");
-
     static {
         BASIC_LATIN_CHARACTERS = new String[128];
         BASIC_LATIN_CHARACTERS[32] = "Space";
@@ -93,6 +89,10 @@ public class CodeNamer {
     }
 
     public static String toCamelCase(String name) {
+        return NameCache.get(NameCache.Kind.CAMEL_CASE, name, CodeNamer::camelCase);
+    }
+
+    private static String camelCase(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
@@ -102,19 +102,15 @@ public class CodeNamer {
             return toCamelCase(name.substring(1));
         }
 
-        String[] splits = CASE_SPLIT.split(name);
-        if (splits.length == 0) {
-            return "";
-        }
-
-        splits[0] = formatCase(splits[0], true);
-        for (int i = 1; i != splits.length; i++) {
-            splits[i] = formatCase(splits[i], false);
-        }
-        return String.join("", splits);
+        // The first word is in lower case, the following words are in upper case.
+        return joinWords(name, true);
     }
 
     public static String toPascalCase(String name) {
+        return NameCache.get(NameCache.Kind.PASCAL_CASE, name, CodeNamer::pascalCase);
+    }
+
+    private static String pascalCase(String name) {
         if (name == null || name.trim().isEmpty()) {
             return name;
         }
@@ -125,10 +121,29 @@ public class CodeNamer {
             return '_' + toCamelCase(name.substring(1));
         }
 
-        return CASE_SPLIT.splitAsStream(name)
-            .filter(s -> s != null && !s.isEmpty())
-            .map(s -> formatCase(s, false))
-            .collect(Collectors.joining());
+        return joinWords(name, false);
+    }
+
+    /*
+     * Joins the words of the name, separated by '_', '-' or ' ', with the case of each word formatted.
+     */
+    private static String joinWords(String name, boolean firstWordToLower) {
+        int length = name.length();
+        StringBuilder sb = new StringBuilder(length);
+        int wordStart = 0;
+        boolean toLower = firstWordToLower;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || isWordSeparator(name.charAt(i))) {
+                appendFormattedCase(sb, name, wordStart, i, toLower);
+                wordStart = i + 1;
+                toLower = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isWordSeparator(char c) {
+        return c == '_' || c == '-' || c == ' ';
     }
 
     public static String escapeXmlComment(String comment) {
@@ -178,22 +193,24 @@ public class CodeNamer {
         return sb.toString();
     }
 
-    private static String formatCase(String name, boolean toLower) {
-        if (name == null || name.isEmpty()) {
-            return name;
+    private static void appendFormattedCase(StringBuilder sb, String name, int start, int end, boolean toLower) {
+        int length = end - start;
+        if (length == 0) {
+            return;
         }
 
-        int length = name.length();
-        char c0 = name.charAt(0);
-        if ((length < 2) || ((length == 2) && Character.isUpperCase(c0) && Character.isUpperCase(name.charAt(1)))) {
-            return toLower ? name.toLowerCase() : name.toUpperCase();
+        char c0 = name.charAt(start);
+        if ((length < 2)
+            || ((length == 2) && Character.isUpperCase(c0) && Character.isUpperCase(name.charAt(start + 1)))) {
+            String word = name.substring(start, end);
+            sb.append(toLower ? word.toLowerCase() : word.toUpperCase());
         } else {
-            return (toLower ? Character.toLowerCase(c0) : Character.toUpperCase(c0)) + name.substring(1);
+            sb.append(toLower ? Character.toLowerCase(c0) : Character.toUpperCase(c0)).append(name, start + 1, end);
         }
     }
 
     public static String removeInvalidCharacters(String name) {
-        return getValidName(name, c -> c == '_' || c == '-');
+        return NameCache.get(NameCache.Kind.VALID_NAME, name, n -> getValidName(n, c -> c == '_' || c == '-'));
     }
 
     /**
@@ -277,7 +294,7 @@ public class CodeNamer {
 
     public static String getPlural(String name) {
         if (name != null && !name.isEmpty() && !name.endsWith("s") && !name.endsWith("S")) {
-            name = English.plural(name);
+            name = NameCache.get(NameCache.Kind.PLURAL, name, English::plural);
         }
         return name;
     }
@@ -0,0 +1,86 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.preprocessor.namer;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * The names computed by the namers in a generation, by the kind of the name and the input string.
+ * <p>
+ * The naming functions only depend on the input string, and they are called on the same strings for the schemas,
+ * properties, parameters and enum values of the code model, and again in the templates.
+ */
+public final class NameCache {
+    private static final Object NAME_CACHE_KEY = NameCache.class.getName();
+
+    /**
+     * The kind of the name.
+     */
+    public enum Kind {
+        /**
+         * The name in camel case.
+         */
+        CAMEL_CASE,
+
+        /**
+         * The name in Pascal case.
+         */
+        PASCAL_CASE,
+
+        /**
+         * The plural of the name.
+         */
+        PLURAL,
+
+        /**
+         * The name with invalid characters removed.
+         */
+        VALID_NAME,
+
+        /**
+         * The name of the enum member.
+         */
+        ENUM_MEMBER_NAME
+    }
+
+    private final Map<Kind, Map<String, String>> names = new EnumMap<>(Kind.class);
+
+    private NameCache() {
+        for (Kind kind : Kind.values()) {
+            names.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Gets the name of the kind, computing it if it isn't computed in the generation.
+     * <p>
+     * The naming function may call the cache for another name, e.g. for a part of the input string.
+     *
+     * @param kind the kind of the name.
+     * @param name the input string.
+     * @param naming the naming function.
+     * @return the name.
+     */
+    public static String get(Kind kind, String name, UnaryOperator<String> naming) {
+        if (name == null) {
+            return naming.apply(null);
+        }
+
+        Map<String, String> kindNames
+            = GenerationContext.current().getOrCreate(NAME_CACHE_KEY, NameCache::new).names.get(kind);
+        String result = kindNames.get(name);
+        if (result == null) {
+            // not computeIfAbsent, as the naming function may update the map
+            result = naming.apply(name);
+            if (result != null) {
+                kindNames.put(name, result);
+            }
+        }
+        return result;
+    }
+}
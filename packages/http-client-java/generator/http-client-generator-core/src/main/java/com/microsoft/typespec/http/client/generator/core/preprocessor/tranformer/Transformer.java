@@ -33,6 +33,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.extensi
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsPageable;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import io.clientcore.core.utils.CoreUtils;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -48,6 +49,12 @@ import java.util.stream.Stream;
 public class Transformer {
 
     public CodeModel transform(CodeModel codeModel) {
+        try (GenerationMetrics.Timer ignored = GenerationMetrics.start("transform")) {
+            return transformInternal(codeModel);
+        }
+    }
+
+    private CodeModel transformInternal(CodeModel codeModel) {
         renameCodeModel(codeModel);
         transformSchemas(codeModel.getSchemas());
         if (JavaSettings.getInstance().getClientFlattenAnnotationTarget()
@@ -64,6 +64,29 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
             && clientMethod.getProxyMethod().getRawResponseBodyType().isUsedInXml();
     }
 
+    private static boolean isStreamStylePagingResponse(ClientMethod clientMethod, JavaSettings settings) {
+        return settings.isStreamStylePaging()
+            && settings.isDataPlaneClient()
+            && settings.isAzureV1()
+            && !isXmlPagingResponse(clientMethod, settings);
+    }
+
+    /**
+     * Gets the expression creating the {@code PagedResponse} of the page response {@code res}, with the helper reading
+     * the page items and the next link from the page body in a single pass.
+     *
+     * @param clientMethod the paging client method.
+     * @return the expression creating the {@code PagedResponse}.
+     */
+    private static String streamStylePagedResponseExpression(ClientMethod clientMethod) {
+        MethodPageDetails pageDetails = clientMethod.getMethodPageDetails();
+        String nextLinkPath = pageDetails.nonNullNextLink()
+            ? "new String[] { " + serializedPropertyPath(pageDetails.getNextLinkPropertyReference()) + " }"
+            : "null";
+        return "getPagedResponse(res, new String[] { "
+            + serializedPropertyPath(pageDetails.getPageItemsPropertyReference()) + " }, " + nextLinkPath + ")";
+    }
+
     private static String xmlPageItemsExpression(ClientMethod clientMethod) {
         ModelPropertySegment pageItemsSegment = clientMethod.getMethodPageDetails()
             .getPageItemsPropertyReference()
@@ -688,7 +711,7 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
 
         // repeatability headers
         if (repeatabilityRequestHeaders) {
-            requestOptionsSetHeaderIfAbsent(function, MethodUtil.REPEATABILITY_REQUEST_ID_EXPRESSION,
+            requestOptionsSetHeaderIfAbsent(function, MethodUtil.getRepeatabilityRequestIdExpression(),
                 MethodUtil.REPEATABILITY_REQUEST_ID_HEADER);
             if (clientMethod.getProxyMethod()
                 .getSpecialHeaders()
@@ -1029,6 +1052,11 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
 
     protected void pagedSinglePageResponseConversion(ProxyMethod restAPIMethod, ClientMethod clientMethod,
         JavaSettings settings, JavaBlock function) {
+        if (isStreamStylePagingResponse(clientMethod, settings)) {
+            function.methodReturn(streamStylePagedResponseExpression(clientMethod));
+            return;
+        }
+
         function.line("return new PagedResponseBase<>(");
         function.line("res.getRequest(),");
         function.line("res.getStatusCode(),");
@@ -1495,6 +1523,11 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
             } else {
                 function.line("return FluxUtil.withContext(context -> " + serviceMethodCall + ")");
             }
+            if (isStreamStylePagingResponse(clientMethod, settings)) {
+                function.indent(
+                    () -> function.line(".map(res -> " + streamStylePagedResponseExpression(clientMethod) + ");"));
+                return;
+            }
             function.indent(() -> {
                 function.line(".map(res -> new PagedResponseBase<>(");
                 function.indent(() -> {
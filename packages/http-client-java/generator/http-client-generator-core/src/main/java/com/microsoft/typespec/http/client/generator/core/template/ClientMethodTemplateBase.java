@@ -317,10 +317,7 @@ public abstract class ClientMethodTemplateBase implements IJavaTemplate<ClientMe
     }
 
     private static void traverseProperties(ClientModel model, Map<String, ClientModelProperty> properties) {
-        if (model.getParentModelName() != null) {
-            traverseProperties(ClientModelUtil.getClientModel(model.getParentModelName()), properties);
-        }
-
+        ClientModelUtil.getParentProperties(model).forEach(p -> properties.put(p.getSerializedName(), p));
         model.getProperties().forEach(p -> properties.put(p.getSerializedName(), p));
     }
 
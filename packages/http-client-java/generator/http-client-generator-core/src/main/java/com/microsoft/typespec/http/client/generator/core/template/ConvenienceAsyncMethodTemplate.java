@@ -161,7 +161,12 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
 
             default:
                 // JSON, XML etc.
-                if (responseBodyType instanceof EnumType) {
+                String fromJsonModelExpression
+                    = expressionFromJsonModel(mimeType, responseBodyType, "protocolMethodData");
+                if (fromJsonModelExpression != null) {
+                    // model, or list of models, via fromJson
+                    return "protocolMethodData -> " + fromJsonModelExpression;
+                } else if (responseBodyType instanceof EnumType) {
                     // enum
                     return String.format(
                         "protocolMethodData -> %1$s.from%2$s(protocolMethodData.toObject(%2$s.class%3$s))",
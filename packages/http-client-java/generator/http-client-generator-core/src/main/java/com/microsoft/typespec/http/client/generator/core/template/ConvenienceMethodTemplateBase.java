@@ -26,6 +26,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumT
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IterableType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodPageDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterMapping;
@@ -124,6 +125,53 @@ abstract class ConvenienceMethodTemplateBase {
         return useXmlObjectSerializer(mimeType, type) ? ", " + XML_SERIALIZER_MEMBER_NAME : "";
     }
 
+    /**
+     * Whether the JSON payload of the given type is serialized with {@code toJson} and deserialized with
+     * {@code fromJson} of the model via JsonModelSerializationHelper, instead of the
+     * {@link com.azure.core.util.serializer.ObjectSerializer} of {@code fromObject}/{@code toObject}. It requires the
+     * "direct-model-serialization" option, and the payload is a stream-style JSON model of the client.
+     *
+     * @param mimeType the MIME type.
+     * @param type the payload (request body or response body) type.
+     * @return whether to use JsonModelSerializationHelper for the payload.
+     */
+    static boolean useJsonModelSerializationHelper(SupportedMimeType mimeType, IType type) {
+        if (mimeType != SupportedMimeType.JSON
+            || !ClientModelUtil.isDirectModelSerialization(JavaSettings.getInstance())
+            || !ClientModelUtil.isClientModel(type)
+            || ClientModelUtil.isExternalModel(type)) {
+            return false;
+        }
+        ClientModel model = ClientModelUtil.getClientModel(((ClassType) type).getName());
+        return !ClientModelUtil.isMultipartModel(model) && !model.isStronglyTypedHeader();
+    }
+
+    /**
+     * The expression that deserializes the JSON response body of a model, or a list of models, with the
+     * {@code fromJson} of the model via JsonModelSerializationHelper.
+     *
+     * @param mimeType the MIME type.
+     * @param responseBodyType the response body type.
+     * @param binaryDataExpression the expression of the response body as BinaryData.
+     * @return the expression, or {@code null} if the response body is not deserialized via
+     * JsonModelSerializationHelper.
+     */
+    static String expressionFromJsonModel(SupportedMimeType mimeType, IType responseBodyType,
+        String binaryDataExpression) {
+        String readValue;
+        if (useJsonModelSerializationHelper(mimeType, responseBodyType)) {
+            readValue = responseBodyType.asNullable() + "::fromJson";
+        } else if (responseBodyType instanceof ListType
+            && useJsonModelSerializationHelper(mimeType, ((ListType) responseBodyType).getElementType())) {
+            readValue = "reader -> reader.readArray(" + ((ListType) responseBodyType).getElementType().asNullable()
+                + "::fromJson)";
+        } else {
+            return null;
+        }
+        return ClientModelUtil.JSON_MODEL_SERIALIZATION_HELPER_CLASS_NAME + ".fromBinaryData(" + binaryDataExpression
+            + ", " + readValue + ")";
+    }
+
     /**
      * Whether any of the convenience methods requires XML serialization (request or response). Used to decide whether
      * the convenience client needs a static XML serializer member. Only applicable to the azure-core (v1) data-plane
@@ -336,9 +384,16 @@ abstract class ConvenienceMethodTemplateBase {
                                 && ClientModelUtil.isJsonMergePatchModel(
                                     ClientModelUtil.getClientModel(((ClassType) parameterType).getName()),
                                     JavaSettings.getInstance())) {
-                                String variableName = writeParameterConversionExpressionWithJsonMergePatchEnabled(
-                                    javaBlock, parameterType.toString(), parameter.getName(), expression);
-                                addRequestCallback(javaBlock, variableName);
+                                if (ClientModelUtil.isStatelessJsonMergePatchModel(
+                                    ClientModelUtil.getClientModel(((ClassType) parameterType).getName()),
+                                    JavaSettings.getInstance())) {
+                                    addRequestCallback(javaBlock,
+                                        expressionJsonMergePatchToBinaryData(parameter.getName()));
+                                } else {
+                                    String variableName = writeParameterConversionExpressionWithJsonMergePatchEnabled(
+                                        javaBlock, parameterType.toString(), parameter.getName(), expression);
+                                    addRequestCallback(javaBlock, variableName);
+                                }
                             } else {
                                 addRequestCallback(javaBlock, expression);
                             }
@@ -365,6 +420,9 @@ abstract class ConvenienceMethodTemplateBase {
                     ClientModelUtil.getClientModel(((ClassType) parameterRawType).getName()),
                     JavaSettings.getInstance())) {
                 ClientModel clientModel = ClientModelUtil.getClientModel(((ClassType) parameterRawType).getName());
+                if (ClientModelUtil.isStatelessJsonMergePatchModel(clientModel, JavaSettings.getInstance())) {
+                    return expressionJsonMergePatchToBinaryData(parameterName);
+                }
                 // If it is polymorphic model, we need to enable json merge patch through root parent model
                 ClientModel rootParentModel = ClientModelUtil.getRootParent(clientModel);
                 IType rootParentModelType = rootParentModel.getType();
@@ -612,6 +670,12 @@ abstract class ConvenienceMethodTemplateBase {
         // JsonMergePatchHelper class
         imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
             + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
+
+        // JsonModelSerializationHelper class
+        if (ClientModelUtil.isDirectModelSerialization(settings)) {
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                + ClientModelUtil.JSON_MODEL_SERIALIZATION_HELPER_CLASS_NAME);
+        }
     }
 
     protected void addGeneratedAnnotation(JavaType typeBlock) {
@@ -746,6 +810,9 @@ abstract class ConvenienceMethodTemplateBase {
                     } else if (type instanceof EnumType) {
                         return "BinaryData.fromObject(" + name + " == null ? null : " + name + "."
                             + ((EnumType) type).getToMethodName() + "()" + serializerArgument + ")";
+                    } else if (useJsonModelSerializationHelper(mimeType, type)) {
+                        return ClientModelUtil.JSON_MODEL_SERIALIZATION_HELPER_CLASS_NAME + ".toBinaryData(" + name
+                            + ")";
                     } else {
                         return "BinaryData.fromObject(" + name + serializerArgument + ")";
                     }
@@ -1058,6 +1125,20 @@ abstract class ConvenienceMethodTemplateBase {
         return variableName;
     }
 
+    /**
+     * Gets the expression of the JSON merge patch of the model as BinaryData, via JsonMergePatchHelper.
+     * <p>
+     * Unlike {@link #writeParameterConversionExpressionWithJsonMergePatchEnabled}, the model is not changed, and the
+     * JSON merge patch is serialized when the request body is sent.
+     *
+     * @param convenientParameterName the name of the model parameter.
+     * @return the expression of the JSON merge patch as BinaryData.
+     */
+    private static String expressionJsonMergePatchToBinaryData(String convenientParameterName) {
+        return ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME + ".toJsonMergePatchBinaryData("
+            + convenientParameterName + ")";
+    }
+
     protected static class MethodParameter {
 
         private final ProxyMethodParameter proxyMethodParameter;
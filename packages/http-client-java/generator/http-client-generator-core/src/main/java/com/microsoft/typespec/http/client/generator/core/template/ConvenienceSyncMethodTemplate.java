@@ -214,7 +214,12 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
 
             default:
                 // JSON, XML etc.
-                if (responseBodyType instanceof EnumType) {
+                String fromJsonModelExpression
+                    = expressionFromJsonModel(mimeType, responseBodyType, invocationExpression);
+                if (fromJsonModelExpression != null) {
+                    // model, or list of models, via fromJson
+                    return fromJsonModelExpression;
+                } else if (responseBodyType instanceof EnumType) {
                     // enum
                     IType elementType = ((EnumType) responseBodyType).getElementType();
                     return String.format("%1$s.from%2$s(%3$s.toObject(%2$s.class%4$s))", responseBodyType, elementType,
@@ -0,0 +1,156 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaIfBlock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The branches that handle the fields of a JSON object, in the loop reading the object.
+ * <p>
+ * The branches are written as an if/else chain comparing the field name to each JSON property name, or as a switch on
+ * the field name. A switch on a String compares the hash code of the field name first, so each field is compared to a
+ * few property names instead of all of them, which matters for models with many properties.
+ */
+final class JsonFieldDispatch {
+    private final String fieldNameVariableName;
+    private final List<JsonFieldBranch> branches = new ArrayList<>();
+    private String leadingCondition;
+    private Consumer<JavaBlock> leadingAction;
+
+    JsonFieldDispatch(String fieldNameVariableName) {
+        this.fieldNameVariableName = fieldNameVariableName;
+    }
+
+    /**
+     * Sets the branch checked before the field name is. Its action must end the handling of the field, with a continue
+     * or a return statement.
+     *
+     * @param condition The condition of the branch.
+     * @param action The action of the branch.
+     */
+    void setLeadingBranch(String condition, Consumer<JavaBlock> action) {
+        this.leadingCondition = condition;
+        this.leadingAction = action;
+    }
+
+    /**
+     * Adds the branch of a JSON property.
+     *
+     * @param jsonPropertyName The JSON property name.
+     * @param condition The condition checked along with the field name, or null.
+     * @param returns Whether the action ends with a return statement.
+     * @param action The action of the branch.
+     */
+    void addFieldBranch(String jsonPropertyName, String condition, boolean returns, Consumer<JavaBlock> action) {
+        branches.add(new JsonFieldBranch(jsonPropertyName, condition, returns, action));
+    }
+
+    /**
+     * Writes the branches.
+     *
+     * @param methodBlock The block where the branches are written.
+     * @param unknownFieldLogic The handling of a field that doesn't match any branch, or null.
+     * @param switchThreshold The minimum number of branches written as a switch, or 0 to always write an if/else
+     * chain.
+     */
+    void write(JavaBlock methodBlock, Consumer<JavaBlock> unknownFieldLogic, int switchThreshold) {
+        if (useSwitch(switchThreshold)) {
+            writeSwitch(methodBlock, unknownFieldLogic);
+        } else {
+            writeIfElseChain(methodBlock, unknownFieldLogic);
+        }
+    }
+
+    private boolean useSwitch(int switchThreshold) {
+        if (switchThreshold <= 0 || branches.size() < switchThreshold) {
+            return false;
+        }
+
+        // A JSON property name handled twice, e.g. by a shadowed parent property, is only handled by its first branch
+        // in the if/else chain, and isn't a valid switch.
+        Set<String> jsonPropertyNames = new HashSet<>();
+        for (JsonFieldBranch branch : branches) {
+            if (!jsonPropertyNames.add(branch.jsonPropertyName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeIfElseChain(JavaBlock methodBlock, Consumer<JavaBlock> unknownFieldLogic) {
+        JavaIfBlock ifBlock = (leadingCondition == null) ? null : methodBlock.ifBlock(leadingCondition, leadingAction);
+        for (JsonFieldBranch branch : branches) {
+            String condition = "\"" + branch.jsonPropertyName + "\".equals(" + fieldNameVariableName + ")";
+            if (branch.condition != null) {
+                condition += " && " + branch.condition;
+            }
+            ifBlock = (ifBlock == null)
+                ? methodBlock.ifBlock(condition, branch.action)
+                : ifBlock.elseIfBlock(condition, branch.action);
+        }
+
+        if (unknownFieldLogic != null) {
+            if (ifBlock == null) {
+                unknownFieldLogic.accept(methodBlock);
+            } else {
+                ifBlock.elseBlock(unknownFieldLogic);
+            }
+        }
+    }
+
+    private void writeSwitch(JavaBlock methodBlock, Consumer<JavaBlock> unknownFieldLogic) {
+        if (leadingCondition != null) {
+            methodBlock.ifBlock(leadingCondition, leadingAction);
+        }
+
+        // Each case is a block, so the local variables of the cases are scoped as in the if/else chain.
+        methodBlock.block("switch (" + fieldNameVariableName + ")", switchBlock -> {
+            for (JsonFieldBranch branch : branches) {
+                switchBlock.block("case \"" + branch.jsonPropertyName + "\":", caseBlock -> {
+                    if (branch.condition == null) {
+                        branch.action.accept(caseBlock);
+                        if (!branch.returns) {
+                            caseBlock.line("break;");
+                        }
+                    } else {
+                        // As in the if/else chain, the field is unknown if the condition isn't met.
+                        JavaIfBlock ifBlock = caseBlock.ifBlock(branch.condition, branch.action);
+                        if (unknownFieldLogic != null) {
+                            ifBlock.elseBlock(unknownFieldLogic);
+                        }
+                        caseBlock.line("break;");
+                    }
+                });
+            }
+
+            if (unknownFieldLogic != null) {
+                switchBlock.block("default:", defaultBlock -> {
+                    unknownFieldLogic.accept(defaultBlock);
+                    defaultBlock.line("break;");
+                });
+            }
+        });
+    }
+
+    private static final class JsonFieldBranch {
+        private final String jsonPropertyName;
+        private final String condition;
+        private final boolean returns;
+        private final Consumer<JavaBlock> action;
+
+        private JsonFieldBranch(String jsonPropertyName, String condition, boolean returns,
+            Consumer<JavaBlock> action) {
+            this.jsonPropertyName = jsonPropertyName;
+            this.condition = condition;
+            this.returns = returns;
+            this.action = action;
+        }
+    }
+}
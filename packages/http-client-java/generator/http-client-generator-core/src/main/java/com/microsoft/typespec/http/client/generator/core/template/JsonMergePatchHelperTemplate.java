@@ -4,6 +4,7 @@
 package com.microsoft.typespec.http.client.generator.core.template;
 
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
@@ -12,6 +13,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVis
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import io.clientcore.core.utils.CoreUtils;
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -56,6 +58,13 @@ public class JsonMergePatchHelperTemplate implements IJavaTemplate<List<ClientMo
         if (models != null && !models.isEmpty()) {
             models.forEach(model -> model.addImportsTo(imports, settings));
         }
+
+        if (models != null && models.stream().anyMatch(model -> isStatelessJsonMergePatchRoot(model, settings))) {
+            ClassType.BINARY_DATA.addImportsTo(imports, false);
+            ClassType.JSON_SERIALIZABLE.addImportsTo(imports, false);
+            ClassType.JSON_WRITER.addImportsTo(imports, false);
+            imports.add(IOException.class.getName());
+        }
     }
 
     /**
@@ -111,6 +120,11 @@ public class JsonMergePatchHelperTemplate implements IJavaTemplate<List<ClientMo
                         + camelModelName + ", boolean jsonMergePatchEnabled)");
 
                     interfaceBlock.publicMethod("boolean isJsonMergePatch(" + modelName + " " + camelModelName + ")");
+
+                    if (ClientModelUtil.isStatelessJsonMergePatchModel(model, JavaSettings.getInstance())) {
+                        interfaceBlock.publicMethod("JsonWriter toJsonMergePatch(" + modelName + " " + camelModelName
+                            + ", JsonWriter jsonWriter) throws IOException");
+                    }
                 }
 
                 if (model.isPolymorphicParent()) {
@@ -135,6 +149,57 @@ public class JsonMergePatchHelperTemplate implements IJavaTemplate<List<ClientMo
             // Accessor field getter.
             javaClass.publicStaticMethod(modelName + "Accessor get" + modelName + "Accessor()",
                 methodBlock -> methodBlock.methodReturn(camelModelName + "Accessor"));
+
+            if (isStatelessJsonMergePatchRoot(model, JavaSettings.getInstance())) {
+                createJsonMergePatchSerializable(model, javaClass);
+            }
         }
     }
+
+    /**
+     * Creates the JSON merge patch serializable of a root model, and the method to get it as BinaryData.
+     * <p>
+     * The serializable writes the JSON merge patch of the model via the toJsonMergePatch of the accessor, without
+     * changing the state of the model. As BinaryData.fromObject serializes the object when the BinaryData is read, the
+     * JSON merge patch is written when the request body is sent.
+     *
+     * @param model The root model that is used in json-merge-patch.
+     * @param javaClass JavaClass to add the serializable and the method.
+     */
+    private static void createJsonMergePatchSerializable(ClientModel model, JavaClass javaClass) {
+        String modelName = model.getName();
+        String camelModelName = CodeNamer.toCamelCase(modelName);
+        String serializableName = modelName + "JsonMergePatch";
+
+        javaClass.javadocComment(comment -> {
+            comment.description("Gets the JSON merge patch of the " + modelName
+                + " as BinaryData. The JSON merge patch is serialized when the BinaryData is read, and the "
+                + modelName + " is not changed.");
+            comment.param(camelModelName, "the " + modelName + ".");
+            comment.methodReturns("the JSON merge patch of the " + modelName + " as BinaryData.");
+        });
+        javaClass.publicStaticMethod("BinaryData toJsonMergePatchBinaryData(" + modelName + " " + camelModelName + ")",
+            methodBlock -> methodBlock
+                .methodReturn("BinaryData.fromObject(new " + serializableName + "(" + camelModelName + "))"));
+
+        javaClass.privateStaticFinalClass(serializableName + " implements JsonSerializable<" + serializableName + ">",
+            classBlock -> {
+                classBlock.privateFinalMemberVariable(modelName, camelModelName);
+
+                classBlock.constructor(JavaVisibility.Private,
+                    serializableName + "(" + modelName + " " + camelModelName + ")",
+                    constructor -> constructor.line("this." + camelModelName + " = " + camelModelName + ";"));
+
+                classBlock.annotation("Override");
+                classBlock.publicMethod("JsonWriter toJson(JsonWriter jsonWriter) throws IOException",
+                    methodBlock -> methodBlock.methodReturn(camelModelName + " == null ? jsonWriter.writeNull() : "
+                        + camelModelName + "Accessor.toJsonMergePatch(" + camelModelName + ", jsonWriter)"));
+            });
+    }
+
+    private static boolean isStatelessJsonMergePatchRoot(ClientModel model, JavaSettings settings) {
+        return model.getImplementationDetails().isInput()
+            && CoreUtils.isNullOrEmpty(model.getParentModelName())
+            && ClientModelUtil.isStatelessJsonMergePatchModel(model, settings);
+    }
 }
@@ -449,9 +449,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             imports.add(ClassType.JACKSON_ADAPTER.getFullName());
         }
 
-        String lastParentName = model.getName();
-        ClientModel parentModel = ClientModelUtil.getClientModel(model.getParentModelName());
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+        for (ClientModel parentModel : ClientModelUtil.getParentModels(model)) {
             // implementation code of stream-style serialization refs to the element type of the Map
             for (ClientModelProperty parentProperty : parentModel.getProperties()) {
                 if (parentProperty.isAdditionalProperties()) {
@@ -460,8 +458,6 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             }
 
             imports.addAll(parentModel.getImports());
-            lastParentName = parentModel.getName();
-            parentModel = ClientModelUtil.getClientModel(parentModel.getParentModelName());
         }
 
         addGeneratedImport(imports);
@@ -1290,30 +1286,22 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
      */
     protected List<ClientModelPropertyReference> getClientModelPropertyReferences(ClientModel model) {
         List<ClientModelPropertyReference> propertyReferences = new ArrayList<>();
-        String lastParentName = model.getName();
-        String parentModelName = model.getParentModelName();
-        while (parentModelName != null && !lastParentName.equals(parentModelName)) {
-            ClientModel parentModel = ClientModelUtil.getClientModel(parentModelName);
-            if (parentModel != null) {
-                if (parentModel.getProperties() != null) {
-                    parentModel.getProperties()
-                        .stream()
-                        .filter(p -> !p.getClientFlatten() && !p.isAdditionalProperties())
-                        .map(ClientModelPropertyReference::ofParentProperty)
-                        .forEach(propertyReferences::add);
-                }
-
-                if (parentModel.getPropertyReferences() != null) {
-                    parentModel.getPropertyReferences()
-                        .stream()
-                        .filter(ClientModelPropertyReference::isFromFlattenedProperty)
-                        .map(ClientModelPropertyReference::ofParentProperty)
-                        .forEach(propertyReferences::add);
-                }
+        for (ClientModel parentModel : ClientModelUtil.getParentModels(model)) {
+            if (parentModel.getProperties() != null) {
+                parentModel.getProperties()
+                    .stream()
+                    .filter(p -> !p.getClientFlatten() && !p.isAdditionalProperties())
+                    .map(ClientModelPropertyReference::ofParentProperty)
+                    .forEach(propertyReferences::add);
             }
 
-            lastParentName = parentModelName;
-            parentModelName = parentModel == null ? null : parentModel.getParentModelName();
+            if (parentModel.getPropertyReferences() != null) {
+                parentModel.getPropertyReferences()
+                    .stream()
+                    .filter(ClientModelPropertyReference::isFromFlattenedProperty)
+                    .map(ClientModelPropertyReference::ofParentProperty)
+                    .forEach(propertyReferences::add);
+            }
         }
         return propertyReferences;
     }
@@ -1499,6 +1487,13 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     staticBlock.line("@Override");
                     staticBlock.block("public boolean isJsonMergePatch(" + model.getName() + " model)",
                         getJsonMergePatch -> getJsonMergePatch.line("return model.jsonMergePatch;"));
+
+                    if (ClientModelUtil.isStatelessJsonMergePatchModel(model, JavaSettings.getInstance())) {
+                        staticBlock.line("@Override");
+                        staticBlock.block("public JsonWriter toJsonMergePatch(" + model.getName()
+                            + " model, JsonWriter jsonWriter) throws IOException",
+                            toJsonMergePatch -> toJsonMergePatch.line("return model.toJsonMergePatch(jsonWriter);"));
+                    }
                 }
 
                 for (ClientModelProperty setter : setterProperties) {
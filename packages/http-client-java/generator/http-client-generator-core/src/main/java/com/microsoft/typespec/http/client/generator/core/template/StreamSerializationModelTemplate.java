@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -42,6 +43,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,6 +56,7 @@ import javax.xml.stream.XMLStreamException;
 public class StreamSerializationModelTemplate extends ModelTemplate {
     private static final StreamSerializationModelTemplate INSTANCE = new StreamSerializationModelTemplate();
     private static final String READ_MANAGEMENT_ERROR_METHOD_NAME = "readManagementError";
+    private static final String FROM_JSON_FIELDS_METHOD_NAME = "fromJsonFields";
 
     // TODO (alzimmer): Future enhancements:
     // - Create a utility class in the implementation package containing base serialization for polymorphic types.
@@ -385,6 +388,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
         private final Consumer<JavaClass> addGeneratedAnnotation;
         private final boolean isJsonMergePatchModel;
         private final boolean useFromJsonShared;
+        private final boolean readsFromDiscriminatorValue;
 
         protected StreamSerializationGenerator(ClientModelPropertiesManager propertiesManager,
             Predicate<ClientModel> isManagementErrorSubclass) {
@@ -396,6 +400,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             this.addGeneratedAnnotation = Templates.getModelTemplate()::addGeneratedAnnotation;
             this.isJsonMergePatchModel = ClientModelUtil.isJsonMergePatchModel(model, settings);
             this.useFromJsonShared = canUseFromJsonShared(propertiesManager);
+            this.readsFromDiscriminatorValue = canReadFromDiscriminatorValue(model);
         }
 
         public void writeStreamStyleSerialization(JavaClass classBlock) {
@@ -410,8 +415,19 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 if (isJsonMergePatchModel) {
                     writeToJson(classBlock, true);
                     addGeneratedAnnotation.accept(classBlock);
-                    classBlock.privateMethod("JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException",
-                        methodBlock -> serializeJsonProperties(methodBlock, true, false, false));
+                    if (ClientModelUtil.isStatelessJsonMergePatchModel(model, settings)) {
+                        // The accessor of the root model calls toJsonMergePatch, and the subtypes override it.
+                        if (!CoreUtils.isNullOrEmpty(model.getParentModelName())) {
+                            classBlock.annotation("Override");
+                        }
+                        classBlock.packagePrivateMethod(
+                            "JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException",
+                            methodBlock -> serializeJsonProperties(methodBlock, true, false, false));
+                    } else {
+                        classBlock.privateMethod(
+                            "JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException",
+                            methodBlock -> serializeJsonProperties(methodBlock, true, false, false));
+                    }
                 } else {
                     writeToJson(classBlock, false);
                 }
@@ -449,7 +465,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 if (isSuperTypeWithDiscriminator(model)) {
                     writeSuperTypeFromJson(classBlock);
                 } else {
-                    readJsonObject(classBlock, false, this::writeFromJsonDeserialization);
+                    readJsonObjectFields(classBlock, false);
                 }
 
                 if (isManagementErrorSubclass.test(model)) {
@@ -457,7 +473,8 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     classBlock.staticMethod(JavaVisibility.Private,
                         model.getName() + " " + READ_MANAGEMENT_ERROR_METHOD_NAME
                             + "(JsonReader jsonReader) throws IOException",
-                        methodBlock -> readJsonObjectMethodBody(methodBlock, this::writeFromJsonDeserialization0));
+                        methodBlock -> readJsonObjectMethodBody(methodBlock,
+                            block -> writeFromJsonDeserialization0(block, false)));
                 }
             }
         }
@@ -726,15 +743,23 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     methodBlock.line(writeBinaryDataExpr);
                 }
             } else if (fieldSerializationMethod != null) {
-                if (isJsonMergePatch && wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType()) {
-                    methodBlock.line("JsonMergePatchHelper.get" + clientType.toString()
-                        + "Accessor().prepareModelForJsonMergePatch(" + propertyValueGetter + ", true);");
-                }
-                writeSerializeJsonPropertyViaFieldSerializationMethod(methodBlock, property, model, serializedName,
-                    fieldSerializationMethod, fromSuperType);
-                if (isJsonMergePatch && wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType()) {
-                    methodBlock.line("JsonMergePatchHelper.get" + clientType.toString()
-                        + "Accessor().prepareModelForJsonMergePatch(" + propertyValueGetter + ", false);");
+                String jsonMergePatchAccessor = isJsonMergePatch ? getStatelessJsonMergePatchAccessor(wireType) : null;
+                if (jsonMergePatchAccessor != null) {
+                    // The nested model writes its JSON merge patch, without setting its JSON merge patch flag.
+                    methodBlock.line("jsonWriter.writeFieldName(\"" + serializedName + "\");");
+                    methodBlock
+                        .line(jsonMergePatchAccessor + ".toJsonMergePatch(" + propertyValueGetter + ", jsonWriter);");
+                } else {
+                    if (isJsonMergePatch && wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType()) {
+                        methodBlock.line("JsonMergePatchHelper.get" + clientType.toString()
+                            + "Accessor().prepareModelForJsonMergePatch(" + propertyValueGetter + ", true);");
+                    }
+                    writeSerializeJsonPropertyViaFieldSerializationMethod(methodBlock, property, model,
+                        serializedName, fieldSerializationMethod, fromSuperType);
+                    if (isJsonMergePatch && wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType()) {
+                        methodBlock.line("JsonMergePatchHelper.get" + clientType.toString()
+                            + "Accessor().prepareModelForJsonMergePatch(" + propertyValueGetter + ", false);");
+                    }
                 }
             } else if (wireType == ClassType.OBJECT) {
                 if (!property.isRequired() && !property.isRequiredForCreate()
@@ -818,6 +843,27 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
 
+        /**
+         * Gets the accessor of the root model in JsonMergePatchHelper, when the type is a model whose JSON merge patch
+         * is serialized via the toJsonMergePatch of the accessor.
+         *
+         * @param type The type of the property, or of the element of the container property.
+         * @return The expression of the accessor, or null if the JSON merge patch of the type is serialized by setting
+         * the JSON merge patch flag of the model.
+         */
+        private static String getStatelessJsonMergePatchAccessor(IType type) {
+            if (!(type instanceof ClassType) || !((ClassType) type).isSwaggerType()) {
+                return null;
+            }
+            ClientModel typeModel = ClientModelUtil.getClientModel(((ClassType) type).getName());
+            if (typeModel == null
+                || !ClientModelUtil.isStatelessJsonMergePatchModel(typeModel, JavaSettings.getInstance())) {
+                return null;
+            }
+            return JSON_MERGE_PATCH_HELPER_CLASS_NAME + ".get" + ClientModelUtil.getRootParent(typeModel).getName()
+                + "Accessor()";
+        }
+
         /**
          * Helper function to get property getter statement.
          * <p>
@@ -883,15 +929,21 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                         elementName, lambdaWriterName);
                 } else if (valueSerializationMethod != null) {
                     if (isJsonMergePatch && containerType instanceof MapType) {
+                        String jsonMergePatchAccessor = getStatelessJsonMergePatchAccessor(elementType);
                         methodBlock.block("", codeBlock -> codeBlock.ifBlock(elementName + "!= null", ifBlock -> {
-                            if (elementType instanceof ClassType && ((ClassType) elementType).isSwaggerType()) {
-                                methodBlock.line("JsonMergePatchHelper.get" + ((ClassType) elementType).getName()
-                                    + "Accessor().prepareModelForJsonMergePatch(" + elementName + ", true);");
-                            }
-                            ifBlock.line(valueSerializationMethod + ";");
-                            if (elementType instanceof ClassType && ((ClassType) elementType).isSwaggerType()) {
-                                methodBlock.line("JsonMergePatchHelper.get" + ((ClassType) elementType).getName()
-                                    + "Accessor().prepareModelForJsonMergePatch(" + elementName + ", false);");
+                            if (jsonMergePatchAccessor != null) {
+                                ifBlock.line(jsonMergePatchAccessor + ".toJsonMergePatch(" + elementName + ", "
+                                    + lambdaWriterName + ");");
+                            } else {
+                                if (elementType instanceof ClassType && ((ClassType) elementType).isSwaggerType()) {
+                                    methodBlock.line("JsonMergePatchHelper.get" + ((ClassType) elementType).getName()
+                                        + "Accessor().prepareModelForJsonMergePatch(" + elementName + ", true);");
+                                }
+                                ifBlock.line(valueSerializationMethod + ";");
+                                if (elementType instanceof ClassType && ((ClassType) elementType).isSwaggerType()) {
+                                    methodBlock.line("JsonMergePatchHelper.get" + ((ClassType) elementType).getName()
+                                        + "Accessor().prepareModelForJsonMergePatch(" + elementName + ", false);");
+                                }
                             }
                         }).elseBlock(elseBlock -> elseBlock.line(lambdaWriterName + ".writeNull();")));
                     } else {
@@ -1032,11 +1084,63 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             // type as the field.
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
             ClientModelPropertyWithMetadata discriminatorProperty = propertiesManager.getDiscriminatorProperty();
+            String discriminatorName = discriminatorProperty.getProperty().getSerializedName();
+
+            // Add deserialization for all child types.
+            List<ClientModel> childTypes = new ArrayList<>();
+            for (ClientModel childType : getAllChildTypes(model, new ArrayList<>())) {
+                // Determine which serialization method to use based on whether the child type is also a polymorphic
+                // parent and the child shares the same polymorphic discriminator as this model.
+                // If the child and parent have different discriminator names then the child will need to be
+                // deserialized checking the multi-level polymorphic discriminator.
+                // Using the nested discriminator sample, there is
+                // Fish : kind
+                // - Salmon : kind
+                // - Shark : sharktype
+                // - Sawshark : sharktype
+                // So, if deserialization enters Fish and the "kind" is "Shark" then it needs to check the
+                // "sharktype" to determine if it's a Sawshark or another subtype of Shark.
+                if (!isSameDiscriminator(childType)
+                    && !Objects.equals(childType.getParentModelName(), model.getName())) {
+                    // Child model and parent model don't share the same discriminator and the child isn't a direct
+                    // child of the parent model, so skip this child model. This is done as the child model should be
+                    // deserialized by the subtype that defines the different polymorphic discriminator. Using the
+                    // sample above, Fish can't use "kind" to deserialize to a Shark subtype, it needs to use
+                    // "sharktype".
+                    continue;
+                }
+
+                childTypes.add(childType);
+            }
+
+            // The subtypes can only continue reading the object from the discriminator value if all of them read it
+            // with the same discriminator.
+            boolean readFromDiscriminatorValue = readsFromDiscriminatorValue
+                && Objects.equals(discriminatorName, model.getPolymorphicDiscriminatorName())
+                && childTypes.stream()
+                    .allMatch(childType -> isSameDiscriminator(childType) && canReadFromDiscriminatorValue(childType));
+
             readJsonObject(classBlock, false, methodBlock -> {
-                // For now, reading polymorphic types will always buffer the current object.
-                // In the future this can be enhanced to switch if the first property is the discriminator field and to
-                // use
-                // a Map to contain all properties found while searching for the discriminator field.
+                if (readFromDiscriminatorValue) {
+                    // The discriminator is usually the first field of the object. If it is, the subtype continues
+                    // reading the object from the discriminator value, without buffering the object.
+                    methodBlock.line("JsonToken token = reader.nextToken();");
+                    methodBlock.ifBlock("token == JsonToken.END_OBJECT",
+                        ifBlock -> ifBlock.methodReturn(FROM_JSON_FIELDS_METHOD_NAME + "(reader)"));
+                    methodBlock.ifBlock("\"" + discriminatorName + "\".equals(reader.getFieldName())", ifBlock -> {
+                        ifBlock.line("reader.nextToken();");
+                        ifBlock.line("String discriminatorValue = reader.getString();");
+                        writeDiscriminatorValueDispatch(ifBlock, childTypes,
+                            childType -> childType.getName() + "." + FROM_JSON_FIELDS_METHOD_NAME + "(reader)",
+                            FROM_JSON_FIELDS_METHOD_NAME + "(reader)");
+                    });
+
+                    // Otherwise, the object is buffered from its first field until the discriminator is found.
+                }
+
+                // Buffer the object until the discriminator field is found.
+                // In the future this can be enhanced to use a Map to contain all properties found while searching for
+                // the discriminator field.
                 // TODO (alzimmer): Need to handle non-string wire type discriminator types.
                 methodBlock.line("String discriminatorValue = null;");
                 methodBlock.tryBlock("JsonReader readerToUse = reader.bufferObject()", tryStatement -> {
@@ -1045,8 +1149,8 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     tryStatement.increaseIndent();
                     tryStatement.line("String " + fieldNameVariableName + " = readerToUse.getFieldName();");
                     tryStatement.line("readerToUse.nextToken();");
-                    tryStatement.ifBlock("\"" + discriminatorProperty.getProperty().getSerializedName() + "\".equals("
-                        + fieldNameVariableName + ")", ifStatement -> {
+                    tryStatement.ifBlock("\"" + discriminatorName + "\".equals(" + fieldNameVariableName + ")",
+                        ifStatement -> {
                             ifStatement.line("discriminatorValue = readerToUse.getString();");
                             ifStatement.line("break;");
                         }).elseBlock(elseBlock -> elseBlock.line("readerToUse.skipChildren();"));
@@ -1056,60 +1160,63 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
                     tryStatement
                         .line("// Use the discriminator value to determine which subtype should be deserialized.");
+                    writeDiscriminatorValueDispatch(tryStatement, childTypes, childType -> childType.getName()
+                        + ((isSuperTypeWithDiscriminator(childType) && isSameDiscriminator(childType))
+                            ? ".fromJsonKnownDiscriminator(readerToUse.reset())"
+                            : ".fromJson(readerToUse.reset())"),
+                        "fromJsonKnownDiscriminator(readerToUse.reset())");
+                });
+            });
 
-                    // Add deserialization for the super type itself.
-                    JavaIfBlock ifBlock = null;
-
-                    // Add deserialization for all child types.
-                    List<ClientModel> childTypes = getAllChildTypes(model, new ArrayList<>());
-                    for (ClientModel childType : childTypes) {
-                        // Determine which serialization method to use based on whether the child type is also a
-                        // polymorphic
-                        // parent and the child shares the same polymorphic discriminator as this model.
-                        // If the child and parent have different discriminator names then the child will need to be
-                        // deserialized checking the multi-level polymorphic discriminator.
-                        // Using the nested discriminator sample, there is
-                        // Fish : kind
-                        // - Salmon : kind
-                        // - Shark : sharktype
-                        // - Sawshark : sharktype
-                        // So, if deserialization enters Fish and the "kind" is "Shark" then it needs to check the
-                        // "sharktype" to determine if it's a Sawshark or another subtype of Shark.
-                        boolean sameDiscriminator = Objects.equals(childType.getPolymorphicDiscriminatorName(),
-                            model.getPolymorphicDiscriminatorName());
-
-                        if (!sameDiscriminator && !Objects.equals(childType.getParentModelName(), model.getName())) {
-                            // Child model and parent model don't share the same discriminator and the child isn't a
-                            // direct
-                            // child of the parent model, so skip this child model. This is done as the child model
-                            // should
-                            // be deserialized by the subtype that defines the different polymorphic discriminator.
-                            // Using
-                            // the sample above, Fish can't use "kind" to deserialize to a Shark subtype, it needs to
-                            // use
-                            // "sharktype".
-                            continue;
-                        }
+            readJsonObjectFields(classBlock, true);
+        }
 
-                        String deserializationMethod = (isSuperTypeWithDiscriminator(childType) && sameDiscriminator)
-                            ? ".fromJsonKnownDiscriminator(readerToUse.reset())"
-                            : ".fromJson(readerToUse.reset())";
+        private boolean isSameDiscriminator(ClientModel childType) {
+            return Objects.equals(childType.getPolymorphicDiscriminatorName(), model.getPolymorphicDiscriminatorName());
+        }
 
-                        ifBlock = ifOrElseIf(tryStatement, ifBlock,
-                            "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
-                            ifStatement -> ifStatement.methodReturn(childType.getName() + deserializationMethod));
-                    }
+        /**
+         * Writes the deserialization of the subtype, or the super type itself, for the discriminator value.
+         * <p>
+         * The subtype is found with a switch on the discriminator value if
+         * {@link JavaSettings#isDiscriminatorFirstDeserialization()} is enabled, otherwise with an if/else chain.
+         *
+         * @param block The block where the deserialization is written.
+         * @param childTypes The subtypes that can be deserialized.
+         * @param childDeserialization The deserialization of a subtype.
+         * @param deserialization The deserialization of the super type, for unknown discriminator values.
+         */
+        private void writeDiscriminatorValueDispatch(JavaBlock block, List<ClientModel> childTypes,
+            Function<ClientModel, String> childDeserialization, String deserialization) {
+            Set<String> serializedNames = new HashSet<>();
+            boolean useSwitch = settings.isDiscriminatorFirstDeserialization()
+                && !childTypes.isEmpty()
+                && childTypes.stream().allMatch(childType -> serializedNames.add(childType.getSerializedName()));
+
+            if (useSwitch) {
+                block.ifBlock("discriminatorValue != null",
+                    ifBlock -> ifBlock.block("switch (discriminatorValue)", switchBlock -> {
+                        for (ClientModel childType : childTypes) {
+                            switchBlock.line("case \"" + childType.getSerializedName() + "\":");
+                            switchBlock.indent(() -> switchBlock.methodReturn(childDeserialization.apply(childType)));
+                        }
+                    }));
+                block.methodReturn(deserialization);
+                return;
+            }
 
-                    if (ifBlock == null) {
-                        tryStatement.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())");
-                    } else {
-                        ifBlock.elseBlock(
-                            elseBlock -> elseBlock.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())"));
-                    }
-                });
-            });
+            JavaIfBlock ifBlock = null;
+            for (ClientModel childType : childTypes) {
+                ifBlock = ifOrElseIf(block, ifBlock,
+                    "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
+                    ifStatement -> ifStatement.methodReturn(childDeserialization.apply(childType)));
+            }
 
-            readJsonObject(classBlock, true, this::writeFromJsonDeserialization);
+            if (ifBlock == null) {
+                block.methodReturn(deserialization);
+            } else {
+                ifBlock.elseBlock(elseBlock -> elseBlock.methodReturn(deserialization));
+            }
         }
 
         private static List<ClientModel> getAllChildTypes(ClientModel model, List<ClientModel> childTypes) {
@@ -1134,6 +1241,48 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 : propertiesManager.getSuperAdditionalPropertiesProperty();
         }
 
+        /**
+         * Whether the model reads its JSON object with a package-private {@code fromJsonFields(JsonReader)} method,
+         * which a super type can call to continue reading the object from the discriminator value.
+         *
+         * @param model The model.
+         * @return Whether the model can continue reading its JSON object from the discriminator value.
+         */
+        private boolean canReadFromDiscriminatorValue(ClientModel model) {
+            return settings.isDiscriminatorFirstDeserialization()
+                && model.isPolymorphic()
+                && !CoreUtils.isNullOrEmpty(model.getPolymorphicDiscriminatorName())
+                && model.isAllPolymorphicModelsInSamePackage()
+                && model.getXmlName() == null
+                && !isManagementErrorSubclass.test(model);
+        }
+
+        /**
+         * Writes the method reading the properties of the model from the JSON object, {@code fromJson} or
+         * {@code fromJsonKnownDiscriminator} if {@code superTypeReading} is true.
+         * <p>
+         * If the model can continue reading its JSON object from the discriminator value, the method calls
+         * {@code fromJsonFields(JsonReader)}, which the super type calls directly when the discriminator is the first
+         * field of the object.
+         *
+         * @param classBlock The class where the methods are being written.
+         * @param superTypeReading Whether the object reading is for a super type.
+         */
+        private void readJsonObjectFields(JavaClass classBlock, boolean superTypeReading) {
+            if (!readsFromDiscriminatorValue) {
+                readJsonObject(classBlock, superTypeReading, this::writeFromJsonDeserialization);
+                return;
+            }
+
+            writeFromJsonMethod(classBlock, superTypeReading, methodBlock -> methodBlock
+                .methodReturn("jsonReader.readObject(" + model.getName() + "::" + FROM_JSON_FIELDS_METHOD_NAME + ")"));
+
+            addGeneratedAnnotation.accept(classBlock);
+            classBlock.staticMethod(JavaVisibility.PackagePrivate,
+                model.getName() + " " + FROM_JSON_FIELDS_METHOD_NAME + "(JsonReader reader) throws IOException",
+                methodBlock -> writeFromJsonDeserialization0(methodBlock, true));
+        }
+
         private void writeFromJsonDeserialization(JavaBlock methodBlock) {
             // Add the deserialization logic.
             methodBlock.indent(() -> {
@@ -1150,18 +1299,28 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
                     methodBlock.methodReturn(READ_MANAGEMENT_ERROR_METHOD_NAME + "(bufferedReader.reset())");
                 } else {
-                    writeFromJsonDeserialization0(methodBlock);
+                    writeFromJsonDeserialization0(methodBlock, false);
                 }
             });
         }
 
-        private void writeFromJsonDeserialization0(JavaBlock methodBlock) {
+        /**
+         * Writes the loop reading the JSON object, and the validation and return of the deserialized model.
+         *
+         * @param methodBlock The method handling deserialization.
+         * @param fromDiscriminatorValue Whether the reader may be at the discriminator value, if a super type read
+         * the discriminator as the first field of the object, or at the end of an empty object.
+         */
+        private void writeFromJsonDeserialization0(JavaBlock methodBlock, boolean fromDiscriminatorValue) {
             // Initialize local variables to track what has been deserialized.
             initializeLocalVariables(methodBlock, false);
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
 
             // Add the outermost while loop to read the JSON object.
-            addReaderWhileLoop(methodBlock, true, false, whileBlock -> {
+            Consumer<Consumer<JavaBlock>> readerWhileLoop = fromDiscriminatorValue
+                ? whileBlock -> addReaderWhileLoopFromDiscriminatorValue(methodBlock, whileBlock)
+                : whileBlock -> addReaderWhileLoop(methodBlock, true, false, whileBlock);
+            readerWhileLoop.accept(whileBlock -> {
                 if (useFromJsonShared && model.isPolymorphicParent()) {
                     // If we can use 'fromJsonShared' and this model is a super type, then we can use a customized
                     // 'fromJson' / 'fromJsonKnownDiscriminator' method to handle deserialization.
@@ -1172,16 +1331,15 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     // }
                     String ifBlockCondition = "!" + model.getName() + ".fromJsonShared(reader, " + fieldNameVariableName
                         + ", " + propertiesManager.getDeserializedModelName() + ")";
-                    methodBlock.ifBlock(ifBlockCondition, ifBlock -> generateUnknownFieldLogic(ifBlock, null));
+                    methodBlock.ifBlock(ifBlockCondition, getUnknownFieldLogic());
                     return;
                 }
 
                 // Loop over all properties and generate their deserialization handling.
-                AtomicReference<JavaIfBlock> ifBlockReference = new AtomicReference<>(null);
+                JsonFieldDispatch dispatch = new JsonFieldDispatch(fieldNameVariableName);
 
                 BiConsumer<ClientModelProperty, Boolean> consumer
-                    = (property, fromSuper) -> handleJsonPropertyDeserialization(property, whileBlock, ifBlockReference,
-                        fromSuper, false);
+                    = (property, fromSuper) -> handleJsonPropertyDeserialization(property, dispatch, fromSuper, false);
 
                 Map<String, ClientModelProperty> modelPropertyMap = new LinkedHashMap<>();
                 for (ClientModelProperty parentProperty : ClientModelUtil.getParentProperties(model)) {
@@ -1196,7 +1354,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     // deserialization of the parent model(s) in 'fromJson' call to the parent class's 'fromJsonShared'.
                     String ifBlockCondition = model.getParentModelName() + ".fromJsonShared(reader, "
                         + fieldNameVariableName + ", " + propertiesManager.getDeserializedModelName() + ")";
-                    ifBlockReference.set(methodBlock.ifBlock(ifBlockCondition, ifBlock -> ifBlock.line("continue;")));
+                    dispatch.setLeadingBranch(ifBlockCondition, ifBlock -> ifBlock.line("continue;"));
                 } else {
                     // Child classes may contain properties that shadow parents' ones.
                     // Thus, we only take the shadowing ones, not the ones shadowed.
@@ -1219,20 +1377,19 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     superSettersToDeserialized.values().forEach(property -> consumer.accept(property, true));
                 }
 
-                generateThisFromJson(ifBlockReference, consumer, methodBlock, false, useFromJsonShared);
+                generateThisFromJson(dispatch, consumer, false, useFromJsonShared);
 
                 // All properties have been checked for, add an else block that will either ignore unknown properties
                 // or add them into an additional properties bag.
-                generateUnknownFieldLogic(whileBlock, ifBlockReference.get());
+                writeJsonFieldDispatch(dispatch, whileBlock, getUnknownFieldLogic());
             });
 
             // Add the validation and return logic.
             handleReadReturn(methodBlock);
         }
 
-        private void generateThisFromJson(AtomicReference<JavaIfBlock> ifBlockReference,
-            BiConsumer<ClientModelProperty, Boolean> consumer, JavaBlock methodBlock, boolean isFromJsonShared,
-            boolean usingFromJsonShared) {
+        private void generateThisFromJson(JsonFieldDispatch dispatch, BiConsumer<ClientModelProperty, Boolean> consumer,
+            boolean isFromJsonShared, boolean usingFromJsonShared) {
             propertiesManager.forEachRequiredProperty(property -> {
                 if (property.isConstant()) {
                     return;
@@ -1252,13 +1409,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 consumer.accept(property, false);
             });
 
-            JavaIfBlock ifBlock = ifBlockReference.get();
-
             // Add flattened properties if we aren't using 'fromJsonShared' or some of the flattened properties are
             // defined
             // by this model.
             if (!usingFromJsonShared || !propertiesManager.isAllFlattenedPropertiesFromParent()) {
-                handleFlattenedPropertiesDeserialization(methodBlock, ifBlock, isFromJsonShared);
+                handleFlattenedPropertiesDeserialization(dispatch, isFromJsonShared);
             }
         }
 
@@ -1271,9 +1426,21 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 && !model.isPolymorphicDiscriminatorDefinedByModel();
         }
 
-        private void generateUnknownFieldLogic(JavaBlock whileBlock, JavaIfBlock ifBlock) {
-            ClientModelProperty additionalProperty = getAdditionalPropertiesPropertyInModelOrFromSuper();
-            handleUnknownJsonFieldDeserialization(whileBlock, ifBlock, additionalProperty);
+        private Consumer<JavaBlock> getUnknownFieldLogic() {
+            return getUnknownJsonFieldDeserialization(getAdditionalPropertiesPropertyInModelOrFromSuper());
+        }
+
+        /**
+         * Writes the dispatch on the JSON field name, as a switch statement if the dispatch has at least as many
+         * fields as {@link JavaSettings#getJsonFieldSwitchThreshold()}.
+         *
+         * @param dispatch The dispatch on the JSON field name.
+         * @param methodBlock The block where the dispatch is written.
+         * @param unknownFieldLogic The handling of an unknown field, or null if unknown fields aren't handled.
+         */
+        private void writeJsonFieldDispatch(JsonFieldDispatch dispatch, JavaBlock methodBlock,
+            Consumer<JavaBlock> unknownFieldLogic) {
+            dispatch.write(methodBlock, unknownFieldLogic, settings.getJsonFieldSwitchThreshold());
         }
 
         /**
@@ -1294,6 +1461,20 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
          */
         private void readJsonObject(JavaClass classBlock, boolean superTypeReading,
             Consumer<JavaBlock> deserializationBlock) {
+            writeFromJsonMethod(classBlock, superTypeReading,
+                methodBlock -> readJsonObjectMethodBody(methodBlock, deserializationBlock));
+        }
+
+        /**
+         * Adds the {@code fromJson} method, or the {@code fromJsonKnownDiscriminator} method if
+         * {@code superTypeReading} is true, with the given body.
+         *
+         * @param classBlock The class where the {@code fromJson} method is being written.
+         * @param superTypeReading Whether the object reading is for a super type.
+         * @param methodBody The body of the method.
+         */
+        private void writeFromJsonMethod(JavaClass classBlock, boolean superTypeReading,
+            Consumer<JavaBlock> methodBody) {
             JavaVisibility visibility = superTypeReading ? JavaVisibility.PackagePrivate : JavaVisibility.Public;
             String methodName = superTypeReading ? "fromJsonKnownDiscriminator" : "fromJson";
 
@@ -1320,8 +1501,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
             addGeneratedAnnotation.accept(classBlock);
             classBlock.staticMethod(visibility,
-                modelName + " " + methodName + "(JsonReader jsonReader) throws IOException",
-                methodBlock -> readJsonObjectMethodBody(methodBlock, deserializationBlock));
+                modelName + " " + methodName + "(JsonReader jsonReader) throws IOException", methodBody);
 
             if (superTypeReading && useFromJsonShared && model.isPolymorphicParent()) {
                 // Add a package-private 'fromJsonShared' method that can handle deserializing properties defined in the
@@ -1333,19 +1513,19 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     + modelName + " " + modelDeserializedName + ") throws IOException";
                 addGeneratedAnnotation.accept(classBlock);
                 classBlock.staticMethod(JavaVisibility.PackagePrivate, methodDefinition, methodBlock -> {
-                    AtomicReference<JavaIfBlock> ifBlockReference = new AtomicReference<>();
+                    JsonFieldDispatch dispatch = new JsonFieldDispatch(fieldName);
                     if (!CoreUtils.isNullOrEmpty(model.getParentModelName())) {
                         String callToSuperFromJsonShared = model.getParentModelName() + ".fromJsonShared(reader, "
                             + propertiesManager.getJsonReaderFieldNameVariableName() + ", "
                             + propertiesManager.getDeserializedModelName() + ")";
-                        ifBlockReference.set(
-                            methodBlock.ifBlock(callToSuperFromJsonShared, ifBlock -> ifBlock.methodReturn("true")));
+                        dispatch.setLeadingBranch(callToSuperFromJsonShared, ifBlock -> ifBlock.methodReturn("true"));
                     }
 
                     BiConsumer<ClientModelProperty, Boolean> consumer
-                        = (property, fromSuper) -> handleJsonPropertyDeserialization(property, methodBlock,
-                            ifBlockReference, fromSuper, true);
-                    generateThisFromJson(ifBlockReference, consumer, methodBlock, true, false);
+                        = (property, fromSuper) -> handleJsonPropertyDeserialization(property, dispatch, fromSuper,
+                            true);
+                    generateThisFromJson(dispatch, consumer, true, false);
+                    writeJsonFieldDispatch(dispatch, methodBlock, null);
 
                     methodBlock.methodReturn("false");
                 });
@@ -1493,71 +1673,92 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             });
         }
 
-        private void handleJsonPropertyDeserialization(ClientModelProperty property, JavaBlock methodBlock,
-            AtomicReference<JavaIfBlock> ifBlockReference, boolean fromSuper, boolean isFromJsonShared) {
+        /**
+         * Adds the while loop of {@code fromJsonFields(JsonReader)}, which handles reading the JSON object until it is
+         * fully consumed.
+         * <p>
+         * The reader is at the start of the object, at the end of an empty object, or at the value of the discriminator
+         * if a super type read the discriminator as the first field of the object. In the last case, the first
+         * iteration of the loop handles the discriminator field.
+         *
+         * @param methodBlock The method handling deserialization.
+         * @param whileBlock The consumer that adds deserialization logic into the while loop.
+         */
+        private void addReaderWhileLoopFromDiscriminatorValue(JavaBlock methodBlock, Consumer<JavaBlock> whileBlock) {
+            String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
+
+            methodBlock.line("JsonToken startToken = reader.currentToken();");
+            methodBlock.line("boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT "
+                + "&& startToken != JsonToken.END_OBJECT;");
+            methodBlock.block("while (atDiscriminatorValue "
+                + "|| (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT))",
+                whileAction -> {
+                    methodBlock.line("String " + fieldNameVariableName + ";");
+                    methodBlock.ifBlock("atDiscriminatorValue", ifBlock -> {
+                        ifBlock.line(fieldNameVariableName + " = \"" + model.getPolymorphicDiscriminatorName() + "\";");
+                        ifBlock.line("atDiscriminatorValue = false;");
+                    }).elseBlock(elseBlock -> {
+                        elseBlock.line(fieldNameVariableName + " = reader.getFieldName();");
+                        elseBlock.line("reader.nextToken();");
+                    });
+                    methodBlock.line("");
+
+                    whileBlock.accept(methodBlock);
+                });
+        }
+
+        private void handleJsonPropertyDeserialization(ClientModelProperty property, JsonFieldDispatch dispatch,
+            boolean fromSuper, boolean isFromJsonShared) {
             // Property will be handled later by flattened deserialization.
             if (property.getNeedsFlatten()) {
                 return;
             }
 
-            JavaIfBlock ifBlock = ifBlockReference.get();
-            ifBlock = handleJsonPropertyDeserialization(property, methodBlock, ifBlock, fromSuper, isFromJsonShared);
-
-            ifBlockReference.set(ifBlock);
-        }
-
-        private JavaIfBlock handleJsonPropertyDeserialization(ClientModelProperty property, JavaBlock methodBlock,
-            JavaIfBlock ifBlock, boolean fromSuper, boolean isFromJsonShared) {
             String jsonPropertyName = property.getSerializedName();
             if (CoreUtils.isNullOrEmpty(jsonPropertyName)) {
-                return ifBlock;
+                return;
             }
 
-            return ifOrElseIf(methodBlock, ifBlock,
-                "\"" + jsonPropertyName + "\".equals(" + propertiesManager.getJsonReaderFieldNameVariableName() + ")",
-                deserializationBlock -> {
-                    generateJsonDeserializationLogic(deserializationBlock, property, fromSuper);
-                    if (isFromJsonShared) {
-                        deserializationBlock.methodReturn("true");
-                    }
-                });
+            dispatch.addFieldBranch(jsonPropertyName, null, isFromJsonShared, deserializationBlock -> {
+                generateJsonDeserializationLogic(deserializationBlock, property, fromSuper);
+                if (isFromJsonShared) {
+                    deserializationBlock.methodReturn("true");
+                }
+            });
         }
 
-        private void handleFlattenedPropertiesDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
-            boolean isFromJsonShared) {
+        private void handleFlattenedPropertiesDeserialization(JsonFieldDispatch dispatch, boolean isFromJsonShared) {
             // The initial call to handle flattened properties is using the base node which is just a holder.
             for (JsonFlattenedPropertiesTree structure : propertiesManager.getJsonFlattenedPropertiesTree()
                 .getChildrenNodes()
                 .values()) {
-                handleFlattenedPropertiesDeserializationHelper(structure, methodBlock, ifBlock, isFromJsonShared, 0);
+                handleFlattenedPropertiesDeserializationHelper(structure, dispatch, isFromJsonShared, 0);
             }
         }
 
-        private JavaIfBlock handleFlattenedPropertiesDeserializationHelper(
-            JsonFlattenedPropertiesTree flattenedProperties, JavaBlock methodBlock, JavaIfBlock ifBlock,
-            boolean isFromJsonShared, int depth) {
-            String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
+        private void handleFlattenedPropertiesDeserializationHelper(JsonFlattenedPropertiesTree flattenedProperties,
+            JsonFieldDispatch dispatch, boolean isFromJsonShared, int depth) {
             ClientModelPropertyWithMetadata propertyWithMetadata = flattenedProperties.getProperty();
             if (propertyWithMetadata != null) {
                 // This is a terminal location, so only need to handle checking for the property name.
-                return ifOrElseIf(methodBlock, ifBlock,
-                    "\"" + flattenedProperties.getNodeName() + "\".equals(" + fieldNameVariableName + ")",
+                dispatch.addFieldBranch(flattenedProperties.getNodeName(), null, false,
                     deserializationBlock -> generateJsonDeserializationLogic(deserializationBlock,
                         propertyWithMetadata.getProperty(), propertyWithMetadata.isFromSuperClass()));
             } else {
                 // Otherwise this is an intermediate location and a while loop reader needs to be added.
-                return ifOrElseIf(methodBlock, ifBlock, "\"" + flattenedProperties.getNodeName() + "\".equals("
-                    + fieldNameVariableName + ") && reader.currentToken() == JsonToken.START_OBJECT", ifAction -> {
+                dispatch.addFieldBranch(flattenedProperties.getNodeName(),
+                    "reader.currentToken() == JsonToken.START_OBJECT", isFromJsonShared && depth == 0, ifAction -> {
                         addReaderWhileLoop(ifAction, false, false, whileBlock -> {
-                            JavaIfBlock innerIfBlock = null;
+                            JsonFieldDispatch innerDispatch
+                                = new JsonFieldDispatch(propertiesManager.getJsonReaderFieldNameVariableName());
                             for (JsonFlattenedPropertiesTree structure : flattenedProperties.getChildrenNodes()
                                 .values()) {
-                                innerIfBlock = handleFlattenedPropertiesDeserializationHelper(structure, methodBlock,
-                                    innerIfBlock, isFromJsonShared, depth + 1);
+                                handleFlattenedPropertiesDeserializationHelper(structure, innerDispatch,
+                                    isFromJsonShared, depth + 1);
                             }
 
-                            handleUnknownJsonFieldDeserialization(whileBlock, innerIfBlock,
-                                propertiesManager.getAdditionalProperties());
+                            writeJsonFieldDispatch(innerDispatch, whileBlock,
+                                getUnknownJsonFieldDeserialization(propertiesManager.getAdditionalProperties()));
                         });
 
                         if (isFromJsonShared && depth == 0) {
@@ -1797,10 +1998,9 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 : wireType.jsonDeserializationMethod(readerName);
         }
 
-        private void handleUnknownJsonFieldDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
-            ClientModelProperty additionalProperties) {
+        private Consumer<JavaBlock> getUnknownJsonFieldDeserialization(ClientModelProperty additionalProperties) {
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
-            Consumer<JavaBlock> unknownFieldConsumer = javaBlock -> {
+            return javaBlock -> {
                 if (additionalProperties != null) {
                     javaBlock.ifBlock(additionalProperties.getName() + " == null",
                         ifAction -> ifAction.line(additionalProperties.getName() + " = new LinkedHashMap<>();"));
@@ -1830,12 +2030,6 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     javaBlock.line("reader.skipChildren();");
                 }
             };
-
-            if (ifBlock == null) {
-                unknownFieldConsumer.accept(methodBlock);
-            } else {
-                ifBlock.elseBlock(unknownFieldConsumer);
-            }
         }
 
         /**
@@ -554,7 +554,7 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
 
         // repeatability headers
         if (repeatabilityRequestHeaders) {
-            requestOptionsSetHeaderIfAbsent(function, MethodUtil.REPEATABILITY_REQUEST_ID_EXPRESSION,
+            requestOptionsSetHeaderIfAbsent(function, MethodUtil.getRepeatabilityRequestIdExpression(),
                 MethodUtil.REPEATABILITY_REQUEST_ID_HEADER);
             if (clientMethod.getProxyMethod()
                 .getSpecialHeaders()
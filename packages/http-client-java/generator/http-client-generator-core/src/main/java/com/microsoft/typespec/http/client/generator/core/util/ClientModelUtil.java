@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.util;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ApiVersion;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
@@ -21,12 +22,14 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelPropertyAccess;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.CodeModelSummary;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ConvenienceMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ExternalPackage;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ModelHierarchy;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ModelPropertySegment;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
@@ -63,8 +66,12 @@ public class ClientModelUtil {
 
     private static final Pattern SPLIT_FLATTEN_PROPERTY_PATTERN = Pattern.compile("((?<!\\\\))\\.");
 
+    private static final String CLIENT_MODEL_FUNCTION_KEY = ClientModelUtil.class.getName() + ".getClientModelFunction";
+
     public static final String JSON_MERGE_PATCH_HELPER_CLASS_NAME = "JsonMergePatchHelper";
 
+    public static final String JSON_MODEL_SERIALIZATION_HELPER_CLASS_NAME = "JsonModelSerializationHelper";
+
     public static final String OPERATION_LOCATION_POLLING_STRATEGY = "OperationLocationPollingStrategy";
     public static final String SYNC_OPERATION_LOCATION_POLLING_STRATEGY = "SyncOperationLocationPollingStrategy";
     public static final String POLLING_UTILS = "PollingUtils";
@@ -427,9 +434,6 @@ public class ClientModelUtil {
         return Arrays.asList(values);
     }
 
-    private static Function<String, ClientModel> getClientModelFunction
-        = name -> ClientModels.getInstance().getModel(name);
-
     /**
      * Replace the default function of getting ClientModel by name.
      * <p>
@@ -439,7 +443,7 @@ public class ClientModelUtil {
      * @param function the function of getting ClientModel by name
      */
     public static void setGetClientModelFunction(Function<String, ClientModel> function) {
-        getClientModelFunction = function;
+        GenerationContext.current().set(CLIENT_MODEL_FUNCTION_KEY, function);
     }
 
     /**
@@ -449,7 +453,43 @@ public class ClientModelUtil {
      * @return the ClientModel instance. <code>null</code> if not found.
      */
     public static ClientModel getClientModel(String name) {
-        return getClientModelFunction.apply(name);
+        Function<String, ClientModel> getClientModelFunction
+            = GenerationContext.current().get(CLIENT_MODEL_FUNCTION_KEY);
+        return getClientModelFunction == null
+            ? ClientModels.getInstance().getModel(name)
+            : getClientModelFunction.apply(name);
+    }
+
+    /**
+     * Gets the parent models of the ClientModel.
+     *
+     * @param model the client model.
+     * @return the parent models, from the parent of the model to the root parent.
+     */
+    public static List<ClientModel> getParentModels(ClientModel model) {
+        ModelHierarchy hierarchy = getHierarchy(model);
+        if (hierarchy != null) {
+            return hierarchy.getParentModels(model);
+        }
+
+        List<ClientModel> parentModels = new ArrayList<>();
+        String lastParentName = model.getName();
+        ClientModel parentModel = getClientModel(model.getParentModelName());
+        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+            parentModels.add(parentModel);
+            lastParentName = parentModel.getName();
+            parentModel = getClientModel(parentModel.getParentModelName());
+        }
+        return parentModels;
+    }
+
+    /*
+     * Gets the hierarchy of the client models, if it is built and contains the model. Otherwise, e.g. during the
+     * mapping of the code model, the parent chain is walked by name.
+     */
+    private static ModelHierarchy getHierarchy(ClientModel model) {
+        ModelHierarchy hierarchy = ClientModels.getInstance().getHierarchy();
+        return hierarchy != null && hierarchy.contains(model) ? hierarchy : null;
     }
 
     /**
@@ -530,6 +570,34 @@ public class ClientModelUtil {
             && model.getImplementationDetails().getUsages().contains(ImplementationDetails.Usage.JSON_MERGE_PATCH);
     }
 
+    /**
+     * Check if the JSON merge patch of the model is serialized with the package-private toJsonMergePatch of the model,
+     * without changing the state of the model.
+     * <p>
+     * The accessor of the root model calls toJsonMergePatch, which relies on overriding in the subtypes. Hence, it
+     * requires a stand-alone model, or a polymorphic structure in a single package.
+     */
+    public static boolean isStatelessJsonMergePatchModel(ClientModel model, JavaSettings settings) {
+        if (!settings.isStatelessJsonMergePatch() || !isJsonMergePatchModel(model, settings)) {
+            return false;
+        }
+        boolean standalone
+            = CoreUtils.isNullOrEmpty(model.getParentModelName()) && CoreUtils.isNullOrEmpty(model.getDerivedModels());
+        return standalone || model.isAllPolymorphicModelsInSamePackage();
+    }
+
+    /**
+     * Check if the convenience methods serialize and deserialize the JSON models via JsonModelSerializationHelper.
+     * <p>
+     * It is only supported for the azure-core (v1) data-plane flavor with stream style serialization.
+     */
+    public static boolean isDirectModelSerialization(JavaSettings settings) {
+        return settings.isDirectModelSerialization()
+            && settings.isAzureV1()
+            && settings.isDataPlaneClient()
+            && settings.isStreamStyleSerialization();
+    }
+
     /**
      * Gets all parent properties.
      *
@@ -559,7 +627,7 @@ public class ClientModelUtil {
      * @return Returns all properties that are defined by super types of the client model.
      */
     public static List<ClientModelProperty> getParentProperties(ClientModel model, boolean parentPropertiesFirst) {
-        return getParentProperties(model, parentPropertiesFirst, m -> true);
+        return getParentProperties(model, parentPropertiesFirst, null);
     }
 
     /**
@@ -572,6 +640,26 @@ public class ClientModelUtil {
      */
     public static List<ClientModelProperty> getParentProperties(ClientModel model, boolean parentPropertiesFirst,
         Predicate<ClientModel> modelFilter) {
+        ModelHierarchy hierarchy = getHierarchy(model);
+        if (hierarchy != null) {
+            if (parentPropertiesFirst && modelFilter == null) {
+                return hierarchy.getParentProperties(model);
+            }
+
+            List<ClientModel> parentModels = hierarchy.getParentModels(model);
+            List<ClientModelProperty> parentProperties = new ArrayList<>();
+            for (int i = parentModels.size() - 1; i >= 0; i--) {
+                ClientModel parentModel = parentModels.get(i);
+                if (modelFilter == null || modelFilter.test(parentModel)) {
+                    parentProperties.addAll(parentModel.getProperties());
+                }
+            }
+            if (!parentPropertiesFirst) {
+                Collections.reverse(parentProperties);
+            }
+            return parentProperties;
+        }
+
         String lastParentName = model.getName();
         ClientModel parentModel = getClientModel(model.getParentModelName());
         List<ClientModelProperty> parentProperties = new ArrayList<>();
@@ -594,6 +682,11 @@ public class ClientModelUtil {
     }
 
     public static List<ClientModelProperty> getRequiredWritableParentProperties(ClientModel model) {
+        ModelHierarchy hierarchy = getHierarchy(model);
+        if (hierarchy != null) {
+            return hierarchy.getRequiredWritableParentProperties(model);
+        }
+
         String lastParentName = model.getName();
         ClientModel parentModel = getClientModel(model.getParentModelName());
         List<ClientModelProperty> requiredParentProperties = new ArrayList<>();
@@ -761,14 +854,12 @@ public class ClientModelUtil {
             return model;
         }
 
-        while (model.getParentModelName() != null) {
-            model = getClientModel(model.getParentModelName());
-        }
-
-        return model;
+        List<ClientModel> parentModels = getParentModels(model);
+        return parentModels.isEmpty() ? model : parentModels.get(parentModels.size() - 1);
     }
 
-    public static Set<String> getExternalPackageNamesUsedInClient(List<ClientModel> models, CodeModel codeModel) {
+    public static Set<String> getExternalPackageNamesUsedInClient(List<ClientModel> models,
+        CodeModelSummary codeModelSummary) {
         // models
         Set<String> externalPackageNames = models == null
             ? new LinkedHashSet<>()
@@ -780,12 +871,19 @@ public class ClientModelUtil {
                 .collect(Collectors.toSet());
 
         // LongRunningMetadata in methods
+        externalPackageNames.addAll(codeModelSummary.getPollingStrategyPackageNames());
+
+        return externalPackageNames;
+    }
+
+    public static Set<String> getPollingStrategyPackageNames(CodeModel codeModel) {
+        Set<String> packageNames = new LinkedHashSet<>();
         if (!CoreUtils.isNullOrEmpty(codeModel.getClients())) {
             for (Client client : codeModel.getClients()) {
                 if (!CoreUtils.isNullOrEmpty(client.getOperationGroups())) {
                     for (OperationGroup og : client.getOperationGroups()) {
                         if (!CoreUtils.isNullOrEmpty(og.getOperations())) {
-                            externalPackageNames.addAll(og.getOperations()
+                            packageNames.addAll(og.getOperations()
                                 .stream()
                                 .filter(o -> o.getLroMetadata() != null
                                     && o.getLroMetadata().getPollingStrategy() != null
@@ -800,8 +898,7 @@ public class ClientModelUtil {
                 }
             }
         }
-
-        return externalPackageNames;
+        return packageNames;
     }
 
     public static boolean requireOperationLocationPollingStrategy(CodeModel codeModel) {
@@ -846,6 +943,11 @@ public class ClientModelUtil {
             return true;
         }
 
+        ModelHierarchy hierarchy = getHierarchy(model);
+        if (hierarchy != null) {
+            return !hierarchy.isDefinedByParentModels(model, property.getSerializedName());
+        }
+
         for (ClientModelProperty parentProperty : ClientModelUtil.getParentProperties(model)) {
             if (Objects.equals(property.getSerializedName(), parentProperty.getSerializedName())) {
                 return false;
@@ -865,12 +967,13 @@ public class ClientModelUtil {
      * @return The {@link ClientModel} that defines the given {@link ClientModelProperty}.
      */
     public static ClientModel getDefiningModel(ClientModel model, ClientModelProperty property) {
-        ClientModel current = model;
-        while (current != null) {
-            if (ClientModelUtil.modelDefinesProperty(current, property)) {
-                return current;
+        if (modelDefinesProperty(model, property)) {
+            return model;
+        }
+        for (ClientModel parentModel : getParentModels(model)) {
+            if (modelDefinesProperty(parentModel, property)) {
+                return parentModel;
             }
-            current = ClientModelUtil.getClientModel(current.getParentModelName());
         }
         throw new IllegalArgumentException("unable to find defining model for property: " + property);
     }
@@ -5,18 +5,13 @@ package com.microsoft.typespec.http.client.generator.core.util;
 
 import static com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getBasicLatinCharacter;
 
+import com.microsoft.typespec.http.client.generator.core.preprocessor.namer.NameCache;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import org.atteo.evo.inflector.English;
 
 public class CodeNamer {
 
     private static NamerFactory factory = new DefaultNamerFactory();
 
-    private static final Pattern MERGE_UNDERSCORES = Pattern.compile("_{2,}");
-    private static final Pattern CHARACTERS_TO_REPLACE_WITH_UNDERSCORE = Pattern.compile("[\\\\/.+ -]+");
-
     public static void setFactory(NamerFactory templateFactory) {
         factory = templateFactory;
     }
@@ -127,8 +122,8 @@ public class CodeNamer {
     }
 
     public static String removeInvalidCharacters(String name) {
-        return com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getValidName(name,
-            c -> c == '_' || c == '-');
+        return com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer
+            .removeInvalidCharacters(name);
     }
 
     public static String getPropertyName(String name) {
@@ -140,10 +135,7 @@ public class CodeNamer {
     }
 
     public static String getPlural(String name) {
-        if (name != null && !name.isEmpty() && !name.endsWith("s") && !name.endsWith("S")) {
-            name = English.plural(name);
-        }
-        return name;
+        return com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getPlural(name);
     }
 
     public static String getEnumMemberName(String name) {
@@ -151,10 +143,14 @@ public class CodeNamer {
             return name;
         }
 
+        return NameCache.get(NameCache.Kind.ENUM_MEMBER_NAME, name, CodeNamer::enumMemberName);
+    }
+
+    private static String enumMemberName(String name) {
         // trim leading and trailing '_'
         name = trimUnderscores(name);
 
-        String result = removeInvalidCharacters(CHARACTERS_TO_REPLACE_WITH_UNDERSCORE.matcher(name).replaceAll("_"));
+        String result = removeInvalidCharacters(replaceSeparatorsWithUnderscore(name));
 
         if (result.startsWith("_")) {
             // some "_" remains after "removeInvalidCharacters", e.g. "_100_Gift_Card"
@@ -165,18 +161,10 @@ public class CodeNamer {
         }
 
         // merge underscores
-        result = MERGE_UNDERSCORES.matcher(result).replaceAll("_");  // merge multiple underlines
+        result = mergeUnderscores(result);
 
         // convert PascalCase to UPPER_CASE
-        Function<Character, Boolean> isUpper = c -> c >= 'A' && c <= 'Z';
-        Function<Character, Boolean> isLower = c -> c >= 'a' && c <= 'z';
-        for (int i = 1; i < result.length() - 1; i++) {
-            if (isUpper.apply(result.charAt(i))) {
-                if (result.charAt(i - 1) != '_' && isLower.apply(result.charAt(i - 1))) {
-                    result = result.substring(0, i) + "_" + result.substring(i);
-                }
-            }
-        }
+        result = separatePascalCaseWords(result);
 
         if (result.startsWith("_") || result.endsWith("_")) {
             if (!result.chars().allMatch(c -> c == (int) '_')) {
@@ -253,6 +241,76 @@ public class CodeNamer {
         return sb.toString();
     }
 
+    /*
+     * Replaces each run of '\\', '/', '.', '+', ' ' and '-' with a single '_'.
+     */
+    private static String replaceSeparatorsWithUnderscore(String name) {
+        StringBuilder sb = null;
+        int length = name.length();
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (isEnumMemberNameSeparator(c)) {
+                if (sb == null) {
+                    sb = new StringBuilder(length);
+                    sb.append(name, 0, i);
+                }
+                sb.append('_');
+                while (i + 1 < length && isEnumMemberNameSeparator(name.charAt(i + 1))) {
+                    i++;
+                }
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? name : sb.toString();
+    }
+
+    private static boolean isEnumMemberNameSeparator(char c) {
+        return c == '\\' || c == '/' || c == '.' || c == '+' || c == ' ' || c == '-';
+    }
+
+    private static String mergeUnderscores(String name) {
+        StringBuilder sb = null;
+        int length = name.length();
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c == '_' && i > 0 && name.charAt(i - 1) == '_') {
+                if (sb == null) {
+                    sb = new StringBuilder(length);
+                    sb.append(name, 0, i);
+                }
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? name : sb.toString();
+    }
+
+    /*
+     * Inserts '_' between a lower case letter and an upper case letter, except before the last character.
+     */
+    private static String separatePascalCaseWords(String name) {
+        StringBuilder sb = null;
+        int length = name.length();
+        for (int i = 1; i < length - 1; i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                char previous = name.charAt(i - 1);
+                if (previous >= 'a' && previous <= 'z') {
+                    if (sb == null) {
+                        sb = new StringBuilder(length + length / 4);
+                        sb.append(name, 0, i);
+                    }
+                    sb.append('_');
+                }
+            }
+            if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? name : sb.append(name.charAt(length - 1)).toString();
+    }
+
     private static String trimUnderscores(String name) {
         // trim leading and trailing '_'
         if ((name.startsWith("_") || name.endsWith("_")) && !name.chars().allMatch(c -> c == '_')) {
@@ -0,0 +1,273 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+
+/**
+ * The timing of the phases of a code generation.
+ * <p>
+ * Each phase, or unit of work in a phase, e.g. the rendering of a file, is timed by a {@link Timer}:
+ *
+ * <pre>{@code
+ * try (GenerationMetrics.Timer timer = GenerationMetrics.start("writeFile", fileName)) {
+ *     Files.write(path, bytes);
+ *     timer.bytes(bytes.length);
+ * }
+ * }</pre>
+ *
+ * The timer commits a Flight Recorder event, if the recording enables it, and adds the duration to the counters of
+ * the phase. The counters are held by the {@link GenerationContext}, and reported as a JSON summary at the end of the
+ * generation.
+ */
+public final class GenerationMetrics {
+    /**
+     * The system property, or environment variable, of the path of the file the phase summary is written to.
+     */
+    public static final String SUMMARY_FILE_PROPERTY = "codegen.java.phase.summary";
+
+    private final long startNanos = System.nanoTime();
+    // guarded by "this", in the order the phases start
+    private final Map<String, PhaseStatistics> phases = new LinkedHashMap<>();
+
+    private GenerationMetrics() {
+    }
+
+    /**
+     * Gets the metrics of the generation in the current {@link GenerationContext}.
+     *
+     * @return The metrics of the current generation.
+     */
+    public static GenerationMetrics current() {
+        return GenerationContext.current().getOrCreate(GenerationMetrics.class, GenerationMetrics::new);
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @param phase The name of the phase.
+     * @return The timer, which is closed when the phase completes.
+     */
+    public static Timer start(String phase) {
+        return start(phase, null);
+    }
+
+    /**
+     * Starts timing a unit of work in a phase.
+     *
+     * @param phase The name of the phase.
+     * @param unit The unit of work, e.g. the name of the file.
+     * @return The timer, which is closed when the unit of work completes.
+     */
+    public static Timer start(String phase, String unit) {
+        return current().timer(phase, unit);
+    }
+
+    /**
+     * Starts timing a unit of work in a phase of this generation.
+     * <p>
+     * Unlike {@link #start(String, String)}, the timer can be started on a thread that is not in the
+     * {@link GenerationContext} of the generation, e.g. the thread that writes the files queued by the generation.
+     *
+     * @param phase The name of the phase.
+     * @param unit The unit of work, e.g. the name of the file.
+     * @return The timer, which is closed when the unit of work completes.
+     */
+    public Timer timer(String phase, String unit) {
+        return new Timer(this, phase, unit);
+    }
+
+    /**
+     * Times a phase.
+     *
+     * @param phase The name of the phase.
+     * @param action The action of the phase.
+     * @param <T> The type of the result.
+     * @return The result of the action.
+     */
+    public static <T> T time(String phase, Supplier<T> action) {
+        try (Timer ignored = start(phase)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Logs the summary of the generation, and writes it to the file configured by {@link #SUMMARY_FILE_PROPERTY}.
+     *
+     * @param logger The logger.
+     */
+    public void report(Logger logger) {
+        String summary = toJson();
+        logger.info("Phase summary: {}", summary);
+
+        String summaryFile = System.getProperty(SUMMARY_FILE_PROPERTY);
+        if (summaryFile == null) {
+            summaryFile = System.getenv(SUMMARY_FILE_PROPERTY);
+        }
+        if (summaryFile != null && !summaryFile.isEmpty()) {
+            try {
+                Path path = Paths.get(summaryFile);
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.writeString(path, summary);
+            } catch (IOException e) {
+                logger.warn("Unable to write phase summary to {}", summaryFile, e);
+            }
+        }
+    }
+
+    /**
+     * Gets the summary of the generation as JSON: the total duration, the peak heap usage, and for each phase the
+     * number of units of work, the duration and the bytes produced.
+     * <p>
+     * The duration of a phase is the sum of the duration of its units, which exceeds the elapsed time if the units run
+     * in parallel.
+     * <p>
+     * The peak heap usage is that of the JVM since it started, as the memory pools are shared by the generations that
+     * run in the JVM. It is the peak of the generation only if the JVM runs a single generation, as it does when it is
+     * started by the emitter.
+     *
+     * @return The summary, as JSON.
+     */
+    public String toJson() {
+        List<PhaseStatistics> phaseStatistics = new ArrayList<>();
+        synchronized (this) {
+            for (PhaseStatistics statistics : phases.values()) {
+                phaseStatistics.add(statistics.copy());
+            }
+        }
+
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            JsonWriter jsonWriter = JsonWriter.toStream(outputStream)) {
+            jsonWriter.writeStartObject()
+                .writeLongField("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .writeLongField("jvmPeakHeapBytes", getJvmPeakHeapBytes())
+                .writeStartArray("phases");
+            for (PhaseStatistics statistics : phaseStatistics) {
+                jsonWriter.writeStartObject()
+                    .writeStringField("phase", statistics.phase)
+                    .writeLongField("count", statistics.count)
+                    .writeLongField("durationMs", TimeUnit.NANOSECONDS.toMillis(statistics.nanos))
+                    .writeLongField("bytes", statistics.bytes)
+                    .writeEndObject();
+            }
+            jsonWriter.writeEndArray().writeEndObject().flush();
+            return outputStream.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private synchronized void record(String phase, long nanos, long bytes) {
+        PhaseStatistics statistics = phases.computeIfAbsent(phase, PhaseStatistics::new);
+        statistics.count++;
+        statistics.nanos += nanos;
+        statistics.bytes += bytes;
+    }
+
+    private static long getJvmPeakHeapBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                MemoryUsage usage = pool.getPeakUsage();
+                if (usage != null) {
+                    peak += usage.getUsed();
+                }
+            }
+        }
+        return peak;
+    }
+
+    private static final class PhaseStatistics {
+        private final String phase;
+        private long count;
+        private long nanos;
+        private long bytes;
+
+        private PhaseStatistics(String phase) {
+            this.phase = phase;
+        }
+
+        private PhaseStatistics copy() {
+            PhaseStatistics copy = new PhaseStatistics(phase);
+            copy.count = count;
+            copy.nanos = nanos;
+            copy.bytes = bytes;
+            return copy;
+        }
+    }
+
+    /**
+     * The timer of a phase, or of a unit of work in a phase.
+     */
+    public static final class Timer implements AutoCloseable {
+        private final GenerationMetrics metrics;
+        private final String phase;
+        private final String unit;
+        private final PhaseEvent event;
+        private final long startNanos;
+        private long bytes;
+        private boolean closed;
+
+        private Timer(GenerationMetrics metrics, String phase, String unit) {
+            this.metrics = metrics;
+            this.phase = phase;
+            this.unit = unit;
+            this.event = new PhaseEvent();
+            this.event.begin();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Adds to the bytes produced, or consumed, by the phase.
+         *
+         * @param bytes The number of bytes.
+         * @return The timer.
+         */
+        public Timer bytes(long bytes) {
+            this.bytes += bytes;
+            return this;
+        }
+
+        /**
+         * Stops the timer, and records the duration of the phase.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            long nanos = System.nanoTime() - startNanos;
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phase;
+                event.unit = unit;
+                event.bytes = bytes;
+                event.commit();
+            }
+            metrics.record(phase, nanos, bytes);
+        }
+    }
+}
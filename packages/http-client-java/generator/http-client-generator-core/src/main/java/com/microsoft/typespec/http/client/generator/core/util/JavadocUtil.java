@@ -0,0 +1,49 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class JavadocUtil {
+    private static final Pattern JAVADOC_REFERENCE
+        = Pattern.compile("@(?:link|linkplain|see|throws|exception|value)\\s+([\\w.$]*)(?:#\\w*)?(?:\\(([^)]*)\\))?");
+
+    private JavadocUtil() {
+    }
+
+    /**
+     * Adds the names referenced by the Javadoc tags of a Javadoc comment.
+     * <p>
+     * The name referenced by a {@code @link}, {@code @linkplain}, {@code @see}, {@code @throws}, {@code @exception} or
+     * {@code @value} tag, and the names of the parameter types of a referenced method, are the first identifier of
+     * each reference, the same rule google-java-format's {@code RemoveUnusedImports} applies to decide whether an
+     * import is used.
+     *
+     * @param names the set the referenced names are added to
+     * @param javadoc the content of the Javadoc comment
+     */
+    public static void addReferencedNames(Set<String> names, String javadoc) {
+        Matcher matcher = JAVADOC_REFERENCE.matcher(javadoc);
+        while (matcher.find()) {
+            addFirstIdentifier(names, matcher.group(1));
+            if (matcher.group(2) != null) {
+                for (String parameter : matcher.group(2).split(",")) {
+                    addFirstIdentifier(names, parameter.trim());
+                }
+            }
+        }
+    }
+
+    private static void addFirstIdentifier(Set<String> names, String reference) {
+        int end = 0;
+        while (end < reference.length() && Character.isJavaIdentifierPart(reference.charAt(end))) {
+            end++;
+        }
+        if (end > 0 && Character.isJavaIdentifierStart(reference.charAt(0))) {
+            names.add(reference.substring(0, end));
+        }
+    }
+}
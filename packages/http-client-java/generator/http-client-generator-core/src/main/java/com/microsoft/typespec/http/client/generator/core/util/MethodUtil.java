@@ -50,8 +50,6 @@ public class MethodUtil {
         = CodeNamer.toCamelCase(REPEATABILITY_REQUEST_ID_HEADER);
     public static final String REPEATABILITY_FIRST_SENT_VARIABLE_NAME
         = CodeNamer.toCamelCase(REPEATABILITY_FIRST_SENT_HEADER);
-    public static final String REPEATABILITY_REQUEST_ID_EXPRESSION
-        = JavaSettings.getInstance().isAzureV1() ? "CoreUtils.randomUuid().toString()" : "UUID.randomUUID().toString()";
     public static final String REPEATABILITY_FIRST_SENT_EXPRESSION
         = "DateTimeRfc1123.toRfc1123String(OffsetDateTime.now())";
 
@@ -60,6 +58,17 @@ public class MethodUtil {
     private static final Set<HttpMethod> REPEATABILITY_REQUEST_HTTP_METHODS
         = EnumSet.of(HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE, HttpMethod.POST);
 
+    /**
+     * Gets the expression of the value of the repeatability request ID header, by the flavor of the generation.
+     *
+     * @return the expression of the value of the repeatability request ID header.
+     */
+    public static String getRepeatabilityRequestIdExpression() {
+        return JavaSettings.getInstance().isAzureV1()
+            ? "CoreUtils.randomUuid().toString()"
+            : "UUID.randomUUID().toString()";
+    }
+
     /**
      * Checks that method include special headers for Repeatable Requests Version 1.0 ("repeatability-request-id")
      * 
@@ -22,7 +22,6 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examp
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.MapNode;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.MethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.ObjectNode;
-import io.clientcore.core.utils.CoreUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -407,15 +406,7 @@ public class ModelExampleUtil {
         Map<String, ModelProperty> propertiesMap = new LinkedHashMap<>();
         List<ModelProperty> properties = new ArrayList<>();
 
-        List<ClientModel> parentModels = new ArrayList<>();
-        String parentModelName = model.getParentModelName();
-        while (!CoreUtils.isNullOrEmpty(parentModelName)) {
-            ClientModel parentModel = ClientModelUtil.getClientModel(parentModelName);
-            if (parentModel != null) {
-                parentModels.add(parentModel);
-            }
-            parentModelName = parentModel == null ? null : parentModel.getParentModelName();
-        }
+        List<ClientModel> parentModels = ClientModelUtil.getParentModels(model);
 
         List<List<ModelProperty>> propertiesFromTypeAndParents = new ArrayList<>();
         propertiesFromTypeAndParents.add(new ArrayList<>());
@@ -11,7 +11,6 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumT
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IterableType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
-import io.clientcore.core.utils.CoreUtils;
 import io.clientcore.core.utils.DateTimeRfc1123;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -69,17 +68,12 @@ public class ModelTestCaseUtil {
         }
 
         // superclasses
-        String parentModelName = model.getParentModelName();
-        while (!CoreUtils.isNullOrEmpty(parentModelName)) {
-            ClientModel parentModel = ClientModelUtil.getClientModel(parentModelName);
-            if (parentModel != null) {
-                for (ClientModelProperty property : parentModel.getProperties()) {
-                    if (!property.isPolymorphicDiscriminator()) {
-                        addForProperty(depth, jsonObject, property, parentModel.getNeedsFlatten());
-                    }
+        for (ClientModel parentModel : ClientModelUtil.getParentModels(model)) {
+            for (ClientModelProperty property : parentModel.getProperties()) {
+                if (!property.isPolymorphicDiscriminator()) {
+                    addForProperty(depth, jsonObject, property, parentModel.getNeedsFlatten());
                 }
             }
-            parentModelName = parentModel == null ? null : parentModel.getParentModelName();
         }
 
         return jsonObject;
@@ -0,0 +1,116 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The thread pool of the parallel phases of a code generation, e.g. template rendering, partial update and code
+ * formatting.
+ * <p>
+ * The pool has a fixed number of daemon threads, the tasks run in the {@link GenerationContext} of the caller, and a
+ * failure of a task is reported to the caller as the exception the task threw.
+ */
+public final class ParallelUtil {
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    private ParallelUtil() {
+    }
+
+    /**
+     * Applies the function to each input, on at most {@code workers} threads.
+     * <p>
+     * The results are in the order of the inputs. If there is only one worker, or only one input, the function is
+     * applied on the calling thread.
+     *
+     * @param inputs the inputs.
+     * @param workers the maximum number of threads.
+     * @param threadNamePrefix the prefix of the names of the threads.
+     * @param action the action, used in the message of the exception, e.g. "formatting code".
+     * @param function the function.
+     * @param <T> the type of the input.
+     * @param <R> the type of the result.
+     * @return the results, in the order of the inputs.
+     */
+    public static <T, R> List<R> map(List<T> inputs, int workers, String threadNamePrefix, String action,
+        Function<T, R> function) {
+        int threadCount = Math.min(Math.max(1, workers), inputs.size());
+        if (threadCount <= 1) {
+            return inputs.stream().map(function).collect(Collectors.toList());
+        }
+
+        ExecutorService executor = newFixedThreadPool(threadCount, threadNamePrefix);
+        try {
+            GenerationContext context = GenerationContext.current();
+            List<Callable<R>> tasks = inputs.stream()
+                .map(input -> context.wrap((Callable<R>) () -> function.apply(input)))
+                .collect(Collectors.toList());
+
+            List<R> results = new ArrayList<>(inputs.size());
+            for (Future<R> future : executor.invokeAll(tasks)) {
+                results.add(await(future, action));
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while " + action + ".", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates a fixed thread pool of daemon threads.
+     * <p>
+     * The tasks submitted to the pool should be wrapped by {@link GenerationContext#wrap(Callable)}, and the pool
+     * should be shut down by the caller.
+     *
+     * @param threadCount the number of threads.
+     * @param threadNamePrefix the prefix of the names of the threads.
+     * @return the thread pool.
+     */
+    public static ExecutorService newFixedThreadPool(int threadCount, String threadNamePrefix) {
+        return Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + WORKER_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Waits for the task, and gets its result.
+     * <p>
+     * If the task threw a {@link RuntimeException} or an {@link Error}, it is thrown as is. Otherwise, the exception
+     * is wrapped in an {@link IllegalStateException}.
+     *
+     * @param future the task.
+     * @param action the action, used in the message of the exception, e.g. "formatting code".
+     * @param <R> the type of the result.
+     * @return the result of the task.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public static <R> R await(Future<R> future, String action) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Failed while " + action + ".", cause);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a phase of the code generation, or of a unit of work, e.g. a file, in the phase.
+ */
+@Name("com.microsoft.typespec.http.client.generator.Phase")
+@Label("Generator Phase")
+@Description("A phase of the Java code generation, or a unit of work in the phase")
+@Category({ "TypeSpec", "Java Generator" })
+@StackTrace(false)
+final class PhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Unit")
+    String unit;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+}
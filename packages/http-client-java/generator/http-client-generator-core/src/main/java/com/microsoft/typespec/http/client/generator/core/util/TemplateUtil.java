@@ -164,7 +164,14 @@ public class TemplateUtil {
         if (settings.isDataPlaneClient()
             && settings.isAzureV1()
             && clientMethods.stream().anyMatch(m -> m.getMethodPageDetails() != null)) {
-            writePagingHelperMethods(classBlock);
+            if (settings.isStreamStylePaging()) {
+                // XML paging methods read the page with the XML helpers.
+                if (clientMethods.stream().anyMatch(m -> m.getMethodPageDetails() != null && !isXmlPagingMethod(m))) {
+                    writeStreamStylePagingHelperMethods(classBlock);
+                }
+            } else {
+                writePagingHelperMethods(classBlock);
+            }
             if (clientMethods.stream().anyMatch(TemplateUtil::isXmlPagingMethod)) {
                 writeXmlPagingHelperMethods(classBlock);
             }
@@ -270,6 +277,92 @@ public class TemplateUtil {
         });
     }
 
+    /**
+     * Helper function to write the helper methods for LLC paging that read the page items and the next link from the
+     * page body in a single pass, see {@link JavaSettings#isStreamStylePaging()}.
+     * <p>
+     * Object and array items are kept as their JSON text, other items are read as untyped values. The helper behaves
+     * like {@code getValues} and {@code getNextLink}: the items or the next link are null if the path is missing or
+     * has a value of another JSON type, and both are null if the page body can't be read.
+     *
+     * @param classBlock Java class block
+     */
+    private static void writeStreamStylePagingHelperMethods(JavaClass classBlock) {
+        classBlock.privateMethod("PagedResponse<BinaryData> getPagedResponse(Response<BinaryData> res, "
+            + "String[] valuesPath, String[] nextLinkPath)", block -> {
+                block.line("List<BinaryData> values = null;");
+                block.line("String nextLink = null;");
+                block.line("try (com.azure.json.JsonReader reader "
+                    + "= com.azure.json.JsonProviders.createReader(res.getValue().toBytes())) {");
+                block.indent(() -> {
+                    block.line(
+                        "// The depth of the object being read, and the number of segments of each path it matches.");
+                    block.line("int depth = reader.nextToken() == com.azure.json.JsonToken.START_OBJECT ? 0 : -1;");
+                    block.line("int valuesDepth = 0;");
+                    block.line("int nextLinkDepth = 0;");
+                    block.line("while (depth >= 0) {");
+                    block.indent(() -> {
+                        block.line("if (reader.nextToken() == com.azure.json.JsonToken.END_OBJECT) {");
+                        block.indent(() -> {
+                            block.line("depth--;");
+                            block.line("valuesDepth = Math.min(valuesDepth, depth);");
+                            block.line("nextLinkDepth = Math.min(nextLinkDepth, depth);");
+                            block.line("continue;");
+                        });
+                        block.line("}");
+                        block.line("String fieldName = reader.getFieldName();");
+                        block.line("com.azure.json.JsonToken token = reader.nextToken();");
+                        block.line("boolean inValues = valuesDepth == depth "
+                            + "&& isPagingPathSegment(valuesPath, depth, fieldName);");
+                        block.line("boolean inNextLink = nextLinkDepth == depth "
+                            + "&& isPagingPathSegment(nextLinkPath, depth, fieldName);");
+                        block.line("if (inValues && depth + 1 == valuesPath.length "
+                            + "&& token == com.azure.json.JsonToken.START_ARRAY) {");
+                        block.indent(() -> {
+                            block.line("values = reader.readArray(valueReader -> {");
+                            block.indent(() -> {
+                                block.line("if (valueReader.isStartArrayOrObject()) {");
+                                block.indent(
+                                    () -> block.line("return BinaryData.fromString(valueReader.readChildren());"));
+                                block.line("}");
+                                block.line("return BinaryData.fromObject(valueReader.readUntyped());");
+                            });
+                            block.line("});");
+                        });
+                        block.line("} else if (inNextLink && depth + 1 == nextLinkPath.length "
+                            + "&& token == com.azure.json.JsonToken.STRING) {");
+                        block.indent(() -> block.line("nextLink = reader.getString();"));
+                        block.line("} else if ((inValues || inNextLink) "
+                            + "&& token == com.azure.json.JsonToken.START_OBJECT) {");
+                        block.indent(() -> {
+                            block.line("depth++;");
+                            block.line("valuesDepth += inValues ? 1 : 0;");
+                            block.line("nextLinkDepth += inNextLink ? 1 : 0;");
+                        });
+                        block.line("} else {");
+                        block.indent(() -> block.line("reader.skipChildren();"));
+                        block.line("}");
+                    });
+                    block.line("}");
+                });
+                block.line("} catch (java.io.IOException | RuntimeException e) {");
+                block.indent(() -> {
+                    block.line("values = null;");
+                    block.line("nextLink = null;");
+                });
+                block.line("}");
+                block.line("Object deserializedHeaders = null;");
+                block.line("if (res instanceof com.azure.core.http.rest.ResponseBase) {");
+                block.indent(() -> block.line("deserializedHeaders "
+                    + "= ((com.azure.core.http.rest.ResponseBase<?, ?>) res).getDeserializedHeaders();"));
+                block.line("}");
+                block.line("return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), "
+                    + "values, nextLink, deserializedHeaders);");
+            });
+        classBlock.privateMethod("boolean isPagingPathSegment(String[] path, int depth, String fieldName)",
+            block -> block.methodReturn("path != null && depth < path.length && path[depth].equals(fieldName)"));
+    }
+
     private static boolean isXmlPagingMethod(ClientMethod clientMethod) {
         return clientMethod.getMethodPageDetails() != null
             && clientMethod.getProxyMethod().getRawResponseBodyType().isUsedInXml();
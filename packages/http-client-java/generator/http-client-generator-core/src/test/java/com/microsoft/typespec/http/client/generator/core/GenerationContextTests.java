@@ -0,0 +1,162 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Language;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Languages;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.StringSchema;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import io.clientcore.core.utils.IOExceptionCheckedFunction;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class GenerationContextTests {
+    @Test
+    public void stateIsIsolatedPerContext() throws Exception {
+        ClientModels defaultModels = ClientModels.getInstance();
+
+        GenerationContext context = new GenerationContext();
+        ClientModels contextModels = context.call(ClientModels::getInstance);
+        assertNotSame(defaultModels, contextModels);
+        assertSame(contextModels, context.call(ClientModels::getInstance));
+
+        // The previous context is restored.
+        assertSame(defaultModels, ClientModels.getInstance());
+    }
+
+    @Test
+    public void scopedMapIsIsolatedPerContext() throws Exception {
+        Map<String, String> map = GenerationContext.newScopedMap(ConcurrentHashMap::new);
+        GenerationContext first = new GenerationContext();
+        GenerationContext second = new GenerationContext();
+
+        first.run(() -> map.put("key", "first"));
+        second.run(() -> map.put("key", "second"));
+
+        assertEquals("first", first.call(() -> map.get("key")));
+        assertEquals("second", second.call(() -> map.get("key")));
+        assertNull(map.get("key"));
+    }
+
+    @Test
+    public void clearScopedMaps() throws Exception {
+        Map<String, String> map = GenerationContext.newScopedMap(ConcurrentHashMap::new);
+        GenerationContext first = new GenerationContext();
+        GenerationContext second = new GenerationContext();
+
+        first.run(() -> map.put("key", "first"));
+        second.run(() -> map.put("key", "second"));
+        ClientModels models = first.call(ClientModels::getInstance);
+
+        first.clearScopedMaps();
+
+        assertTrue(first.call(map::isEmpty));
+        assertEquals("second", second.call(() -> map.get("key")));
+        // other state is kept
+        assertSame(models, first.call(ClientModels::getInstance));
+    }
+
+    @Test
+    public void modelIsMappedPerContext() throws Exception {
+        ObjectSchema schema = new ObjectSchema();
+        Language language = new Language();
+        language.setName("Pet");
+        language.setDescription("");
+        Languages languages = new Languages();
+        languages.setDefault(language);
+        languages.setJava(language);
+        schema.setLanguage(languages);
+        Property property = new Property();
+        StringSchema stringSchema = new StringSchema();
+        stringSchema.setType(Schema.AllSchemaTypes.STRING);
+        property.setSchema(stringSchema);
+        property.setSerializedName("name");
+        property.setLanguage(languages);
+        schema.setProperties(List.of(property));
+
+        GenerationContext first = new GenerationContext();
+        GenerationContext second = new GenerationContext();
+        ClientModel firstModel = first.call(() -> {
+            new MockUnitJavagen();
+            return Mappers.getModelMapper().map(schema);
+        });
+        ClientModel secondModel = second.call(() -> {
+            new MockUnitJavagen();
+            return Mappers.getModelMapper().map(schema);
+        });
+
+        // each generation maps the model, and registers it in its own ClientModels
+        assertNotNull(firstModel);
+        assertNotSame(firstModel, secondModel);
+        assertSame(firstModel, first.call(() -> ClientModels.getInstance().getModel("Pet")));
+        assertSame(secondModel, second.call(() -> ClientModels.getInstance().getModel("Pet")));
+    }
+
+    @Test
+    public void wrappedTaskRunsInContext() throws Exception {
+        GenerationContext context = new GenerationContext();
+        Callable<GenerationContext> currentContext = GenerationContext::current;
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertSame(context, executor.submit(context.wrap(currentContext)).get());
+            assertNotSame(context, executor.submit(currentContext).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void flavoredTypeIsResolvedPerContext() throws Exception {
+        GenerationContext azure = new GenerationContext();
+        GenerationContext unbranded = new GenerationContext();
+        azure.run(() -> new FlavoredJavagen("azure"));
+        unbranded.run(() -> new FlavoredJavagen("unbranded"));
+
+        String azureHttpPipeline = azure.call(ClassType.HTTP_PIPELINE::getFullName);
+        String unbrandedHttpPipeline = unbranded.call(ClassType.HTTP_PIPELINE::getFullName);
+        assertEquals("com.azure.core.http.HttpPipeline", azureHttpPipeline);
+        assertEquals("io.clientcore.core.http.pipeline.HttpPipeline", unbrandedHttpPipeline);
+        assertNotEquals(azureHttpPipeline, unbrandedHttpPipeline);
+
+        // the type of the first generation is not frozen by the second generation
+        assertEquals(azureHttpPipeline, azure.call(ClassType.HTTP_PIPELINE::getFullName));
+        assertEquals("com.azure.core.util.BinaryData", azure.call(ClassType.BINARY_DATA::getFullName));
+        assertEquals("io.clientcore.core.models.binarydata.BinaryData",
+            unbranded.call(ClassType.BINARY_DATA::getFullName));
+    }
+
+    private static final class FlavoredJavagen extends MockUnitJavagen {
+        private final String flavor;
+
+        private FlavoredJavagen(String flavor) {
+            this.flavor = flavor;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getValue(String key, IOExceptionCheckedFunction<String, T> converter) {
+            return "flavor".equals(key) ? (T) flavor : super.getValue(key, converter);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.javaparser.ast.CompilationUnit;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class EditorTests {
+    private static final String MODEL = "src/main/java/com/azure/models/Model.java";
+
+    @Test
+    public void sharedCompilationUnit() {
+        Editor editor = new Editor(Map.of(MODEL, "package com.azure.models;\n\npublic class Model {\n}\n"));
+
+        CompilationUnit compilationUnit = editor.getCompilationUnit(MODEL);
+        compilationUnit.getClassByName("Model").get().addField("String", "name");
+        assertSame(compilationUnit, editor.getCompilationUnit(MODEL));
+        compilationUnit.getClassByName("Model").get().addField("int", "size");
+
+        // the content is printed from the abstract syntax tree, which is parsed again on next use
+        assertTrue(editor.getFileContent(MODEL).contains("String name;"));
+        assertTrue(editor.getFileLines(MODEL).contains("    int size;"));
+        assertNotSame(compilationUnit, editor.getCompilationUnit(MODEL));
+
+        editor.getCompilationUnit(MODEL).getClassByName("Model").get().addField("long", "length");
+        assertTrue(editor.getContents().get(MODEL).contains("long length;"));
+
+        // replacing the file discards the abstract syntax tree
+        editor.getCompilationUnit(MODEL);
+        editor.replaceFile(MODEL, "package com.azure.models;\n\npublic class Model {\n}\n");
+        assertEquals(0, editor.getCompilationUnit(MODEL).getClassByName("Model").get().getFields().size());
+    }
+
+    @Test
+    public void packageIndex() {
+        Editor editor = new Editor(Map.of(MODEL, "", "src/main/java/com/azure/Client.java", ""));
+        assertTrue(editor.packageExists("com.azure"));
+        assertTrue(editor.packageExists("com.azure.models"));
+        assertFalse(editor.packageExists("com.azure.model"));
+        assertEquals(List.of("Client"), editor.classesInPackage("com.azure"));
+        assertEquals(List.of("Model"), editor.classesInPackage("com.azure.models"));
+
+        editor.addFile("src/main/java/com/azure/models/Error.java", "");
+        assertEquals(List.of("Error", "Model"), editor.classesInPackage("com.azure.models"));
+
+        editor.removeFile("src/main/java/com/azure/models/Error.java");
+        editor.removeFile(MODEL);
+        assertFalse(editor.packageExists("com.azure.models"));
+        assertTrue(editor.packageExists("com.azure"));
+        assertEquals(List.of(), editor.classesInPackage("com.azure.models"));
+    }
+}
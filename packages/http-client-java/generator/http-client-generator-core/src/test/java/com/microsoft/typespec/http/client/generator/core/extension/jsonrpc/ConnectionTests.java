@@ -0,0 +1,165 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
+import io.clientcore.core.serialization.json.JsonReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionTests {
+    @Test
+    public void readsBareAndFramedMessages() throws IOException {
+        PipedInputStream pluginInput = new PipedInputStream(64 * 1024);
+        OutputStream host = new PipedOutputStream(pluginInput);
+        PipedInputStream hostInput = new PipedInputStream(64 * 1024);
+        Connection connection = new Connection(new PipedOutputStream(hostInput), pluginInput);
+        connection.dispatch("GetPluginNames", () -> "[\"java\"]");
+        try {
+            // a bare JSON message, over multiple lines, with braces and escaped quotes in a string
+            host.write("{\"jsonrpc\":\"2.0\",\"method\":\"GetPluginNames\",\n\"id\":1,\"params\":[\"a}\\\"{b\"]}\n"
+                .getBytes(StandardCharsets.UTF_8));
+            // a framed JSON message
+            byte[] body = "{\"jsonrpc\":\"2.0\",\"method\":\"GetPluginNames\",\"id\":2}".getBytes(StandardCharsets.UTF_8);
+            host.write(("Content-Length: " + body.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            host.write(body);
+            host.flush();
+
+            PeekingBinaryReader hostReader = new PeekingBinaryReader(hostInput);
+            Map<Object, Object> results = new HashMap<>();
+            for (int i = 0; i < 2; i++) {
+                Map<String, Object> response = readMessage(hostReader);
+                results.put(response.get("id"), response.get("result"));
+            }
+            assertEquals(List.of("java"), results.get(1));
+            assertEquals(List.of("java"), results.get(2));
+        } finally {
+            connection.stop();
+        }
+    }
+
+    @Test
+    public void writesNotificationsInOrder() throws IOException {
+        PipedInputStream hostInput = new PipedInputStream(64 * 1024);
+        Connection connection = new Connection(new PipedOutputStream(hostInput), new ByteArrayInputStream(new byte[0]));
+        int count = 1000;
+        Thread sender = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                connection.notify("WriteFile", "session", "File" + i + ".java", "content " + i, null);
+            }
+        });
+        sender.start();
+
+        PeekingBinaryReader hostReader = new PeekingBinaryReader(hostInput);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> notification = readMessage(hostReader);
+            assertEquals("WriteFile", notification.get("method"));
+            List<?> params = (List<?>) notification.get("params");
+            assertEquals("File" + i + ".java", params.get(1));
+            assertEquals("content " + i, params.get(2));
+        }
+        connection.stop();
+    }
+
+    @Test
+    public void timesNotificationsOnWriterThread() throws Exception {
+        PipedInputStream hostInput = new PipedInputStream(64 * 1024);
+        Connection connection = new Connection(new PipedOutputStream(hostInput), new ByteArrayInputStream(new byte[0]));
+        try {
+            String summary = new GenerationContext().call(() -> {
+                GenerationMetrics metrics = GenerationMetrics.current();
+                connection.notify(() -> metrics.timer("writeFile", "File.java").bytes(7), "WriteFile", "session",
+                    "File.java", "content", null);
+                // the notification is timed when it is written
+                connection.flush();
+                return metrics.toJson();
+            });
+            assertTrue(summary.contains("{\"phase\":\"writeFile\",\"count\":1,"), summary);
+            assertTrue(summary.contains("\"bytes\":7}"), summary);
+
+            Map<String, Object> notification = readMessage(new PeekingBinaryReader(hostInput));
+            assertEquals("WriteFile", notification.get("method"));
+        } finally {
+            connection.stop();
+        }
+    }
+
+    @Test
+    public void writesEveryNotificationSentBeforeClose() throws Exception {
+        ByteArrayOutputStream hostInput = new ByteArrayOutputStream();
+        Connection connection = new Connection(hostInput, new ByteArrayInputStream(new byte[0]));
+        AtomicInteger sent = new AtomicInteger();
+        Thread[] senders = new Thread[4];
+        for (int i = 0; i < senders.length; i++) {
+            senders[i] = new Thread(() -> {
+                try {
+                    while (true) {
+                        connection.notify("Message", "session", "message");
+                        sent.incrementAndGet();
+                    }
+                } catch (IllegalStateException e) {
+                    // the connection is closed
+                }
+            });
+            senders[i].start();
+        }
+        while (sent.get() < 1000) {
+            Thread.sleep(1);
+        }
+        connection.close();
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        PeekingBinaryReader hostReader = new PeekingBinaryReader(new ByteArrayInputStream(hostInput.toByteArray()));
+        int written = 0;
+        while (hostReader.peekByte() != -1) {
+            assertEquals("Message", readMessage(hostReader).get("method"));
+            written++;
+        }
+        assertEquals(sent.get(), written);
+    }
+
+    @Test
+    public void readsJsonBytesAcrossBuffers() throws IOException {
+        StringBuilder json = new StringBuilder("{\"content\":\"");
+        for (int i = 0; i < 200_000; i++) {
+            json.append(i % 10 == 0 ? "\\\"}" : "x");
+        }
+        json.append("\"}");
+        byte[] expected = json.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] input = (json + "\n{}").getBytes(StandardCharsets.UTF_8);
+
+        PeekingBinaryReader reader = new PeekingBinaryReader(new ByteArrayInputStream(input));
+        assertArrayEquals(expected, reader.readJsonBytes());
+        assertEquals('\n', reader.readByte());
+        assertArrayEquals("{}".getBytes(StandardCharsets.UTF_8), reader.readJsonBytes());
+        assertEquals(-1, reader.peekByte());
+    }
+
+    private static Map<String, Object> readMessage(PeekingBinaryReader reader) throws IOException {
+        String header = reader.readAsciiLine();
+        assertTrue(header.startsWith("Content-Length: "), header);
+        int contentLength = Integer.parseInt(header.substring("Content-Length: ".length()));
+        assertEquals("", reader.readAsciiLine());
+        try (JsonReader jsonReader = JsonReader.fromBytes(reader.readBytes(contentLength))) {
+            return jsonReader.readMap(JsonReader::readUntyped);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.clientcore.core.serialization.json.JsonReader;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.inspector.TrustedTagInspector;
+import org.yaml.snakeyaml.representer.Representer;
+
+public class CodeModelJsonReaderTests {
+    private static final String YAML = String.join("\n", "info:", "  title: Test", "schemas:", "  strings:",
+        "    - &string", "      type: string", "      language:", "        default:", "          name: string",
+        "  arrays:", "    - type: array", "      elementType: *string", "  objects:", "    - &model",
+        "      type: object", "      language:", "        default:", "          name: Model", "      extensions:",
+        "        x-ms-flattened: true", "      properties:", "        - schema: *string",
+        "          serializedName: name", "          flattenedNames: &names", "            - properties",
+        "            - name", "        - schema:", "            type: date-time", "            format: date-time",
+        "          serializedName: createdAt", "          flattenedNames: *names", "        - schema: *model",
+        "          serializedName: child", "");
+
+    private static final String JSON = "{\"info\":{\"title\":\"Test\"},\"schemas\":{"
+        + "\"strings\":[{\"$id\":\"0\",\"type\":\"string\",\"language\":{\"default\":{\"name\":\"string\"}}}],"
+        + "\"arrays\":[{\"type\":\"array\",\"elementType\":{\"$ref\":\"0\"}}],"
+        + "\"objects\":[{\"$id\":\"1\",\"type\":\"object\",\"language\":{\"default\":{\"name\":\"Model\"}},"
+        + "\"extensions\":{\"x-ms-flattened\":true},\"properties\":["
+        + "{\"schema\":{\"$ref\":\"0\"},\"serializedName\":\"name\","
+        + "\"flattenedNames\":{\"$id\":\"2\",\"$values\":[\"properties\",\"name\"]}},"
+        + "{\"schema\":{\"type\":\"date-time\",\"format\":\"date-time\"},\"serializedName\":\"createdAt\","
+        + "\"flattenedNames\":{\"$ref\":\"2\"}},"
+        + "{\"schema\":{\"$ref\":\"1\"},\"serializedName\":\"child\"}]}]}}";
+
+    private static final String OPERATIONS_YAML = String.join("\n", "operationGroups:", "  - $key: Widgets",
+        "    operations:", "      - operationId: Widgets_Get", "        parameters:", "          - &endpoint",
+        "            schema:", "              type: string", "            implementation: Client",
+        "            required: true", "            language:", "              default:",
+        "                name: endpoint", "                serializedName: $host", "              java:",
+        "                name: endpointJava", "            protocol:", "              http:", "                in: uri",
+        "        requests:", "          - parameters:", "              - schema:", "                  type: string",
+        "                implementation: Method", "                groupedBy: *endpoint", "                language:",
+        "                  default:", "                    name: name", "                protocol:",
+        "                  http:", "                    in: path", "                    style: simple",
+        "                    explode: true", "            protocol:", "              http:",
+        "                path: /widgets/{name}", "                method: get", "                knownMediaType: json",
+        "                mediaTypes:", "                  - application/json", "");
+
+    private static final String OPERATIONS_JSON = "{\"operationGroups\":[{\"$key\":\"Widgets\",\"operations\":["
+        + "{\"operationId\":\"Widgets_Get\",\"parameters\":[{\"$id\":\"0\",\"schema\":{\"type\":\"string\"},"
+        + "\"implementation\":\"Client\",\"required\":true,"
+        + "\"language\":{\"default\":{\"name\":\"endpoint\",\"serializedName\":\"$host\"},"
+        + "\"java\":{\"name\":\"endpointJava\"}},\"protocol\":{\"http\":{\"in\":\"uri\"}}}],"
+        + "\"requests\":[{\"parameters\":[{\"schema\":{\"type\":\"string\"},\"implementation\":\"Method\","
+        + "\"groupedBy\":{\"$ref\":\"0\"},\"language\":{\"default\":{\"name\":\"name\"}},"
+        + "\"protocol\":{\"http\":{\"in\":\"path\",\"style\":\"simple\",\"explode\":true}}}],"
+        + "\"protocol\":{\"http\":{\"path\":\"/widgets/{name}\",\"method\":\"get\",\"knownMediaType\":\"json\","
+        + "\"mediaTypes\":[\"application/json\"]}}}]}]}]}";
+
+    @Test
+    public void readsSameCodeModelAsYaml() throws IOException {
+        assertCodeModel(readYaml(YAML));
+        assertCodeModel(readJson(JSON));
+    }
+
+    @Test
+    public void readsSameOperationsAsYaml() throws IOException {
+        assertOperations(readYaml(OPERATIONS_YAML));
+        assertOperations(readJson(OPERATIONS_JSON));
+    }
+
+    @Test
+    public void unresolvedReference() {
+        assertThrows(IllegalStateException.class,
+            () -> readJson("{\"schemas\":{\"arrays\":[{\"type\":\"array\",\"elementType\":{\"$ref\":\"0\"}}]}}"));
+    }
+
+    private static void assertCodeModel(CodeModel codeModel) {
+        assertEquals("Test", codeModel.getInfo().getTitle());
+
+        StringSchema stringSchema = codeModel.getSchemas().getStrings().get(0);
+        assertEquals("string", stringSchema.getLanguage().getDefault().getName());
+        assertSame(stringSchema, codeModel.getSchemas().getArrays().get(0).getElementType());
+
+        ObjectSchema model = codeModel.getSchemas().getObjects().get(0);
+        assertEquals(Schema.AllSchemaTypes.OBJECT, model.getType());
+        assertTrue(model.getExtensions().isXmsFlattened());
+
+        List<Property> properties = model.getProperties();
+        assertEquals(3, properties.size());
+        assertSame(stringSchema, properties.get(0).getSchema());
+        assertEquals(List.of("properties", "name"), properties.get(0).getFlattenedNames());
+        assertSame(properties.get(0).getFlattenedNames(), properties.get(1).getFlattenedNames());
+        DateTimeSchema dateTimeSchema = assertInstanceOf(DateTimeSchema.class, properties.get(1).getSchema());
+        assertEquals(DateTimeSchema.Format.DATE_TIME, dateTimeSchema.getFormat());
+        assertSame(model, properties.get(2).getSchema());
+    }
+
+    private static void assertOperations(CodeModel codeModel) {
+        Operation operation = codeModel.getOperationGroups().get(0).getOperations().get(0);
+        assertEquals("Widgets_Get", operation.getOperationId());
+
+        Parameter endpoint = operation.getParameters().get(0);
+        assertInstanceOf(StringSchema.class, endpoint.getSchema());
+        assertEquals(Parameter.ImplementationLocation.CLIENT, endpoint.getImplementation());
+        assertTrue(endpoint.isRequired());
+        assertEquals("endpoint", endpoint.getLanguage().getDefault().getName());
+        assertEquals("$host", endpoint.getLanguage().getDefault().getSerializedName());
+        assertEquals("endpointJava", endpoint.getLanguage().getJava().getName());
+        assertEquals(RequestParameterLocation.URI, endpoint.getProtocol().getHttp().getIn());
+
+        Request request = operation.getRequests().get(0);
+        Parameter name = request.getParameters().get(0);
+        assertEquals(Parameter.ImplementationLocation.METHOD, name.getImplementation());
+        assertFalse(name.isRequired());
+        assertSame(endpoint, name.getGroupedBy());
+        assertEquals(RequestParameterLocation.PATH, name.getProtocol().getHttp().getIn());
+        assertEquals(SerializationStyle.SIMPLE, name.getProtocol().getHttp().getStyle());
+        assertTrue(name.getProtocol().getHttp().getExplode());
+
+        Protocol http = request.getProtocol().getHttp();
+        assertEquals("/widgets/{name}", http.getPath());
+        assertEquals("get", http.getMethod());
+        assertEquals(KnownMediaType.JSON, http.getKnownMediaType());
+        assertEquals(List.of("application/json"), http.getMediaTypes());
+    }
+
+    private static CodeModel readYaml(String yaml) {
+        Representer representer = new Representer(new DumperOptions());
+        representer.setPropertyUtils(new AnnotatedPropertyUtils());
+        representer.getPropertyUtils().setSkipMissingProperties(true);
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setTagInspector(new TrustedTagInspector());
+        return new Yaml(new CodeModelCustomConstructor(loaderOptions), representer, new DumperOptions(), loaderOptions)
+            .loadAs(yaml, CodeModel.class);
+    }
+
+    private static CodeModel readJson(String json) throws IOException {
+        try (JsonReader jsonReader = JsonReader.fromString(json)) {
+            return CodeModel.fromJson(jsonReader);
+        }
+    }
+}
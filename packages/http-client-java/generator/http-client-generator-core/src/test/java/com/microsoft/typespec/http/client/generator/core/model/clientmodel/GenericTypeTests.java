@@ -0,0 +1,53 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class GenericTypeTests {
+    @Test
+    public void imports() {
+        ClassType model = new ClassType.Builder().packageName("com.azure.pets.models").name("Pet").build();
+        GenericType type = GenericType.mono(GenericType.response(new ListType(model)));
+
+        Set<String> imports = new LinkedHashSet<>();
+        type.addImportsTo(imports, false);
+        assertEquals(new LinkedHashSet<>(Arrays.asList("reactor.core.publisher.Mono",
+            ClassType.RESPONSE.getFullName(), "java.util.List", "com.azure.pets.models.Pet")), imports);
+        assertEquals("Mono<Response<List<Pet>>>", type.toString());
+
+        // the cached imports are merged into the set
+        Set<String> otherImports = new LinkedHashSet<>();
+        otherImports.add("java.util.Map");
+        type.addImportsTo(otherImports, false);
+        assertEquals(5, otherImports.size());
+    }
+
+    @Test
+    public void internedInGeneration() {
+        ClassType model = new ClassType.Builder().packageName("com.azure.pets.models").name("Pet").build();
+        new GenerationContext().run(() -> {
+            // the flavored types, e.g. PagedIterable, are resolved by the settings of the generation
+            new MockUnitJavagen();
+
+            assertSame(GenericType.pagedIterable(model), GenericType.pagedIterable(model));
+
+            // a type of the same name, but a different instance, is not the same type argument
+            ClassType otherModel = new ClassType.Builder().packageName("com.azure.pets.models").name("Pet").build();
+            assertNotSame(GenericType.pagedIterable(model), GenericType.pagedIterable(otherModel));
+        });
+
+        // the constant is compared by reference
+        assertNotSame(GenericType.FLUX_BYTE_BUFFER, GenericType.flux(ClassType.BYTE_BUFFER));
+    }
+}
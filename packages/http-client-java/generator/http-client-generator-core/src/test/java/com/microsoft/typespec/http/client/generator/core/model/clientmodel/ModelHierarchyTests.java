@@ -0,0 +1,115 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class ModelHierarchyTests {
+    private static final ClientModelProperty KIND = property("kind", true, false);
+    private static final ClientModelProperty ID = property("id", true, true);
+    private static final ClientModelProperty NAME = property("name", true, false);
+    private static final ClientModelProperty SIZE = property("size", false, false);
+    private static final ClientModelProperty COLOR = property("color", true, false);
+
+    private static final ClientModel SHAPE = model("Shape", null, KIND, ID);
+    private static final ClientModel POLYGON = model("Polygon", "Shape", NAME, SIZE);
+    private static final ClientModel SQUARE = model("Square", "Polygon", COLOR);
+    private static final ClientModel CIRCLE = model("Circle", "Shape", SIZE);
+    private static final ClientModel OTHER = model("Other", null, NAME);
+
+    @Test
+    public void hierarchy() {
+        List<ClientModel> models = Arrays.asList(SQUARE, CIRCLE, POLYGON, SHAPE, OTHER);
+        Map<String, ClientModel> nameMap
+            = models.stream().collect(Collectors.toMap(ClientModel::getName, Function.identity()));
+        ModelHierarchy hierarchy = ModelHierarchy.build(models, nameMap::get);
+
+        assertEquals(Arrays.asList(POLYGON, SHAPE), hierarchy.getParentModels(SQUARE));
+        assertEquals(Collections.emptyList(), hierarchy.getParentModels(SHAPE));
+        assertSame(SHAPE, hierarchy.getRootParent(SQUARE));
+        assertSame(OTHER, hierarchy.getRootParent(OTHER));
+
+        assertEquals(Arrays.asList(POLYGON, SQUARE, CIRCLE), hierarchy.getAllDerivedModels(SHAPE));
+        assertEquals(Collections.singletonList(SQUARE), hierarchy.getAllDerivedModels(POLYGON));
+        assertEquals(Collections.emptyList(), hierarchy.getAllDerivedModels(OTHER));
+
+        assertEquals(Arrays.asList(KIND, ID, NAME, SIZE), hierarchy.getParentProperties(SQUARE));
+        assertEquals(Arrays.asList(KIND, NAME), hierarchy.getRequiredWritableParentProperties(SQUARE));
+        assertTrue(hierarchy.isDefinedByParentModels(CIRCLE, "kind"));
+        assertFalse(hierarchy.isDefinedByParentModels(CIRCLE, "size"));
+
+        // a model of the same name is not in the hierarchy
+        ClientModel otherSquare = model("Square", "Polygon", COLOR);
+        assertFalse(hierarchy.contains(otherSquare));
+        assertThrows(IllegalArgumentException.class, () -> hierarchy.getParentModels(otherSquare));
+    }
+
+    @Test
+    public void clientModelUtil() {
+        new GenerationContext().run(() -> {
+            ClientModels clientModels = ClientModels.getInstance();
+            for (ClientModel model : Arrays.asList(SHAPE, POLYGON, SQUARE)) {
+                clientModels.addModel(model);
+            }
+
+            // before the hierarchy is built, the parent chain is walked by name
+            List<ClientModelProperty> parentProperties = ClientModelUtil.getParentProperties(SQUARE);
+            List<ClientModelProperty> reversedParentProperties = ClientModelUtil.getParentProperties(SQUARE, false);
+            List<ClientModelProperty> requiredParentProperties
+                = ClientModelUtil.getRequiredWritableParentProperties(SQUARE);
+
+            assertNotNull(clientModels.buildHierarchy());
+            assertEquals(parentProperties, ClientModelUtil.getParentProperties(SQUARE));
+            assertEquals(reversedParentProperties, ClientModelUtil.getParentProperties(SQUARE, false));
+            assertEquals(Arrays.asList(NAME, SIZE),
+                ClientModelUtil.getParentProperties(SQUARE, m -> m.getName().equals("Polygon")));
+            assertEquals(requiredParentProperties, ClientModelUtil.getRequiredWritableParentProperties(SQUARE));
+            assertEquals(Arrays.asList(POLYGON, SHAPE), ClientModelUtil.getParentModels(SQUARE));
+            assertSame(SHAPE, ClientModelUtil.getRootParent(SQUARE));
+            assertSame(POLYGON, ClientModelUtil.getDefiningModel(SQUARE, SIZE));
+            assertSame(SQUARE, ClientModelUtil.getDefiningModel(SQUARE, COLOR));
+            assertFalse(ClientModelUtil.modelDefinesProperty(SQUARE, KIND));
+
+            // adding a model discards the hierarchy
+            clientModels.addModel(CIRCLE);
+            assertNull(clientModels.getHierarchy());
+            assertEquals(Collections.singletonList(SHAPE), ClientModelUtil.getParentModels(CIRCLE));
+        });
+    }
+
+    private static ClientModel model(String name, String parentModelName, ClientModelProperty... properties) {
+        return new ClientModel.Builder().packageName("com.azure.shapes.models")
+            .name(name)
+            .polymorphic(true)
+            .parentModelName(parentModelName)
+            .properties(Arrays.asList(properties))
+            .build();
+    }
+
+    private static ClientModelProperty property(String name, boolean required, boolean readOnly) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(name)
+            .clientType(ClassType.STRING)
+            .wireType(ClassType.STRING)
+            .required(required)
+            .readOnly(readOnly)
+            .build();
+    }
+}
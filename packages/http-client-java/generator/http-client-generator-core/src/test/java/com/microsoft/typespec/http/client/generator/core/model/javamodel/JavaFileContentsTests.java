@@ -0,0 +1,38 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class JavaFileContentsTests {
+    @Test
+    public void exactImports() {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/Model.java", true);
+        javaFile.declarePackage("com.azure");
+        javaFile.line();
+        javaFile.declareImport("java.util.Map", "java.util.List", "com.azure.models.Color", "java.lang.String",
+            "static com.azure.Utils.used", "com.azure.models.OnlyInJavadoc", "com.azure.models.Unused",
+            "com.azure.SamePackage", "com.azure.other.*");
+        javaFile.declareImport("java.util.List", "java.util.Set");
+        javaFile.line("/**");
+        javaFile.line(" * See {@link OnlyInJavadoc#method(Set)}.");
+        javaFile.line(" */");
+        javaFile.line("public class Model {");
+        javaFile.line("    private List<String> values = \"Map\"; // Map");
+        javaFile.line("    void method(Color color, SamePackage samePackage) {");
+        javaFile.line("        other.Unused unused = used();");
+        javaFile.line("    }");
+        javaFile.line("}");
+
+        String expected = String.join("\n", "package com.azure;", "", "import static com.azure.Utils.used;",
+            "import com.azure.models.Color;", "import com.azure.models.OnlyInJavadoc;", "import com.azure.other.*;",
+            "import java.util.List;", "import java.util.Set;", "", "/**", " * See {@link OnlyInJavadoc#method(Set)}.",
+            " */", "public class Model {", "    private List<String> values = \"Map\"; // Map",
+            "    void method(Color color, SamePackage samePackage) {", "        other.Unused unused = used();", "    }",
+            "}");
+        assertEquals(expected, javaFile.getContents().toString());
+    }
+}
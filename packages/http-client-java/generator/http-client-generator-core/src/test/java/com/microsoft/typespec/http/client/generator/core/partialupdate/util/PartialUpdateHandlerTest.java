@@ -6,6 +6,7 @@ package com.microsoft.typespec.http.client.generator.core.partialupdate.util;
 
 import static com.github.javaparser.StaticJavaParser.parse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -453,6 +454,28 @@ public class PartialUpdateHandlerTest {
         Assertions.assertTrue(lines.contains("// @formatter:on"));
     }
 
+    @Test
+    public void testHasOnlyGeneratedMembers() throws Exception {
+        assertTrue(
+            PartialUpdateHandler.hasOnlyGeneratedMembers(load("partialupdate/StringOperationGeneratedClient.java")));
+        assertTrue(
+            PartialUpdateHandler.hasOnlyGeneratedMembers(load("partialupdate/ModelWithStaticBlockGenerated.java")));
+        assertTrue(PartialUpdateHandler.hasOnlyGeneratedMembers("package a;\n\nclass A {\n"
+            + "    @Generated\n    private final Runnable r = new Runnable() {\n"
+            + "        public void run() {\n            System.out.println(\"} int x; {\");\n        }\n    };\n"
+            + "    // public void manual() {}\n    @Generated\n    @Metadata(names = { \"a\", \"b\" })\n"
+            + "    void generated() {\n        char c = '}';\n    }\n}\n"));
+
+        assertFalse(PartialUpdateHandler
+            .hasOnlyGeneratedMembers(load("partialupdate/StringOperationWithAddedMemberClient.java")));
+        assertFalse(PartialUpdateHandler.hasOnlyGeneratedMembers(load("partialupdate/Model.java")));
+        assertFalse(PartialUpdateHandler
+            .hasOnlyGeneratedMembers("class A {\n    @Generated\n    int a;\n    {\n        a = 1;\n    }\n}\n"));
+        assertFalse(PartialUpdateHandler.hasOnlyGeneratedMembers("enum A {\n    B;\n}\n"));
+        assertFalse(PartialUpdateHandler.hasOnlyGeneratedMembers("module a {\n    requires b;\n}\n"));
+        assertFalse(PartialUpdateHandler.hasOnlyGeneratedMembers("/** doc */\npackage a;\n"));
+    }
+
     private String load(String resource) throws IOException, URISyntaxException {
         URL resourceUrl = Objects.requireNonNull(getClass().getClassLoader().getResource(resource));
         return Files.readString(Paths.get(resourceUrl.toURI()));
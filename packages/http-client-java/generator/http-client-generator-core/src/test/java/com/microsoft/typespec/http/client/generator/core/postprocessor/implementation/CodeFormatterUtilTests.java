@@ -3,10 +3,15 @@
 package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -37,4 +42,42 @@ public class CodeFormatterUtilTests {
         assertEquals(1, formattingResult.size());
         assertEquals(expected, formattingResult.get(0));
     }
+
+    @Test
+    public void parallelFormattingKeepsInputOrder() {
+        Map<String, String> files = new LinkedHashMap<>();
+        for (int i = 0; i < 32; i++) {
+            files.put("src/main/java/com/azure/Model" + i + ".java",
+                String.join("\n", "package com.azure;", "import java.util.Map;", "import java.util.List;",
+                    "public class Model" + i + " {", "private List<String> values;", "}"));
+        }
+
+        List<String> formattingResult = CodeFormatterUtil.formatCode(files);
+
+        assertEquals(files.size(), formattingResult.size());
+        for (int i = 0; i < formattingResult.size(); i++) {
+            String formatted = formattingResult.get(i);
+            assertTrue(formatted.contains("public class Model" + i + " {"));
+            assertTrue(formatted.contains("import java.util.List;"));
+            assertFalse(formatted.contains("import java.util.Map;"));
+        }
+    }
+
+    @Test
+    public void parallelFormattingReportsErrorsInInputOrder() {
+        Map<String, String> files = new LinkedHashMap<>();
+        for (int i = 0; i < 16; i++) {
+            String body = (i == 3 || i == 11) ? "void broken( {" : "private int value;";
+            files.put("Model" + i + ".java",
+                String.join("\n", "package com.azure;", "public class Model" + i + " {", body, "}"));
+        }
+
+        IllegalStateException exception
+            = assertThrows(IllegalStateException.class, () -> CodeFormatterUtil.formatCode(files));
+
+        String message = exception.getMessage();
+        int first = message.indexOf("Error in file 'Model3.java'");
+        int second = message.indexOf("Error in file 'Model11.java'");
+        assertTrue(first >= 0 && second > first, message);
+    }
 }
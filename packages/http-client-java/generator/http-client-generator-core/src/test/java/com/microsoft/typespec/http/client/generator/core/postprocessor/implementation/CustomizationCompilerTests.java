@@ -0,0 +1,132 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.microsoft.typespec.http.client.generator.core.customization.Customization;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.helpers.NOPLogger;
+
+public class CustomizationCompilerTests {
+    private static final String CODE = String.join("\n",
+        "import com.microsoft.typespec.http.client.generator.core.customization.Customization;",
+        "import com.microsoft.typespec.http.client.generator.core.customization.LibraryCustomization;",
+        "import org.slf4j.Logger;", "", "public class TestCustomization extends Customization {", "    @Override",
+        "    public void customize(LibraryCustomization libraryCustomization, Logger logger) {", "    }", "}", "");
+
+    @Test
+    public void compileAndLoadFromCache(@TempDir Path tempDir) throws Exception {
+        Class<?> customizationClass
+            = CustomizationCompiler.compileAndLoad("TestCustomization", CODE, tempDir, NOPLogger.NOP_LOGGER);
+        assertTrue(Customization.class.isAssignableFrom(customizationClass));
+        assertEquals(1, countEntries(tempDir));
+
+        // The same source is loaded from the cache entry.
+        customizationClass
+            = CustomizationCompiler.compileAndLoad("TestCustomization", CODE, tempDir, NOPLogger.NOP_LOGGER);
+        assertTrue(Customization.class.isAssignableFrom(customizationClass));
+        assertEquals(1, countEntries(tempDir));
+
+        // A change in the source is compiled to another entry.
+        CustomizationCompiler.compileAndLoad("TestCustomization", CODE + "\n", tempDir, NOPLogger.NOP_LOGGER);
+        assertEquals(2, countEntries(tempDir));
+    }
+
+    @Test
+    public void compileError(@TempDir Path tempDir) throws IOException {
+        assertThrows(IllegalStateException.class, () -> CustomizationCompiler.compileAndLoad("TestCustomization",
+            "public class TestCustomization extends Missing {}", tempDir, NOPLogger.NOP_LOGGER));
+        assertEquals(0, countEntries(tempDir));
+    }
+
+    @Test
+    public void cacheIsCreatedPrivate(@TempDir Path tempDir) throws Exception {
+        Assumptions.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        Path cacheDirectory = tempDir.resolve("cache");
+        CustomizationCompiler.compileAndLoad("TestCustomization", CODE, cacheDirectory, NOPLogger.NOP_LOGGER);
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(cacheDirectory));
+        assertEquals(1, countEntries(cacheDirectory));
+    }
+
+    @Test
+    public void sharedCacheIsNotUsed(@TempDir Path tempDir) throws Exception {
+        Assumptions.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        CustomizationCompiler.compileAndLoad("TestCustomization", CODE, tempDir, NOPLogger.NOP_LOGGER);
+        Path cacheEntry;
+        try (Stream<Path> entries = Files.list(tempDir)) {
+            cacheEntry = entries.findFirst().orElseThrow();
+        }
+
+        // Classes another user could have replaced are not loaded, the customization is compiled again.
+        Files.write(cacheEntry.resolve("TestCustomization.class"), new byte[] { 0 });
+        Files.setPosixFilePermissions(cacheEntry, PosixFilePermissions.fromString("rwxrwxrwx"));
+        Class<?> customizationClass
+            = CustomizationCompiler.compileAndLoad("TestCustomization", CODE, tempDir, NOPLogger.NOP_LOGGER);
+        assertTrue(Customization.class.isAssignableFrom(customizationClass));
+
+        Files.setPosixFilePermissions(cacheEntry, PosixFilePermissions.fromString("rwx------"));
+        Files.setPosixFilePermissions(tempDir, PosixFilePermissions.fromString("rwxrwxrwx"));
+        customizationClass
+            = CustomizationCompiler.compileAndLoad("TestCustomization", CODE, tempDir, NOPLogger.NOP_LOGGER);
+        assertTrue(Customization.class.isAssignableFrom(customizationClass));
+    }
+
+    @Test
+    public void uncachedClassesAreDeleted(@TempDir Path tempDir) throws Exception {
+        Assumptions.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        Path cacheDirectory = Files.createDirectory(tempDir.resolve("cache"));
+        Files.setPosixFilePermissions(cacheDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+        Path compileDirectory = Files.createDirectory(tempDir.resolve("compile"));
+        String previousTempDirectory = System.setProperty("codegen.java.temp.directory", compileDirectory.toString());
+        try {
+            Class<?> customizationClass = CustomizationCompiler.compileAndLoad("TestCustomization", CODE,
+                cacheDirectory, NOPLogger.NOP_LOGGER);
+            assertTrue(Customization.class.isAssignableFrom(customizationClass));
+        } finally {
+            if (previousTempDirectory == null) {
+                System.clearProperty("codegen.java.temp.directory");
+            } else {
+                System.setProperty("codegen.java.temp.directory", previousTempDirectory);
+            }
+        }
+
+        assertEquals(0, countEntries(cacheDirectory));
+        assertEquals(0, countEntries(compileDirectory));
+    }
+
+    @Test
+    public void unusedEntriesArePruned(@TempDir Path tempDir) throws Exception {
+        CustomizationCompiler.compileAndLoad("TestCustomization", CODE, tempDir, NOPLogger.NOP_LOGGER);
+        try (Stream<Path> entries = Files.list(tempDir)) {
+            Path cacheEntry = entries.findFirst().orElseThrow();
+            Files.setLastModifiedTime(cacheEntry, FileTime.from(Instant.now().minus(Duration.ofDays(8))));
+        }
+
+        CustomizationCompiler.compileAndLoad("TestCustomization", CODE + "\n", tempDir, NOPLogger.NOP_LOGGER);
+        assertEquals(1, countEntries(tempDir));
+    }
+
+    private static long countEntries(Path directory) throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries.count();
+        }
+    }
+}
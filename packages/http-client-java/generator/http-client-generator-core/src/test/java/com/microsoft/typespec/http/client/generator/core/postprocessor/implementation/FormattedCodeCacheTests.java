@@ -0,0 +1,40 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.helpers.NOPLogger;
+
+public class FormattedCodeCacheTests {
+    @Test
+    public void cacheHitAndMiss(@TempDir Path tempDir) {
+        Map<String, String> settings = Map.of("org.eclipse.jdt.core.formatter.lineSplit", "120");
+        FormattedCodeCache cache = FormattedCodeCache.create(tempDir, settings, false, NOPLogger.NOP_LOGGER);
+        assertNotNull(cache);
+
+        assertNull(cache.get("Model.java", "class Model{}"));
+        cache.put("Model.java", "class Model{}", "class Model {\n}\n");
+        assertEquals("class Model {\n}\n", cache.get("Model.java", "class Model{}"));
+
+        // Different content, file name or formatter settings don't hit the entry.
+        assertNull(cache.get("Model.java", "class Model {}"));
+        assertNull(cache.get("Other.java", "class Model{}"));
+        assertNull(FormattedCodeCache.create(tempDir, Map.of("org.eclipse.jdt.core.formatter.lineSplit", "80"), false,
+            NOPLogger.NOP_LOGGER)
+            .get("Model.java", "class Model{}"));
+        assertNull(
+            FormattedCodeCache.create(tempDir, settings, true, NOPLogger.NOP_LOGGER).get("Model.java", "class Model{}"));
+
+        // Recently used entries are kept.
+        cache.prune();
+        assertEquals("class Model {\n}\n", cache.get("Model.java", "class Model{}"));
+    }
+}
@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class JavaFileImportsProcessorTests {
+    @Test
+    public void removeUnusedAndReorderImports() {
+        String initial = String.join("\n", "package com.azure;", "", "import java.util.Set;", "import java.util.Map;",
+            "import java.util.List;", "import java.lang.String;", "import com.azure.SamePackage;",
+            "import com.azure.models.Color;", "import com.azure.models.OnlyInJavadoc;", "import java.util.List;",
+            "import static com.azure.Utils.used;", "import static com.azure.Utils.unused;", "import com.azure.other.*;",
+            "import com.azure.annotation.Generated;", "", "/**", " * See {@link OnlyInJavadoc#method(Set)}.", " */",
+            "@Generated", "public class Model {", "    private List<String> values;", "",
+            "    void method(Color color) {", "        used();", "    }", "}", "");
+        String expected = String.join("\n", "package com.azure;", "", "import static com.azure.Utils.used;",
+            "import com.azure.annotation.Generated;", "import com.azure.models.Color;",
+            "import com.azure.models.OnlyInJavadoc;", "import com.azure.other.*;", "import java.util.List;",
+            "import java.util.Set;", "", "/**", " * See {@link OnlyInJavadoc#method(Set)}.", " */", "@Generated",
+            "public class Model {", "    private List<String> values;", "", "    void method(Color color) {",
+            "        used();", "    }", "}");
+
+        JavaFileImportsProcessor javaFile = JavaFileImportsProcessor.parse("Model.java", initial);
+
+        assertNull(javaFile.getDiagnostics());
+        assertFalse(javaFile.isModuleInfo());
+        assertEquals(expected, javaFile.removeUnusedAndReorderImports());
+    }
+
+    @Test
+    public void allImportsUnused() {
+        String initial = String.join("\n", "package com.azure;", "", "import java.util.Map;", "",
+            "public class Model {", "}", "");
+        String expected = String.join("\n", "package com.azure;", "", "", "public class Model {", "}", "");
+
+        assertEquals(expected, JavaFileImportsProcessor.parse("Model.java", initial).removeUnusedAndReorderImports());
+    }
+
+    @Test
+    public void parseErrors() {
+        JavaFileImportsProcessor javaFile
+            = JavaFileImportsProcessor.parse("Model.java", "package com.azure;\npublic class Model {\nvoid m( {\n}");
+
+        assertNotNull(javaFile.getDiagnostics());
+        assertTrue(javaFile.getDiagnostics().get(0).line() > 0);
+    }
+}
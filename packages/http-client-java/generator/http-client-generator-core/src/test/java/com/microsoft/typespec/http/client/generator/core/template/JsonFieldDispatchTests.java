@@ -0,0 +1,71 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileContents;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JsonFieldDispatchTests {
+    private static final String START_OBJECT = "reader.currentToken() == JsonToken.START_OBJECT";
+    private static final Consumer<JavaBlock> SKIP_CHILDREN = block -> block.line("reader.skipChildren();");
+
+    @Test
+    public void chainsFlattenedPropertiesToUnknownFieldLogic() {
+        // a model with only top-level flattened properties, each read from a JSON object
+        JsonFieldDispatch dispatch = new JsonFieldDispatch("fieldName");
+        dispatch.addFieldBranch("properties", START_OBJECT, false, block -> block.line("readProperties();"));
+        dispatch.addFieldBranch("tags", START_OBJECT, false, block -> block.line("readTags();"));
+
+        String expected = String.join("\n",
+            "if (\"properties\".equals(fieldName) && reader.currentToken() == JsonToken.START_OBJECT) {",
+            "    readProperties();",
+            "} else if (\"tags\".equals(fieldName) && reader.currentToken() == JsonToken.START_OBJECT) {",
+            "    readTags();", "} else {", "    reader.skipChildren();", "}");
+        Assertions.assertEquals(expected, write(dispatch, SKIP_CHILDREN, 0));
+    }
+
+    @Test
+    public void chainsBranchesAfterLeadingBranch() {
+        JsonFieldDispatch dispatch = new JsonFieldDispatch("fieldName");
+        dispatch.setLeadingBranch("Parent.fromJsonShared(reader, fieldName, model)",
+            block -> block.line("continue;"));
+        dispatch.addFieldBranch("name", null, false, block -> block.line("name = reader.getString();"));
+        dispatch.addFieldBranch("properties", START_OBJECT, false, block -> block.line("readProperties();"));
+
+        String expected = String.join("\n", "if (Parent.fromJsonShared(reader, fieldName, model)) {",
+            "    continue;", "} else if (\"name\".equals(fieldName)) {", "    name = reader.getString();",
+            "} else if (\"properties\".equals(fieldName) && reader.currentToken() == JsonToken.START_OBJECT) {",
+            "    readProperties();", "} else {", "    reader.skipChildren();", "}");
+        Assertions.assertEquals(expected, write(dispatch, SKIP_CHILDREN, 0));
+    }
+
+    @Test
+    public void writesSwitchFromThreshold() {
+        JsonFieldDispatch dispatch = new JsonFieldDispatch("fieldName");
+        dispatch.addFieldBranch("name", null, false, block -> block.line("name = reader.getString();"));
+        dispatch.addFieldBranch("properties", START_OBJECT, false, block -> block.line("readProperties();"));
+
+        String expected = String.join("\n", "switch (fieldName) {", "    case \"name\": {",
+            "        name = reader.getString();", "        break;", "    }", "    case \"properties\": {",
+            "        if (reader.currentToken() == JsonToken.START_OBJECT) {", "            readProperties();",
+            "        } else {", "            reader.skipChildren();", "        }", "        break;", "    }",
+            "    default: {", "        reader.skipChildren();", "        break;", "    }", "}");
+        Assertions.assertEquals(expected, write(dispatch, SKIP_CHILDREN, 2));
+
+        // below the threshold, or with a JSON property name handled twice, the if/else chain is written
+        Assertions.assertTrue(write(dispatch, SKIP_CHILDREN, 3).startsWith("if (\"name\".equals(fieldName)) {"));
+        dispatch.addFieldBranch("name", null, false, block -> block.line("shadowed = reader.getString();"));
+        Assertions.assertTrue(write(dispatch, SKIP_CHILDREN, 2).startsWith("if (\"name\".equals(fieldName)) {"));
+    }
+
+    private static String write(JsonFieldDispatch dispatch, Consumer<JavaBlock> unknownFieldLogic,
+        int switchThreshold) {
+        JavaFileContents contents = new JavaFileContents();
+        dispatch.write(new JavaBlock(contents), unknownFieldLogic, switchThreshold);
+        return contents.toString();
+    }
+}
@@ -0,0 +1,207 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the names of the namers with the names of the regex based implementation they replaced.
+ */
+public class CodeNamerGoldenTests {
+    private static final List<String> NAMES = Arrays.asList("", " ", "_", "__", "-", "a", "A", "aB", "AB", "ABC", "Ab",
+        "_a", "__a", "_AB", "-a", "a-", "a_", "a b", "a  b", "a_-_b", "foo_bar", "fooBar", "FooBar", "FOO_BAR",
+        "foo-bar-baz", "Foo Bar", "x-ms-client-request-id", "content_type", "wsdl-link", "tcp", "991", "_10minutely",
+        "$100 Gift Card", "$$100 Gift Card", "Microsoft.AppConfiguration/configurationStores",
+        "SystemAssigned, UserAssigned", "$all", "all*", "*", "__:", "___", "\u0100all\u0101", "application/json",
+        "text/plain; charset=utf-8", "a+b", "a\\b", "a..b", "IPv4", "IPv6Address", "eTag", "ETag", "aA", "aAa", "aAA",
+        "Standard_LRS", "Premium_ZRS", "v1.0", "2020-01-01", "2020-01-01-preview", "@odata.nextLink", " leading",
+        "trailing ", "_aB_", "a-B", "_-", "-_", "1a", "A1b2C3");
+
+    private static final char[] ALPHABET = "aAbBzZ019_- ./\\+$*:,@#\u0100\u00e9".toCharArray();
+
+    @Test
+    public void testGoldenNames() {
+        List<String> names = new ArrayList<>(NAMES);
+        Random random = new Random(20200101L);
+        for (int i = 0; i < 5000; i++) {
+            char[] chars = new char[random.nextInt(12)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+            names.add(new String(chars));
+        }
+
+        new GenerationContext().run(() -> {
+            // the second pass gets the names from the cache
+            for (int pass = 0; pass < 2; pass++) {
+                for (String name : names) {
+                    assertSameName(LegacyCodeNamer::toCamelCase, CodeNamer::toCamelCase, name);
+                    assertSameName(LegacyCodeNamer::toPascalCase, CodeNamer::toPascalCase, name);
+                    assertSameName(LegacyCodeNamer::removeInvalidCharacters, CodeNamer::removeInvalidCharacters,
+                        name);
+                    assertSameName(LegacyCodeNamer::getEnumMemberName,
+                        com.microsoft.typespec.http.client.generator.core.util.CodeNamer::getEnumMemberName, name);
+                }
+            }
+        });
+    }
+
+    private static void assertSameName(UnaryOperator<String> expected, UnaryOperator<String> actual, String name) {
+        Assertions.assertEquals(name(expected, name), name(actual, name), () -> "name '" + name + "'");
+    }
+
+    private static String name(UnaryOperator<String> naming, String name) {
+        try {
+            return naming.apply(name);
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /*
+     * The regex based implementation of the namers.
+     */
+    private static final class LegacyCodeNamer {
+        private static final Pattern CASE_SPLIT = Pattern.compile("[_\\- ]");
+        private static final Pattern MERGE_UNDERSCORES = Pattern.compile("_{2,}");
+        private static final Pattern CHARACTERS_TO_REPLACE_WITH_UNDERSCORE = Pattern.compile("[\\\\/.+ -]+");
+
+        static String toCamelCase(String name) {
+            if (name == null || name.trim().isEmpty()) {
+                return name;
+            }
+
+            if (name.charAt(0) == '_') {
+                return toCamelCase(name.substring(1));
+            }
+
+            String[] splits = CASE_SPLIT.split(name);
+            if (splits.length == 0) {
+                return "";
+            }
+
+            splits[0] = formatCase(splits[0], true);
+            for (int i = 1; i != splits.length; i++) {
+                splits[i] = formatCase(splits[i], false);
+            }
+            return String.join("", splits);
+        }
+
+        static String toPascalCase(String name) {
+            if (name == null || name.trim().isEmpty()) {
+                return name;
+            }
+
+            if (name.charAt(0) == '_') {
+                return '_' + toCamelCase(name.substring(1));
+            }
+
+            return CASE_SPLIT.splitAsStream(name)
+                .filter(s -> s != null && !s.isEmpty())
+                .map(s -> formatCase(s, false))
+                .collect(Collectors.joining());
+        }
+
+        private static String formatCase(String name, boolean toLower) {
+            if (name == null || name.isEmpty()) {
+                return name;
+            }
+
+            int length = name.length();
+            char c0 = name.charAt(0);
+            if ((length < 2) || ((length == 2) && Character.isUpperCase(c0) && Character.isUpperCase(name.charAt(1)))) {
+                return toLower ? name.toLowerCase() : name.toUpperCase();
+            } else {
+                return (toLower ? Character.toLowerCase(c0) : Character.toUpperCase(c0)) + name.substring(1);
+            }
+        }
+
+        static String removeInvalidCharacters(String name) {
+            return CodeNamer.getValidName(name, c -> c == '_' || c == '-');
+        }
+
+        static String getEnumMemberName(String name) {
+            if (name == null || name.trim().isEmpty()) {
+                return name;
+            }
+
+            name = trimUnderscores(name);
+
+            String result
+                = removeInvalidCharacters(CHARACTERS_TO_REPLACE_WITH_UNDERSCORE.matcher(name).replaceAll("_"));
+
+            if (result.startsWith("_")) {
+                result = trimUnderscores(result);
+                result = removeInvalidCharacters(result);
+            }
+
+            result = MERGE_UNDERSCORES.matcher(result).replaceAll("_");
+
+            Function<Character, Boolean> isUpper = c -> c >= 'A' && c <= 'Z';
+            Function<Character, Boolean> isLower = c -> c >= 'a' && c <= 'z';
+            for (int i = 1; i < result.length() - 1; i++) {
+                if (isUpper.apply(result.charAt(i))) {
+                    if (result.charAt(i - 1) != '_' && isLower.apply(result.charAt(i - 1))) {
+                        result = result.substring(0, i) + "_" + result.substring(i);
+                    }
+                }
+            }
+
+            if (result.startsWith("_") || result.endsWith("_")) {
+                if (!result.chars().allMatch(c -> c == (int) '_')) {
+                    StringBuilder sb = new StringBuilder(result);
+                    while (sb.length() > 0 && sb.charAt(0) == '_') {
+                        sb.deleteCharAt(0);
+                    }
+                    while (sb.length() > 0 && sb.charAt(sb.length() - 1) == '_') {
+                        sb.setLength(sb.length() - 1);
+                    }
+                    result = sb.toString();
+                } else {
+                    String basicLatinCharacterReplacement = CodeNamer.getBasicLatinCharacter(name.charAt(0));
+                    if (result.startsWith("_") && basicLatinCharacterReplacement != null) {
+                        result = basicLatinCharacterReplacement + result.substring(1);
+
+                        basicLatinCharacterReplacement
+                            = CodeNamer.getBasicLatinCharacter(name.charAt(name.length() - 1));
+                        if (result.endsWith("_") && basicLatinCharacterReplacement != null) {
+                            result = result.substring(0, result.length() - 1) + basicLatinCharacterReplacement;
+                        }
+                    }
+                }
+            }
+
+            if (result.equals("_")) {
+                result = "UNDERSCORE";
+            }
+
+            return result.toUpperCase();
+        }
+
+        private static String trimUnderscores(String name) {
+            if ((name.startsWith("_") || name.endsWith("_")) && !name.chars().allMatch(c -> c == '_')) {
+                StringBuilder sb = new StringBuilder(name);
+                while (sb.length() > 0 && sb.charAt(0) == '_') {
+                    sb.deleteCharAt(0);
+                }
+                while (sb.length() > 0 && sb.charAt(sb.length() - 1) == '_') {
+                    sb.setLength(sb.length() - 1);
+                }
+                name = sb.toString();
+            }
+            return name;
+        }
+    }
+}
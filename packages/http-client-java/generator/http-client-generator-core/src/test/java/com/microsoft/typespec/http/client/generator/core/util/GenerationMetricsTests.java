@@ -0,0 +1,67 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import io.clientcore.core.serialization.json.JsonReader;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class GenerationMetricsTests {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void phaseSummary() throws Exception {
+        GenerationContext context = new GenerationContext();
+        String summary = context.call(() -> {
+            assertSame(GenerationMetrics.current(), GenerationMetrics.current());
+
+            try (GenerationMetrics.Timer timer = GenerationMetrics.start("render", "Model.java")) {
+                timer.bytes(10);
+            }
+            try (GenerationMetrics.Timer timer = GenerationMetrics.start("render", "Client.java")) {
+                timer.bytes(20).bytes(5);
+            }
+            assertEquals("model", GenerationMetrics.time("map", () -> "model"));
+
+            // a thread outside the context times its work in the generation that started it
+            GenerationMetrics metrics = GenerationMetrics.current();
+            Thread writer = new Thread(() -> {
+                try (GenerationMetrics.Timer timer = metrics.timer("writeFile", "Model.java")) {
+                    timer.bytes(7);
+                }
+            });
+            writer.start();
+            writer.join();
+            return GenerationMetrics.current().toJson();
+        });
+
+        // another generation has its own counters
+        assertNotSame(context.call(GenerationMetrics::current),
+            new GenerationContext().call(GenerationMetrics::current));
+
+        Map<String, Object> json;
+        try (JsonReader jsonReader = JsonReader.fromString(summary)) {
+            json = jsonReader.readMap(JsonReader::readUntyped);
+        }
+        assertTrue(((Number) json.get("jvmPeakHeapBytes")).longValue() > 0);
+
+        List<Map<String, Object>> phases = (List<Map<String, Object>>) json.get("phases");
+        assertEquals(3, phases.size());
+        assertEquals("render", phases.get(0).get("phase"));
+        assertEquals(2, ((Number) phases.get(0).get("count")).intValue());
+        assertEquals(35, ((Number) phases.get(0).get("bytes")).intValue());
+        assertEquals("map", phases.get(1).get("phase"));
+        assertEquals(1, ((Number) phases.get(1).get("count")).intValue());
+        assertEquals(0, ((Number) phases.get(1).get("bytes")).intValue());
+        assertEquals("writeFile", phases.get(2).get("phase"));
+        assertEquals(1, ((Number) phases.get(2).get("count")).intValue());
+        assertEquals(7, ((Number) phases.get(2).get("bytes")).intValue());
+    }
+}
@@ -0,0 +1,65 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class ParallelUtilTests {
+    @Test
+    public void mapKeepsOrderAndContext() throws Exception {
+        List<Integer> inputs = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+        GenerationContext context = new GenerationContext();
+        List<String> results = context.call(() -> ParallelUtil.map(inputs, 4, "test-worker", "testing", input -> {
+            assertSame(context, GenerationContext.current());
+            assertTrue(Thread.currentThread().isDaemon());
+            assertTrue(Thread.currentThread().getName().startsWith("test-worker-"));
+            return String.valueOf(input);
+        }));
+
+        assertEquals(inputs.stream().map(String::valueOf).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void mapThrowsTheFailureOfTheTask() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> ParallelUtil.map(List.of(1, 2, 3), 2, "test-worker", "testing", input -> {
+                if (input == 2) {
+                    throw new IllegalArgumentException("input " + input);
+                }
+                return input;
+            }));
+        assertEquals("input 2", exception.getMessage());
+    }
+
+    @Test
+    public void awaitWrapsCheckedException() {
+        ExecutorService executor = ParallelUtil.newFixedThreadPool(1, "test-worker");
+        try {
+            Future<Object> future = executor.submit((Callable<Object>) () -> {
+                throw new IOException("failed");
+            });
+
+            IllegalStateException exception
+                = assertThrows(IllegalStateException.class, () -> ParallelUtil.await(future, "testing"));
+            assertEquals("Failed while testing.", exception.getMessage());
+            assertEquals(IOException.class, exception.getCause().getClass());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
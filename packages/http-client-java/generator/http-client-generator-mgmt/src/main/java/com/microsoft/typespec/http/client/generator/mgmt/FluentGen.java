@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
@@ -30,6 +31,7 @@ import com.microsoft.typespec.http.client.generator.core.postprocessor.Postproce
 import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.ExampleParser;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapper;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapperFactory;
@@ -75,7 +77,6 @@ import org.yaml.snakeyaml.representer.Representer;
 public class FluentGen extends Javagen {
 
     private final Logger logger = new PluginLogger(this, FluentGen.class);
-    static FluentGen instance;
 
     private FluentJavaSettings fluentJavaSettings;
     private FluentMapper fluentMapper;
@@ -84,13 +85,12 @@ public class FluentGen extends Javagen {
 
     public FluentGen(Connection connection, String plugin, String sessionId) {
         super(connection, plugin, sessionId);
-        instance = this;
-        Javagen.instance = this;
+        GenerationContext.current().set(FluentGen.class, this);
         ClientModelUtil.setGetClientModelFunction(FluentUtils::getClientModel);
     }
 
     public static FluentGen getPluginInstance() {
-        return instance;
+        return GenerationContext.current().get(FluentGen.class);
     }
 
     @Override
@@ -133,6 +133,10 @@ public class FluentGen extends Javagen {
             if (!CoreUtils.isNullOrEmpty(artifactId)) {
                 writeFile("src/main/resources/" + artifactId + ".properties", "version=${project.version}\n", null);
             }
+
+            // the files are written asynchronously, wait for them so that their writes are reported
+            connection.flush();
+            GenerationMetrics.current().report(logger);
             return true;
         } catch (Exception e) {
             logger.error("Failed to successfully run fluentgen plugin", e);
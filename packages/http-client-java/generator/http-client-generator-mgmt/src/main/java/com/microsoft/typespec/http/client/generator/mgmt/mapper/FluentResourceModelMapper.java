@@ -7,10 +7,9 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.mapper.IMapper;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceModel;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
-import io.clientcore.core.utils.CoreUtils;
-import java.util.ArrayList;
 import java.util.List;
 
 public class FluentResourceModelMapper implements IMapper<ObjectSchema, FluentResourceModel> {
@@ -27,15 +26,7 @@ public class FluentResourceModelMapper implements IMapper<ObjectSchema, FluentRe
 
         ClientModel clientModel = Mappers.getModelMapper().map(objectSchema);
         if (clientModel != null && FluentUtils.isInnerClassType(clientModel.getPackage(), clientModel.getName())) {
-            List<ClientModel> parentModels = new ArrayList<>();
-            String parentModelName = clientModel.getParentModelName();
-            while (!CoreUtils.isNullOrEmpty(parentModelName)) {
-                ClientModel parentModel = FluentUtils.getClientModel(parentModelName);
-                if (parentModel != null) {
-                    parentModels.add(parentModel);
-                }
-                parentModelName = parentModel == null ? null : parentModel.getParentModelName();
-            }
+            List<ClientModel> parentModels = ClientModelUtil.getParentModels(clientModel);
 
             fluentResourceModel = new FluentResourceModel(clientModel, parentModels);
         }
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings;
 
@@ -10,48 +11,54 @@ import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings
  * Convenient class for global variables.
  *
  * Avoid using it unless no better solution.
+ * <p>
+ * The variables are stored in the {@link GenerationContext} of the current generation.
  */
 public class FluentStatic {
 
-    private static Client client;
-
-    private static FluentClient fluentClient;
-
-    private static FluentJavaSettings fluentJavaSettings;
+    private static final class State {
+        private Client client;
+        private FluentClient fluentClient;
+        private FluentJavaSettings fluentJavaSettings;
+    }
 
     private FluentStatic() {
     }
 
+    private static State state() {
+        return GenerationContext.current().getOrCreate(State.class, State::new);
+    }
+
     /**
      * @return the client on service client and method groups.
      */
     public static Client getClient() {
-        return client;
+        return state().client;
     }
 
     public static void setClient(Client client) {
-        FluentStatic.client = client;
+        state().client = client;
     }
 
     /**
      * @return the client on Fluent manager, resource collections and instances (models)
      */
     public static FluentManager getFluentManager() {
-        return fluentClient.getManager();
+        return state().fluentClient.getManager();
     }
 
     public static void setFluentClient(FluentClient fluentClient) {
-        FluentStatic.fluentClient = fluentClient;
+        state().fluentClient = fluentClient;
     }
 
     /**
      * @return settings for Fluent.
      */
     public static FluentJavaSettings getFluentJavaSettings() {
-        return fluentJavaSettings;
+        return state().fluentJavaSettings;
     }
 
     public static void setFluentJavaSettings(FluentJavaSettings fluentJavaSettings) {
-        FluentStatic.fluentJavaSettings = fluentJavaSettings;
+        state().fluentJavaSettings = fluentJavaSettings;
     }
 }
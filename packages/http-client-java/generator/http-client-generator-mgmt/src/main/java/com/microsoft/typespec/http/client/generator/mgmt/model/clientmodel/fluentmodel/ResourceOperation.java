@@ -12,6 +12,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Model
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.examplemodel.MethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentGen;
 import com.microsoft.typespec.http.client.generator.mgmt.model.ResourceTypeName;
@@ -22,7 +23,6 @@ import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.Fluen
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceModel;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.method.FluentMethod;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
-import io.clientcore.core.utils.CoreUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -241,15 +241,7 @@ public abstract class ResourceOperation {
             requestBodyModelPropertiesMap = new LinkedHashMap<>();
             requestBodyModelProperties = new ArrayList<>();
 
-            List<ClientModel> parentModels = new ArrayList<>();
-            String parentModelName = requestBodyParameterModel.getParentModelName();
-            while (!CoreUtils.isNullOrEmpty(parentModelName)) {
-                ClientModel parentModel = FluentUtils.getClientModel(parentModelName);
-                if (parentModel != null) {
-                    parentModels.add(parentModel);
-                }
-                parentModelName = parentModel == null ? null : parentModel.getParentModelName();
-            }
+            List<ClientModel> parentModels = ClientModelUtil.getParentModels(requestBodyParameterModel);
 
             List<List<ModelProperty>> propertiesFromTypeAndParents = new ArrayList<>();
             propertiesFromTypeAndParents.add(new ArrayList<>());
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.template;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
@@ -11,10 +12,10 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapTy
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
 import com.microsoft.typespec.http.client.generator.core.template.ModelTemplate;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
 import com.microsoft.typespec.http.client.generator.mgmt.model.FluentType;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
-import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -24,7 +25,7 @@ public class FluentModelTemplate extends ModelTemplate {
 
     private static final FluentModelTemplate INSTANCE = new FluentModelTemplate();
 
-    private static ModelNamer modelNamer;
+    private static final String MODEL_NAMER_KEY = FluentModelTemplate.class.getName() + ".modelNamer";
 
     protected FluentModelTemplate() {
     }
@@ -74,9 +75,7 @@ public class FluentModelTemplate extends ModelTemplate {
         if (FluentType.MANAGEMENT_ERROR.getName().equals(model.getParentModelName())) {
             // subclass of ManagementError
 
-            if (modelNamer == null) {
-                modelNamer = new ModelNamer();
-            }
+            ModelNamer modelNamer = GenerationContext.current().getOrCreate(MODEL_NAMER_KEY, ModelNamer::new);
             return modelNamer.modelPropertyGetterName(property);
 
             // disabled for now, as e.g.
@@ -104,30 +103,22 @@ public class FluentModelTemplate extends ModelTemplate {
     protected List<ClientModelPropertyReference> getClientModelPropertyReferences(ClientModel model) {
         List<ClientModelPropertyReference> propertyReferences = new ArrayList<>();
 
-        String lastParentName = model.getName();
-        String parentModelName = model.getParentModelName();
-        while (parentModelName != null && !lastParentName.equals(parentModelName)) {
-            ClientModel parentModel = FluentUtils.getClientModel(parentModelName);
-            if (parentModel != null) {
-                if (parentModel.getProperties() != null) {
-                    propertyReferences.addAll(parentModel.getProperties()
-                        .stream()
-                        .filter(p -> !p.getClientFlatten() && !p.isAdditionalProperties())
-                        .map(ClientModelPropertyReference::ofParentProperty)
-                        .collect(Collectors.toList()));
-                }
-
-                if (parentModel.getPropertyReferences() != null) {
-                    propertyReferences.addAll(parentModel.getPropertyReferences()
-                        .stream()
-                        .filter(ClientModelPropertyReference::isFromFlattenedProperty)
-                        .map(ClientModelPropertyReference::ofParentProperty)
-                        .collect(Collectors.toList()));
-                }
+        for (ClientModel parentModel : ClientModelUtil.getParentModels(model)) {
+            if (parentModel.getProperties() != null) {
+                propertyReferences.addAll(parentModel.getProperties()
+                    .stream()
+                    .filter(p -> !p.getClientFlatten() && !p.isAdditionalProperties())
+                    .map(ClientModelPropertyReference::ofParentProperty)
+                    .collect(Collectors.toList()));
             }
 
-            lastParentName = parentModelName;
-            parentModelName = parentModel == null ? null : parentModel.getParentModelName();
+            if (parentModel.getPropertyReferences() != null) {
+                propertyReferences.addAll(parentModel.getPropertyReferences()
+                    .stream()
+                    .filter(ClientModelPropertyReference::isFromFlattenedProperty)
+                    .map(ClientModelPropertyReference::ofParentProperty)
+                    .collect(Collectors.toList()));
+            }
         }
 
         return propertyReferences;
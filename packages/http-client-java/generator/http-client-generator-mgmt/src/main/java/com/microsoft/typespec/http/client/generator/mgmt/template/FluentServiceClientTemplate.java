@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.template;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
@@ -20,8 +21,7 @@ import java.util.Map;
 
 public class FluentServiceClientTemplate extends ServiceClientTemplate {
 
-    private static final FluentServiceClientTemplate INSTANCE = new FluentServiceClientTemplate();
-    static {
+    private FluentServiceClientTemplate() {
         if (JavaSettings.getInstance().isFluentLite()) {
             MethodTemplate getContextMethod = MethodTemplate.builder()
                 .imports(List.of(ClassType.CONTEXT.getFullName()))
@@ -106,18 +106,20 @@ public class FluentServiceClientTemplate extends ServiceClientTemplate {
                 .method(method -> method.text(FluentUtils.loadTextFromResource("Client_getLroFinalResultOrError.txt")))
                 .build();
 
-            INSTANCE.additionalMethods.add(getContextMethod);
-            INSTANCE.additionalMethods.add(mergeContextMethod);
-            INSTANCE.additionalMethods.add(getLroResultMethod);
+            additionalMethods.add(getContextMethod);
+            additionalMethods.add(mergeContextMethod);
+            additionalMethods.add(getLroResultMethod);
             if (JavaSettings.getInstance().isSyncStackEnabled()) {
-                INSTANCE.additionalMethods.add(getLroResultSyncMethod);
+                additionalMethods.add(getLroResultSyncMethod);
             }
-            INSTANCE.additionalMethods.add(getLroFinalResultOrErrorMethod);
+            additionalMethods.add(getLroFinalResultOrErrorMethod);
         }
     }
 
     public static FluentServiceClientTemplate getInstance() {
-        return INSTANCE;
+        // the additional methods depend on the settings of the generation
+        return GenerationContext.current()
+            .getOrCreate(FluentServiceClientTemplate.class, FluentServiceClientTemplate::new);
     }
 
     @Override
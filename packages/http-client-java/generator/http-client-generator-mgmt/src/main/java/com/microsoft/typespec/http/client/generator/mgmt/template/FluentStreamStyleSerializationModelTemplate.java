@@ -12,9 +12,9 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlo
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
 import com.microsoft.typespec.http.client.generator.core.template.StreamSerializationModelTemplate;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ErrorClientModel;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
-import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import io.clientcore.core.utils.CoreUtils;
 import java.util.List;
 import java.util.Set;
@@ -42,17 +42,12 @@ public class FluentStreamStyleSerializationModelTemplate extends StreamSerializa
         if (CoreUtils.isNullOrEmpty(model.getParentModelName())) {
             return false;
         }
-        boolean manageErrorParent = false;
-        String parentModelName = model.getParentModelName();
-        while (parentModelName != null) {
-            ClientModel parentModel = FluentUtils.getClientModel(parentModelName);
+        for (ClientModel parentModel : ClientModelUtil.getParentModels(model)) {
             if (parentModel == ErrorClientModel.MANAGEMENT_ERROR) {
-                manageErrorParent = true;
-                break;
+                return true;
             }
-            parentModelName = parentModel.getParentModelName();
         }
-        return manageErrorParent;
+        return false;
     }
 
     @Override
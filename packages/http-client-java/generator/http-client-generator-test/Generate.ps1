@@ -42,6 +42,21 @@ $generateScript = {
     $tspOptions += " --option ""@typespec/http-client-java.examples-dir={project-root}/specs/azure/example/basic/examples"""
   } elseif ($tspFile -match "azure[\\/]client-generator-core[\\/]client-initialization[\\/]") {
     $tspOptions += " --option ""@typespec/http-client-java.enable-subclient=true"""
+  } elseif ($tspFile -match "azure[\\/]client-generator-core[\\/]flatten-property[\\/]" -or $tspFile -match "type[\\/]property[\\/]additional-properties[\\/]") {
+    # test for "json-field-switch-threshold", fromJson switches on the field name
+    $tspOptions += " --option ""@typespec/http-client-java.json-field-switch-threshold=2"""
+  } elseif ($tspFile -match "type[\\/]model[\\/]inheritance[\\/](single|nested|enum)-discriminator[\\/]") {
+    # test for "discriminator-first-deserialization", polymorphic types are read without buffering when the discriminator comes first
+    $tspOptions += " --option ""@typespec/http-client-java.discriminator-first-deserialization=true"""
+  } elseif ($tspFile -match "(?<!azure[\\/])payload[\\/]pageable[\\/]" -or $tspFile -match "tsp[\\/]protocol-api-convenient-api.tsp") {
+    # test for "stream-style-paging", the paging methods read the page body in a single pass
+    $tspOptions += " --option ""@typespec/http-client-java.stream-style-paging=true"""
+  } elseif ($tspFile -match "tsp[\\/]special-headers.tsp" -or $tspFile -match "tsp[\\/]response.tsp") {
+    # test for "direct-model-serialization", convenience methods call toJson/fromJson of the models
+    $tspOptions += " --option ""@typespec/http-client-java.direct-model-serialization=true"""
+  } elseif ($tspFile -match "payload[\\/]json-merge-patch[\\/]" -or $tspFile -match "tsp[\\/]patch.tsp") {
+    # test for "stateless-json-merge-patch", JSON merge patch is serialized without changing the model
+    $tspOptions += " --option ""@typespec/http-client-java.stateless-json-merge-patch=true"""
   } elseif ($tspFile -match "resiliency[\\/]srv-driven[\\/]old\.tsp") {
     # override namespace for "resiliency/srv-driven/old.tsp" (make it different to that from "main.tsp")
     $tspOptions += " --option ""@typespec/http-client-java.namespace=resiliency.servicedriven.v1"""
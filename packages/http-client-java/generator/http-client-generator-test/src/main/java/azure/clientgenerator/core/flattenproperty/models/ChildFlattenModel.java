@@ -91,12 +91,21 @@ public final class ChildFlattenModel implements JsonSerializable<ChildFlattenMod
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("summary".equals(fieldName)) {
-                    summary = reader.getString();
-                } else if ("properties".equals(fieldName)) {
-                    properties = ChildModel.fromJson(reader);
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "summary": {
+                        summary = reader.getString();
+                        break;
+                    }
+
+                    case "properties": {
+                        properties = ChildModel.fromJson(reader);
+                        break;
+                    }
+
+                    default: {
+                        reader.skipChildren();
+                        break;
+                    }
                 }
             }
             return new ChildFlattenModel(summary, properties);
@@ -91,12 +91,21 @@ public final class ChildModel implements JsonSerializable<ChildModel> {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("description".equals(fieldName)) {
-                    description = reader.getString();
-                } else if ("age".equals(fieldName)) {
-                    age = reader.getInt();
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "description": {
+                        description = reader.getString();
+                        break;
+                    }
+
+                    case "age": {
+                        age = reader.getInt();
+                        break;
+                    }
+
+                    default: {
+                        reader.skipChildren();
+                        break;
+                    }
                 }
             }
             return new ChildModel(description, age);
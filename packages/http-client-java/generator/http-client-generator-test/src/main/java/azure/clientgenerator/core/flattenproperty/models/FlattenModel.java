@@ -91,12 +91,21 @@ public final class FlattenModel implements JsonSerializable<FlattenModel> {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("properties".equals(fieldName)) {
-                    properties = ChildModel.fromJson(reader);
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "name": {
+                        name = reader.getString();
+                        break;
+                    }
+
+                    case "properties": {
+                        properties = ChildModel.fromJson(reader);
+                        break;
+                    }
+
+                    default: {
+                        reader.skipChildren();
+                        break;
+                    }
                 }
             }
             return new FlattenModel(name, properties);
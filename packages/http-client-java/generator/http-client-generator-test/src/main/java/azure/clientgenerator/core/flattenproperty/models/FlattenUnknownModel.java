@@ -105,13 +105,22 @@ public final class FlattenUnknownModel implements JsonSerializable<FlattenUnknow
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("properties".equals(fieldName)) {
-                    properties
-                        = reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()));
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "name": {
+                        name = reader.getString();
+                        break;
+                    }
+
+                    case "properties": {
+                        properties
+                            = reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()));
+                        break;
+                    }
+
+                    default: {
+                        reader.skipChildren();
+                        break;
+                    }
                 }
             }
             FlattenUnknownModel deserializedFlattenUnknownModel = new FlattenUnknownModel(name);
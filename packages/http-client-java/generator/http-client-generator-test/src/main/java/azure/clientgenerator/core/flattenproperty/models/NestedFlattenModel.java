@@ -91,12 +91,21 @@ public final class NestedFlattenModel implements JsonSerializable<NestedFlattenM
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("properties".equals(fieldName)) {
-                    properties = ChildFlattenModel.fromJson(reader);
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "name": {
+                        name = reader.getString();
+                        break;
+                    }
+
+                    case "properties": {
+                        properties = ChildFlattenModel.fromJson(reader);
+                        break;
+                    }
+
+                    default: {
+                        reader.skipChildren();
+                        break;
+                    }
                 }
             }
             return new NestedFlattenModel(name, properties);
@@ -101,12 +101,21 @@ public final class Solution implements JsonSerializable<Solution> {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("properties".equals(fieldName)) {
-                    properties = SolutionProperties.fromJson(reader);
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "name": {
+                        name = reader.getString();
+                        break;
+                    }
+
+                    case "properties": {
+                        properties = SolutionProperties.fromJson(reader);
+                        break;
+                    }
+
+                    default: {
+                        reader.skipChildren();
+                        break;
+                    }
                 }
             }
             Solution deserializedSolution = new Solution(name);
@@ -98,14 +98,26 @@ public final class SolutionProperties implements JsonSerializable<SolutionProper
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("solutionId".equals(fieldName)) {
-                    deserializedSolutionProperties.solutionId = reader.getString();
-                } else if ("title".equals(fieldName)) {
-                    deserializedSolutionProperties.title = reader.getString();
-                } else if ("content".equals(fieldName)) {
-                    deserializedSolutionProperties.content = reader.getString();
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "solutionId": {
+                        deserializedSolutionProperties.solutionId = reader.getString();
+                        break;
+                    }
+
+                    case "title": {
+                        deserializedSolutionProperties.title = reader.getString();
+                        break;
+                    }
+
+                    case "content": {
+                        deserializedSolutionProperties.content = reader.getString();
+                        break;
+                    }
+
+                    default: {
+                        reader.skipChildren();
+                        break;
+                    }
                 }
             }
 
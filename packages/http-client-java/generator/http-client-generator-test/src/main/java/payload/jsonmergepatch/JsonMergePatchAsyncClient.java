@@ -287,12 +287,8 @@ public final class JsonMergePatchAsyncClient {
     public Mono<Resource> updateResource(ResourcePatch body) {
         // Generated convenience method for updateResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, false);
-        return updateResourceWithResponse(bodyInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
+        return updateResourceWithResponse(JsonMergePatchHelper.toJsonMergePatchBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
             .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
     }
 
@@ -314,12 +310,7 @@ public final class JsonMergePatchAsyncClient {
         // Generated convenience method for updateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (body != null) {
-            JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, true);
-            BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-            // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-            bodyInBinaryData.getLength();
-            JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, false);
-            requestOptions.setBody(bodyInBinaryData);
+            requestOptions.setBody(JsonMergePatchHelper.toJsonMergePatchBinaryData(body));
         }
         return updateOptionalResourceWithResponse(requestOptions).flatMap(FluxUtil::toMono)
             .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
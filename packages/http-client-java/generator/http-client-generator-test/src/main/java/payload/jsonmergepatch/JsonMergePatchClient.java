@@ -285,12 +285,9 @@ public final class JsonMergePatchClient {
     public Resource updateResource(ResourcePatch body) {
         // Generated convenience method for updateResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, false);
-        return updateResourceWithResponse(bodyInBinaryData, requestOptions).getValue().toObject(Resource.class);
+        return updateResourceWithResponse(JsonMergePatchHelper.toJsonMergePatchBinaryData(body), requestOptions)
+            .getValue()
+            .toObject(Resource.class);
     }
 
     /**
@@ -311,12 +308,7 @@ public final class JsonMergePatchClient {
         // Generated convenience method for updateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (body != null) {
-            JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, true);
-            BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-            // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-            bodyInBinaryData.getLength();
-            JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, false);
-            requestOptions.setBody(bodyInBinaryData);
+            requestOptions.setBody(JsonMergePatchHelper.toJsonMergePatchBinaryData(body));
         }
         return updateOptionalResourceWithResponse(requestOptions).getValue().toObject(Resource.class);
     }
@@ -4,6 +4,10 @@
 
 package payload.jsonmergepatch.implementation;
 
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 import payload.jsonmergepatch.models.InnerModel;
 import payload.jsonmergepatch.models.ResourcePatch;
 
@@ -17,6 +21,8 @@ public class JsonMergePatchHelper {
         InnerModel prepareModelForJsonMergePatch(InnerModel innerModel, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(InnerModel innerModel);
+
+        JsonWriter toJsonMergePatch(InnerModel innerModel, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setInnerModelAccessor(InnerModelAccessor accessor) {
@@ -27,12 +33,40 @@ public class JsonMergePatchHelper {
         return innerModelAccessor;
     }
 
+    /**
+     * Gets the JSON merge patch of the InnerModel as BinaryData. The JSON merge patch is serialized when the BinaryData
+     * is read, and the InnerModel is not changed.
+     * 
+     * @param innerModel the InnerModel.
+     * @return the JSON merge patch of the InnerModel as BinaryData.
+     */
+    public static BinaryData toJsonMergePatchBinaryData(InnerModel innerModel) {
+        return BinaryData.fromObject(new InnerModelJsonMergePatch(innerModel));
+    }
+
+    private static final class InnerModelJsonMergePatch implements JsonSerializable<InnerModelJsonMergePatch> {
+        private final InnerModel innerModel;
+
+        private InnerModelJsonMergePatch(InnerModel innerModel) {
+            this.innerModel = innerModel;
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            return innerModel == null
+                ? jsonWriter.writeNull()
+                : innerModelAccessor.toJsonMergePatch(innerModel, jsonWriter);
+        }
+    }
+
     private static ResourcePatchAccessor resourcePatchAccessor;
 
     public interface ResourcePatchAccessor {
         ResourcePatch prepareModelForJsonMergePatch(ResourcePatch resourcePatch, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(ResourcePatch resourcePatch);
+
+        JsonWriter toJsonMergePatch(ResourcePatch resourcePatch, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setResourcePatchAccessor(ResourcePatchAccessor accessor) {
@@ -42,4 +76,30 @@ public class JsonMergePatchHelper {
     public static ResourcePatchAccessor getResourcePatchAccessor() {
         return resourcePatchAccessor;
     }
+
+    /**
+     * Gets the JSON merge patch of the ResourcePatch as BinaryData. The JSON merge patch is serialized when the
+     * BinaryData is read, and the ResourcePatch is not changed.
+     * 
+     * @param resourcePatch the ResourcePatch.
+     * @return the JSON merge patch of the ResourcePatch as BinaryData.
+     */
+    public static BinaryData toJsonMergePatchBinaryData(ResourcePatch resourcePatch) {
+        return BinaryData.fromObject(new ResourcePatchJsonMergePatch(resourcePatch));
+    }
+
+    private static final class ResourcePatchJsonMergePatch implements JsonSerializable<ResourcePatchJsonMergePatch> {
+        private final ResourcePatch resourcePatch;
+
+        private ResourcePatchJsonMergePatch(ResourcePatch resourcePatch) {
+            this.resourcePatch = resourcePatch;
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            return resourcePatch == null
+                ? jsonWriter.writeNull()
+                : resourcePatchAccessor.toJsonMergePatch(resourcePatch, jsonWriter);
+        }
+    }
 }
@@ -58,6 +58,11 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
             public boolean isJsonMergePatch(InnerModel model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(InnerModel model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -131,7 +136,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     }
 
     @Generated
-    private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
+    JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         if (updatedProperties.contains("name")) {
             if (this.name == null) {
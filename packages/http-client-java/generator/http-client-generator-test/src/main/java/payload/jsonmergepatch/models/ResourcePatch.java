@@ -90,6 +90,11 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
             public boolean isJsonMergePatch(ResourcePatch model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(ResourcePatch model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -283,7 +288,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     }
 
     @Generated
-    private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
+    JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         if (updatedProperties.contains("description")) {
             if (this.description == null) {
@@ -298,9 +303,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
             } else {
                 jsonWriter.writeMapField("map", this.map, (writer, element) -> {
                     if (element != null) {
-                        JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(element, true);
-                        writer.writeJson(element);
-                        JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(element, false);
+                        JsonMergePatchHelper.getInnerModelAccessor().toJsonMergePatch(element, writer);
                     } else {
                         writer.writeNull();
                     }
@@ -332,9 +335,8 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
             if (this.innerModel == null) {
                 jsonWriter.writeNullField("innerModel");
             } else {
-                JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(this.innerModel, true);
-                jsonWriter.writeJsonField("innerModel", this.innerModel);
-                JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(this.innerModel, false);
+                jsonWriter.writeFieldName("innerModel");
+                JsonMergePatchHelper.getInnerModelAccessor().toJsonMergePatch(this.innerModel, jsonWriter);
             }
         }
         if (updatedProperties.contains("intArray")) {
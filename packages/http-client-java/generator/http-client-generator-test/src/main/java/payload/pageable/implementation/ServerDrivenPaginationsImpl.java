@@ -29,8 +29,6 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -204,8 +202,7 @@ public final class ServerDrivenPaginationsImpl {
     private Mono<PagedResponse<BinaryData>> linkSinglePageAsync(RequestOptions requestOptions) {
         final String accept = "application/json";
         return FluxUtil.withContext(context -> service.link(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), getNextLink(res.getValue(), "next"), null));
+            .map(res -> getPagedResponse(res, new String[] { "pets" }, new String[] { "next" }));
     }
 
     /**
@@ -261,8 +258,7 @@ public final class ServerDrivenPaginationsImpl {
     private PagedResponse<BinaryData> linkSinglePage(RequestOptions requestOptions) {
         final String accept = "application/json";
         Response<BinaryData> res = service.linkSync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), getNextLink(res.getValue(), "next"), null);
+        return getPagedResponse(res, new String[] { "pets" }, new String[] { "next" });
     }
 
     /**
@@ -319,8 +315,7 @@ public final class ServerDrivenPaginationsImpl {
         final String accept = "application/json";
         return FluxUtil
             .withContext(context -> service.linkString(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), getNextLink(res.getValue(), "next"), null));
+            .map(res -> getPagedResponse(res, new String[] { "pets" }, new String[] { "next" }));
     }
 
     /**
@@ -377,8 +372,7 @@ public final class ServerDrivenPaginationsImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.linkStringSync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), getNextLink(res.getValue(), "next"), null);
+        return getPagedResponse(res, new String[] { "pets" }, new String[] { "next" });
     }
 
     /**
@@ -435,9 +429,8 @@ public final class ServerDrivenPaginationsImpl {
         final String accept = "application/json";
         return FluxUtil
             .withContext(context -> service.nestedLink(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "nestedItems", "pets"), getNextLink(res.getValue(), "nestedNext", "next"),
-                null));
+            .map(res -> getPagedResponse(res, new String[] { "nestedItems", "pets" },
+                new String[] { "nestedNext", "next" }));
     }
 
     /**
@@ -494,8 +487,7 @@ public final class ServerDrivenPaginationsImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.nestedLinkSync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "nestedItems", "pets"), getNextLink(res.getValue(), "nestedNext", "next"), null);
+        return getPagedResponse(res, new String[] { "nestedItems", "pets" }, new String[] { "nestedNext", "next" });
     }
 
     /**
@@ -554,8 +546,7 @@ public final class ServerDrivenPaginationsImpl {
         return FluxUtil
             .withContext(
                 context -> service.linkNext(nextLink, this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), getNextLink(res.getValue(), "next"), null));
+            .map(res -> getPagedResponse(res, new String[] { "pets" }, new String[] { "next" }));
     }
 
     /**
@@ -584,8 +575,7 @@ public final class ServerDrivenPaginationsImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.linkNextSync(nextLink, this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), getNextLink(res.getValue(), "next"), null);
+        return getPagedResponse(res, new String[] { "pets" }, new String[] { "next" });
     }
 
     /**
@@ -616,8 +606,7 @@ public final class ServerDrivenPaginationsImpl {
         return FluxUtil
             .withContext(
                 context -> service.linkStringNext(nextLink, this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), getNextLink(res.getValue(), "next"), null));
+            .map(res -> getPagedResponse(res, new String[] { "pets" }, new String[] { "next" }));
     }
 
     /**
@@ -646,8 +635,7 @@ public final class ServerDrivenPaginationsImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.linkStringNextSync(nextLink, this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), getNextLink(res.getValue(), "next"), null);
+        return getPagedResponse(res, new String[] { "pets" }, new String[] { "next" });
     }
 
     /**
@@ -678,9 +666,8 @@ public final class ServerDrivenPaginationsImpl {
         return FluxUtil
             .withContext(
                 context -> service.nestedLinkNext(nextLink, this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "nestedItems", "pets"), getNextLink(res.getValue(), "nestedNext", "next"),
-                null));
+            .map(res -> getPagedResponse(res, new String[] { "nestedItems", "pets" },
+                new String[] { "nestedNext", "next" }));
     }
 
     /**
@@ -709,32 +696,59 @@ public final class ServerDrivenPaginationsImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.nestedLinkNextSync(nextLink, this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "nestedItems", "pets"), getNextLink(res.getValue(), "nestedNext", "next"), null);
+        return getPagedResponse(res, new String[] { "nestedItems", "pets" }, new String[] { "nestedNext", "next" });
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String... path) {
-        try {
-            Object value = binaryData.toObject(Map.class);
-            for (String segment : path) {
-                value = ((Map<?, ?>) value).get(segment);
+    private PagedResponse<BinaryData> getPagedResponse(Response<BinaryData> res, String[] valuesPath,
+        String[] nextLinkPath) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (com.azure.json.JsonReader reader = com.azure.json.JsonProviders.createReader(res.getValue().toBytes())) {
+            // The depth of the object being read, and the number of segments of each path it matches.
+            int depth = reader.nextToken() == com.azure.json.JsonToken.START_OBJECT ? 0 : -1;
+            int valuesDepth = 0;
+            int nextLinkDepth = 0;
+            while (depth >= 0) {
+                if (reader.nextToken() == com.azure.json.JsonToken.END_OBJECT) {
+                    depth--;
+                    valuesDepth = Math.min(valuesDepth, depth);
+                    nextLinkDepth = Math.min(nextLinkDepth, depth);
+                    continue;
+                }
+                String fieldName = reader.getFieldName();
+                com.azure.json.JsonToken token = reader.nextToken();
+                boolean inValues = valuesDepth == depth && isPagingPathSegment(valuesPath, depth, fieldName);
+                boolean inNextLink = nextLinkDepth == depth && isPagingPathSegment(nextLinkPath, depth, fieldName);
+                if (inValues && depth + 1 == valuesPath.length && token == com.azure.json.JsonToken.START_ARRAY) {
+                    values = reader.readArray(valueReader -> {
+                        if (valueReader.isStartArrayOrObject()) {
+                            return BinaryData.fromString(valueReader.readChildren());
+                        }
+                        return BinaryData.fromObject(valueReader.readUntyped());
+                    });
+                } else if (inNextLink && depth + 1 == nextLinkPath.length && token == com.azure.json.JsonToken.STRING) {
+                    nextLink = reader.getString();
+                } else if ((inValues || inNextLink) && token == com.azure.json.JsonToken.START_OBJECT) {
+                    depth++;
+                    valuesDepth += inValues ? 1 : 0;
+                    nextLinkDepth += inNextLink ? 1 : 0;
+                } else {
+                    reader.skipChildren();
+                }
             }
-            List<?> values = (List<?>) value;
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
+        } catch (java.io.IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        Object deserializedHeaders = null;
+        if (res instanceof com.azure.core.http.rest.ResponseBase) {
+            deserializedHeaders = ((com.azure.core.http.rest.ResponseBase<?, ?>) res).getDeserializedHeaders();
+        }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink,
+            deserializedHeaders);
     }
 
-    private String getNextLink(BinaryData binaryData, String... path) {
-        try {
-            Object value = binaryData.toObject(Map.class);
-            for (String segment : path) {
-                value = ((Map<?, ?>) value).get(segment);
-            }
-            return (String) value;
-        } catch (RuntimeException e) {
-            return null;
-        }
+    private boolean isPagingPathSegment(String[] path, int depth, String fieldName) {
+        return path != null && depth < path.length && path[depth].equals(fieldName);
     }
 }
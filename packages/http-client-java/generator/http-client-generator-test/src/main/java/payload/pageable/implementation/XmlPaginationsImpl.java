@@ -29,8 +29,6 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -480,31 +478,6 @@ public final class XmlPaginationsImpl {
             }, "Pets", "Pet"), getXmlNextLink(res.getValue(), "NextLink"), null);
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String... path) {
-        try {
-            Object value = binaryData.toObject(Map.class);
-            for (String segment : path) {
-                value = ((Map<?, ?>) value).get(segment);
-            }
-            List<?> values = (List<?>) value;
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String... path) {
-        try {
-            Object value = binaryData.toObject(Map.class);
-            for (String segment : path) {
-                value = ((Map<?, ?>) value).get(segment);
-            }
-            return (String) value;
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
     private static final com.azure.core.util.serializer.ObjectSerializer XML_SERIALIZER
         = XmlSerializerProviders.createInstance();
 
@@ -342,13 +342,9 @@ public final class PatchAsyncClient {
     public Mono<Resource> createOrUpdateResource(Resource resource) {
         // Generated convenience method for createOrUpdateResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-        return createOrUpdateResourceWithResponse(resourceInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+        return createOrUpdateResourceWithResponse(JsonMergePatchHelper.toJsonMergePatchBinaryData(resource),
+            requestOptions).flatMap(FluxUtil::toMono)
+                .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
     }
 
     /**
@@ -369,12 +365,7 @@ public final class PatchAsyncClient {
         // Generated convenience method for createOrUpdateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (resource != null) {
-            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-            BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-            // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-            resourceInBinaryData.getLength();
-            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-            requestOptions.setBody(resourceInBinaryData);
+            requestOptions.setBody(JsonMergePatchHelper.toJsonMergePatchBinaryData(resource));
         }
         return createOrUpdateOptionalResourceWithResponse(requestOptions).flatMap(FluxUtil::toMono)
             .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
@@ -417,12 +408,8 @@ public final class PatchAsyncClient {
     public Mono<Fish> createOrUpdateFish(Fish fish) {
         // Generated convenience method for createOrUpdateFishWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, true);
-        BinaryData fishInBinaryData = BinaryData.fromObject(fish);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        fishInBinaryData.getLength();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, false);
-        return createOrUpdateFishWithResponse(fishInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
+        return createOrUpdateFishWithResponse(JsonMergePatchHelper.toJsonMergePatchBinaryData(fish), requestOptions)
+            .flatMap(FluxUtil::toMono)
             .map(protocolMethodData -> protocolMethodData.toObject(Fish.class));
     }
 
@@ -444,12 +431,8 @@ public final class PatchAsyncClient {
     public Mono<Salmon> createOrUpdateSalmon(Salmon fish) {
         // Generated convenience method for createOrUpdateSalmonWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, true);
-        BinaryData fishInBinaryData = BinaryData.fromObject(fish);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        fishInBinaryData.getLength();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, false);
-        return createOrUpdateSalmonWithResponse(fishInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
+        return createOrUpdateSalmonWithResponse(JsonMergePatchHelper.toJsonMergePatchBinaryData(fish), requestOptions)
+            .flatMap(FluxUtil::toMono)
             .map(protocolMethodData -> protocolMethodData.toObject(Salmon.class));
     }
 }
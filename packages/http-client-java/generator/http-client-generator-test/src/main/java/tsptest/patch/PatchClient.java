@@ -339,13 +339,8 @@ public final class PatchClient {
     public Resource createOrUpdateResource(Resource resource) {
         // Generated convenience method for createOrUpdateResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-        return createOrUpdateResourceWithResponse(resourceInBinaryData, requestOptions).getValue()
-            .toObject(Resource.class);
+        return createOrUpdateResourceWithResponse(JsonMergePatchHelper.toJsonMergePatchBinaryData(resource),
+            requestOptions).getValue().toObject(Resource.class);
     }
 
     /**
@@ -366,12 +361,7 @@ public final class PatchClient {
         // Generated convenience method for createOrUpdateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (resource != null) {
-            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-            BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-            // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-            resourceInBinaryData.getLength();
-            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-            requestOptions.setBody(resourceInBinaryData);
+            requestOptions.setBody(JsonMergePatchHelper.toJsonMergePatchBinaryData(resource));
         }
         return createOrUpdateOptionalResourceWithResponse(requestOptions).getValue().toObject(Resource.class);
     }
@@ -411,12 +401,9 @@ public final class PatchClient {
     public Fish createOrUpdateFish(Fish fish) {
         // Generated convenience method for createOrUpdateFishWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, true);
-        BinaryData fishInBinaryData = BinaryData.fromObject(fish);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        fishInBinaryData.getLength();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, false);
-        return createOrUpdateFishWithResponse(fishInBinaryData, requestOptions).getValue().toObject(Fish.class);
+        return createOrUpdateFishWithResponse(JsonMergePatchHelper.toJsonMergePatchBinaryData(fish), requestOptions)
+            .getValue()
+            .toObject(Fish.class);
     }
 
     /**
@@ -437,11 +424,8 @@ public final class PatchClient {
     public Salmon createOrUpdateSalmon(Salmon fish) {
         // Generated convenience method for createOrUpdateSalmonWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, true);
-        BinaryData fishInBinaryData = BinaryData.fromObject(fish);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        fishInBinaryData.getLength();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, false);
-        return createOrUpdateSalmonWithResponse(fishInBinaryData, requestOptions).getValue().toObject(Salmon.class);
+        return createOrUpdateSalmonWithResponse(JsonMergePatchHelper.toJsonMergePatchBinaryData(fish), requestOptions)
+            .getValue()
+            .toObject(Salmon.class);
     }
 }
@@ -4,6 +4,10 @@
 
 package tsptest.patch.implementation;
 
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 import tsptest.patch.models.Fish;
 import tsptest.patch.models.InnerModel;
 import tsptest.patch.models.Resource;
@@ -19,6 +23,8 @@ public class JsonMergePatchHelper {
         Resource prepareModelForJsonMergePatch(Resource resource, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(Resource resource);
+
+        JsonWriter toJsonMergePatch(Resource resource, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setResourceAccessor(ResourceAccessor accessor) {
@@ -29,12 +35,38 @@ public class JsonMergePatchHelper {
         return resourceAccessor;
     }
 
+    /**
+     * Gets the JSON merge patch of the Resource as BinaryData. The JSON merge patch is serialized when the BinaryData
+     * is read, and the Resource is not changed.
+     * 
+     * @param resource the Resource.
+     * @return the JSON merge patch of the Resource as BinaryData.
+     */
+    public static BinaryData toJsonMergePatchBinaryData(Resource resource) {
+        return BinaryData.fromObject(new ResourceJsonMergePatch(resource));
+    }
+
+    private static final class ResourceJsonMergePatch implements JsonSerializable<ResourceJsonMergePatch> {
+        private final Resource resource;
+
+        private ResourceJsonMergePatch(Resource resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            return resource == null ? jsonWriter.writeNull() : resourceAccessor.toJsonMergePatch(resource, jsonWriter);
+        }
+    }
+
     private static InnerModelAccessor innerModelAccessor;
 
     public interface InnerModelAccessor {
         InnerModel prepareModelForJsonMergePatch(InnerModel innerModel, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(InnerModel innerModel);
+
+        JsonWriter toJsonMergePatch(InnerModel innerModel, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setInnerModelAccessor(InnerModelAccessor accessor) {
@@ -45,6 +77,32 @@ public class JsonMergePatchHelper {
         return innerModelAccessor;
     }
 
+    /**
+     * Gets the JSON merge patch of the InnerModel as BinaryData. The JSON merge patch is serialized when the BinaryData
+     * is read, and the InnerModel is not changed.
+     * 
+     * @param innerModel the InnerModel.
+     * @return the JSON merge patch of the InnerModel as BinaryData.
+     */
+    public static BinaryData toJsonMergePatchBinaryData(InnerModel innerModel) {
+        return BinaryData.fromObject(new InnerModelJsonMergePatch(innerModel));
+    }
+
+    private static final class InnerModelJsonMergePatch implements JsonSerializable<InnerModelJsonMergePatch> {
+        private final InnerModel innerModel;
+
+        private InnerModelJsonMergePatch(InnerModel innerModel) {
+            this.innerModel = innerModel;
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            return innerModel == null
+                ? jsonWriter.writeNull()
+                : innerModelAccessor.toJsonMergePatch(innerModel, jsonWriter);
+        }
+    }
+
     private static FishAccessor fishAccessor;
 
     public interface FishAccessor {
@@ -52,6 +110,8 @@ public class JsonMergePatchHelper {
 
         boolean isJsonMergePatch(Fish fish);
 
+        JsonWriter toJsonMergePatch(Fish fish, JsonWriter jsonWriter) throws IOException;
+
         void setId(Fish fish, String id);
 
         void setName(Fish fish, String name);
@@ -69,6 +129,30 @@ public class JsonMergePatchHelper {
         return fishAccessor;
     }
 
+    /**
+     * Gets the JSON merge patch of the Fish as BinaryData. The JSON merge patch is serialized when the BinaryData is
+     * read, and the Fish is not changed.
+     * 
+     * @param fish the Fish.
+     * @return the JSON merge patch of the Fish as BinaryData.
+     */
+    public static BinaryData toJsonMergePatchBinaryData(Fish fish) {
+        return BinaryData.fromObject(new FishJsonMergePatch(fish));
+    }
+
+    private static final class FishJsonMergePatch implements JsonSerializable<FishJsonMergePatch> {
+        private final Fish fish;
+
+        private FishJsonMergePatch(Fish fish) {
+            this.fish = fish;
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            return fish == null ? jsonWriter.writeNull() : fishAccessor.toJsonMergePatch(fish, jsonWriter);
+        }
+    }
+
     private static SharkAccessor sharkAccessor;
 
     public interface SharkAccessor {
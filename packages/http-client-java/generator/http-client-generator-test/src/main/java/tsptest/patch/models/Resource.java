@@ -108,6 +108,11 @@ public final class Resource implements JsonSerializable<Resource> {
             public boolean isJsonMergePatch(Resource model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(Resource model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -346,7 +351,7 @@ public final class Resource implements JsonSerializable<Resource> {
     }
 
     @Generated
-    private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
+    JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         if (updatedProperties.contains("description")) {
             if (this.description == null) {
@@ -361,9 +366,7 @@ public final class Resource implements JsonSerializable<Resource> {
             } else {
                 jsonWriter.writeMapField("map", this.map, (writer, element) -> {
                     if (element != null) {
-                        JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(element, true);
-                        writer.writeJson(element);
-                        JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(element, false);
+                        JsonMergePatchHelper.getInnerModelAccessor().toJsonMergePatch(element, writer);
                     } else {
                         writer.writeNull();
                     }
@@ -395,11 +398,8 @@ public final class Resource implements JsonSerializable<Resource> {
             if (this.innerModelProperty == null) {
                 jsonWriter.writeNullField("wireNameForInnerModelProperty");
             } else {
-                JsonMergePatchHelper.getInnerModelAccessor()
-                    .prepareModelForJsonMergePatch(this.innerModelProperty, true);
-                jsonWriter.writeJsonField("wireNameForInnerModelProperty", this.innerModelProperty);
-                JsonMergePatchHelper.getInnerModelAccessor()
-                    .prepareModelForJsonMergePatch(this.innerModelProperty, false);
+                jsonWriter.writeFieldName("wireNameForInnerModelProperty");
+                JsonMergePatchHelper.getInnerModelAccessor().toJsonMergePatch(this.innerModelProperty, jsonWriter);
             }
         }
         if (updatedProperties.contains("array")) {
@@ -413,9 +413,8 @@ public final class Resource implements JsonSerializable<Resource> {
             if (this.fish == null) {
                 jsonWriter.writeNullField("fish");
             } else {
-                JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(this.fish, true);
-                jsonWriter.writeJsonField("fish", this.fish);
-                JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(this.fish, false);
+                jsonWriter.writeFieldName("fish");
+                JsonMergePatchHelper.getFishAccessor().toJsonMergePatch(this.fish, jsonWriter);
             }
         }
         return jsonWriter.writeEndObject();
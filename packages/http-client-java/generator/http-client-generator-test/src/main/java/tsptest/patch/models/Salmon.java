@@ -182,7 +182,8 @@ public final class Salmon extends Fish {
     }
 
     @Generated
-    private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
+    @Override
+    JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         if (updatedProperties.contains("age")) {
             jsonWriter.writeIntField("age", getAge());
@@ -208,9 +209,7 @@ public final class Salmon extends Fish {
             } else {
                 jsonWriter.writeMapField("hate", this.hate, (writer, element) -> {
                     if (element != null) {
-                        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(element, true);
-                        writer.writeJson(element);
-                        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(element, false);
+                        JsonMergePatchHelper.getFishAccessor().toJsonMergePatch(element, writer);
                     } else {
                         writer.writeNull();
                     }
@@ -221,9 +220,8 @@ public final class Salmon extends Fish {
             if (this.partner == null) {
                 jsonWriter.writeNullField("partner");
             } else {
-                JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(this.partner, true);
-                jsonWriter.writeJsonField("partner", this.partner);
-                JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(this.partner, false);
+                jsonWriter.writeFieldName("partner");
+                JsonMergePatchHelper.getFishAccessor().toJsonMergePatch(this.partner, jsonWriter);
             }
         }
         return jsonWriter.writeEndObject();
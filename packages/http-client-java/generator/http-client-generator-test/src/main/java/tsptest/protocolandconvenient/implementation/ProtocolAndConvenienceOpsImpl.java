@@ -40,8 +40,6 @@ import com.azure.core.util.polling.SyncPoller;
 import com.azure.core.util.serializer.TypeReference;
 import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 import tsptest.protocolandconvenient.ProtocolAndConvenientServiceVersion;
 import tsptest.protocolandconvenient.models.ResourceI;
@@ -877,8 +875,7 @@ public final class ProtocolAndConvenienceOpsImpl {
         return FluxUtil
             .withContext(context -> service.list(this.client.getEndpoint(),
                 this.client.getServiceVersion().getVersion(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> getPagedResponse(res, new String[] { "value" }, new String[] { "nextLink" }));
     }
 
     /**
@@ -971,8 +968,7 @@ public final class ProtocolAndConvenienceOpsImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listSync(this.client.getEndpoint(),
             this.client.getServiceVersion().getVersion(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return getPagedResponse(res, new String[] { "value" }, new String[] { "nextLink" });
     }
 
     /**
@@ -1061,8 +1057,7 @@ public final class ProtocolAndConvenienceOpsImpl {
         return FluxUtil
             .withContext(
                 context -> service.listNext(nextLink, this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> getPagedResponse(res, new String[] { "value" }, new String[] { "nextLink" }));
     }
 
     /**
@@ -1092,32 +1087,59 @@ public final class ProtocolAndConvenienceOpsImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listNextSync(nextLink, this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return getPagedResponse(res, new String[] { "value" }, new String[] { "nextLink" });
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String... path) {
-        try {
-            Object value = binaryData.toObject(Map.class);
-            for (String segment : path) {
-                value = ((Map<?, ?>) value).get(segment);
+    private PagedResponse<BinaryData> getPagedResponse(Response<BinaryData> res, String[] valuesPath,
+        String[] nextLinkPath) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (com.azure.json.JsonReader reader = com.azure.json.JsonProviders.createReader(res.getValue().toBytes())) {
+            // The depth of the object being read, and the number of segments of each path it matches.
+            int depth = reader.nextToken() == com.azure.json.JsonToken.START_OBJECT ? 0 : -1;
+            int valuesDepth = 0;
+            int nextLinkDepth = 0;
+            while (depth >= 0) {
+                if (reader.nextToken() == com.azure.json.JsonToken.END_OBJECT) {
+                    depth--;
+                    valuesDepth = Math.min(valuesDepth, depth);
+                    nextLinkDepth = Math.min(nextLinkDepth, depth);
+                    continue;
+                }
+                String fieldName = reader.getFieldName();
+                com.azure.json.JsonToken token = reader.nextToken();
+                boolean inValues = valuesDepth == depth && isPagingPathSegment(valuesPath, depth, fieldName);
+                boolean inNextLink = nextLinkDepth == depth && isPagingPathSegment(nextLinkPath, depth, fieldName);
+                if (inValues && depth + 1 == valuesPath.length && token == com.azure.json.JsonToken.START_ARRAY) {
+                    values = reader.readArray(valueReader -> {
+                        if (valueReader.isStartArrayOrObject()) {
+                            return BinaryData.fromString(valueReader.readChildren());
+                        }
+                        return BinaryData.fromObject(valueReader.readUntyped());
+                    });
+                } else if (inNextLink && depth + 1 == nextLinkPath.length && token == com.azure.json.JsonToken.STRING) {
+                    nextLink = reader.getString();
+                } else if ((inValues || inNextLink) && token == com.azure.json.JsonToken.START_OBJECT) {
+                    depth++;
+                    valuesDepth += inValues ? 1 : 0;
+                    nextLinkDepth += inNextLink ? 1 : 0;
+                } else {
+                    reader.skipChildren();
+                }
             }
-            List<?> values = (List<?>) value;
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
+        } catch (java.io.IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        Object deserializedHeaders = null;
+        if (res instanceof com.azure.core.http.rest.ResponseBase) {
+            deserializedHeaders = ((com.azure.core.http.rest.ResponseBase<?, ?>) res).getDeserializedHeaders();
+        }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink,
+            deserializedHeaders);
     }
 
-    private String getNextLink(BinaryData binaryData, String... path) {
-        try {
-            Object value = binaryData.toObject(Map.class);
-            for (String segment : path) {
-                value = ((Map<?, ?>) value).get(segment);
-            }
-            return (String) value;
-        } catch (RuntimeException e) {
-            return null;
-        }
+    private boolean isPagingPathSegment(String[] path, int depth, String fieldName) {
+        return path != null && depth < path.length && path[depth].equals(fieldName);
     }
 }
@@ -20,11 +20,11 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.polling.PollerFlux;
-import com.azure.core.util.serializer.TypeReference;
 import java.util.List;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tsptest.response.implementation.JsonModelSerializationHelper;
 import tsptest.response.implementation.ResponseClientImpl;
 import tsptest.response.models.OperationDetails1;
 import tsptest.response.models.OperationDetails2;
@@ -590,7 +590,8 @@ public final class ResponseAsyncClient {
         // Generated convenience method for getArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getArrayWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(TYPE_REFERENCE_LIST_RESOURCE));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                reader -> reader.readArray(Resource::fromJson)));
     }
 
     /**
@@ -609,7 +610,8 @@ public final class ResponseAsyncClient {
         // Generated convenience method for getAnotherArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getAnotherArrayWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(TYPE_REFERENCE_LIST_RESOURCE));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                reader -> reader.readArray(Resource::fromJson)));
     }
 
     /**
@@ -628,7 +630,8 @@ public final class ResponseAsyncClient {
         // Generated convenience method for createWithHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return createWithHeadersWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -683,7 +686,8 @@ public final class ResponseAsyncClient {
     public PollerFlux<OperationDetails1, Resource> beginLroInvalidPollResponse(Resource request) {
         // Generated convenience method for beginLroInvalidPollResponseWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLroInvalidPollResponseWithModelAsync(BinaryData.fromObject(request), requestOptions);
+        return serviceClient.beginLroInvalidPollResponseWithModelAsync(
+            JsonModelSerializationHelper.toBinaryData(request), requestOptions);
     }
 
     /**
@@ -703,7 +707,8 @@ public final class ResponseAsyncClient {
     public PollerFlux<OperationDetails2, Resource> beginLroInvalidResult(Resource request) {
         // Generated convenience method for beginLroInvalidResultWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLroInvalidResultWithModelAsync(BinaryData.fromObject(request), requestOptions);
+        return serviceClient.beginLroInvalidResultWithModelAsync(JsonModelSerializationHelper.toBinaryData(request),
+            requestOptions);
     }
 
     /**
@@ -782,7 +787,8 @@ public final class ResponseAsyncClient {
         // Generated convenience method for getJsonUtf8ResponseWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getJsonUtf8ResponseWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -801,7 +807,8 @@ public final class ResponseAsyncClient {
         // Generated convenience method for getPlusJsonResponseWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getPlusJsonResponseWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -954,9 +961,4 @@ public final class ResponseAsyncClient {
         return getTextCharWithResponse(requestOptions).flatMap(FluxUtil::toMono)
             .map(protocolMethodData -> Integer.parseInt(protocolMethodData.toString()));
     }
-
-    @Generated
-    private static final TypeReference<List<Resource>> TYPE_REFERENCE_LIST_RESOURCE
-        = new TypeReference<List<Resource>>() {
-        };
 }
@@ -17,8 +17,8 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.SyncPoller;
-import com.azure.core.util.serializer.TypeReference;
 import java.util.List;
+import tsptest.response.implementation.JsonModelSerializationHelper;
 import tsptest.response.implementation.ResponseClientImpl;
 import tsptest.response.models.OperationDetails1;
 import tsptest.response.models.OperationDetails2;
@@ -582,7 +582,8 @@ public final class ResponseClient {
     public List<Resource> getArray() {
         // Generated convenience method for getArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getArrayWithResponse(requestOptions).getValue().toObject(TYPE_REFERENCE_LIST_RESOURCE);
+        return JsonModelSerializationHelper.fromBinaryData(getArrayWithResponse(requestOptions).getValue(),
+            reader -> reader.readArray(Resource::fromJson));
     }
 
     /**
@@ -600,7 +601,8 @@ public final class ResponseClient {
     public List<Resource> getAnotherArray() {
         // Generated convenience method for getAnotherArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getAnotherArrayWithResponse(requestOptions).getValue().toObject(TYPE_REFERENCE_LIST_RESOURCE);
+        return JsonModelSerializationHelper.fromBinaryData(getAnotherArrayWithResponse(requestOptions).getValue(),
+            reader -> reader.readArray(Resource::fromJson));
     }
 
     /**
@@ -618,7 +620,8 @@ public final class ResponseClient {
     public Resource createWithHeaders() {
         // Generated convenience method for createWithHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createWithHeadersWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(createWithHeadersWithResponse(requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -672,7 +675,8 @@ public final class ResponseClient {
     public SyncPoller<OperationDetails1, Resource> beginLroInvalidPollResponse(Resource request) {
         // Generated convenience method for beginLroInvalidPollResponseWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLroInvalidPollResponseWithModel(BinaryData.fromObject(request), requestOptions);
+        return serviceClient.beginLroInvalidPollResponseWithModel(JsonModelSerializationHelper.toBinaryData(request),
+            requestOptions);
     }
 
     /**
@@ -692,7 +696,8 @@ public final class ResponseClient {
     public SyncPoller<OperationDetails2, Resource> beginLroInvalidResult(Resource request) {
         // Generated convenience method for beginLroInvalidResultWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLroInvalidResultWithModel(BinaryData.fromObject(request), requestOptions);
+        return serviceClient.beginLroInvalidResultWithModel(JsonModelSerializationHelper.toBinaryData(request),
+            requestOptions);
     }
 
     /**
@@ -747,7 +752,8 @@ public final class ResponseClient {
     public Resource getJsonUtf8Response() {
         // Generated convenience method for getJsonUtf8ResponseWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getJsonUtf8ResponseWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(getJsonUtf8ResponseWithResponse(requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -765,7 +771,8 @@ public final class ResponseClient {
     public Resource getPlusJsonResponse() {
         // Generated convenience method for getPlusJsonResponseWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getPlusJsonResponseWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(getPlusJsonResponseWithResponse(requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -911,9 +918,4 @@ public final class ResponseClient {
         RequestOptions requestOptions = new RequestOptions();
         return Integer.parseInt(getTextCharWithResponse(requestOptions).getValue().toString());
     }
-
-    @Generated
-    private static final TypeReference<List<Resource>> TYPE_REFERENCE_LIST_RESOURCE
-        = new TypeReference<List<Resource>>() {
-        };
 }
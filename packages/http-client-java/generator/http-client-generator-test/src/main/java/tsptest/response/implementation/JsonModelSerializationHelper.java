@@ -0,0 +1,72 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package tsptest.response.implementation;
+
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.ReadValueCallback;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+// DO NOT modify this helper class
+
+/**
+ * This class serializes and deserializes the JSON models of the convenience methods with the {@code toJson} and
+ * {@code fromJson} of the models, instead of going through the {@code ObjectSerializer} of
+ * {@link BinaryData#fromObject(Object)} and {@link BinaryData#toObject(Class)}.
+ */
+public final class JsonModelSerializationHelper {
+
+    /**
+     * Serializes the JSON model to {@link BinaryData} with the {@code toJson} of the model.
+     * <p>
+     * The model is serialized eagerly, into a byte array of the size of the JSON.
+     *
+     * @param model the JSON model.
+     * @return the {@link BinaryData} of the JSON of the model.
+     */
+    public static BinaryData toBinaryData(JsonSerializable<?> model) {
+        if (model == null) {
+            return BinaryData.fromObject(null);
+        }
+        try {
+            return BinaryData.fromBytes(model.toJsonBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deserializes the {@link BinaryData} with the given reader, usually the {@code fromJson} of the JSON model.
+     * <p>
+     * The JSON is read from the stream of the {@link BinaryData}, without copying its content.
+     *
+     * @param data the {@link BinaryData} of the JSON.
+     * @param readValue the reader of the value, e.g. {@code Model::fromJson}.
+     * @param <T> the type of the value.
+     * @return the value, or {@code null} if the {@link BinaryData} is {@code null} or empty.
+     */
+    public static <T> T fromBinaryData(BinaryData data, ReadValueCallback<JsonReader, T> readValue) {
+        if (data == null) {
+            return null;
+        }
+        Long length = data.getLength();
+        if (length != null && length == 0) {
+            return null;
+        }
+        try (InputStream stream = data.toStream(); JsonReader jsonReader = JsonProviders.createReader(stream)) {
+            return readValue.read(jsonReader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonModelSerializationHelper() {
+        // no-op
+    }
+}
@@ -29,6 +29,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tsptest.specialheaders.implementation.EtagHeadersImpl;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
+import tsptest.specialheaders.implementation.JsonModelSerializationHelper;
 import tsptest.specialheaders.models.Resource;
 
 /**
@@ -240,9 +241,10 @@ public final class EtagHeadersAsyncClient {
             requestOptions.setHeader(HttpHeaderName.IF_MODIFIED_SINCE,
                 String.valueOf(new DateTimeRfc1123(ifModifiedSince)));
         }
-        return putWithRequestHeadersWithResponse(name, BinaryData.fromObject(resource), requestOptions)
-            .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+        return putWithRequestHeadersWithResponse(name, JsonModelSerializationHelper.toBinaryData(resource),
+            requestOptions).flatMap(FluxUtil::toMono)
+                .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                    Resource::fromJson));
     }
 
     /**
@@ -263,9 +265,10 @@ public final class EtagHeadersAsyncClient {
     public Mono<Resource> putWithRequestHeaders(String name, Resource resource) {
         // Generated convenience method for putWithRequestHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithRequestHeadersWithResponse(name, BinaryData.fromObject(resource), requestOptions)
-            .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+        return putWithRequestHeadersWithResponse(name, JsonModelSerializationHelper.toBinaryData(resource),
+            requestOptions).flatMap(FluxUtil::toMono)
+                .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                    Resource::fromJson));
     }
 
     /**
@@ -296,12 +299,13 @@ public final class EtagHeadersAsyncClient {
             requestOptions.setHeader(HttpHeaderName.IF_NONE_MATCH, ifNoneMatch);
         }
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
+        BinaryData resourceInBinaryData = JsonModelSerializationHelper.toBinaryData(resource);
         // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
         resourceInBinaryData.getLength();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
         return patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -323,12 +327,13 @@ public final class EtagHeadersAsyncClient {
         // Generated convenience method for patchWithMatchHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
+        BinaryData resourceInBinaryData = JsonModelSerializationHelper.toBinaryData(resource);
         // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
         resourceInBinaryData.getLength();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
         return patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -355,7 +360,8 @@ public final class EtagHeadersAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(Resource.class))
+                    .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                        Resource::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
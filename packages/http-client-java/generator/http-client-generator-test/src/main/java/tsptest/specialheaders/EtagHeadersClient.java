@@ -23,6 +23,7 @@ import com.azure.core.util.DateTimeRfc1123;
 import java.time.OffsetDateTime;
 import tsptest.specialheaders.implementation.EtagHeadersImpl;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
+import tsptest.specialheaders.implementation.JsonModelSerializationHelper;
 import tsptest.specialheaders.models.Resource;
 
 /**
@@ -234,8 +235,10 @@ public final class EtagHeadersClient {
             requestOptions.setHeader(HttpHeaderName.IF_MODIFIED_SINCE,
                 String.valueOf(new DateTimeRfc1123(ifModifiedSince)));
         }
-        return putWithRequestHeadersWithResponse(name, BinaryData.fromObject(resource), requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(
+            putWithRequestHeadersWithResponse(name, JsonModelSerializationHelper.toBinaryData(resource), requestOptions)
+                .getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -256,8 +259,10 @@ public final class EtagHeadersClient {
     public Resource putWithRequestHeaders(String name, Resource resource) {
         // Generated convenience method for putWithRequestHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithRequestHeadersWithResponse(name, BinaryData.fromObject(resource), requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(
+            putWithRequestHeadersWithResponse(name, JsonModelSerializationHelper.toBinaryData(resource), requestOptions)
+                .getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -288,12 +293,13 @@ public final class EtagHeadersClient {
             requestOptions.setHeader(HttpHeaderName.IF_NONE_MATCH, ifNoneMatch);
         }
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
+        BinaryData resourceInBinaryData = JsonModelSerializationHelper.toBinaryData(resource);
         // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
         resourceInBinaryData.getLength();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-        return patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(
+            patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -315,12 +321,13 @@ public final class EtagHeadersClient {
         // Generated convenience method for patchWithMatchHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
+        BinaryData resourceInBinaryData = JsonModelSerializationHelper.toBinaryData(resource);
         // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
         resourceInBinaryData.getLength();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-        return patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(
+            patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -339,6 +346,6 @@ public final class EtagHeadersClient {
         // Generated convenience method for listWithEtag
         RequestOptions requestOptions = new RequestOptions();
         return serviceClient.listWithEtag(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Resource.class));
+            .mapPage(bodyItemValue -> JsonModelSerializationHelper.fromBinaryData(bodyItemValue, Resource::fromJson));
     }
 }
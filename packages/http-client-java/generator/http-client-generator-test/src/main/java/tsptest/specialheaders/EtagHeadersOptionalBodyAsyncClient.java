@@ -22,6 +22,7 @@ import com.azure.core.util.FluxUtil;
 import java.time.OffsetDateTime;
 import reactor.core.publisher.Mono;
 import tsptest.specialheaders.implementation.EtagHeadersOptionalBodiesImpl;
+import tsptest.specialheaders.implementation.JsonModelSerializationHelper;
 import tsptest.specialheaders.models.Resource;
 
 /**
@@ -141,7 +142,7 @@ public final class EtagHeadersOptionalBodyAsyncClient {
             requestOptions.setHeader(HttpHeaderName.fromString("timestamp"), String.valueOf(timestamp.toEpochSecond()));
         }
         if (body != null) {
-            requestOptions.setBody(BinaryData.fromObject(body));
+            requestOptions.setBody(JsonModelSerializationHelper.toBinaryData(body));
         }
         if (ifMatch != null) {
             requestOptions.setHeader(HttpHeaderName.IF_MATCH, ifMatch);
@@ -158,7 +159,8 @@ public final class EtagHeadersOptionalBodyAsyncClient {
                 String.valueOf(new DateTimeRfc1123(ifModifiedSince)));
         }
         return putWithOptionalBodyWithResponse(format, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -179,6 +181,7 @@ public final class EtagHeadersOptionalBodyAsyncClient {
         // Generated convenience method for putWithOptionalBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return putWithOptionalBodyWithResponse(format, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 }
@@ -20,6 +20,7 @@ import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.PollerFlux;
 import reactor.core.publisher.Mono;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
+import tsptest.specialheaders.implementation.JsonModelSerializationHelper;
 import tsptest.specialheaders.implementation.RepeatabilityHeadersImpl;
 import tsptest.specialheaders.models.Resource;
 
@@ -247,7 +248,8 @@ public final class RepeatabilityHeadersAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -268,8 +270,10 @@ public final class RepeatabilityHeadersAsyncClient {
     public Mono<Resource> put(String name, Resource resource) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(name, BinaryData.fromObject(resource), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+        return putWithResponse(name, JsonModelSerializationHelper.toBinaryData(resource), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -290,7 +294,8 @@ public final class RepeatabilityHeadersAsyncClient {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return postWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonModelSerializationHelper.fromBinaryData(protocolMethodData,
+                Resource::fromJson));
     }
 
     /**
@@ -312,7 +317,7 @@ public final class RepeatabilityHeadersAsyncClient {
         // Generated convenience method for beginCreateLroWithModel
         RequestOptions requestOptions = new RequestOptions();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
+        BinaryData resourceInBinaryData = JsonModelSerializationHelper.toBinaryData(resource);
         // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
         resourceInBinaryData.getLength();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.SyncPoller;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
+import tsptest.specialheaders.implementation.JsonModelSerializationHelper;
 import tsptest.specialheaders.implementation.RepeatabilityHeadersImpl;
 import tsptest.specialheaders.models.Resource;
 
@@ -244,7 +245,8 @@ public final class RepeatabilityHeadersClient {
     public Resource get(String name) {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(name, requestOptions).getValue().toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(getWithResponse(name, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -265,8 +267,9 @@ public final class RepeatabilityHeadersClient {
     public Resource put(String name, Resource resource) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(name, BinaryData.fromObject(resource), requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(
+            putWithResponse(name, JsonModelSerializationHelper.toBinaryData(resource), requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -286,7 +289,8 @@ public final class RepeatabilityHeadersClient {
     public Resource post(String name) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(name, requestOptions).getValue().toObject(Resource.class);
+        return JsonModelSerializationHelper.fromBinaryData(postWithResponse(name, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -308,7 +312,7 @@ public final class RepeatabilityHeadersClient {
         // Generated convenience method for beginCreateLroWithModel
         RequestOptions requestOptions = new RequestOptions();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
+        BinaryData resourceInBinaryData = JsonModelSerializationHelper.toBinaryData(resource);
         // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
         resourceInBinaryData.getLength();
         JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
@@ -83,6 +83,21 @@ public class Dog implements JsonSerializable<Dog> {
     @Generated
     public static Dog fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
+            JsonToken token = reader.nextToken();
+            if (token == JsonToken.END_OBJECT) {
+                return fromJsonFields(reader);
+            }
+            if ("kind".equals(reader.getFieldName())) {
+                reader.nextToken();
+                String discriminatorValue = reader.getString();
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "golden":
+                            return Golden.fromJsonFields(reader);
+                    }
+                }
+                return fromJsonFields(reader);
+            }
             String discriminatorValue = null;
             try (JsonReader readerToUse = reader.bufferObject()) {
                 readerToUse.nextToken(); // Prepare for reading
@@ -97,36 +112,50 @@ public class Dog implements JsonSerializable<Dog> {
                     }
                 }
                 // Use the discriminator value to determine which subtype should be deserialized.
-                if ("golden".equals(discriminatorValue)) {
-                    return Golden.fromJson(readerToUse.reset());
-                } else {
-                    return fromJsonKnownDiscriminator(readerToUse.reset());
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "golden":
+                            return Golden.fromJson(readerToUse.reset());
+                    }
                 }
+                return fromJsonKnownDiscriminator(readerToUse.reset());
             }
         });
     }
 
     @Generated
     static Dog fromJsonKnownDiscriminator(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int weight = 0;
-            DogKind kind = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Dog::fromJsonFields);
+    }
+
+    @Generated
+    static Dog fromJsonFields(JsonReader reader) throws IOException {
+        int weight = 0;
+        DogKind kind = null;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("weight".equals(fieldName)) {
-                    weight = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = DogKind.fromString(reader.getString());
-                } else {
-                    reader.skipChildren();
-                }
+            if ("weight".equals(fieldName)) {
+                weight = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = DogKind.fromString(reader.getString());
+            } else {
+                reader.skipChildren();
             }
-            Dog deserializedDog = new Dog(weight);
-            deserializedDog.kind = kind;
+        }
+        Dog deserializedDog = new Dog(weight);
+        deserializedDog.kind = kind;
 
-            return deserializedDog;
-        });
+        return deserializedDog;
     }
 }
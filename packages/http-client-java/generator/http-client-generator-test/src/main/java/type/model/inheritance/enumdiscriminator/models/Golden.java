@@ -66,25 +66,37 @@ public final class Golden extends Dog {
      */
     @Generated
     public static Golden fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int weight = 0;
-            DogKind kind = DogKind.GOLDEN;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Golden::fromJsonFields);
+    }
+
+    @Generated
+    static Golden fromJsonFields(JsonReader reader) throws IOException {
+        int weight = 0;
+        DogKind kind = DogKind.GOLDEN;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("weight".equals(fieldName)) {
-                    weight = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = DogKind.fromString(reader.getString());
-                } else {
-                    reader.skipChildren();
-                }
+            if ("weight".equals(fieldName)) {
+                weight = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = DogKind.fromString(reader.getString());
+            } else {
+                reader.skipChildren();
             }
-            Golden deserializedGolden = new Golden(weight);
-            deserializedGolden.kind = kind;
+        }
+        Golden deserializedGolden = new Golden(weight);
+        deserializedGolden.kind = kind;
 
-            return deserializedGolden;
-        });
+        return deserializedGolden;
     }
 }
@@ -83,6 +83,21 @@ public class Snake implements JsonSerializable<Snake> {
     @Generated
     public static Snake fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
+            JsonToken token = reader.nextToken();
+            if (token == JsonToken.END_OBJECT) {
+                return fromJsonFields(reader);
+            }
+            if ("kind".equals(reader.getFieldName())) {
+                reader.nextToken();
+                String discriminatorValue = reader.getString();
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "cobra":
+                            return Cobra.fromJsonFields(reader);
+                    }
+                }
+                return fromJsonFields(reader);
+            }
             String discriminatorValue = null;
             try (JsonReader readerToUse = reader.bufferObject()) {
                 readerToUse.nextToken(); // Prepare for reading
@@ -97,36 +112,50 @@ public class Snake implements JsonSerializable<Snake> {
                     }
                 }
                 // Use the discriminator value to determine which subtype should be deserialized.
-                if ("cobra".equals(discriminatorValue)) {
-                    return Cobra.fromJson(readerToUse.reset());
-                } else {
-                    return fromJsonKnownDiscriminator(readerToUse.reset());
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "cobra":
+                            return Cobra.fromJson(readerToUse.reset());
+                    }
                 }
+                return fromJsonKnownDiscriminator(readerToUse.reset());
             }
         });
     }
 
     @Generated
     static Snake fromJsonKnownDiscriminator(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int length = 0;
-            SnakeKind kind = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Snake::fromJsonFields);
+    }
+
+    @Generated
+    static Snake fromJsonFields(JsonReader reader) throws IOException {
+        int length = 0;
+        SnakeKind kind = null;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("length".equals(fieldName)) {
-                    length = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = SnakeKind.fromString(reader.getString());
-                } else {
-                    reader.skipChildren();
-                }
+            if ("length".equals(fieldName)) {
+                length = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = SnakeKind.fromString(reader.getString());
+            } else {
+                reader.skipChildren();
             }
-            Snake deserializedSnake = new Snake(length);
-            deserializedSnake.kind = kind;
+        }
+        Snake deserializedSnake = new Snake(length);
+        deserializedSnake.kind = kind;
 
-            return deserializedSnake;
-        });
+        return deserializedSnake;
     }
 }
@@ -97,38 +97,53 @@ public class Fish implements JsonSerializable<Fish> {
                     }
                 }
                 // Use the discriminator value to determine which subtype should be deserialized.
-                if ("shark".equals(discriminatorValue)) {
-                    return Shark.fromJson(readerToUse.reset());
-                } else if ("salmon".equals(discriminatorValue)) {
-                    return Salmon.fromJson(readerToUse.reset());
-                } else {
-                    return fromJsonKnownDiscriminator(readerToUse.reset());
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "shark":
+                            return Shark.fromJson(readerToUse.reset());
+
+                        case "salmon":
+                            return Salmon.fromJson(readerToUse.reset());
+                    }
                 }
+                return fromJsonKnownDiscriminator(readerToUse.reset());
             }
         });
     }
 
     @Generated
     static Fish fromJsonKnownDiscriminator(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int age = 0;
-            String kind = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Fish::fromJsonFields);
+    }
+
+    @Generated
+    static Fish fromJsonFields(JsonReader reader) throws IOException {
+        int age = 0;
+        String kind = null;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("age".equals(fieldName)) {
-                    age = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("age".equals(fieldName)) {
+                age = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            Fish deserializedFish = new Fish(age);
-            deserializedFish.kind = kind;
+        }
+        Fish deserializedFish = new Fish(age);
+        deserializedFish.kind = kind;
 
-            return deserializedFish;
-        });
+        return deserializedFish;
     }
 }
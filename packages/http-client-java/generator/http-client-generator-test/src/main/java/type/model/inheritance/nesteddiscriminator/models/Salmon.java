@@ -156,37 +156,49 @@ public final class Salmon extends Fish {
      */
     @Generated
     public static Salmon fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int age = 0;
-            String kind = "salmon";
-            List<Fish> friends = null;
-            Map<String, Fish> hate = null;
-            Fish partner = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Salmon::fromJsonFields);
+    }
+
+    @Generated
+    static Salmon fromJsonFields(JsonReader reader) throws IOException {
+        int age = 0;
+        String kind = "salmon";
+        List<Fish> friends = null;
+        Map<String, Fish> hate = null;
+        Fish partner = null;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("age".equals(fieldName)) {
-                    age = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else if ("friends".equals(fieldName)) {
-                    friends = reader.readArray(reader1 -> Fish.fromJson(reader1));
-                } else if ("hate".equals(fieldName)) {
-                    hate = reader.readMap(reader1 -> Fish.fromJson(reader1));
-                } else if ("partner".equals(fieldName)) {
-                    partner = Fish.fromJson(reader);
-                } else {
-                    reader.skipChildren();
-                }
+            if ("age".equals(fieldName)) {
+                age = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else if ("friends".equals(fieldName)) {
+                friends = reader.readArray(reader1 -> Fish.fromJson(reader1));
+            } else if ("hate".equals(fieldName)) {
+                hate = reader.readMap(reader1 -> Fish.fromJson(reader1));
+            } else if ("partner".equals(fieldName)) {
+                partner = Fish.fromJson(reader);
+            } else {
+                reader.skipChildren();
             }
-            Salmon deserializedSalmon = new Salmon(age);
-            deserializedSalmon.kind = kind;
-            deserializedSalmon.friends = friends;
-            deserializedSalmon.hate = hate;
-            deserializedSalmon.partner = partner;
-
-            return deserializedSalmon;
-        });
+        }
+        Salmon deserializedSalmon = new Salmon(age);
+        deserializedSalmon.kind = kind;
+        deserializedSalmon.friends = friends;
+        deserializedSalmon.hate = hate;
+        deserializedSalmon.partner = partner;
+
+        return deserializedSalmon;
     }
 }
@@ -84,25 +84,37 @@ public final class SawShark extends Shark {
      */
     @Generated
     public static SawShark fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int age = 0;
-            String sharktype = "saw";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(SawShark::fromJsonFields);
+    }
+
+    @Generated
+    static SawShark fromJsonFields(JsonReader reader) throws IOException {
+        int age = 0;
+        String sharktype = "saw";
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "sharktype";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("age".equals(fieldName)) {
-                    age = reader.getInt();
-                } else if ("sharktype".equals(fieldName)) {
-                    sharktype = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("age".equals(fieldName)) {
+                age = reader.getInt();
+            } else if ("sharktype".equals(fieldName)) {
+                sharktype = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            SawShark deserializedSawShark = new SawShark(age);
-            deserializedSawShark.sharktype = sharktype;
+        }
+        SawShark deserializedSawShark = new SawShark(age);
+        deserializedSawShark.sharktype = sharktype;
 
-            return deserializedSawShark;
-        });
+        return deserializedSawShark;
     }
 }
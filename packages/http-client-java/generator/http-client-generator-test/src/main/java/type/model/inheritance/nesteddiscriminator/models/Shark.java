@@ -84,6 +84,24 @@ public class Shark extends Fish {
     @Generated
     public static Shark fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
+            JsonToken token = reader.nextToken();
+            if (token == JsonToken.END_OBJECT) {
+                return fromJsonFields(reader);
+            }
+            if ("sharktype".equals(reader.getFieldName())) {
+                reader.nextToken();
+                String discriminatorValue = reader.getString();
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "saw":
+                            return SawShark.fromJsonFields(reader);
+
+                        case "goblin":
+                            return GoblinShark.fromJsonFields(reader);
+                    }
+                }
+                return fromJsonFields(reader);
+            }
             String discriminatorValue = null;
             try (JsonReader readerToUse = reader.bufferObject()) {
                 readerToUse.nextToken(); // Prepare for reading
@@ -98,38 +116,53 @@ public class Shark extends Fish {
                     }
                 }
                 // Use the discriminator value to determine which subtype should be deserialized.
-                if ("saw".equals(discriminatorValue)) {
-                    return SawShark.fromJson(readerToUse.reset());
-                } else if ("goblin".equals(discriminatorValue)) {
-                    return GoblinShark.fromJson(readerToUse.reset());
-                } else {
-                    return fromJsonKnownDiscriminator(readerToUse.reset());
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "saw":
+                            return SawShark.fromJson(readerToUse.reset());
+
+                        case "goblin":
+                            return GoblinShark.fromJson(readerToUse.reset());
+                    }
                 }
+                return fromJsonKnownDiscriminator(readerToUse.reset());
             }
         });
     }
 
     @Generated
     static Shark fromJsonKnownDiscriminator(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int age = 0;
-            String sharktype = "shark";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Shark::fromJsonFields);
+    }
+
+    @Generated
+    static Shark fromJsonFields(JsonReader reader) throws IOException {
+        int age = 0;
+        String sharktype = "shark";
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "sharktype";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("age".equals(fieldName)) {
-                    age = reader.getInt();
-                } else if ("sharktype".equals(fieldName)) {
-                    sharktype = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("age".equals(fieldName)) {
+                age = reader.getInt();
+            } else if ("sharktype".equals(fieldName)) {
+                sharktype = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            Shark deserializedShark = new Shark(age);
-            deserializedShark.sharktype = sharktype;
+        }
+        Shark deserializedShark = new Shark(age);
+        deserializedShark.sharktype = sharktype;
 
-            return deserializedShark;
-        });
+        return deserializedShark;
     }
 }
@@ -83,6 +83,30 @@ public class Bird implements JsonSerializable<Bird> {
     @Generated
     public static Bird fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
+            JsonToken token = reader.nextToken();
+            if (token == JsonToken.END_OBJECT) {
+                return fromJsonFields(reader);
+            }
+            if ("kind".equals(reader.getFieldName())) {
+                reader.nextToken();
+                String discriminatorValue = reader.getString();
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "seagull":
+                            return SeaGull.fromJsonFields(reader);
+
+                        case "sparrow":
+                            return Sparrow.fromJsonFields(reader);
+
+                        case "goose":
+                            return Goose.fromJsonFields(reader);
+
+                        case "eagle":
+                            return Eagle.fromJsonFields(reader);
+                    }
+                }
+                return fromJsonFields(reader);
+            }
             String discriminatorValue = null;
             try (JsonReader readerToUse = reader.bufferObject()) {
                 readerToUse.nextToken(); // Prepare for reading
@@ -97,42 +121,59 @@ public class Bird implements JsonSerializable<Bird> {
                     }
                 }
                 // Use the discriminator value to determine which subtype should be deserialized.
-                if ("seagull".equals(discriminatorValue)) {
-                    return SeaGull.fromJson(readerToUse.reset());
-                } else if ("sparrow".equals(discriminatorValue)) {
-                    return Sparrow.fromJson(readerToUse.reset());
-                } else if ("goose".equals(discriminatorValue)) {
-                    return Goose.fromJson(readerToUse.reset());
-                } else if ("eagle".equals(discriminatorValue)) {
-                    return Eagle.fromJson(readerToUse.reset());
-                } else {
-                    return fromJsonKnownDiscriminator(readerToUse.reset());
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "seagull":
+                            return SeaGull.fromJson(readerToUse.reset());
+
+                        case "sparrow":
+                            return Sparrow.fromJson(readerToUse.reset());
+
+                        case "goose":
+                            return Goose.fromJson(readerToUse.reset());
+
+                        case "eagle":
+                            return Eagle.fromJson(readerToUse.reset());
+                    }
                 }
+                return fromJsonKnownDiscriminator(readerToUse.reset());
             }
         });
     }
 
     @Generated
     static Bird fromJsonKnownDiscriminator(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int wingspan = 0;
-            String kind = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Bird::fromJsonFields);
+    }
+
+    @Generated
+    static Bird fromJsonFields(JsonReader reader) throws IOException {
+        int wingspan = 0;
+        String kind = null;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("wingspan".equals(fieldName)) {
-                    wingspan = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("wingspan".equals(fieldName)) {
+                wingspan = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            Bird deserializedBird = new Bird(wingspan);
-            deserializedBird.kind = kind;
+        }
+        Bird deserializedBird = new Bird(wingspan);
+        deserializedBird.kind = kind;
 
-            return deserializedBird;
-        });
+        return deserializedBird;
     }
 }
@@ -83,6 +83,21 @@ public class Dinosaur implements JsonSerializable<Dinosaur> {
     @Generated
     public static Dinosaur fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
+            JsonToken token = reader.nextToken();
+            if (token == JsonToken.END_OBJECT) {
+                return fromJsonFields(reader);
+            }
+            if ("kind".equals(reader.getFieldName())) {
+                reader.nextToken();
+                String discriminatorValue = reader.getString();
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "t-rex":
+                            return TRex.fromJsonFields(reader);
+                    }
+                }
+                return fromJsonFields(reader);
+            }
             String discriminatorValue = null;
             try (JsonReader readerToUse = reader.bufferObject()) {
                 readerToUse.nextToken(); // Prepare for reading
@@ -97,36 +112,50 @@ public class Dinosaur implements JsonSerializable<Dinosaur> {
                     }
                 }
                 // Use the discriminator value to determine which subtype should be deserialized.
-                if ("t-rex".equals(discriminatorValue)) {
-                    return TRex.fromJson(readerToUse.reset());
-                } else {
-                    return fromJsonKnownDiscriminator(readerToUse.reset());
+                if (discriminatorValue != null) {
+                    switch (discriminatorValue) {
+                        case "t-rex":
+                            return TRex.fromJson(readerToUse.reset());
+                    }
                 }
+                return fromJsonKnownDiscriminator(readerToUse.reset());
             }
         });
     }
 
     @Generated
     static Dinosaur fromJsonKnownDiscriminator(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int size = 0;
-            String kind = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Dinosaur::fromJsonFields);
+    }
+
+    @Generated
+    static Dinosaur fromJsonFields(JsonReader reader) throws IOException {
+        int size = 0;
+        String kind = null;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("size".equals(fieldName)) {
-                    size = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("size".equals(fieldName)) {
+                size = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            Dinosaur deserializedDinosaur = new Dinosaur(size);
-            deserializedDinosaur.kind = kind;
+        }
+        Dinosaur deserializedDinosaur = new Dinosaur(size);
+        deserializedDinosaur.kind = kind;
 
-            return deserializedDinosaur;
-        });
+        return deserializedDinosaur;
     }
 }
@@ -156,37 +156,49 @@ public final class Eagle extends Bird {
      */
     @Generated
     public static Eagle fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int wingspan = 0;
-            String kind = "eagle";
-            List<Bird> friends = null;
-            Map<String, Bird> hate = null;
-            Bird partner = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Eagle::fromJsonFields);
+    }
+
+    @Generated
+    static Eagle fromJsonFields(JsonReader reader) throws IOException {
+        int wingspan = 0;
+        String kind = "eagle";
+        List<Bird> friends = null;
+        Map<String, Bird> hate = null;
+        Bird partner = null;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("wingspan".equals(fieldName)) {
-                    wingspan = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else if ("friends".equals(fieldName)) {
-                    friends = reader.readArray(reader1 -> Bird.fromJson(reader1));
-                } else if ("hate".equals(fieldName)) {
-                    hate = reader.readMap(reader1 -> Bird.fromJson(reader1));
-                } else if ("partner".equals(fieldName)) {
-                    partner = Bird.fromJson(reader);
-                } else {
-                    reader.skipChildren();
-                }
+            if ("wingspan".equals(fieldName)) {
+                wingspan = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else if ("friends".equals(fieldName)) {
+                friends = reader.readArray(reader1 -> Bird.fromJson(reader1));
+            } else if ("hate".equals(fieldName)) {
+                hate = reader.readMap(reader1 -> Bird.fromJson(reader1));
+            } else if ("partner".equals(fieldName)) {
+                partner = Bird.fromJson(reader);
+            } else {
+                reader.skipChildren();
             }
-            Eagle deserializedEagle = new Eagle(wingspan);
-            deserializedEagle.kind = kind;
-            deserializedEagle.friends = friends;
-            deserializedEagle.hate = hate;
-            deserializedEagle.partner = partner;
-
-            return deserializedEagle;
-        });
+        }
+        Eagle deserializedEagle = new Eagle(wingspan);
+        deserializedEagle.kind = kind;
+        deserializedEagle.friends = friends;
+        deserializedEagle.hate = hate;
+        deserializedEagle.partner = partner;
+
+        return deserializedEagle;
     }
 }
@@ -82,25 +82,37 @@ public final class Fish implements JsonSerializable<Fish> {
      */
     @Generated
     public static Fish fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int size = 0;
-            String kind = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Fish::fromJsonFields);
+    }
+
+    @Generated
+    static Fish fromJsonFields(JsonReader reader) throws IOException {
+        int size = 0;
+        String kind = null;
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("size".equals(fieldName)) {
-                    size = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("size".equals(fieldName)) {
+                size = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            Fish deserializedFish = new Fish(size);
-            deserializedFish.kind = kind;
+        }
+        Fish deserializedFish = new Fish(size);
+        deserializedFish.kind = kind;
 
-            return deserializedFish;
-        });
+        return deserializedFish;
     }
 }
@@ -66,25 +66,37 @@ public final class Goose extends Bird {
      */
     @Generated
     public static Goose fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int wingspan = 0;
-            String kind = "goose";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(Goose::fromJsonFields);
+    }
+
+    @Generated
+    static Goose fromJsonFields(JsonReader reader) throws IOException {
+        int wingspan = 0;
+        String kind = "goose";
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("wingspan".equals(fieldName)) {
-                    wingspan = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("wingspan".equals(fieldName)) {
+                wingspan = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            Goose deserializedGoose = new Goose(wingspan);
-            deserializedGoose.kind = kind;
+        }
+        Goose deserializedGoose = new Goose(wingspan);
+        deserializedGoose.kind = kind;
 
-            return deserializedGoose;
-        });
+        return deserializedGoose;
     }
 }
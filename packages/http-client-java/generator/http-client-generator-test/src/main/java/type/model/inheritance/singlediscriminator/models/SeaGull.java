@@ -66,25 +66,37 @@ public final class SeaGull extends Bird {
      */
     @Generated
     public static SeaGull fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int wingspan = 0;
-            String kind = "seagull";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(SeaGull::fromJsonFields);
+    }
+
+    @Generated
+    static SeaGull fromJsonFields(JsonReader reader) throws IOException {
+        int wingspan = 0;
+        String kind = "seagull";
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("wingspan".equals(fieldName)) {
-                    wingspan = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("wingspan".equals(fieldName)) {
+                wingspan = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            SeaGull deserializedSeaGull = new SeaGull(wingspan);
-            deserializedSeaGull.kind = kind;
+        }
+        SeaGull deserializedSeaGull = new SeaGull(wingspan);
+        deserializedSeaGull.kind = kind;
 
-            return deserializedSeaGull;
-        });
+        return deserializedSeaGull;
     }
 }
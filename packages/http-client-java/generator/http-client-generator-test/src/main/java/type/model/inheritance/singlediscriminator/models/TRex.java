@@ -66,25 +66,37 @@ public final class TRex extends Dinosaur {
      */
     @Generated
     public static TRex fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int size = 0;
-            String kind = "t-rex";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
+        return jsonReader.readObject(TRex::fromJsonFields);
+    }
+
+    @Generated
+    static TRex fromJsonFields(JsonReader reader) throws IOException {
+        int size = 0;
+        String kind = "t-rex";
+        JsonToken startToken = reader.currentToken();
+        boolean atDiscriminatorValue = startToken != JsonToken.START_OBJECT && startToken != JsonToken.END_OBJECT;
+        while (atDiscriminatorValue
+            || (startToken != JsonToken.END_OBJECT && reader.nextToken() != JsonToken.END_OBJECT)) {
+            String fieldName;
+            if (atDiscriminatorValue) {
+                fieldName = "kind";
+                atDiscriminatorValue = false;
+            } else {
+                fieldName = reader.getFieldName();
                 reader.nextToken();
+            }
 
-                if ("size".equals(fieldName)) {
-                    size = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("size".equals(fieldName)) {
+                size = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            TRex deserializedTRex = new TRex(size);
-            deserializedTRex.kind = kind;
+        }
+        TRex deserializedTRex = new TRex(size);
+        deserializedTRex.kind = kind;
 
-            return deserializedTRex;
-        });
+        return deserializedTRex;
     }
 }
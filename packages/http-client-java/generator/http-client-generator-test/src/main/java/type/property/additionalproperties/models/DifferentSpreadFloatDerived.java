@@ -82,16 +82,25 @@ public final class DifferentSpreadFloatDerived extends DifferentSpreadFloatRecor
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("derivedProp".equals(fieldName)) {
-                    derivedProp = reader.getDouble();
-                } else {
-                    if (additionalProperties == null) {
-                        additionalProperties = new LinkedHashMap<>();
+                switch (fieldName) {
+                    case "name": {
+                        name = reader.getString();
+                        break;
                     }
 
-                    additionalProperties.put(fieldName, reader.getDouble());
+                    case "derivedProp": {
+                        derivedProp = reader.getDouble();
+                        break;
+                    }
+
+                    default: {
+                        if (additionalProperties == null) {
+                            additionalProperties = new LinkedHashMap<>();
+                        }
+
+                        additionalProperties.put(fieldName, reader.getDouble());
+                        break;
+                    }
                 }
             }
             DifferentSpreadFloatDerived deserializedDifferentSpreadFloatDerived
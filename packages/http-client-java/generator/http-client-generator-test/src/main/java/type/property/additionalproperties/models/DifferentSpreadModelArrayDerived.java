@@ -83,18 +83,27 @@ public final class DifferentSpreadModelArrayDerived extends DifferentSpreadModel
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("knownProp".equals(fieldName)) {
-                    knownProp = reader.getString();
-                } else if ("derivedProp".equals(fieldName)) {
-                    derivedProp = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
-                } else {
-                    if (additionalProperties == null) {
-                        additionalProperties = new LinkedHashMap<>();
+                switch (fieldName) {
+                    case "knownProp": {
+                        knownProp = reader.getString();
+                        break;
                     }
 
-                    List<ModelForRecord> additionalPropertiesArrayItem
-                        = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
-                    additionalProperties.put(fieldName, additionalPropertiesArrayItem);
+                    case "derivedProp": {
+                        derivedProp = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
+                        break;
+                    }
+
+                    default: {
+                        if (additionalProperties == null) {
+                            additionalProperties = new LinkedHashMap<>();
+                        }
+
+                        List<ModelForRecord> additionalPropertiesArrayItem
+                            = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
+                        additionalProperties.put(fieldName, additionalPropertiesArrayItem);
+                        break;
+                    }
                 }
             }
             DifferentSpreadModelArrayDerived deserializedDifferentSpreadModelArrayDerived
@@ -82,16 +82,25 @@ public final class DifferentSpreadModelDerived extends DifferentSpreadModelRecor
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("knownProp".equals(fieldName)) {
-                    knownProp = reader.getString();
-                } else if ("derivedProp".equals(fieldName)) {
-                    derivedProp = ModelForRecord.fromJson(reader);
-                } else {
-                    if (additionalProperties == null) {
-                        additionalProperties = new LinkedHashMap<>();
+                switch (fieldName) {
+                    case "knownProp": {
+                        knownProp = reader.getString();
+                        break;
                     }
 
-                    additionalProperties.put(fieldName, ModelForRecord.fromJson(reader));
+                    case "derivedProp": {
+                        derivedProp = ModelForRecord.fromJson(reader);
+                        break;
+                    }
+
+                    default: {
+                        if (additionalProperties == null) {
+                            additionalProperties = new LinkedHashMap<>();
+                        }
+
+                        additionalProperties.put(fieldName, ModelForRecord.fromJson(reader));
+                        break;
+                    }
                 }
             }
             DifferentSpreadModelDerived deserializedDifferentSpreadModelDerived
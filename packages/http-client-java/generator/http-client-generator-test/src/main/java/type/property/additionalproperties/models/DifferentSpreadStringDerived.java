@@ -82,16 +82,25 @@ public final class DifferentSpreadStringDerived extends DifferentSpreadStringRec
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("id".equals(fieldName)) {
-                    id = reader.getDouble();
-                } else if ("derivedProp".equals(fieldName)) {
-                    derivedProp = reader.getString();
-                } else {
-                    if (additionalProperties == null) {
-                        additionalProperties = new LinkedHashMap<>();
+                switch (fieldName) {
+                    case "id": {
+                        id = reader.getDouble();
+                        break;
                     }
 
-                    additionalProperties.put(fieldName, reader.getString());
+                    case "derivedProp": {
+                        derivedProp = reader.getString();
+                        break;
+                    }
+
+                    default: {
+                        if (additionalProperties == null) {
+                            additionalProperties = new LinkedHashMap<>();
+                        }
+
+                        additionalProperties.put(fieldName, reader.getString());
+                        break;
+                    }
                 }
             }
             DifferentSpreadStringDerived deserializedDifferentSpreadStringDerived
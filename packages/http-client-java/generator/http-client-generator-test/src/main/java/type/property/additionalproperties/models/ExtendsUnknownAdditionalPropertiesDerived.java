@@ -118,19 +118,31 @@ public final class ExtendsUnknownAdditionalPropertiesDerived extends ExtendsUnkn
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("index".equals(fieldName)) {
-                    index = reader.getInt();
-                } else if ("age".equals(fieldName)) {
-                    age = reader.getNullable(JsonReader::getDouble);
-                } else {
-                    if (additionalProperties == null) {
-                        additionalProperties = new LinkedHashMap<>();
+                switch (fieldName) {
+                    case "name": {
+                        name = reader.getString();
+                        break;
+                    }
+
+                    case "index": {
+                        index = reader.getInt();
+                        break;
                     }
 
-                    additionalProperties.put(fieldName,
-                        reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
+                    case "age": {
+                        age = reader.getNullable(JsonReader::getDouble);
+                        break;
+                    }
+
+                    default: {
+                        if (additionalProperties == null) {
+                            additionalProperties = new LinkedHashMap<>();
+                        }
+
+                        additionalProperties.put(fieldName,
+                            reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
+                        break;
+                    }
                 }
             }
             ExtendsUnknownAdditionalPropertiesDerived deserializedExtendsUnknownAdditionalPropertiesDerived
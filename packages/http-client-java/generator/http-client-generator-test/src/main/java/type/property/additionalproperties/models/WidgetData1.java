@@ -123,14 +123,23 @@ public final class WidgetData1 implements JsonSerializable<WidgetData1> {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("start".equals(fieldName)) {
-                    start = reader
-                        .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
-                } else if ("end".equals(fieldName)) {
-                    end = reader
-                        .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "start": {
+                        start = reader
+                            .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
+                        break;
+                    }
+
+                    case "end": {
+                        end = reader
+                            .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
+                        break;
+                    }
+
+                    default: {
+                        reader.skipChildren();
+                        break;
+                    }
                 }
             }
             WidgetData1 deserializedWidgetData1 = new WidgetData1(start);
@@ -0,0 +1,104 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package payload.pageable;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.RequestOptions;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.core.util.BinaryData;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import payload.pageable.models.Pet;
+import reactor.core.publisher.Mono;
+
+// The paging methods are generated with "stream-style-paging".
+public class StreamStylePagingTests {
+
+    private static final String LINK = "/payload/pageable/server-driven-pagination/link";
+    private static final String NESTED_LINK = "/payload/pageable/server-driven-pagination/nested-link";
+    private static final String NEXT_PAGE = "/page/2";
+
+    @Test
+    public void nestedItemsPath() {
+        ServerDrivenPaginationClient client = createClient(Map.of(NESTED_LINK,
+            "{\"nestedItems\":{\"pets\":[{\"id\":\"1\",\"name\":\"dog\"},{\"id\":\"2\",\"name\":\"cat\"}]},"
+                + "\"nestedNext\":{\"next\":\"http://localhost:3000/page/2\"}}",
+            NEXT_PAGE, "{\"nestedItems\":{\"pets\":[{\"id\":\"3\",\"name\":\"bird\"}]}}"));
+
+        assertPetIds(client.nestedLink(), "1", "2", "3");
+    }
+
+    @Test
+    public void nextLinkBeforeItems() {
+        ServerDrivenPaginationClient client = createClient(Map.of(LINK,
+            "{\"next\":\"http://localhost:3000/page/2\",\"pets\":[{\"id\":\"1\",\"name\":\"dog\"}]}", NEXT_PAGE,
+            "{\"pets\":[{\"id\":\"2\",\"name\":\"cat\"}]}"));
+        assertPetIds(client.link(), "1", "2");
+
+        client = createClient(Map.of(NESTED_LINK,
+            "{\"nestedNext\":{\"next\":\"http://localhost:3000/page/2\"},"
+                + "\"nestedItems\":{\"pets\":[{\"id\":\"1\",\"name\":\"dog\"}]}}",
+            NEXT_PAGE, "{\"nestedNext\":{},\"nestedItems\":{\"pets\":[{\"id\":\"2\",\"name\":\"cat\"}]}}"));
+        assertPetIds(client.nestedLink(), "1", "2");
+    }
+
+    @Test
+    public void siblingObjectsOffThePath() {
+        // Only "nestedItems.pets" and "nestedNext.next" are read. An unknown next link would fail the request.
+        ServerDrivenPaginationClient client = createClient(Map.of(NESTED_LINK,
+            "{\"pets\":[{\"id\":\"a\",\"name\":\"ant\"}],\"next\":\"http://localhost:3000/unknown\","
+                + "\"meta\":{\"nestedItems\":{\"pets\":[{\"id\":\"b\",\"name\":\"bee\"}]}},"
+                + "\"nestedItems\":{\"info\":{\"pets\":[{\"id\":\"c\",\"name\":\"cow\"}]},"
+                + "\"nestedNext\":{\"next\":\"http://localhost:3000/unknown\"},"
+                + "\"pets\":[{\"id\":\"1\",\"name\":\"dog\"}],\"count\":1},"
+                + "\"nestedNext\":{\"pets\":[{\"id\":\"d\",\"name\":\"doe\"}],\"next\":null}}"));
+
+        assertPetIds(client.nestedLink(), "1");
+    }
+
+    @Test
+    public void nonObjectBody() {
+        for (String body : List.of("[{\"id\":\"1\",\"name\":\"dog\"}]", "\"pets\"", "null", "", "{\"pets\":",
+            "{\"pets\":{\"id\":\"1\",\"name\":\"dog\"}}")) {
+            ServerDrivenPaginationClient client = createClient(Map.of(LINK, body));
+
+            Assertions.assertEquals(0, client.link(new RequestOptions()).stream().count(), body);
+        }
+    }
+
+    @Test
+    public void primitiveAndNullItems() {
+        ServerDrivenPaginationClient client = createClient(
+            Map.of(LINK, "{\"pets\":[1,\"two\",true,null,{\"id\":\"1\",\"tags\":[\"a\"]},[3,{\"id\":\"4\"}]]}"));
+
+        List<BinaryData> items = client.link(new RequestOptions()).stream().collect(Collectors.toList());
+
+        Assertions.assertEquals(6, items.size());
+        Assertions.assertEquals(1, items.get(0).toObject(Integer.class));
+        Assertions.assertEquals("two", items.get(1).toObject(String.class));
+        Assertions.assertTrue(items.get(2).toObject(Boolean.class));
+        Assertions.assertNull(items.get(3).toObject(Object.class));
+        Assertions.assertEquals("{\"id\":\"1\",\"tags\":[\"a\"]}", items.get(4).toString());
+        Assertions.assertEquals("[3,{\"id\":\"4\"}]", items.get(5).toString());
+    }
+
+    private static ServerDrivenPaginationClient createClient(Map<String, String> bodies) {
+        return new PageableClientBuilder().endpoint("http://localhost:3000").httpClient(request -> {
+            String body = bodies.get(request.getUrl().getPath());
+            return Mono.just(body == null
+                ? new MockHttpResponse(request, 404)
+                : new MockHttpResponse(request, 200, new HttpHeaders(), body.getBytes(StandardCharsets.UTF_8)));
+        }).buildServerDrivenPaginationClient();
+    }
+
+    private static void assertPetIds(PagedIterable<Pet> pagedIterable, String... expectedIds) {
+        Assertions.assertEquals(List.of(expectedIds),
+            pagedIterable.stream().map(Pet::getId).collect(Collectors.toList()));
+    }
+}
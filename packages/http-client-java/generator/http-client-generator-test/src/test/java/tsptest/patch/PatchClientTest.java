@@ -193,4 +193,65 @@ public class PatchClientTest {
         Assertions.assertNull(node.get("description"));
         Assertions.assertEquals(JsonNodeType.NULL, node.get("intValue").getNodeType());
     }
+
+    @Test
+    public void testStatelessSerializationForNullProperties() throws JsonProcessingException {
+        Resource resource = new Resource();
+        resource.setDescription(null);
+        resource.setIntValue(null);
+        resource.setEnumValue(null);
+        JsonNode node = OBJECT_MAPPER.readTree(JsonMergePatchHelper.toJsonMergePatchBinaryData(resource).toString());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("description").getNodeType());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("intValue").getNodeType());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("enumValue").getNodeType());
+        Assertions.assertNull(node.get("longValue"));
+        Assertions.assertFalse(JsonMergePatchHelper.getResourceAccessor().isJsonMergePatch(resource));
+
+        // the model is not changed, it is serialized as JSON
+        node = OBJECT_MAPPER.readTree(BinaryData.fromObject(resource).toString());
+        Assertions.assertNull(node.get("description"));
+    }
+
+    @Test
+    public void testStatelessSerializationForNestedModelAndMapProperty() throws JsonProcessingException {
+        Resource resource = new Resource();
+        InnerModel innerModel = new InnerModel();
+        innerModel.setDescription(null);
+        resource.setInnerModelProperty(innerModel);
+        Map<String, InnerModel> map = new HashMap<>();
+        map.put("key", null);
+        map.put("key2", new InnerModel().setName(null));
+        resource.setMap(map);
+        JsonNode node = OBJECT_MAPPER.readTree(JsonMergePatchHelper.toJsonMergePatchBinaryData(resource).toString());
+        Assertions.assertEquals(JsonNodeType.NULL,
+            node.get("wireNameForInnerModelProperty").get("description").getNodeType());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("map").get("key").getNodeType());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("map").get("key2").get("name").getNodeType());
+        Assertions.assertFalse(JsonMergePatchHelper.getResourceAccessor().isJsonMergePatch(resource));
+        Assertions.assertFalse(JsonMergePatchHelper.getInnerModelAccessor().isJsonMergePatch(innerModel));
+
+        resource.setInnerModelProperty(null);
+        node = OBJECT_MAPPER.readTree(JsonMergePatchHelper.toJsonMergePatchBinaryData(resource).toString());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("wireNameForInnerModelProperty").getNodeType());
+    }
+
+    @Test
+    public void testStatelessSerializationForHierarchicalModel() throws JsonProcessingException {
+        Fish partner = new Shark().setAge(2);
+        partner.setColor(null);
+        Map<String, Fish> hate = new HashMap<>();
+        hate.put("key", null);
+        Salmon salmon = new Salmon().setAge(1).setPartner(partner).setHate(hate);
+        salmon.setColor(null);
+        JsonNode node = OBJECT_MAPPER.readTree(JsonMergePatchHelper.toJsonMergePatchBinaryData(salmon).toString());
+        Assertions.assertEquals("salmon", node.get("kind").asText());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("color").getNodeType());
+        Assertions.assertEquals("shark", node.get("partner").get("kind").asText());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("partner").get("color").getNodeType());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("hate").get("key").getNodeType());
+        Assertions.assertFalse(JsonMergePatchHelper.getFishAccessor().isJsonMergePatch(salmon));
+        Assertions.assertFalse(JsonMergePatchHelper.getFishAccessor().isJsonMergePatch(partner));
+
+        Assertions.assertEquals("null", JsonMergePatchHelper.toJsonMergePatchBinaryData((Fish) null).toString());
+    }
 }
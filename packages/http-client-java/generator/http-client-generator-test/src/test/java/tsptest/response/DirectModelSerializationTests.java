@@ -0,0 +1,53 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.response;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.test.http.MockHttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import tsptest.response.models.Resource;
+
+// The convenience methods are generated with "direct-model-serialization".
+public class DirectModelSerializationTests {
+
+    @Test
+    public void listOfModels() {
+        ResponseClient client = createClient("[{\"id\":\"1\",\"name\":\"a\",\"type\":\"t\"},"
+            + "{\"id\":\"2\",\"name\":\"b\",\"description\":\"d\",\"type\":\"t\"}]");
+
+        List<Resource> resources = client.getArray();
+
+        Assertions.assertEquals(2, resources.size());
+        Assertions.assertEquals("a", resources.get(0).getName());
+        Assertions.assertNull(resources.get(0).getDescription());
+        Assertions.assertEquals("d", resources.get(1).getDescription());
+        Assertions.assertEquals("t", resources.get(1).getType());
+    }
+
+    @Test
+    public void model() {
+        Resource resource = createClient("{\"id\":\"1\",\"name\":\"a\",\"type\":\"t\",\"unknown\":{\"x\":[1]}}")
+            .getJsonUtf8Response();
+
+        Assertions.assertEquals("1", resource.getId());
+        Assertions.assertEquals("a", resource.getName());
+        Assertions.assertEquals("t", resource.getType());
+    }
+
+    @Test
+    public void emptyBody() {
+        Assertions.assertNull(createClient("").getPlusJsonResponse());
+    }
+
+    private static ResponseClient createClient(String body) {
+        return new ResponseClientBuilder().endpoint("http://localhost:3000")
+            .httpClient(request -> Mono.just(
+                new MockHttpResponse(request, 200, new HttpHeaders(), body.getBytes(StandardCharsets.UTF_8))))
+            .buildClient();
+    }
+}
@@ -0,0 +1,59 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.specialheaders;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.core.util.BinaryData;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import tsptest.specialheaders.models.Resource;
+
+// The convenience methods are generated with "direct-model-serialization".
+public class DirectModelSerializationTests {
+
+    private static final String RESOURCE_JSON
+        = "{\"id\":\"1\",\"name\":\"name\",\"description\":\"old\",\"type\":\"type\"}";
+
+    private final AtomicReference<BinaryData> requestBody = new AtomicReference<>();
+
+    @Test
+    public void requestAndResponseBody() {
+        Resource resource = createClient().putWithRequestHeaders("name", new Resource().setDescription("new"));
+
+        Assertions.assertEquals("{\"description\":\"new\"}", requestBody.get().toString());
+        assertResource(resource);
+    }
+
+    @Test
+    public void jsonMergePatchBody() throws IOException {
+        Resource patch = new Resource().setDescription(null).setType("type");
+
+        Resource resource = createClient().patchWithMatchHeaders("name", patch);
+
+        Assertions.assertEquals("{\"description\":null,\"type\":\"type\"}", requestBody.get().toString());
+        assertResource(resource);
+        // the model is not left in JSON merge patch mode
+        Assertions.assertEquals("{\"type\":\"type\"}", patch.toJsonString());
+    }
+
+    private EtagHeadersClient createClient() {
+        return new SpecialHeadersClientBuilder().endpoint("http://localhost:3000").httpClient(request -> {
+            requestBody.set(request.getBodyAsBinaryData());
+            return Mono.just(new MockHttpResponse(request, 200, new HttpHeaders(),
+                RESOURCE_JSON.getBytes(StandardCharsets.UTF_8)));
+        }).buildEtagHeadersClient();
+    }
+
+    private static void assertResource(Resource resource) {
+        Assertions.assertEquals("1", resource.getId());
+        Assertions.assertEquals("name", resource.getName());
+        Assertions.assertEquals("old", resource.getDescription());
+        Assertions.assertEquals("type", resource.getType());
+    }
+}
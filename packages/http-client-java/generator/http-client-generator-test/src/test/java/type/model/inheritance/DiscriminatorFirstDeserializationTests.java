@@ -0,0 +1,130 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package type.model.inheritance;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.ReadValueCallback;
+import java.io.IOException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import type.model.inheritance.enumdiscriminator.models.Cobra;
+import type.model.inheritance.enumdiscriminator.models.Dog;
+import type.model.inheritance.enumdiscriminator.models.DogKind;
+import type.model.inheritance.enumdiscriminator.models.Golden;
+import type.model.inheritance.enumdiscriminator.models.Snake;
+import type.model.inheritance.nesteddiscriminator.models.Fish;
+import type.model.inheritance.nesteddiscriminator.models.GoblinShark;
+import type.model.inheritance.nesteddiscriminator.models.Salmon;
+import type.model.inheritance.nesteddiscriminator.models.SawShark;
+import type.model.inheritance.nesteddiscriminator.models.Shark;
+import type.model.inheritance.singlediscriminator.models.Bird;
+import type.model.inheritance.singlediscriminator.models.Eagle;
+import type.model.inheritance.singlediscriminator.models.Goose;
+import type.model.inheritance.singlediscriminator.models.SeaGull;
+import type.model.inheritance.singlediscriminator.models.Sparrow;
+
+// The models are generated with "discriminator-first-deserialization".
+public class DiscriminatorFirstDeserializationTests {
+
+    @Test
+    public void discriminatorFirst() throws IOException {
+        Bird bird = read(Bird::fromJson,
+            "{\"kind\":\"eagle\",\"wingspan\":5,\"friends\":[{\"kind\":\"seagull\",\"wingspan\":1}],"
+                + "\"partner\":{\"kind\":\"goose\",\"wingspan\":2}}");
+        Assertions.assertEquals(Eagle.class, bird.getClass());
+        Assertions.assertEquals("eagle", bird.getKind());
+        Assertions.assertEquals(5, bird.getWingspan());
+
+        Eagle eagle = (Eagle) bird;
+        Assertions.assertEquals(SeaGull.class, eagle.getFriends().get(0).getClass());
+        Assertions.assertEquals(1, eagle.getFriends().get(0).getWingspan());
+        Assertions.assertEquals(Goose.class, eagle.getPartner().getClass());
+        Assertions.assertEquals(2, eagle.getPartner().getWingspan());
+
+        Dog dog = read(Dog::fromJson, "{\"kind\":\"golden\",\"weight\":10}");
+        Assertions.assertEquals(Golden.class, dog.getClass());
+        Assertions.assertEquals(DogKind.GOLDEN, dog.getKind());
+        Assertions.assertEquals(10, dog.getWeight());
+
+        Snake snake = read(Snake::fromJson, "{\"kind\":\"cobra\",\"length\":3}");
+        Assertions.assertEquals(Cobra.class, snake.getClass());
+        Assertions.assertEquals(3, snake.getLength());
+    }
+
+    @Test
+    public void discriminatorLater() throws IOException {
+        Bird bird = read(Bird::fromJson, "{\"wingspan\":5,\"kind\":\"sparrow\"}");
+        Assertions.assertEquals(Sparrow.class, bird.getClass());
+        Assertions.assertEquals("sparrow", bird.getKind());
+        Assertions.assertEquals(5, bird.getWingspan());
+
+        Dog dog = read(Dog::fromJson, "{\"weight\":10,\"kind\":\"golden\"}");
+        Assertions.assertEquals(Golden.class, dog.getClass());
+        Assertions.assertEquals(10, dog.getWeight());
+    }
+
+    @Test
+    public void nestedDiscriminator() throws IOException {
+        // The super type with a nested discriminator always buffers the object.
+        Fish fish = read(Fish::fromJson, "{\"kind\":\"shark\",\"sharktype\":\"saw\",\"age\":3}");
+        Assertions.assertEquals(SawShark.class, fish.getClass());
+        Assertions.assertEquals(3, fish.getAge());
+
+        fish = read(Fish::fromJson, "{\"age\":1,\"kind\":\"salmon\"}");
+        Assertions.assertEquals(Salmon.class, fish.getClass());
+        Assertions.assertEquals(1, fish.getAge());
+
+        Shark shark = read(Shark::fromJson, "{\"sharktype\":\"goblin\",\"age\":2}");
+        Assertions.assertEquals(GoblinShark.class, shark.getClass());
+        Assertions.assertEquals("goblin", shark.getSharktype());
+        Assertions.assertEquals(2, shark.getAge());
+
+        shark = read(Shark::fromJson, "{\"age\":2,\"sharktype\":\"saw\"}");
+        Assertions.assertEquals(SawShark.class, shark.getClass());
+        Assertions.assertEquals(2, shark.getAge());
+    }
+
+    @Test
+    public void emptyObject() throws IOException {
+        Bird bird = read(Bird::fromJson, "{}");
+        Assertions.assertEquals(Bird.class, bird.getClass());
+        Assertions.assertNull(bird.getKind());
+        Assertions.assertEquals(0, bird.getWingspan());
+
+        Assertions.assertEquals(Eagle.class, read(Eagle::fromJson, "{}").getClass());
+    }
+
+    @Test
+    public void nullDiscriminator() throws IOException {
+        Bird bird = read(Bird::fromJson, "{\"kind\":null,\"wingspan\":5}");
+        Assertions.assertEquals(Bird.class, bird.getClass());
+        Assertions.assertNull(bird.getKind());
+        Assertions.assertEquals(5, bird.getWingspan());
+
+        bird = read(Bird::fromJson, "{\"wingspan\":5,\"kind\":null}");
+        Assertions.assertEquals(Bird.class, bird.getClass());
+        Assertions.assertNull(bird.getKind());
+        Assertions.assertEquals(5, bird.getWingspan());
+    }
+
+    @Test
+    public void unknownDiscriminator() throws IOException {
+        Bird bird = read(Bird::fromJson, "{\"kind\":\"ostrich\",\"wingspan\":5}");
+        Assertions.assertEquals(Bird.class, bird.getClass());
+        Assertions.assertEquals("ostrich", bird.getKind());
+        Assertions.assertEquals(5, bird.getWingspan());
+
+        bird = read(Bird::fromJson, "{\"wingspan\":5,\"kind\":\"ostrich\"}");
+        Assertions.assertEquals(Bird.class, bird.getClass());
+        Assertions.assertEquals("ostrich", bird.getKind());
+        Assertions.assertEquals(5, bird.getWingspan());
+    }
+
+    private static <T> T read(ReadValueCallback<JsonReader, T> fromJson, String json) throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return fromJson.read(jsonReader);
+        }
+    }
+}
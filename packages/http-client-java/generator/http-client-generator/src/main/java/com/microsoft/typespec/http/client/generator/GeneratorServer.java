@@ -0,0 +1,316 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-lived generator server, which keeps a warmed JVM across generations.
+ * <p>
+ * The server listens on a loopback port. On start, it writes the address and an access token to the port file, as
+ * {@code {"host":"127.0.0.1","port":12345,"token":"..."}}. Each connection carries one request, a JSON object on
+ * a single line:
+ *
+ * <pre>
+ * {"token":"...","codeModel":"/path/to/code-model.yaml","emitterOptions":"{...}"}
+ * </pre>
+ *
+ * The server streams the log output of the generation back as {@code {"output":"..."}} lines, and completes the
+ * response with {@code {"exitCode":0}}. A request of {@code {"token":"...","shutdown":true}} stops the server.
+ * <p>
+ * Requests are processed one at a time, each in its own {@link GenerationContext}. The settings, including the flavor,
+ * are resolved per request, so consecutive requests may use different emitter options. The server stops and deletes
+ * the port file when it has been idle for the idle timeout.
+ */
+final class GeneratorServer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorServer.class);
+
+    static final String SERVER_ARGUMENT = "--server";
+    private static final String PORT_FILE_ARGUMENT = "--port-file";
+    private static final String IDLE_TIMEOUT_ARGUMENT = "--idle-timeout";
+
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final Path portFile;
+    private final Duration idleTimeout;
+    private final String token;
+    private final Generator generator;
+
+    private GeneratorServer(Path portFile, Duration idleTimeout, String token, Generator generator) {
+        this.portFile = portFile;
+        this.idleTimeout = idleTimeout;
+        this.token = token;
+        this.generator = generator;
+    }
+
+    /**
+     * Runs the server until it is shut down, or idle for the idle timeout.
+     *
+     * @param args the arguments following {@code --server}: {@code --port-file <path>} and optionally
+     * {@code --idle-timeout <seconds>}
+     * @return the exit code of the process
+     */
+    static int run(String[] args) {
+        return run(args, Main::generate);
+    }
+
+    /**
+     * Runs the server until it is shut down, or idle for the idle timeout.
+     *
+     * @param args the arguments following {@code --server}
+     * @param generator the generator that processes each request
+     * @return the exit code of the process
+     */
+    static int run(String[] args, Generator generator) {
+        Path portFile = null;
+        Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (PORT_FILE_ARGUMENT.equals(args[i])) {
+                portFile = Paths.get(args[i + 1]).toAbsolutePath();
+            } else if (IDLE_TIMEOUT_ARGUMENT.equals(args[i])) {
+                idleTimeout = Duration.ofSeconds(Long.parseLong(args[i + 1]));
+            }
+        }
+        if (portFile == null) {
+            LOGGER.error("Missing argument: {} <path>", PORT_FILE_ARGUMENT);
+            return 1;
+        }
+
+        byte[] tokenBytes = new byte[32];
+        new SecureRandom().nextBytes(tokenBytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+        try {
+            new GeneratorServer(portFile, idleTimeout, token, generator).serve();
+            return 0;
+        } catch (IOException e) {
+            LOGGER.error("Generator server failed.", e);
+            return 1;
+        }
+    }
+
+    private void serve() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, idleTimeout.toMillis()));
+            writePortFile(serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort());
+            LOGGER.info("Generator server listening on port {}", serverSocket.getLocalPort());
+
+            boolean shutdown = false;
+            while (!shutdown) {
+                try (Socket socket = serverSocket.accept()) {
+                    shutdown = handle(socket);
+                } catch (SocketTimeoutException e) {
+                    LOGGER.info("Generator server idle for {}, stopping.", idleTimeout);
+                    shutdown = true;
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to process request.", e);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(portFile);
+        }
+    }
+
+    /*
+     * Handles a request. Returns true if the server is asked to shut down.
+     */
+    private boolean handle(Socket socket) throws IOException {
+        BufferedReader reader
+            = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        if (line == null) {
+            return false;
+        }
+
+        Request request;
+        try (JsonReader jsonReader = JsonReader.fromString(line)) {
+            request = Request.fromJson(jsonReader);
+        }
+        if (!token.equals(request.token)) {
+            LOGGER.warn("Rejected request with invalid token.");
+            return false;
+        }
+
+        ResponseWriter response = new ResponseWriter(socket.getOutputStream());
+        if (request.shutdown) {
+            response.writeExitCode(0);
+            return true;
+        }
+
+        // slf4j-simple resolves System.out on each log, redirect it to the client for the duration of the request.
+        PrintStream originalOut = System.out;
+        PrintStream requestOut = new PrintStream(new LineOutputStream(response), true, StandardCharsets.UTF_8);
+        int exitCode;
+        System.setOut(requestOut);
+        try {
+            new GenerationContext().call(() -> {
+                generator.generate(request.codeModel, request.emitterOptions);
+                return null;
+            });
+            exitCode = 0;
+        } catch (Throwable e) {
+            LOGGER.error("Unhandled error.", e);
+            exitCode = 1;
+        } finally {
+            requestOut.flush();
+            System.setOut(originalOut);
+        }
+        response.writeExitCode(exitCode);
+        return false;
+    }
+
+    private void writePortFile(String host, int port) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (JsonWriter jsonWriter = JsonWriter.toStream(content)) {
+            jsonWriter.writeStartObject()
+                .writeStringField("host", host)
+                .writeIntField("port", port)
+                .writeStringField("token", token)
+                .writeEndObject()
+                .flush();
+        }
+
+        Path parent = portFile.getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, portFile.getFileName().toString(), ".tmp");
+        try {
+            // the token grants access to the server, keep it readable by the owner only
+            Files.setPosixFilePermissions(tempFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system
+        }
+        Files.write(tempFile, content.toByteArray());
+        Files.move(tempFile, portFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Generates the code of a request. It runs in the {@link GenerationContext} of the request.
+     */
+    @FunctionalInterface
+    interface Generator {
+        /**
+         * Generates the code.
+         *
+         * @param codeModel the path of the code model
+         * @param emitterOptions the emitter options, in JSON
+         * @throws Exception if the generation fails
+         */
+        void generate(String codeModel, String emitterOptions) throws Exception;
+    }
+
+    private static final class Request {
+        private String token;
+        private String codeModel;
+        private String emitterOptions;
+        private boolean shutdown;
+
+        private static Request fromJson(JsonReader jsonReader) throws IOException {
+            return JsonUtils.readObject(jsonReader, Request::new, (request, fieldName, reader) -> {
+                if ("token".equals(fieldName)) {
+                    request.token = reader.getString();
+                } else if ("codeModel".equals(fieldName)) {
+                    request.codeModel = reader.getString();
+                } else if ("emitterOptions".equals(fieldName)) {
+                    request.emitterOptions = reader.getString();
+                } else if ("shutdown".equals(fieldName)) {
+                    request.shutdown = reader.getBoolean();
+                } else {
+                    reader.skipChildren();
+                }
+            });
+        }
+    }
+
+    /*
+     * Writes the response messages, one JSON object per line.
+     */
+    private static final class ResponseWriter {
+        private final OutputStream outputStream;
+
+        private ResponseWriter(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        synchronized void writeOutput(String output) throws IOException {
+            write(jsonWriter -> jsonWriter.writeStringField("output", output));
+        }
+
+        synchronized void writeExitCode(int exitCode) throws IOException {
+            write(jsonWriter -> jsonWriter.writeIntField("exitCode", exitCode));
+        }
+
+        private void write(FieldWriter fieldWriter) throws IOException {
+            ByteArrayOutputStream message = new ByteArrayOutputStream();
+            try (JsonWriter jsonWriter = JsonWriter.toStream(message)) {
+                jsonWriter.writeStartObject();
+                fieldWriter.write(jsonWriter);
+                jsonWriter.writeEndObject().flush();
+            }
+            message.write('\n');
+            message.writeTo(outputStream);
+            outputStream.flush();
+        }
+
+        @FunctionalInterface
+        private interface FieldWriter {
+            void write(JsonWriter jsonWriter) throws IOException;
+        }
+    }
+
+    /*
+     * Buffers the output, and sends it to the client line by line.
+     */
+    private static final class LineOutputStream extends OutputStream {
+        private final ResponseWriter response;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        private LineOutputStream(ResponseWriter response) {
+            this.response = response;
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            line.write(b);
+            if (b == '\n') {
+                flushLine();
+            }
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            if (line.size() > 0) {
+                flushLine();
+            }
+        }
+
+        private void flushLine() throws IOException {
+            response.writeOutput(line.toString(StandardCharsets.UTF_8));
+            line.reset();
+        }
+    }
+}
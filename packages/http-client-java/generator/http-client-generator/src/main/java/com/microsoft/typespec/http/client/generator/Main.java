@@ -7,12 +7,15 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelCustomConstructor;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.CodeModelSummary;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeSpecMetadata;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.Postprocessor;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.fluent.TypeSpecFluentPlugin;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
 import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJavaPackage;
@@ -57,6 +60,11 @@ public class Main {
 
     // java -jar target/azure-typespec-extension-jar-with-dependencies.jar
     public static void main(String[] args) throws IOException {
+        if (args.length >= 1 && GeneratorServer.SERVER_ARGUMENT.equals(args[0])) {
+            // long-lived server, keeps the JVM warm across generations
+            System.exit(GeneratorServer.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+
         try {
             // parameters
             String inputYamlFileName = DEFAULT_OUTPUT_DIR + "code-model.yaml";
@@ -64,38 +72,7 @@ public class Main {
                 inputYamlFileName = args[0];
             }
 
-            LOGGER.info("Code model file: {}", inputYamlFileName);
-
-            // load code-model.yaml
-            CodeModel codeModel = loadCodeModel(inputYamlFileName);
-
-            EmitterOptions emitterOptions = loadEmitterOptions(codeModel);
-
-            boolean sdkIntegration = true;
-            String outputDir = emitterOptions.getOutputDir();
-            Path outputDirPath = Paths.get(outputDir);
-            if (Files.exists(outputDirPath)) {
-                if (emitterOptions.getArm()) {
-                    // check ../../parents/azure-client-sdk-parent
-                    sdkIntegration = Files.exists(Paths.get(outputDir, "../../parents/azure-client-sdk-parent"));
-                } else {
-                    try (Stream<Path> filestream = Files.list(outputDirPath)) {
-                        Set<String> filenames = filestream.map(p -> p.getFileName().toString())
-                            .map(name -> name.toLowerCase(Locale.ROOT))
-                            .collect(Collectors.toSet());
-
-                        // if there is already pom and source, do not overwrite them (includes README.md, CHANGELOG.md
-                        // etc.)
-                        sdkIntegration = !filenames.containsAll(Arrays.asList("pom.xml", "src"));
-                    }
-                }
-            }
-
-            if (emitterOptions.getArm()) {
-                handleFluent(codeModel, emitterOptions, sdkIntegration);
-            } else {
-                handleDPG(codeModel, emitterOptions, sdkIntegration, outputDir);
-            }
+            generate(inputYamlFileName, Configuration.getGlobalConfiguration().get("emitterOptions"));
 
             // ensure the process exits as expected
             System.exit(0);
@@ -105,21 +82,84 @@ public class Main {
         }
     }
 
-    private static void handleFluent(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration) {
-        // initialize plugin
-        TypeSpecFluentPlugin fluentPlugin = new TypeSpecFluentPlugin(emitterOptions, sdkIntegration);
+    /**
+     * Generates the code from the code model.
+     *
+     * @param inputYamlFileName the path of the code model file
+     * @param emitterOptionsJson the emitter options, as JSON
+     * @throws IOException if the code model cannot be read
+     */
+    static void generate(String inputYamlFileName, String emitterOptionsJson) throws IOException {
+        LOGGER.info("Code model file: {}", inputYamlFileName);
+
+        // load code-model.json, or code-model.yaml
+        CodeModel codeModel;
+        try (GenerationMetrics.Timer timer = GenerationMetrics.start("loadCodeModel", inputYamlFileName)) {
+            timer.bytes(Files.size(Paths.get(inputYamlFileName)));
+            codeModel = loadCodeModel(inputYamlFileName);
+        }
+
+        EmitterOptions emitterOptions = loadEmitterOptions(codeModel, emitterOptionsJson);
 
-        codeModel = fluentPlugin.preProcess(codeModel);
+        boolean sdkIntegration = true;
+        String outputDir = emitterOptions.getOutputDir();
+        Path outputDirPath = Paths.get(outputDir);
+        if (Files.exists(outputDirPath)) {
+            if (emitterOptions.getArm()) {
+                // check ../../parents/azure-client-sdk-parent
+                sdkIntegration = Files.exists(Paths.get(outputDir, "../../parents/azure-client-sdk-parent"));
+            } else {
+                try (Stream<Path> filestream = Files.list(outputDirPath)) {
+                    Set<String> filenames = filestream.map(p -> p.getFileName().toString())
+                        .map(name -> name.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+
+                    // if there is already pom and source, do not overwrite them (includes README.md, CHANGELOG.md
+                    // etc.)
+                    sdkIntegration = !filenames.containsAll(Arrays.asList("pom.xml", "src"));
+                }
+            }
+        }
 
-        // client
-        Client client = fluentPlugin.processClient(codeModel);
+        // The code model is released once it is no longer used, so that it can be collected before the templates, or
+        // the post-processing, run. The mapper caches, which are keyed by the code model, are cleared with it.
+        if (emitterOptions.getArm()) {
+            // initialize plugin
+            TypeSpecFluentPlugin fluentPlugin = new TypeSpecFluentPlugin(emitterOptions, sdkIntegration);
 
-        // template
-        FluentJavaPackage javaPackage = fluentPlugin.processTemplates(codeModel, client);
+            codeModel = fluentPlugin.preProcess(codeModel);
+
+            // client
+            Client client = fluentPlugin.processClient(codeModel);
+
+            // template, the fluent mapper maps the code model along with the templates
+            FluentJavaPackage javaPackage = fluentPlugin.processTemplates(codeModel, client);
+            codeModel = null;
+            Mappers.clearCaches();
 
+            handleFluent(fluentPlugin, javaPackage, emitterOptions, sdkIntegration);
+        } else {
+            // initialize plugin
+            TypeSpecPlugin typeSpecPlugin = new TypeSpecPlugin(emitterOptions, sdkIntegration);
+
+            // client
+            Client client = typeSpecPlugin.processClient(codeModel);
+            CodeModelSummary codeModelSummary = CodeModelSummary.of(codeModel);
+            codeModel = null;
+            Mappers.clearCaches();
+
+            handleDPG(typeSpecPlugin, client, codeModelSummary, outputDir);
+        }
+
+        GenerationMetrics.current().report(LOGGER);
+    }
+
+    private static void handleFluent(TypeSpecFluentPlugin fluentPlugin, FluentJavaPackage javaPackage,
+        EmitterOptions emitterOptions, boolean sdkIntegration) {
         // delete generated Java files
-        deleteGeneratedJavaFiles(emitterOptions.getOutputDir(), javaPackage.getJavaFiles(), JavaSettings.getInstance(),
-            FluentStatic.getFluentJavaSettings().getMetadataSuffix().orElse(null));
+        fluentPlugin.getWriteStatistics()
+            .addDeleted(deleteGeneratedJavaFiles(emitterOptions.getOutputDir(), javaPackage.getJavaFiles(),
+                JavaSettings.getInstance(), FluentStatic.getFluentJavaSettings().getMetadataSuffix().orElse(null)));
 
         // write java files
 
@@ -144,6 +184,8 @@ public class Main {
         // Others
         javaPackage.getTextFiles()
             .forEach(textFile -> fluentPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+
+        logWriteStatistics(fluentPlugin.getWriteStatistics());
     }
 
     static boolean shouldWriteFluentPropertiesFile(String outputDir, String artifactId, boolean sdkIntegration) {
@@ -155,25 +197,20 @@ public class Main {
         return Files.notExists(Paths.get(outputDir, "src/main/resources", artifactId + ".properties"));
     }
 
-    private static void handleDPG(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration,
+    private static void handleDPG(TypeSpecPlugin typeSpecPlugin, Client client, CodeModelSummary codeModelSummary,
         String outputDir) {
-        // initialize plugin
-        TypeSpecPlugin typeSpecPlugin = new TypeSpecPlugin(emitterOptions, sdkIntegration);
-
         JavaSettings settings = JavaSettings.getInstance();
 
-        // client
-        Client client = typeSpecPlugin.processClient(codeModel);
-
         // template
-        JavaPackage javaPackage = typeSpecPlugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+        JavaPackage javaPackage = typeSpecPlugin.processTemplates(codeModelSummary, client, settings);
 
         LOGGER.info("Count of Java files: {}", javaPackage.getJavaFiles().size());
         LOGGER.info("Count of XML files: {}", javaPackage.getXmlFiles().size());
         LOGGER.info("Count of text files: {}", javaPackage.getTextFiles().size());
 
         // delete generated Java files
-        deleteGeneratedJavaFiles(outputDir, javaPackage.getJavaFiles(), settings, null);
+        typeSpecPlugin.getWriteStatistics()
+            .addDeleted(deleteGeneratedJavaFiles(outputDir, javaPackage.getJavaFiles(), settings, null));
 
         Map<String, String> javaFiles = new ConcurrentHashMap<>();
         javaPackage.getJavaFiles()
@@ -199,18 +236,30 @@ public class Main {
                     "name=${project.artifactId}\nversion=${project.version}\n", null);
             }
         }
+
+        logWriteStatistics(typeSpecPlugin.getWriteStatistics());
+    }
+
+    private static void logWriteStatistics(FileUtil.WriteStatistics statistics) {
+        LOGGER.info("Count of files written: {}, unchanged: {}, deleted: {}", statistics.getWritten(),
+            statistics.getSkipped(), statistics.getDeleted());
     }
 
     /**
-     * Deletes generated Java files. It includes "test" and "samples", if these files are to be generated.
+     * Deletes generated Java files that are not generated again. It includes "test" and "samples", if these files are
+     * to be generated.
+     * <p>
+     * Files that are generated again are kept, they are only rewritten if their content changes.
      *
      * @param outputDir the absolute path of output directory
      * @param javaFiles the list of Java files to be generated
      * @param settings the Java settings
+     * @return the number of files deleted
      */
-    private static void deleteGeneratedJavaFiles(String outputDir, List<JavaFile> javaFiles, JavaSettings settings,
+    private static int deleteGeneratedJavaFiles(String outputDir, List<JavaFile> javaFiles, JavaSettings settings,
         String suffix) {
         Set<String> filesToDelete = new LinkedHashSet<>();
+        int deleted = 0;
 
         // clean up source code, based on metadata
         String metadataFilename = "src/main/resources/META-INF/"
@@ -237,28 +286,32 @@ public class Main {
             // in latter case, we should not delete them
             filesToDelete.removeAll(javaFiles.stream().map(JavaFile::getFilePath).collect(Collectors.toSet()));
 
-            FileUtil.deleteFiles(outputDir, filesToDelete);
+            deleted += FileUtil.deleteFiles(outputDir, filesToDelete);
         }
 
+        Set<Path> filesToKeep = javaFiles.stream()
+            .map(javaFile -> Paths.get(outputDir, javaFile.getFilePath()).toAbsolutePath().normalize())
+            .collect(Collectors.toSet());
+
         if (JavaSettings.getInstance().isGenerateTests()) {
             // clean up tests
             String packageName = settings.getPackage("generated");
             Path path = Paths.get("src", "test", "java", packageName.replace('.', File.separatorChar));
-            FileUtil.deleteFilesInDirectory(Paths.get(outputDir).resolve(path));
+            deleted += FileUtil.deleteFilesInDirectory(Paths.get(outputDir).resolve(path), filesToKeep);
         }
 
         if (JavaSettings.getInstance().isGenerateSamples()) {
             // clean up samples
             String packageName = settings.getPackage("generated");
             Path path = Paths.get("src", "samples", "java", packageName.replace('.', File.separatorChar));
-            FileUtil.deleteFilesInDirectory(Paths.get(outputDir).resolve(path));
+            deleted += FileUtil.deleteFilesInDirectory(Paths.get(outputDir).resolve(path), filesToKeep);
         }
+        return deleted;
     }
 
-    private static EmitterOptions loadEmitterOptions(CodeModel codeModel) {
+    private static EmitterOptions loadEmitterOptions(CodeModel codeModel, String emitterOptionsJson) {
 
         EmitterOptions options = null;
-        String emitterOptionsJson = Configuration.getGlobalConfiguration().get("emitterOptions");
 
         if (emitterOptionsJson != null) {
             try (JsonReader jsonReader = JsonReader.fromString(emitterOptionsJson)) {
@@ -294,10 +347,26 @@ public class Main {
         return options;
     }
 
-    private static CodeModel loadCodeModel(String filename) throws IOException {
-        String file = Files.readString(Paths.get(filename));
-        CodeModel codeModel = getYaml().loadAs(file, CodeModel.class);
-        return codeModel;
+    /**
+     * Loads the code model from code-model.json, or code-model.yaml.
+     *
+     * @param filename the path of the code model file
+     * @return the code model
+     * @throws IOException if the code model cannot be read
+     */
+    public static CodeModel loadCodeModel(String filename) throws IOException {
+        if (filename.endsWith(".json")) {
+            // streaming JSON code model, with "$id"/"$ref" in place of the YAML anchors and aliases
+            try (BufferedReader reader = Files.newBufferedReader(Paths.get(filename), StandardCharsets.UTF_8);
+                JsonReader jsonReader = JsonReader.fromReader(reader)) {
+                return CodeModel.fromJson(jsonReader);
+            }
+        }
+
+        // read the YAML as a stream, rather than holding the whole file as a String alongside the node tree
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filename), StandardCharsets.UTF_8)) {
+            return getYaml().loadAs(reader, CodeModel.class);
+        }
     }
 
     private static Yaml getYaml() {
@@ -13,6 +13,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Async
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientException;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.CodeModelSummary;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ConvenienceMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeSpecMetadata;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
@@ -45,6 +46,7 @@ public class TypeSpecPlugin extends Javagen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecPlugin.class);
 
     private final EmitterOptions emitterOptions;
+    private final FileUtil.WriteStatistics writeStatistics = new FileUtil.WriteStatistics();
 
     public Client processClient(CodeModel codeModel) {
         // transform code model
@@ -54,15 +56,15 @@ public class TypeSpecPlugin extends Javagen {
         return Mappers.getClientMapper().map(codeModel);
     }
 
-    public JavaPackage processTemplates(CodeModel codeModel, Client client, JavaSettings settings) {
-        JavaPackage javaPackage = super.writeToTemplates(codeModel, client, settings);
+    public JavaPackage processTemplates(CodeModelSummary codeModelSummary, Client client, JavaSettings settings) {
+        JavaPackage javaPackage = super.writeToTemplates(codeModelSummary, client, settings);
 
         if (emitterOptions.getIncludeApiViewProperties() == Boolean.TRUE) {
             TypeSpecMetadata metadata = new TypeSpecMetadata.Builder().artifactId(ClientModelUtil.getArtifactId())
                 .flavor(emitterOptions.getFlavor())
-                .apiVersions(codeModel.getApiVersionMap())
-                .crossLanguagePackageId(codeModel.getCrossLanguagePackageId())
-                .crossLanguageVersion(codeModel.getCrossLanguageVersion())
+                .apiVersions(codeModelSummary.getApiVersionMap())
+                .crossLanguagePackageId(codeModelSummary.getCrossLanguagePackageId())
+                .crossLanguageVersion(codeModelSummary.getCrossLanguageVersion())
                 .crossLanguageDefinitions(collectCrossLanguageDefinitions(client))
                 .generatedFiles(
                     FileUtil.filterForJavaSourceFiles(javaPackage.getJavaFiles().stream().map(JavaFile::getFilePath)))
@@ -101,7 +103,7 @@ public class TypeSpecPlugin extends Javagen {
     }
 
     @Override
-    protected void writeHelperClasses(Client client, CodeModel codeModel, JavaPackage javaPackage,
+    protected void writeHelperClasses(Client client, CodeModelSummary codeModelSummary, JavaPackage javaPackage,
         JavaSettings settings) {
         // JsonMergePatchHelper
         List<ClientModel> jsonMergePatchModels = client.getModels()
@@ -140,8 +142,15 @@ public class TypeSpecPlugin extends Javagen {
                 ClientModelUtil.XML_SERIALIZER_PROVIDERS_CLASS_NAME);
         }
 
+        // JsonModelSerializationHelper, for the convenience methods
+        if (ClientModelUtil.isDirectModelSerialization(settings)
+            && client.getModels().stream().anyMatch(ModelUtil::isGeneratingModel)) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.JSON_MODEL_SERIALIZATION_HELPER_CLASS_NAME);
+        }
+
         // OperationLocationPollingStrategy
-        if (ClientModelUtil.requireOperationLocationPollingStrategy(codeModel)) {
+        if (codeModelSummary.isRequireOperationLocationPollingStrategy()) {
             if (JavaSettings.getInstance().isAzureV2()) {
                 javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
                     ClientModelUtil.CLIENT_CORE_OPERATION_LOCATION_POLLING_STRATEGY,
@@ -162,39 +171,57 @@ public class TypeSpecPlugin extends Javagen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        Path outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
-        LOGGER.info("Write file: {}", outputFile.toAbsolutePath());
+        Path outputFile = Paths.get(emitterOptions.getOutputDir(), fileName).toAbsolutePath();
+        if (FileUtil.writeToFileIfChanged(emitterOptions.getOutputDir(), fileName, content, writeStatistics)) {
+            LOGGER.info("Write file: {}", outputFile);
+        } else {
+            LOGGER.debug("Skip unchanged file: {}", outputFile);
+        }
     }
 
-    private static final Map<String, Object> SETTINGS_MAP = new LinkedHashMap<>();
+    public FileUtil.WriteStatistics getWriteStatistics() {
+        return writeStatistics;
+    }
+
+    private static final Map<String, Object> DEFAULT_SETTINGS = new LinkedHashMap<>();
+
+    // Initialized on first access, as the constructor of the super class already reads the settings.
+    private Map<String, Object> settingsMap;
 
     static {
-        SETTINGS_MAP.put("data-plane", true);
-
-        SETTINGS_MAP.put("sdk-integration", true);
-        SETTINGS_MAP.put("regenerate-pom", true);
-
-        SETTINGS_MAP.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
-        SETTINGS_MAP.put("generate-client-interfaces", false);
-        SETTINGS_MAP.put("generate-client-as-impl", true);
-        SETTINGS_MAP.put("generate-sync-async-clients", true);
-        SETTINGS_MAP.put("generate-builder-per-client", false);
-        SETTINGS_MAP.put("sync-methods", "all");
-        SETTINGS_MAP.put("enable-sync-stack", true);
-        SETTINGS_MAP.put("enable-page-size", true);
-
-        SETTINGS_MAP.put("polling", new LinkedHashMap<String, Object>());
-
-        SETTINGS_MAP.put("client-logger", true);
-        SETTINGS_MAP.put("required-fields-as-ctor-args", true);
-        SETTINGS_MAP.put("required-parameter-client-methods", true);
-        SETTINGS_MAP.put("generic-response-type", true);
-        SETTINGS_MAP.put("output-model-immutable", true);
-        SETTINGS_MAP.put("client-flattened-annotation-target", "disabled");
-        SETTINGS_MAP.put("disable-required-property-annotation", true);
+        DEFAULT_SETTINGS.put("data-plane", true);
+
+        DEFAULT_SETTINGS.put("sdk-integration", true);
+        DEFAULT_SETTINGS.put("regenerate-pom", true);
+
+        DEFAULT_SETTINGS.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
+        DEFAULT_SETTINGS.put("generate-client-interfaces", false);
+        DEFAULT_SETTINGS.put("generate-client-as-impl", true);
+        DEFAULT_SETTINGS.put("generate-sync-async-clients", true);
+        DEFAULT_SETTINGS.put("generate-builder-per-client", false);
+        DEFAULT_SETTINGS.put("sync-methods", "all");
+        DEFAULT_SETTINGS.put("enable-sync-stack", true);
+        DEFAULT_SETTINGS.put("enable-page-size", true);
+
+        DEFAULT_SETTINGS.put("polling", new LinkedHashMap<String, Object>());
+
+        DEFAULT_SETTINGS.put("client-logger", true);
+        DEFAULT_SETTINGS.put("required-fields-as-ctor-args", true);
+        DEFAULT_SETTINGS.put("required-parameter-client-methods", true);
+        DEFAULT_SETTINGS.put("generic-response-type", true);
+        DEFAULT_SETTINGS.put("output-model-immutable", true);
+        DEFAULT_SETTINGS.put("client-flattened-annotation-target", "disabled");
+        DEFAULT_SETTINGS.put("disable-required-property-annotation", true);
         // Defaulting to KeyCredential and not providing TypeSpec services to generate with AzureKeyCredential.
-        SETTINGS_MAP.put("use-key-credential", true);
-        SETTINGS_MAP.put("use-rest-proxy", false);
+        DEFAULT_SETTINGS.put("use-key-credential", true);
+        DEFAULT_SETTINGS.put("use-rest-proxy", false);
+    }
+
+    private Map<String, Object> settings() {
+        if (settingsMap == null) {
+            settingsMap = new LinkedHashMap<>(DEFAULT_SETTINGS);
+        }
+        return settingsMap;
     }
 
     public static class MockConnection extends Connection {
@@ -214,105 +241,136 @@ public class TypeSpecPlugin extends Javagen {
         super(new MockConnection(), "dummy", "dummy");
         this.emitterOptions = options;
 
-        SETTINGS_MAP.put("namespace", options.getNamespace());
+        settings().put("namespace", options.getNamespace());
         if (!CoreUtils.isNullOrEmpty(options.getOutputDir())) {
-            SETTINGS_MAP.put("output-folder", options.getOutputDir());
+            settings().put("output-folder", options.getOutputDir());
         }
         if (!CoreUtils.isNullOrEmpty(options.getServiceName())) {
-            SETTINGS_MAP.put("service-name", options.getServiceName());
+            settings().put("service-name", options.getServiceName());
         }
         if (options.getPartialUpdate() != null) {
-            SETTINGS_MAP.put("partial-update", options.getPartialUpdate());
+            settings().put("partial-update", options.getPartialUpdate());
         }
         if (options.getRequiredFieldsAsConstructorArgs() != null) {
-            SETTINGS_MAP.put("required-fields-as-ctor-args", options.getRequiredFieldsAsConstructorArgs());
+            settings().put("required-fields-as-ctor-args", options.getRequiredFieldsAsConstructorArgs());
         }
         if (!CoreUtils.isNullOrEmpty(options.getServiceVersions())) {
-            SETTINGS_MAP.put("service-versions", options.getServiceVersions());
+            settings().put("service-versions", options.getServiceVersions());
         }
         if (options.getGenerateSamples() != null) {
-            SETTINGS_MAP.put("generate-samples", options.getGenerateSamples());
+            settings().put("generate-samples", options.getGenerateSamples());
         }
         if (options.getGenerateTests() != null) {
-            SETTINGS_MAP.put("generate-tests", options.getGenerateTests());
+            settings().put("generate-tests", options.getGenerateTests());
         }
         if (options.getEnableSyncStack() != null) {
-            SETTINGS_MAP.put("enable-sync-stack", options.getEnableSyncStack());
+            settings().put("enable-sync-stack", options.getEnableSyncStack());
         }
         if (options.getStreamStyleSerialization() != null) {
-            SETTINGS_MAP.put("stream-style-serialization", options.getStreamStyleSerialization());
+            settings().put("stream-style-serialization", options.getStreamStyleSerialization());
         }
         if (options.getUseObjectForUnknown()) {
-            SETTINGS_MAP.put("use-object-for-unknown", emitterOptions.getUseObjectForUnknown());
+            settings().put("use-object-for-unknown", emitterOptions.getUseObjectForUnknown());
         }
         if (options.getUseRestProxy() != null) {
-            SETTINGS_MAP.put("use-rest-proxy", emitterOptions.getUseRestProxy());
+            settings().put("use-rest-proxy", emitterOptions.getUseRestProxy());
+        }
+        if (options.getFormatterWorkers() != null) {
+            settings().put("formatter-workers", options.getFormatterWorkers());
+        }
+        if (options.getExactImports() != null) {
+            settings().put("exact-imports", options.getExactImports());
+        }
+        if (options.getFormatterCacheDirectory() != null) {
+            settings().put("formatter-cache-directory",
+                Paths.get(options.getOutputDir())
+                    .resolve(options.getFormatterCacheDirectory())
+                    .toAbsolutePath()
+                    .toString());
+        }
+        if (options.getTemplateWorkers() != null) {
+            settings().put("template-workers", options.getTemplateWorkers());
+        }
+        if (options.getJsonFieldSwitchThreshold() != null) {
+            settings().put("json-field-switch-threshold", options.getJsonFieldSwitchThreshold());
+        }
+        if (options.getDiscriminatorFirstDeserialization() != null) {
+            settings().put("discriminator-first-deserialization", options.getDiscriminatorFirstDeserialization());
+        }
+        if (options.getStreamStylePaging() != null) {
+            settings().put("stream-style-paging", options.getStreamStylePaging());
+        }
+        if (options.getDirectModelSerialization() != null) {
+            settings().put("direct-model-serialization", options.getDirectModelSerialization());
+        }
+        if (options.getStatelessJsonMergePatch() != null) {
+            settings().put("stateless-json-merge-patch", options.getStatelessJsonMergePatch());
         }
 
-        SETTINGS_MAP.put("sdk-integration", sdkIntegration);
-        SETTINGS_MAP.put("regenerate-pom", sdkIntegration);
+        settings().put("sdk-integration", sdkIntegration);
+        settings().put("regenerate-pom", sdkIntegration);
 
         if (options.getCustomTypes() != null) {
-            SETTINGS_MAP.put("custom-types", options.getCustomTypes());
+            settings().put("custom-types", options.getCustomTypes());
         }
 
         if (options.getCustomTypeSubpackage() != null) {
-            SETTINGS_MAP.put("custom-types-subpackage", options.getCustomTypeSubpackage());
+            settings().put("custom-types-subpackage", options.getCustomTypeSubpackage());
         }
 
         if (options.getModelsSubpackage() != null) {
-            SETTINGS_MAP.put("models-subpackage", options.getModelsSubpackage());
+            settings().put("models-subpackage", options.getModelsSubpackage());
         }
 
         if (options.getCustomizationClass() != null) {
-            SETTINGS_MAP.put("customization-class",
+            settings().put("customization-class",
                 Paths.get(options.getOutputDir()).resolve(options.getCustomizationClass()).toAbsolutePath().toString());
         }
 
         if (options.getPolling() != null) {
-            SETTINGS_MAP.put("polling", options.getPolling());
+            settings().put("polling", options.getPolling());
         }
 
         if (options.getUseDefaultHttpStatusCodeToExceptionTypeMapping() != null) {
-            SETTINGS_MAP.put("use-default-http-status-code-to-exception-type-mapping",
+            settings().put("use-default-http-status-code-to-exception-type-mapping",
                 options.getUseDefaultHttpStatusCodeToExceptionTypeMapping());
         }
 
         if (options.getRenameModel() != null) {
-            SETTINGS_MAP.put("rename-model", options.getRenameModel());
+            settings().put("rename-model", options.getRenameModel());
         }
 
         if (options.getFlavor() != null) {
-            SETTINGS_MAP.put("flavor", options.getFlavor());
+            settings().put("flavor", options.getFlavor());
         }
 
         if (options.getFlavor() != null && !"azure".equalsIgnoreCase(options.getFlavor())) {
-            SETTINGS_MAP.put("data-plane", false);
+            settings().put("data-plane", false);
 
-            SETTINGS_MAP.put("sync-methods", "sync-only");
-            SETTINGS_MAP.put("enable-page-size", false);
-            SETTINGS_MAP.put("use-default-http-status-code-to-exception-type-mapping", false);
-            SETTINGS_MAP.put("generate-samples", false);
-            SETTINGS_MAP.put("generate-tests", false);
+            settings().put("sync-methods", "sync-only");
+            settings().put("enable-page-size", false);
+            settings().put("use-default-http-status-code-to-exception-type-mapping", false);
+            settings().put("generate-samples", false);
+            settings().put("generate-tests", false);
 
             if (options.getLicenseHeader() != null) {
-                SETTINGS_MAP.put("license-header", options.getLicenseHeader());
+                settings().put("license-header", options.getLicenseHeader());
             } else {
-                SETTINGS_MAP.remove("license-header");
+                settings().remove("license-header");
             }
-            SETTINGS_MAP.put("disable-typed-headers-methods", true);
+            settings().put("disable-typed-headers-methods", true);
         }
 
         if (options.getFlavor() != null && "azurev2".equalsIgnoreCase(options.getFlavor())) {
-            SETTINGS_MAP.put("data-plane", false);
-            SETTINGS_MAP.put("sdk-integration", false);
-            SETTINGS_MAP.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
-            SETTINGS_MAP.put("use-default-http-status-code-to-exception-type-mapping", false);
+            settings().put("data-plane", false);
+            settings().put("sdk-integration", false);
+            settings().put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
+            settings().put("use-default-http-status-code-to-exception-type-mapping", false);
 
-            SETTINGS_MAP.put("sync-methods", "sync-only");
-            SETTINGS_MAP.put("generate-samples", false);
-            SETTINGS_MAP.put("generate-tests", false);
-            SETTINGS_MAP.put("disable-typed-headers-methods", true);
+            settings().put("sync-methods", "sync-only");
+            settings().put("generate-samples", false);
+            settings().put("generate-tests", false);
+            settings().put("disable-typed-headers-methods", true);
         }
 
         JavaSettingsAccessor.setHost(this);
@@ -331,13 +389,13 @@ public class TypeSpecPlugin extends Javagen {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValue(String key, IOExceptionCheckedFunction<String, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) settings().get(key);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValueWithJsonReader(String key, IOExceptionCheckedFunction<JsonReader, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) settings().get(key);
     }
 
     @Override
@@ -36,78 +36,110 @@ import org.slf4j.LoggerFactory;
 public class TypeSpecFluentPlugin extends FluentGen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecFluentPlugin.class);
     private final EmitterOptions emitterOptions;
+    private final FileUtil.WriteStatistics writeStatistics = new FileUtil.WriteStatistics();
 
     public TypeSpecFluentPlugin(EmitterOptions options, boolean sdkIntegration) {
         super(new TypeSpecPlugin.MockConnection(), "dummy", "dummy");
         this.emitterOptions = options;
 
-        SETTINGS_MAP.put("namespace", options.getNamespace());
+        settings().put("namespace", options.getNamespace());
         if (!CoreUtils.isNullOrEmpty(options.getOutputDir())) {
-            SETTINGS_MAP.put("output-folder", options.getOutputDir());
+            settings().put("output-folder", options.getOutputDir());
         }
         if (!CoreUtils.isNullOrEmpty(options.getServiceName())) {
-            SETTINGS_MAP.put("service-name", options.getServiceName());
+            settings().put("service-name", options.getServiceName());
         }
         if (options.getGenerateSamples() != null) {
-            SETTINGS_MAP.put("generate-samples", options.getGenerateSamples());
+            settings().put("generate-samples", options.getGenerateSamples());
         }
         if (options.getGenerateTests() != null) {
-            SETTINGS_MAP.put("generate-tests", options.getGenerateTests());
+            settings().put("generate-tests", options.getGenerateTests());
         }
         if (options.getClientSideValidations() != null) {
-            SETTINGS_MAP.put("client-side-validations", options.getClientSideValidations());
+            settings().put("client-side-validations", options.getClientSideValidations());
         }
         if (options.getArm()) {
             if (options.getPremium()) {
-                SETTINGS_MAP.put("fluent", "premium");
+                settings().put("fluent", "premium");
             } else {
-                SETTINGS_MAP.put("fluent", "lite");
+                settings().put("fluent", "lite");
             }
         }
         if (options.getPackageVersion() != null) {
-            SETTINGS_MAP.put("package-version", options.getPackageVersion());
+            settings().put("package-version", options.getPackageVersion());
         }
         if (options.getEnableSyncStack() != null) {
-            SETTINGS_MAP.put("enable-sync-stack", options.getEnableSyncStack());
+            settings().put("enable-sync-stack", options.getEnableSyncStack());
         }
-        SETTINGS_MAP.put("sdk-integration", sdkIntegration);
-        SETTINGS_MAP.put("output-model-immutable", true);
-        SETTINGS_MAP.put("stream-style-serialization", options.getStreamStyleSerialization());
-        SETTINGS_MAP.put("uuid-as-string", options.getUuidAsString());
-        SETTINGS_MAP.put("use-object-for-unknown", options.getUseObjectForUnknown());
+        settings().put("sdk-integration", sdkIntegration);
+        settings().put("output-model-immutable", true);
+        settings().put("stream-style-serialization", options.getStreamStyleSerialization());
+        settings().put("uuid-as-string", options.getUuidAsString());
+        settings().put("use-object-for-unknown", options.getUseObjectForUnknown());
         if (options.getRenameModel() != null) {
-            SETTINGS_MAP.put("rename-model", options.getRenameModel());
+            settings().put("rename-model", options.getRenameModel());
         }
 
         // mgmt
         if (options.getAddInner() != null) {
-            SETTINGS_MAP.put("add-inner", options.getAddInner());
+            settings().put("add-inner", options.getAddInner());
         }
         if (options.getRemoveInner() != null) {
-            SETTINGS_MAP.put("remove-inner", options.getRemoveInner());
+            settings().put("remove-inner", options.getRemoveInner());
         }
         if (options.getRemoveModel() != null) {
-            SETTINGS_MAP.put("remove-model", options.getRemoveModel());
+            settings().put("remove-model", options.getRemoveModel());
         }
         if (options.getPreserveModel() != null) {
-            SETTINGS_MAP.put("preserve-model", options.getPreserveModel());
+            settings().put("preserve-model", options.getPreserveModel());
         }
         if (options.getGenerateAsyncMethods() != null) {
-            SETTINGS_MAP.put("generate-async-methods", options.getGenerateAsyncMethods());
+            settings().put("generate-async-methods", options.getGenerateAsyncMethods());
         }
         if (options.getPropertyIncludeAlways() != null) {
             // always serialize this property, even if the value is null
-            SETTINGS_MAP.put("property-include-always", options.getPropertyIncludeAlways());
+            settings().put("property-include-always", options.getPropertyIncludeAlways());
         }
         if (options.getResourceCollectionAssociations() != null) {
-            SETTINGS_MAP.put("resource-collection-associations", options.getResourceCollectionAssociations());
+            settings().put("resource-collection-associations", options.getResourceCollectionAssociations());
         }
         if (options.getMetadataSuffix() != null) {
-            SETTINGS_MAP.put("metadata-suffix", options.getMetadataSuffix());
+            settings().put("metadata-suffix", options.getMetadataSuffix());
+        }
+        if (options.getFormatterWorkers() != null) {
+            settings().put("formatter-workers", options.getFormatterWorkers());
+        }
+        if (options.getExactImports() != null) {
+            settings().put("exact-imports", options.getExactImports());
+        }
+        if (options.getFormatterCacheDirectory() != null) {
+            settings().put("formatter-cache-directory",
+                Paths.get(options.getOutputDir())
+                    .resolve(options.getFormatterCacheDirectory())
+                    .toAbsolutePath()
+                    .toString());
+        }
+        if (options.getTemplateWorkers() != null) {
+            settings().put("template-workers", options.getTemplateWorkers());
+        }
+        if (options.getJsonFieldSwitchThreshold() != null) {
+            settings().put("json-field-switch-threshold", options.getJsonFieldSwitchThreshold());
+        }
+        if (options.getDiscriminatorFirstDeserialization() != null) {
+            settings().put("discriminator-first-deserialization", options.getDiscriminatorFirstDeserialization());
+        }
+        if (options.getStreamStylePaging() != null) {
+            settings().put("stream-style-paging", options.getStreamStylePaging());
+        }
+        if (options.getDirectModelSerialization() != null) {
+            settings().put("direct-model-serialization", options.getDirectModelSerialization());
+        }
+        if (options.getStatelessJsonMergePatch() != null) {
+            settings().put("stateless-json-merge-patch", options.getStatelessJsonMergePatch());
         }
 
         if (options.getCustomizationClass() != null) {
-            SETTINGS_MAP.put("customization-class",
+            settings().put("customization-class",
                 Paths.get(options.getOutputDir()).resolve(options.getCustomizationClass()).toAbsolutePath().toString());
         }
 
@@ -118,7 +150,7 @@ public class TypeSpecFluentPlugin extends FluentGen {
 
     public CodeModel preProcess(CodeModel codeModel) {
         // transform code model
-        FluentNamer fluentNamer = new TypeSpecFluentNamer(this, pluginName, sessionId, SETTINGS_MAP, codeModel);
+        FluentNamer fluentNamer = new TypeSpecFluentNamer(this, pluginName, sessionId, settings(), codeModel);
         return fluentNamer.processCodeModel();
     }
 
@@ -149,8 +181,16 @@ public class TypeSpecFluentPlugin extends FluentGen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        Path outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
-        LOGGER.info("Write file: {}", outputFile.toAbsolutePath());
+        Path outputFile = Paths.get(emitterOptions.getOutputDir(), fileName).toAbsolutePath();
+        if (FileUtil.writeToFileIfChanged(emitterOptions.getOutputDir(), fileName, content, writeStatistics)) {
+            LOGGER.info("Write file: {}", outputFile);
+        } else {
+            LOGGER.debug("Skip unchanged file: {}", outputFile);
+        }
+    }
+
+    public FileUtil.WriteStatistics getWriteStatistics() {
+        return writeStatistics;
     }
 
     @Override
@@ -160,41 +200,51 @@ public class TypeSpecFluentPlugin extends FluentGen {
         return fluentMapper;
     }
 
-    private static final Map<String, Object> SETTINGS_MAP = new LinkedHashMap<>();
+    private static final Map<String, Object> DEFAULT_SETTINGS = new LinkedHashMap<>();
+
+    // Initialized on first access, as the constructor of the super class already reads the settings.
+    private Map<String, Object> settingsMap;
 
     // from fluentnamer/readme.md
     static {
-        SETTINGS_MAP.put("data-plane", false);
+        DEFAULT_SETTINGS.put("data-plane", false);
+
+        DEFAULT_SETTINGS.put("sdk-integration", true);
+        DEFAULT_SETTINGS.put("regenerate-pom", true);
 
-        SETTINGS_MAP.put("sdk-integration", true);
-        SETTINGS_MAP.put("regenerate-pom", true);
+        DEFAULT_SETTINGS.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
 
-        SETTINGS_MAP.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
+        DEFAULT_SETTINGS.put("generic-response-type", false);
+        DEFAULT_SETTINGS.put("generate-client-interfaces", true);
+        DEFAULT_SETTINGS.put("client-logger", true);
 
-        SETTINGS_MAP.put("generic-response-type", false);
-        SETTINGS_MAP.put("generate-client-interfaces", true);
-        SETTINGS_MAP.put("client-logger", true);
+        DEFAULT_SETTINGS.put("required-parameter-client-methods", true);
+        DEFAULT_SETTINGS.put("client-flattened-annotation-target", "none");
+        DEFAULT_SETTINGS.put("null-byte-array-maps-to-empty-array", true);
+        DEFAULT_SETTINGS.put("graal-vm-config", true);
+        DEFAULT_SETTINGS.put("sync-methods", "all");
+        DEFAULT_SETTINGS.put("stream-style-serialization", false);
 
-        SETTINGS_MAP.put("required-parameter-client-methods", true);
-        SETTINGS_MAP.put("client-flattened-annotation-target", "none");
-        SETTINGS_MAP.put("null-byte-array-maps-to-empty-array", true);
-        SETTINGS_MAP.put("graal-vm-config", true);
-        SETTINGS_MAP.put("sync-methods", "all");
-        SETTINGS_MAP.put("stream-style-serialization", false);
+        DEFAULT_SETTINGS.put("polling", new LinkedHashMap<String, Object>());
+    }
 
-        SETTINGS_MAP.put("polling", new LinkedHashMap<String, Object>());
+    private Map<String, Object> settings() {
+        if (settingsMap == null) {
+            settingsMap = new LinkedHashMap<>(DEFAULT_SETTINGS);
+        }
+        return settingsMap;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValue(String key, IOExceptionCheckedFunction<String, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) settings().get(key);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValueWithJsonReader(String key, IOExceptionCheckedFunction<JsonReader, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) settings().get(key);
     }
 
     @Override
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
@@ -29,7 +30,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class TypeSpecServiceClientMapper extends ServiceClientMapper {
 
-    private final Map<Client, ServiceClient> parsed = new ConcurrentHashMap<>();
+    private final Map<Client, ServiceClient> parsed
+        = GenerationContext.newScopedMap(ConcurrentHashMap::new);
 
     public ServiceClient map(Client client, CodeModel codeModel) {
         if (parsed.containsKey(client)) {
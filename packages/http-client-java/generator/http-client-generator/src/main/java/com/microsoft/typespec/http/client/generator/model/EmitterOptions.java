@@ -42,6 +42,15 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
     private Boolean useDefaultHttpStatusCodeToExceptionTypeMapping = true;
     private Boolean clientSideValidations = false;
     private Boolean uuidAsString = true;
+    private Integer formatterWorkers;
+    private Boolean exactImports;
+    private String formatterCacheDirectory;
+    private Integer templateWorkers;
+    private Integer jsonFieldSwitchThreshold;
+    private Boolean discriminatorFirstDeserialization;
+    private Boolean streamStylePaging;
+    private Boolean directModelSerialization;
+    private Boolean statelessJsonMergePatch;
     private DevOptions devOptions;
 
     // mgmt
@@ -115,6 +124,42 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
         return uuidAsString;
     }
 
+    public Integer getFormatterWorkers() {
+        return formatterWorkers;
+    }
+
+    public Boolean getExactImports() {
+        return exactImports;
+    }
+
+    public String getFormatterCacheDirectory() {
+        return formatterCacheDirectory;
+    }
+
+    public Integer getTemplateWorkers() {
+        return templateWorkers;
+    }
+
+    public Integer getJsonFieldSwitchThreshold() {
+        return jsonFieldSwitchThreshold;
+    }
+
+    public Boolean getDiscriminatorFirstDeserialization() {
+        return discriminatorFirstDeserialization;
+    }
+
+    public Boolean getStreamStylePaging() {
+        return streamStylePaging;
+    }
+
+    public Boolean getDirectModelSerialization() {
+        return directModelSerialization;
+    }
+
+    public Boolean getStatelessJsonMergePatch() {
+        return statelessJsonMergePatch;
+    }
+
     public List<String> getServiceVersions() {
         return serviceVersions;
     }
@@ -301,6 +346,24 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
                 options.uuidAsString = reader.getNullable(EmitterOptions::getBoolean);
             } else if ("metadata-suffix".equals(fieldName)) {
                 options.metadataSuffix = emptyToNull(reader.getString());
+            } else if ("formatter-workers".equals(fieldName)) {
+                options.formatterWorkers = reader.getNullable(JsonReader::getInt);
+            } else if ("exact-imports".equals(fieldName)) {
+                options.exactImports = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("formatter-cache-directory".equals(fieldName)) {
+                options.formatterCacheDirectory = emptyToNull(reader.getString());
+            } else if ("template-workers".equals(fieldName)) {
+                options.templateWorkers = reader.getNullable(JsonReader::getInt);
+            } else if ("json-field-switch-threshold".equals(fieldName)) {
+                options.jsonFieldSwitchThreshold = reader.getNullable(JsonReader::getInt);
+            } else if ("discriminator-first-deserialization".equals(fieldName)) {
+                options.discriminatorFirstDeserialization = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("stream-style-paging".equals(fieldName)) {
+                options.streamStylePaging = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("direct-model-serialization".equals(fieldName)) {
+                options.directModelSerialization = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("stateless-json-merge-patch".equals(fieldName)) {
+                options.statelessJsonMergePatch = reader.getNullable(EmitterOptions::getBoolean);
             } else {
                 reader.skipChildren();
             }
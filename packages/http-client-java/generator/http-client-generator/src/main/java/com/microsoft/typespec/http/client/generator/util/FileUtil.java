@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.util;
 
+import com.microsoft.typespec.http.client.generator.core.util.GenerationMetrics;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
@@ -14,10 +15,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -56,6 +59,89 @@ public class FileUtil {
         return outputPath;
     }
 
+    /**
+     * Writes the provided content to a file under the specified output directory, if the file on disk doesn't already
+     * have the same content.
+     * <p>
+     * Leaving unchanged files untouched keeps their timestamps, so incremental compilation and IDE indexes don't treat
+     * them as modified.
+     *
+     * @param outputDir output directory under which the file will be created; if it does not
+     * exist, parent directories will be created
+     * @param fileName name of the file to create (may include subdirectories)
+     * @param content content to write to the file
+     * @param statistics the statistics to record the write or skip
+     * @return whether the file was written
+     * @throws IllegalStateException if an I/O error occurs while creating directories or writing the file
+     */
+    public static boolean writeToFileIfChanged(String outputDir, String fileName, String content,
+        WriteStatistics statistics) {
+        Path outputPath = Paths.get(outputDir, fileName).toAbsolutePath();
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        try (GenerationMetrics.Timer timer = GenerationMetrics.start("writeFile", fileName)) {
+            if (hasContent(outputPath, bytes)) {
+                statistics.skipped.incrementAndGet();
+                return false;
+            }
+
+            timer.bytes(bytes.length);
+            Path parent = outputPath.getParent();
+            try {
+                // Ensure parent directories exist before writing the file.
+                if (parent != null && !Files.exists(parent)) {
+                    Files.createDirectories(parent);
+                }
+                Files.write(outputPath, bytes);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            statistics.written.incrementAndGet();
+            return true;
+        }
+    }
+
+    private static boolean hasContent(Path filePath, byte[] content) {
+        try {
+            // Compare size first, so that most changed files are detected without reading them.
+            return Files.isRegularFile(filePath)
+                && Files.size(filePath) == content.length
+                && Arrays.equals(Files.readAllBytes(filePath), content);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read file: {}", filePath, e);
+            return false;
+        }
+    }
+
+    /**
+     * Counts of files written, skipped as unchanged, and deleted during code generation.
+     */
+    public static final class WriteStatistics {
+        private final AtomicInteger written = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger deleted = new AtomicInteger();
+
+        public int getWritten() {
+            return written.get();
+        }
+
+        public int getSkipped() {
+            return skipped.get();
+        }
+
+        public int getDeleted() {
+            return deleted.get();
+        }
+
+        /**
+         * Records deleted files.
+         *
+         * @param count the number of files deleted
+         */
+        public void addDeleted(int count) {
+            deleted.addAndGet(count);
+        }
+    }
+
     /**
      * Filters and returns a sorted list of Java source file paths under 'src/main/'.
      *
@@ -73,38 +159,62 @@ public class FileUtil {
      *
      * @param directory the directory containing the files
      * @param filesToDelete collection of file names to delete
+     * @return the number of files deleted
      */
-    public static void deleteFiles(String directory, Collection<String> filesToDelete) {
-        filesToDelete.forEach(filename -> {
+    public static int deleteFiles(String directory, Collection<String> filesToDelete) {
+        int deleted = 0;
+        for (String filename : filesToDelete) {
             Path filePath = Paths.get(directory, filename).toAbsolutePath();
             try {
-                Files.deleteIfExists(filePath);
+                if (Files.deleteIfExists(filePath)) {
+                    deleted++;
+                }
             } catch (IOException e) {
                 LOGGER.warn("Failed to delete file: {}", filePath, e);
             }
-        });
+        }
+        return deleted;
     }
 
     /**
      * Deletes all files in the specified directory.
      *
      * @param directory the directory whose files will be deleted
+     * @return the number of files deleted
      */
-    public static void deleteFilesInDirectory(Path directory) {
+    public static int deleteFilesInDirectory(Path directory) {
+        return deleteFilesInDirectory(directory, Collections.emptySet());
+    }
+
+    /**
+     * Deletes the files in the specified directory, except the files to keep.
+     *
+     * @param directory the directory whose files will be deleted
+     * @param filesToKeep absolute, normalized paths of the files to keep
+     * @return the number of files deleted
+     */
+    public static int deleteFilesInDirectory(Path directory, Set<Path> filesToKeep) {
         Path path = directory.toAbsolutePath();
+        int deleted = 0;
         if (Files.isDirectory(path)) {
             try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
-                stream.forEach(filePath -> {
+                for (Path filePath : stream) {
+                    if (filesToKeep.contains(filePath.toAbsolutePath().normalize())) {
+                        continue;
+                    }
                     try {
-                        Files.deleteIfExists(filePath);
+                        if (Files.deleteIfExists(filePath)) {
+                            deleted++;
+                        }
                     } catch (IOException e) {
                         LOGGER.warn("Failed to delete file: {}", filePath, e);
                     }
-                });
+                }
             } catch (IOException e) {
                 LOGGER.warn("Failed to list files in path: {}", path, e);
             }
         }
+        return deleted;
     }
 
     /**
@@ -0,0 +1,127 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import io.clientcore.core.serialization.json.JsonReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GeneratorServerTests {
+    @Test
+    public void rejectsInvalidTokenAndShutsDown(@TempDir Path tempDir) throws Exception {
+        Path portFile = tempDir.resolve("server.json");
+        CompletableFuture<Integer> server = CompletableFuture.supplyAsync(
+            () -> GeneratorServer.run(new String[] { "--port-file", portFile.toString(), "--idle-timeout", "60" }));
+
+        Map<String, Object> serverInfo = readPortFile(portFile);
+        String host = (String) serverInfo.get("host");
+        int port = ((Number) serverInfo.get("port")).intValue();
+
+        // request with invalid token is closed without response
+        assertNull(send(host, port, "{\"token\":\"invalid\",\"shutdown\":true}"));
+
+        assertEquals("{\"exitCode\":0}",
+            send(host, port, "{\"token\":\"" + serverInfo.get("token") + "\",\"shutdown\":true}"));
+        assertEquals(0, server.get(30, TimeUnit.SECONDS));
+        assertFalse(Files.exists(portFile));
+    }
+
+    @Test
+    public void requestsOfDifferentFlavors(@TempDir Path tempDir) throws Exception {
+        Path portFile = tempDir.resolve("server.json");
+        // the generator initializes the settings of the request, and outputs the flavored type it resolves to
+        GeneratorServer.Generator generator = (codeModel, emitterOptions) -> {
+            try (JsonReader jsonReader = JsonReader.fromString(emitterOptions)) {
+                new TypeSpecPlugin(EmitterOptions.fromJson(jsonReader), true);
+            }
+            System.out.println("HttpPipeline: " + ClassType.HTTP_PIPELINE.getFullName());
+        };
+        CompletableFuture<Integer> server = CompletableFuture.supplyAsync(() -> GeneratorServer
+            .run(new String[] { "--port-file", portFile.toString(), "--idle-timeout", "60" }, generator));
+
+        Map<String, Object> serverInfo = readPortFile(portFile);
+        String host = (String) serverInfo.get("host");
+        int port = ((Number) serverInfo.get("port")).intValue();
+        String token = (String) serverInfo.get("token");
+
+        List<String> azure = sendAll(host, port, generateRequest(token, "azure"));
+        List<String> unbranded = sendAll(host, port, generateRequest(token, "unbranded"));
+        List<String> azureAgain = sendAll(host, port, generateRequest(token, "azure"));
+
+        assertOutput(azure, "HttpPipeline: com.azure.core.http.HttpPipeline");
+        assertOutput(unbranded, "HttpPipeline: io.clientcore.core.http.pipeline.HttpPipeline");
+        assertOutput(azureAgain, "HttpPipeline: com.azure.core.http.HttpPipeline");
+
+        assertEquals("{\"exitCode\":0}", send(host, port, "{\"token\":\"" + token + "\",\"shutdown\":true}"));
+        assertEquals(0, server.get(30, TimeUnit.SECONDS));
+    }
+
+    private static String generateRequest(String token, String flavor) {
+        String emitterOptions = "{\\\"namespace\\\":\\\"com.test\\\",\\\"flavor\\\":\\\"" + flavor + "\\\"}";
+        return "{\"token\":\"" + token + "\",\"codeModel\":\"code-model.yaml\",\"emitterOptions\":\"" + emitterOptions
+            + "\"}";
+    }
+
+    private static void assertOutput(List<String> response, String expectedOutput) {
+        assertEquals("{\"exitCode\":0}", response.get(response.size() - 1));
+        assertTrue(response.stream().anyMatch(line -> line.contains(expectedOutput)),
+            () -> "Missing '" + expectedOutput + "' in " + response);
+    }
+
+    private static Map<String, Object> readPortFile(Path portFile) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!Files.exists(portFile) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        try (JsonReader jsonReader = JsonReader.fromString(Files.readString(portFile))) {
+            return jsonReader.readMap(JsonReader::readUntyped);
+        }
+    }
+
+    private static List<String> sendAll(String host, int port, String request) throws IOException {
+        try (Socket socket = new Socket(host, port)) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write((request + "\n").getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+            BufferedReader reader
+                = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            return lines;
+        }
+    }
+
+    private static String send(String host, int port, String request) throws IOException {
+        try (Socket socket = new Socket(host, port)) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write((request + "\n").getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+                .readLine();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -63,4 +64,24 @@ public final class FileUtilTests {
         assertTrue(Files.exists(nonGen), "NotGenerated.java should not be deleted");
         assertTrue(Files.exists(keep), "KeepMe.java should be kept");
     }
+
+    @Test
+    public void writeToFileIfChanged_skipsUnchangedFiles(@TempDir Path tempDir) throws IOException {
+        String root = tempDir.toString();
+        FileUtil.WriteStatistics statistics = new FileUtil.WriteStatistics();
+
+        assertTrue(FileUtil.writeToFileIfChanged(root, "src/main/Model.java", "class Model {}\n", statistics));
+        Path file = tempDir.resolve("src/main/Model.java");
+        FileTime lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(file, lastModified);
+
+        assertFalse(FileUtil.writeToFileIfChanged(root, "src/main/Model.java", "class Model {}\n", statistics));
+        assertEquals(lastModified, Files.getLastModifiedTime(file));
+
+        assertTrue(FileUtil.writeToFileIfChanged(root, "src/main/Model.java", "class Model { }\n", statistics));
+        assertEquals("class Model { }\n", Files.readString(file, StandardCharsets.UTF_8));
+
+        assertEquals(2, statistics.getWritten());
+        assertEquals(1, statistics.getSkipped());
+    }
 }